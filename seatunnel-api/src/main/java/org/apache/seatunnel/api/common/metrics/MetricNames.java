@@ -33,4 +33,7 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+
+    public static final String MULTI_TABLE_SINK_QUEUE_SIZE = "MultiTableSinkQueueSize";
+    public static final String MULTI_TABLE_SINK_QUEUE_WAIT_TIME = "MultiTableSinkQueueWaitTime";
 }
@@ -29,4 +29,14 @@ public interface SupportMultiTableSinkWriter<T> extends SupportResourceShare<T>
     default Optional<Integer> primaryKey() {
         return Optional.empty();
     }
+
+    /**
+     * Whether {@link SinkWriter#prepareCommit(long)} writes out every row received before it. Only
+     * then can rows of a primary key move to another writer of the same table after a checkpoint
+     * without being applied out of order, so the multi table sink writer keeps the row distribution
+     * between its writer threads fixed unless all sub writers return true.
+     */
+    default boolean flushOnPrepareCommit() {
+        return false;
+    }
 }
@@ -17,6 +17,10 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
 import org.apache.seatunnel.api.sink.MultiTableResourceManager;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
@@ -32,15 +36,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -55,8 +59,11 @@ public class MultiTableSinkWriter
     private final List<ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>>>
             sinkWritersWithIndex;
     private final List<MultiTableWriterRunnable> runnable = new ArrayList<>();
-    private final Random random = new Random();
     private final List<BlockingQueue<SeaTunnelRow>> blockingQueues = new ArrayList<>();
+    private final List<Counter> queueWaitTimeCounters = new ArrayList<>();
+    private final long[] offeredCounts;
+    private final MultiTableWriterScheduler scheduler;
+    private boolean rebalanceEnabled = true;
     private final ExecutorService executorService;
     private MultiTableResourceManager resourceManager;
     private volatile boolean submitted = false;
@@ -85,8 +92,15 @@ public class MultiTableSinkWriter
                                     return thread;
                                 }));
         sinkWritersWithIndex = new ArrayList<>();
+        offeredCounts = new long[queueSize];
+        MetricsContext metricsContext =
+                sinkWritersContext.values().stream()
+                        .map(SinkWriter.Context::getMetricsContext)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElse(null);
         for (int i = 0; i < queueSize; i++) {
-            BlockingQueue<SeaTunnelRow> queue = new LinkedBlockingQueue<>(1024);
+            BlockingQueue<SeaTunnelRow> queue = new ArrayBlockingQueue<>(1024);
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap = new HashMap<>();
             ConcurrentMap<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkIdentifierMap =
                     new ConcurrentHashMap<>();
@@ -102,11 +116,26 @@ public class MultiTableSinkWriter
 
             sinkWritersWithIndex.add(sinkIdentifierMap);
             blockingQueues.add(queue);
-            MultiTableWriterRunnable r = new MultiTableWriterRunnable(tableIdWriterMap, queue);
+            queueWaitTimeCounters.add(
+                    createCounter(
+                            metricsContext,
+                            MetricNames.MULTI_TABLE_SINK_QUEUE_WAIT_TIME + "_" + i));
+            MultiTableWriterRunnable r =
+                    new MultiTableWriterRunnable(
+                            tableIdWriterMap,
+                            queue,
+                            createCounter(
+                                    metricsContext,
+                                    MetricNames.MULTI_TABLE_SINK_QUEUE_SIZE + "_" + i));
             runnable.add(r);
         }
         log.info("init multi table sink writer, queue size: {}", queueSize);
         initResourceManager(queueSize);
+        scheduler = new MultiTableWriterScheduler(sinkPrimaryKeys, blockingQueues);
+    }
+
+    private static Counter createCounter(MetricsContext metricsContext, String name) {
+        return metricsContext == null ? new ThreadSafeCounter(name) : metricsContext.counter(name);
     }
 
     private void initResourceManager(int queueSize) {
@@ -127,6 +156,7 @@ public class MultiTableSinkWriter
                         ((SupportMultiTableSinkWriter<?>) entry.getValue());
                 sink.setMultiTableResourceManager(resourceManager, i);
                 sinkPrimaryKeys.put(entry.getKey().getTableIdentifier(), sink.primaryKey());
+                rebalanceEnabled &= sink.flushOnPrepareCommit();
             }
         }
     }
@@ -182,34 +212,27 @@ public class MultiTableSinkWriter
             runnable.forEach(executorService::submit);
         }
         subSinkErrorCheck();
-        Optional<Integer> primaryKey = sinkPrimaryKeys.get(element.getTableId());
         try {
-            if ((primaryKey == null && sinkPrimaryKeys.size() == 1)
-                    || (primaryKey != null && !primaryKey.isPresent())) {
-                int index = random.nextInt(blockingQueues.size());
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            } else if (primaryKey == null) {
-                throw new RuntimeException(
-                        "multi table sink can not write table: " + element.getTableId());
-            } else {
-                Object object = element.getField(primaryKey.get());
-                int index = 0;
-                if (object != null) {
-                    index = Math.abs(object.hashCode()) % blockingQueues.size();
-                }
-                BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
-                while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
-                    subSinkErrorCheck();
-                }
-            }
+            offer(scheduler.select(element), element);
         } catch (InterruptedException e) {
             throw new IOException(e);
         }
     }
 
+    private void offer(int index, SeaTunnelRow element) throws InterruptedException {
+        BlockingQueue<SeaTunnelRow> queue = blockingQueues.get(index);
+        if (!queue.offer(element)) {
+            long start = System.nanoTime();
+            while (!queue.offer(element, 500, TimeUnit.MILLISECONDS)) {
+                subSinkErrorCheck();
+            }
+            queueWaitTimeCounters
+                    .get(index)
+                    .inc(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        offeredCounts[index]++;
+    }
+
     @Override
     public List<MultiTableState> snapshotState(long checkpointId) throws IOException {
         checkQueueRemain();
@@ -276,6 +299,11 @@ public class MultiTableSinkWriter
                 throw new RuntimeException(e);
             }
         }
+        // every sub writer flushed all rows it received, so buckets can move to another queue
+        // without breaking per-key ordering
+        if (rebalanceEnabled) {
+            scheduler.rebalance();
+        }
         if (multiTableCommitInfo.getCommitInfo().isEmpty()) {
             return Optional.empty();
         }
@@ -352,8 +380,10 @@ public class MultiTableSinkWriter
 
     private void checkQueueRemain() {
         try {
-            for (BlockingQueue<SeaTunnelRow> blockingQueue : blockingQueues) {
-                while (!blockingQueue.isEmpty()) {
+            // wait until every offered row has been written, not only taken out of the queue,
+            // because the writer threads hand rows to the sub-writers in batches
+            for (int i = 0; i < blockingQueues.size(); i++) {
+                while (runnable.get(i).getWrittenCount() < offeredCounts[i]) {
                     Thread.sleep(100);
                     subSinkErrorCheck();
                 }
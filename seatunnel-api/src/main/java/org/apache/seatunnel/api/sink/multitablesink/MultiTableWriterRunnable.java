@@ -17,32 +17,43 @@
 
 package org.apache.seatunnel.api.sink.multitablesink;
 
+import org.apache.seatunnel.api.common.metrics.Counter;
 import org.apache.seatunnel.api.sink.SinkWriter;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 public class MultiTableWriterRunnable implements Runnable {
 
+    private static final int MAX_BATCH_SIZE = 1024;
+
     private final Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap;
     private final BlockingQueue<SeaTunnelRow> queue;
+    private final Counter queueSizeCounter;
+    private final AtomicLong writtenCount = new AtomicLong();
     private volatile Throwable throwable;
     private volatile String currentTableId;
 
     public MultiTableWriterRunnable(
             Map<String, SinkWriter<SeaTunnelRow, ?, ?>> tableIdWriterMap,
-            BlockingQueue<SeaTunnelRow> queue) {
+            BlockingQueue<SeaTunnelRow> queue,
+            Counter queueSizeCounter) {
         this.tableIdWriterMap = tableIdWriterMap;
         this.queue = queue;
+        this.queueSizeCounter = queueSizeCounter;
     }
 
     @Override
     public void run() {
+        List<SeaTunnelRow> batch = new ArrayList<>(MAX_BATCH_SIZE);
         while (true) {
             SeaTunnelRow row = null;
             try {
@@ -50,22 +61,17 @@ public class MultiTableWriterRunnable implements Runnable {
                 if (row == null) {
                     continue;
                 }
-                SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
-                if (writer == null) {
-                    if (tableIdWriterMap.size() == 1) {
-                        writer = tableIdWriterMap.values().stream().findFirst().get();
-                        currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
-                    } else {
-                        throw new RuntimeException(
-                                "MultiTableWriterRunnable can't find writer for tableId: "
-                                        + row.getTableId());
-                    }
-                } else {
-                    currentTableId = row.getTableId();
-                }
+                batch.add(row);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                queueSizeCounter.set(queue.size());
                 synchronized (this) {
-                    writer.write(row);
+                    for (int i = 0; i < batch.size(); i++) {
+                        row = batch.get(i);
+                        getWriter(row).write(row);
+                    }
                 }
+                writtenCount.addAndGet(batch.size());
+                batch.clear();
             } catch (InterruptedException e) {
                 // When the job finished, the thread will be interrupted, so we ignore this
                 // exception.
@@ -80,6 +86,23 @@ public class MultiTableWriterRunnable implements Runnable {
         }
     }
 
+    private SinkWriter<SeaTunnelRow, ?, ?> getWriter(SeaTunnelRow row) {
+        SinkWriter<SeaTunnelRow, ?, ?> writer = tableIdWriterMap.get(row.getTableId());
+        if (writer == null) {
+            if (tableIdWriterMap.size() == 1) {
+                writer = tableIdWriterMap.values().stream().findFirst().get();
+                currentTableId = tableIdWriterMap.keySet().stream().findFirst().get();
+            } else {
+                throw new RuntimeException(
+                        "MultiTableWriterRunnable can't find writer for tableId: "
+                                + row.getTableId());
+            }
+        } else {
+            currentTableId = row.getTableId();
+        }
+        return writer;
+    }
+
     public Throwable getThrowable() {
         return throwable;
     }
@@ -87,4 +110,9 @@ public class MultiTableWriterRunnable implements Runnable {
     public String getCurrentTableId() {
         return currentTableId;
     }
+
+    /** The number of rows taken from the queue and handed to the sub-writers. */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses the writer queue of every row written to a {@link MultiTableSinkWriter}.
+ *
+ * <p>Rows of a table with primary key are hashed into one of the buckets of that table, and each
+ * bucket is owned by exactly one queue, so rows with the same key are always written by the same
+ * thread. The scheduler counts the rows of every bucket. When the queues received an unbalanced
+ * share of rows since the last checkpoint, {@link #rebalance()} moves bucket ownership so that the
+ * expected load per queue evens out. It must only be called at a checkpoint boundary, after every
+ * sub writer confirmed that all rows it received were flushed to the sink, so per-key ordering is
+ * kept. Sinks whose writers may still buffer rows after {@code prepareCommit} are never rebalanced,
+ * see {@link org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter#flushOnPrepareCommit()}.
+ *
+ * <p>Rows of tables without primary key have no ordering requirement and go to the emptier of two
+ * randomly chosen queues.
+ */
+@Slf4j
+public class MultiTableWriterScheduler {
+
+    private static final int BUCKETS_PER_QUEUE = 4;
+    private static final double REBALANCE_THRESHOLD = 1.2;
+    private static final long REBALANCE_MIN_ROWS = 10000;
+
+    private final List<BlockingQueue<SeaTunnelRow>> queues;
+    private final Map<String, TableRoute> tableRoutes = new HashMap<>();
+
+    public MultiTableWriterScheduler(
+            Map<String, Optional<Integer>> primaryKeys, List<BlockingQueue<SeaTunnelRow>> queues) {
+        this.queues = queues;
+        primaryKeys.forEach(
+                (tableId, primaryKey) ->
+                        tableRoutes.put(tableId, new TableRoute(primaryKey, queues.size())));
+    }
+
+    public int select(SeaTunnelRow row) {
+        TableRoute route = tableRoutes.get(row.getTableId());
+        if (route == null) {
+            if (tableRoutes.size() == 1) {
+                return selectEmptierQueue();
+            }
+            throw new RuntimeException("multi table sink can not write table: " + row.getTableId());
+        }
+        if (!route.primaryKey.isPresent()) {
+            return selectEmptierQueue();
+        }
+        Object key = row.getField(route.primaryKey.get());
+        int bucket = key == null ? 0 : Math.floorMod(key.hashCode(), route.bucketOwners.length);
+        route.bucketRows[bucket]++;
+        return route.bucketOwners[bucket];
+    }
+
+    /**
+     * Reassigns the buckets of all tables to queues when the row counts since the last call are
+     * unbalanced, using the longest-processing-time-first heuristic.
+     *
+     * @return whether bucket ownership changed
+     */
+    public boolean rebalance() {
+        long[] queueRows = new long[queues.size()];
+        List<BucketLoad> bucketLoads = new ArrayList<>();
+        for (TableRoute route : tableRoutes.values()) {
+            for (int bucket = 0; bucket < route.bucketRows.length; bucket++) {
+                long rows = route.bucketRows[bucket];
+                if (rows > 0) {
+                    queueRows[route.bucketOwners[bucket]] += rows;
+                    bucketLoads.add(new BucketLoad(route, bucket, rows));
+                }
+            }
+        }
+        long totalRows = Arrays.stream(queueRows).sum();
+        long maxRows = Arrays.stream(queueRows).max().orElse(0);
+        if (totalRows < REBALANCE_MIN_ROWS
+                || maxRows <= REBALANCE_THRESHOLD * totalRows / queues.size()) {
+            resetRowCounts();
+            return false;
+        }
+
+        bucketLoads.sort((left, right) -> Long.compare(right.rows, left.rows));
+        long[] assignedRows = new long[queues.size()];
+        for (BucketLoad bucketLoad : bucketLoads) {
+            int target = 0;
+            for (int i = 1; i < assignedRows.length; i++) {
+                if (assignedRows[i] < assignedRows[target]) {
+                    target = i;
+                }
+            }
+            assignedRows[target] += bucketLoad.rows;
+            bucketLoad.route.bucketOwners[bucketLoad.bucket] = target;
+        }
+        log.info(
+                "Rebalance multi table sink writer queues, rows per queue before: {}, after: {}",
+                Arrays.toString(queueRows),
+                Arrays.toString(assignedRows));
+        resetRowCounts();
+        return true;
+    }
+
+    private int selectEmptierQueue() {
+        if (queues.size() == 1) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(queues.size());
+        int second = random.nextInt(queues.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        return queues.get(first).size() <= queues.get(second).size() ? first : second;
+    }
+
+    private void resetRowCounts() {
+        tableRoutes.values().forEach(route -> Arrays.fill(route.bucketRows, 0));
+    }
+
+    private static class TableRoute {
+        private final Optional<Integer> primaryKey;
+        private final int[] bucketOwners;
+        private final long[] bucketRows;
+
+        private TableRoute(Optional<Integer> primaryKey, int queueSize) {
+            this.primaryKey = primaryKey;
+            this.bucketOwners = new int[queueSize * BUCKETS_PER_QUEUE];
+            this.bucketRows = new long[bucketOwners.length];
+            for (int bucket = 0; bucket < bucketOwners.length; bucket++) {
+                bucketOwners[bucket] = bucket % queueSize;
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class BucketLoad {
+        private final TableRoute route;
+        private final int bucket;
+        private final long rows;
+    }
+}
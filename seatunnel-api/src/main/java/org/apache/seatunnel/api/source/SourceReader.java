@@ -23,6 +23,7 @@ import org.apache.seatunnel.api.state.CheckpointListener;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The {@link SourceReader} is used to generate source record, and it will be running at worker.
@@ -51,6 +52,20 @@ public interface SourceReader<T, SplitT extends SourceSplit>
      */
     void pollNext(Collector<T> output) throws Exception;
 
+    /**
+     * Returns a future that completes when the reader has data to emit. The engine waits on this
+     * future after a {@link #pollNext(Collector)} call that emitted nothing, instead of sleeping
+     * for a fixed interval.
+     *
+     * <p>Readers that can not tell when data arrives return an already completed future, the engine
+     * then backs off adaptively between empty polls.
+     *
+     * @return a future that completes when data is available.
+     */
+    default CompletableFuture<Void> isAvailable() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Get the current split checkpoint state by checkpointId.
      *
@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
 import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import lombok.AllArgsConstructor;
@@ -37,6 +38,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MultiTableSinkWriterTest {
 
@@ -62,6 +65,96 @@ public class MultiTableSinkWriterTest {
         }
     }
 
+    @Test
+    public void testPrepareCommitWaitsForQueuedRows() throws IOException {
+        int threads = 4;
+        AtomicInteger writeCount = new AtomicInteger();
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        for (int i = 0; i < threads; i++) {
+            sinkWriters.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriter() {
+                        @Override
+                        public void write(SeaTunnelRow seaTunnelRow) {
+                            writeCount.incrementAndGet();
+                        }
+                    });
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        int rowCount = 10000;
+        for (int i = 0; i < rowCount; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i});
+            row.setTableId(TablePath.DEFAULT.toString());
+            multiTableSinkWriter.write(row);
+        }
+        multiTableSinkWriter.prepareCommit(1);
+        Assertions.assertEquals(rowCount, writeCount.get());
+        multiTableSinkWriter.close();
+    }
+
+    @Test
+    public void testRebalanceOnlyWhenSubWritersFlush() throws IOException {
+        Assertions.assertEquals(1, ownerAfterCheckpoint(false));
+        Assertions.assertEquals(0, ownerAfterCheckpoint(true));
+    }
+
+    /** Writes a skewed key before a checkpoint and returns the writer that gets it afterwards. */
+    private static int ownerAfterCheckpoint(boolean flushOnPrepareCommit) throws IOException {
+        int threads = 4;
+        Map<Integer, Integer> lastWriterOfKey = new ConcurrentHashMap<>();
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        for (int i = 0; i < threads; i++) {
+            int writerIndex = i;
+            sinkWriters.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriter() {
+                        @Override
+                        public void write(SeaTunnelRow seaTunnelRow) {
+                            lastWriterOfKey.put((Integer) seaTunnelRow.getField(0), writerIndex);
+                        }
+
+                        @Override
+                        public Optional<Integer> primaryKey() {
+                            return Optional.of(0);
+                        }
+
+                        @Override
+                        public boolean flushOnPrepareCommit() {
+                            return flushOnPrepareCommit;
+                        }
+                    });
+            sinkWritersContext.put(
+                    SinkIdentifier.of(TablePath.DEFAULT.toString(), i),
+                    new TestSinkWriterContext());
+        }
+        MultiTableSinkWriter multiTableSinkWriter =
+                new MultiTableSinkWriter(sinkWriters, threads, sinkWritersContext);
+
+        // key 1 hashes into a bucket of queue 1, and the only loaded bucket moves to queue 0
+        for (int i = 0; i < 20000; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+            row.setTableId(TablePath.DEFAULT.toString());
+            multiTableSinkWriter.write(row);
+        }
+        multiTableSinkWriter.prepareCommit(1);
+        multiTableSinkWriter.snapshotState(1);
+        Assertions.assertEquals(1, lastWriterOfKey.get(1));
+
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+        row.setTableId(TablePath.DEFAULT.toString());
+        multiTableSinkWriter.write(row);
+        multiTableSinkWriter.prepareCommit(2);
+        multiTableSinkWriter.close();
+        return lastWriterOfKey.get(1);
+    }
+
     static class TestSinkWriter
             implements SinkWriter<SeaTunnelRow, TestSinkState, Object>,
                     SupportMultiTableSinkWriter {
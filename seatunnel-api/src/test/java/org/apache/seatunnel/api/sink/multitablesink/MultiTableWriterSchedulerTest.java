@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.sink.multitablesink;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class MultiTableWriterSchedulerTest {
+
+    @Test
+    public void testRebalanceSkewedTables() {
+        int queueSize = 4;
+        List<BlockingQueue<SeaTunnelRow>> queues = new ArrayList<>();
+        for (int i = 0; i < queueSize; i++) {
+            queues.add(new ArrayBlockingQueue<>(16));
+        }
+        Map<String, Optional<Integer>> primaryKeys = new HashMap<>();
+        primaryKeys.put("hot", Optional.of(0));
+        primaryKeys.put("cold", Optional.of(0));
+        MultiTableWriterScheduler scheduler = new MultiTableWriterScheduler(primaryKeys, queues);
+
+        // every hot key is a multiple of the queue size, so all hot rows land on queue 0
+        long[] rowsPerQueue = write(scheduler, "hot", 0, 4, 40000);
+        Assertions.assertEquals(40000, rowsPerQueue[0]);
+        Assertions.assertTrue(scheduler.rebalance());
+
+        rowsPerQueue = write(scheduler, "hot", 0, 4, 40000);
+        for (long rows : rowsPerQueue) {
+            Assertions.assertEquals(10000, rows);
+        }
+        Assertions.assertFalse(scheduler.rebalance());
+
+        // the same key always goes to the same queue between two rebalances
+        int queue = scheduler.select(row("cold", 7));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(queue, scheduler.select(row("cold", 7)));
+        }
+    }
+
+    @Test
+    public void testUnknownTable() {
+        List<BlockingQueue<SeaTunnelRow>> queues = new ArrayList<>();
+        queues.add(new ArrayBlockingQueue<>(16));
+        queues.add(new ArrayBlockingQueue<>(16));
+        Map<String, Optional<Integer>> primaryKeys = new HashMap<>();
+        primaryKeys.put("t1", Optional.empty());
+        primaryKeys.put("t2", Optional.of(0));
+        MultiTableWriterScheduler scheduler = new MultiTableWriterScheduler(primaryKeys, queues);
+
+        int queue = scheduler.select(row("t1", 1));
+        Assertions.assertTrue(queue >= 0 && queue < queues.size());
+        Assertions.assertThrows(RuntimeException.class, () -> scheduler.select(row("t3", 1)));
+    }
+
+    private static long[] write(
+            MultiTableWriterScheduler scheduler, String tableId, int start, int step, int rows) {
+        long[] rowsPerQueue = new long[4];
+        for (int i = 0; i < rows; i++) {
+            rowsPerQueue[scheduler.select(row(tableId, start + (i % 64) * step))]++;
+        }
+        return rowsPerQueue;
+    }
+
+    private static SeaTunnelRow row(String tableId, int key) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {key});
+        row.setTableId(tableId);
+        return row;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+
+/**
+ * Generates the rows the benchmarks run on. Rows are built from a fixed seed so that every run and
+ * every release measures the same data.
+ */
+public final class BenchmarkRows {
+
+    /** All fields are {@code INT}. */
+    public static final String INT = "INT";
+
+    /** All fields are {@code STRING} of 8 to 64 characters. */
+    public static final String STRING = "STRING";
+
+    /** Fields cycle through the common primitive, decimal and temporal types. */
+    public static final String MIXED = "MIXED";
+
+    public static final String TABLE_NAME = "benchmark";
+
+    private static final SeaTunnelDataType<?>[] MIXED_TYPES = {
+        BasicType.INT_TYPE,
+        BasicType.LONG_TYPE,
+        BasicType.DOUBLE_TYPE,
+        BasicType.STRING_TYPE,
+        new DecimalType(20, 4),
+        BasicType.BOOLEAN_TYPE,
+        LocalTimeType.LOCAL_DATE_TYPE,
+        LocalTimeType.LOCAL_DATE_TIME_TYPE
+    };
+
+    private static final long SEED = 42L;
+
+    private BenchmarkRows() {}
+
+    public static SeaTunnelRowType rowType(int width, String fieldType) {
+        String[] fieldNames = new String[width];
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType[width];
+        for (int i = 0; i < width; i++) {
+            fieldNames[i] = "f" + i;
+            switch (fieldType) {
+                case INT:
+                    fieldTypes[i] = BasicType.INT_TYPE;
+                    break;
+                case STRING:
+                    fieldTypes[i] = BasicType.STRING_TYPE;
+                    break;
+                case MIXED:
+                    fieldTypes[i] = MIXED_TYPES[i % MIXED_TYPES.length];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported field type: " + fieldType);
+            }
+        }
+        return new SeaTunnelRowType(fieldNames, fieldTypes);
+    }
+
+    public static CatalogTable catalogTable(SeaTunnelRowType rowType) {
+        return CatalogTableUtil.getCatalogTable(TABLE_NAME, rowType);
+    }
+
+    public static SeaTunnelRow[] rows(CatalogTable table, int count) {
+        SeaTunnelRowType rowType = table.getSeaTunnelRowType();
+        String tableId = table.getTableId().toTablePath().toString();
+        Random random = new Random(SEED);
+        SeaTunnelRow[] rows = new SeaTunnelRow[count];
+        for (int i = 0; i < count; i++) {
+            Object[] fields = new Object[rowType.getTotalFields()];
+            for (int j = 0; j < fields.length; j++) {
+                fields[j] = randomValue(random, rowType.getFieldType(j));
+            }
+            rows[i] = new SeaTunnelRow(fields);
+            rows[i].setTableId(tableId);
+        }
+        return rows;
+    }
+
+    private static Object randomValue(Random random, SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case INT:
+                return random.nextInt();
+            case BIGINT:
+                return random.nextLong();
+            case DOUBLE:
+                return random.nextDouble() * 1_000_000;
+            case STRING:
+                return randomString(random, 8 + random.nextInt(57));
+            case DECIMAL:
+                return BigDecimal.valueOf(random.nextLong() % 10_000_000_000_000L, 4);
+            case BOOLEAN:
+                return random.nextBoolean();
+            case DATE:
+                return LocalDate.ofEpochDay(random.nextInt(30_000));
+            case TIMESTAMP:
+                return LocalDateTime.of(
+                        LocalDate.ofEpochDay(random.nextInt(30_000)),
+                        LocalTime.ofSecondOfDay(random.nextInt(86_400)));
+            default:
+                throw new IllegalArgumentException("Unsupported field type: " + type);
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
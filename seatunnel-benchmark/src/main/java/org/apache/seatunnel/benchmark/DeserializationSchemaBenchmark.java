@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.serialization.DeserializationSchema;
+import org.apache.seatunnel.api.serialization.SerializationSchema;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.format.csv.CsvDeserializationSchema;
+import org.apache.seatunnel.format.csv.CsvSerializationSchema;
+import org.apache.seatunnel.format.json.JsonDeserializationSchema;
+import org.apache.seatunnel.format.json.JsonSerializationSchema;
+import org.apache.seatunnel.format.text.TextDeserializationSchema;
+import org.apache.seatunnel.format.text.TextSerializationSchema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link DeserializationSchema} of the json, csv and text formats. The input of every
+ * format is produced by its own {@link SerializationSchema} from the same rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeserializationSchemaBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    @Param({"json", "csv", "text"})
+    private String format;
+
+    @Param({"8", "64"})
+    private int width;
+
+    @Param({BenchmarkRows.INT, BenchmarkRows.STRING, BenchmarkRows.MIXED})
+    private String fieldType;
+
+    private DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private byte[][] messages;
+
+    @Setup
+    public void setup() {
+        CatalogTable table = BenchmarkRows.catalogTable(BenchmarkRows.rowType(width, fieldType));
+        SeaTunnelRowType rowType = table.getSeaTunnelRowType();
+        SerializationSchema serializationSchema;
+        switch (format) {
+            case "json":
+                serializationSchema = new JsonSerializationSchema(rowType);
+                deserializationSchema = new JsonDeserializationSchema(false, false, rowType);
+                break;
+            case "csv":
+                serializationSchema =
+                        CsvSerializationSchema.builder()
+                                .seaTunnelRowType(rowType)
+                                .delimiter(",")
+                                .build();
+                deserializationSchema =
+                        CsvDeserializationSchema.builder()
+                                .seaTunnelRowType(rowType)
+                                .delimiter(",")
+                                .build();
+                break;
+            case "text":
+                serializationSchema =
+                        TextSerializationSchema.builder()
+                                .seaTunnelRowType(rowType)
+                                .delimiter("\u0001")
+                                .build();
+                deserializationSchema =
+                        TextDeserializationSchema.builder()
+                                .seaTunnelRowType(rowType)
+                                .delimiter("\u0001")
+                                .build();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        SeaTunnelRow[] rows = BenchmarkRows.rows(table, ROW_COUNT);
+        messages = new byte[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            messages[i] = serializationSchema.serialize(rows[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void deserialize(Blackhole blackhole) throws IOException {
+        for (byte[] message : messages) {
+            blackhole.consume(deserializationSchema.deserialize(message));
+        }
+    }
+}
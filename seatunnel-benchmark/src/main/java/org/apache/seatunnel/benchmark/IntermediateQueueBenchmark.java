@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.transform.Collector;
+import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.task.flow.IntermediateQueueFlowLifeCycle;
+import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithIntermediateQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateBlockingQueue;
+import org.apache.seatunnel.engine.server.task.group.TaskGroupWithIntermediateDisruptor;
+import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the hand-off of records between two tasks of a task group, through the {@link
+ * TaskGroupWithIntermediateBlockingQueue blocking queue} or the {@link
+ * TaskGroupWithIntermediateDisruptor disruptor}. The benchmark thread is the upstream task, a
+ * dedicated thread keeps collecting like the downstream task does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IntermediateQueueBenchmark {
+
+    private static final int BATCH_SIZE = 4096;
+
+    @Param({"blocking_queue", "disruptor"})
+    private String queueType;
+
+    @Param({"8", "64"})
+    private int width;
+
+    private IntermediateQueueFlowLifeCycle<?> flowLifeCycle;
+    private Record<?>[] records;
+    private final AtomicLong collected = new AtomicLong();
+    private long produced;
+    private volatile boolean running;
+    private Thread downstream;
+
+    @Setup
+    public void setup() throws Exception {
+        CatalogTable table =
+                BenchmarkRows.catalogTable(BenchmarkRows.rowType(width, BenchmarkRows.MIXED));
+        SeaTunnelRow[] rows = BenchmarkRows.rows(table, BATCH_SIZE);
+        records = new Record<?>[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records[i] = new Record<>(rows[i]);
+        }
+
+        TaskGroupLocation location = new TaskGroupLocation(1L, 1, 1L);
+        AbstractTaskGroupWithIntermediateQueue taskGroup =
+                "disruptor".equals(queueType)
+                        ? new TaskGroupWithIntermediateDisruptor(
+                                location, queueType, Collections.emptyList())
+                        : new TaskGroupWithIntermediateBlockingQueue(
+                                location, queueType, Collections.emptyList());
+        taskGroup.init();
+        AbstractIntermediateQueue<?> queue = taskGroup.getQueueCache(1L);
+        // no barriers are sent, so the queue never needs the running task
+        flowLifeCycle =
+                new IntermediateQueueFlowLifeCycle<>(null, new CompletableFuture<>(), queue);
+
+        Collector<Record<?>> collector =
+                new Collector<Record<?>>() {
+                    @Override
+                    public void collect(Record<?> record) {
+                        collected.incrementAndGet();
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        // the disruptor starts consuming on the first collect, earlier records would be lost
+        flowLifeCycle.collect(collector);
+        running = true;
+        downstream =
+                new Thread(
+                        () -> {
+                            try {
+                                while (running) {
+                                    flowLifeCycle.collect(collector);
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        },
+                        "intermediate-queue-benchmark-downstream");
+        downstream.setDaemon(true);
+        downstream.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        running = false;
+        flowLifeCycle.close();
+        downstream.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void handOff() {
+        for (Record<?> record : records) {
+            flowLifeCycle.received(record);
+        }
+        produced += BATCH_SIZE;
+        while (collected.get() < produced) {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.event.DefaultEventProcessor;
+import org.apache.seatunnel.api.event.EventListener;
+import org.apache.seatunnel.api.sink.SinkWriter;
+import org.apache.seatunnel.api.sink.SupportMultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.MultiTableSinkWriter;
+import org.apache.seatunnel.api.sink.multitablesink.SinkIdentifier;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast {@link MultiTableSinkWriter} hands rows over to the writer threads of its
+ * tables. The table writers discard every row, so only the queueing is measured. Each invocation
+ * ends with a prepare commit, which waits until all rows have been written.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MultiTableSinkWriterBenchmark {
+
+    private static final int ROW_COUNT = 8192;
+
+    @Param({"1", "16"})
+    private int tables;
+
+    @Param({"1", "4"})
+    private int queueSize;
+
+    @Param({"8", "64"})
+    private int width;
+
+    private MultiTableSinkWriter writer;
+    private SeaTunnelRow[] rows;
+    private long checkpointId;
+
+    @Setup
+    public void setup() {
+        SeaTunnelRowType rowType = BenchmarkRows.rowType(width, BenchmarkRows.MIXED);
+        Map<SinkIdentifier, SinkWriter<SeaTunnelRow, ?, ?>> sinkWriters = new HashMap<>();
+        Map<SinkIdentifier, SinkWriter.Context> sinkWritersContext = new HashMap<>();
+        SeaTunnelRow[][] tableRows = new SeaTunnelRow[tables][];
+        for (int i = 0; i < tables; i++) {
+            CatalogTable table = CatalogTableUtil.getCatalogTable("benchmark_" + i, rowType);
+            String tableId = table.getTableId().toTablePath().toString();
+            for (int j = 0; j < queueSize; j++) {
+                SinkIdentifier identifier = SinkIdentifier.of(tableId, j);
+                sinkWriters.put(identifier, new DiscardingSinkWriter());
+                sinkWritersContext.put(identifier, new BenchmarkSinkWriterContext(j));
+            }
+            tableRows[i] = BenchmarkRows.rows(table, ROW_COUNT / tables);
+        }
+        rows = new SeaTunnelRow[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows[i] = tableRows[i % tables][i / tables];
+        }
+        writer = new MultiTableSinkWriter(sinkWriters, queueSize, sinkWritersContext);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void write() throws IOException {
+        for (SeaTunnelRow row : rows) {
+            writer.write(row);
+        }
+        writer.prepareCommit(++checkpointId);
+    }
+
+    private static class DiscardingSinkWriter
+            implements SinkWriter<SeaTunnelRow, Void, Void>, SupportMultiTableSinkWriter<Void> {
+
+        @Override
+        public void write(SeaTunnelRow element) {}
+
+        @Override
+        public Optional<Void> prepareCommit() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void abortPrepare() {}
+
+        @Override
+        public void close() {}
+    }
+
+    private static class BenchmarkSinkWriterContext implements SinkWriter.Context {
+
+        private final int indexOfSubtask;
+
+        private BenchmarkSinkWriterContext(int indexOfSubtask) {
+            this.indexOfSubtask = indexOfSubtask;
+        }
+
+        @Override
+        public int getIndexOfSubtask() {
+            return indexOfSubtask;
+        }
+
+        @Override
+        public MetricsContext getMetricsContext() {
+            return null;
+        }
+
+        @Override
+        public EventListener getEventListener() {
+            return new DefaultEventProcessor();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.server.serializable.RecordSerializer;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how rows are serialized when they cross a task boundary, either generically by {@link
+ * RecordSerializer} or through the schema aware {@link ShuffleRowSerializer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RecordSerializerBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    @Param({"8", "64"})
+    private int width;
+
+    @Param({BenchmarkRows.INT, BenchmarkRows.STRING, BenchmarkRows.MIXED})
+    private String fieldType;
+
+    @Param({"generic", "shuffle_codec"})
+    private String serializer;
+
+    private InternalSerializationService serializationService;
+    private ShuffleRowSerializer shuffleRowSerializer;
+    private Record<?>[] records;
+    private Data[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        CatalogTable table = BenchmarkRows.catalogTable(BenchmarkRows.rowType(width, fieldType));
+        shuffleRowSerializer =
+                new ShuffleRowSerializer(serializationService, Collections.singletonList(table));
+        SeaTunnelRow[] rows = BenchmarkRows.rows(table, ROW_COUNT);
+        records = new Record<?>[ROW_COUNT];
+        serialized = new Data[ROW_COUNT];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            records[i] = new Record<>(rows[i]);
+            serialized[i] = toData(records[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void serialize(Blackhole blackhole) throws IOException {
+        for (Record<?> record : records) {
+            blackhole.consume(toData(record));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void deserialize(Blackhole blackhole) throws IOException {
+        for (Data data : serialized) {
+            blackhole.consume(toRecord(data));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void roundTrip(Blackhole blackhole) throws IOException {
+        for (Record<?> record : records) {
+            blackhole.consume(toRecord(toData(record)));
+        }
+    }
+
+    private Data toData(Record<?> record) throws IOException {
+        if ("shuffle_codec".equals(serializer)) {
+            return serializationService.toData(shuffleRowSerializer.serialize(record));
+        }
+        return serializationService.toData(record);
+    }
+
+    private Record<?> toRecord(Data data) throws IOException {
+        Record<?> record = serializationService.toObject(data);
+        if ("shuffle_codec".equals(serializer)) {
+            return shuffleRowSerializer.deserialize(record);
+        }
+        return record;
+    }
+}
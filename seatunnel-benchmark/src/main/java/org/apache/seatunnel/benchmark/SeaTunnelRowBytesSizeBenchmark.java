@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SeaTunnelRow#getBytesSize}, which is called for every row to update the byte
+ * metrics of sources and sinks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SeaTunnelRowBytesSizeBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    @Param({"8", "64", "256"})
+    private int width;
+
+    @Param({BenchmarkRows.INT, BenchmarkRows.STRING, BenchmarkRows.MIXED})
+    private String fieldType;
+
+    private SeaTunnelRowType rowType;
+    private Object[][] fields;
+
+    @Setup
+    public void setup() {
+        CatalogTable table = BenchmarkRows.catalogTable(BenchmarkRows.rowType(width, fieldType));
+        rowType = table.getSeaTunnelRowType();
+        SeaTunnelRow[] rows = BenchmarkRows.rows(table, ROW_COUNT);
+        fields = new Object[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            fields[i] = rows[i].getFields();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void bytesSizeWithRowType(Blackhole blackhole) {
+        // the size is cached in the row, so every call works on a fresh row like the engine does
+        for (Object[] row : fields) {
+            blackhole.consume(new SeaTunnelRow(row).getBytesSize(rowType));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void bytesSizeWithoutRowType(Blackhole blackhole) {
+        for (Object[] row : fields) {
+            blackhole.consume(new SeaTunnelRow(row).getBytesSize());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.benchmark;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.sql.SQLEngine;
+import org.apache.seatunnel.transform.sql.SQLEngineFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ZetaSQLEngine#transformBySQL} for the typical shapes of the sql transform.
+ * Queries run on {@link BenchmarkRows#MIXED} rows, so {@code f0} is an int, {@code f1} a bigint,
+ * {@code f2} a double, {@code f3} a string, {@code f4} a decimal and {@code f5} a boolean.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ZetaSQLEngineBenchmark {
+
+    private static final int ROW_COUNT = 1024;
+
+    private static final Map<String, String> QUERIES = new HashMap<>();
+
+    static {
+        QUERIES.put("select_all", "select * from benchmark");
+        QUERIES.put("projection", "select f0, f3, f4 from benchmark");
+        QUERIES.put("filter", "select * from benchmark where f0 > 0 and f2 < 500000");
+        QUERIES.put(
+                "expression",
+                "select f0 + 1 as c0, f1 % 100 as c1, f2 * 2 as c2, UPPER(f3) as c3, "
+                        + "CONCAT(f3, '_', f0) as c4 from benchmark");
+    }
+
+    @Param({"select_all", "projection", "filter", "expression"})
+    private String query;
+
+    @Param({"8", "64"})
+    private int width;
+
+    private SQLEngine sqlEngine;
+    private SeaTunnelRowType outputRowType;
+    private SeaTunnelRow[] rows;
+
+    @Setup
+    public void setup() {
+        CatalogTable table =
+                BenchmarkRows.catalogTable(BenchmarkRows.rowType(width, BenchmarkRows.MIXED));
+        sqlEngine = SQLEngineFactory.getSQLEngine(SQLEngineFactory.EngineType.ZETA);
+        sqlEngine.init(
+                BenchmarkRows.TABLE_NAME,
+                BenchmarkRows.TABLE_NAME,
+                table.getSeaTunnelRowType(),
+                QUERIES.get(query));
+        outputRowType = sqlEngine.typeMapping(new ArrayList<>());
+        rows = BenchmarkRows.rows(table, ROW_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void transformBySQL(Blackhole blackhole) {
+        for (SeaTunnelRow row : rows) {
+            blackhole.consume(sqlEngine.transformBySQL(row, outputRowType));
+        }
+    }
+}
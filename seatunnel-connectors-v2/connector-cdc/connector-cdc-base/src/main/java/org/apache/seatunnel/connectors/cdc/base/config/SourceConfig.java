@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.cdc.base.config;
 
+import org.apache.seatunnel.connectors.cdc.base.option.SourceOptions;
+
 import java.io.Serializable;
 
 /** The source configuration which offers basic source configuration. */
@@ -30,6 +32,11 @@ public interface SourceConfig extends Serializable {
 
     boolean isExactlyOnce();
 
+    /** The number of snapshot records of a split buffered in memory before spilling to disk. */
+    default int getSnapshotBufferSize() {
+        return SourceOptions.SNAPSHOT_BUFFER_SIZE.defaultValue();
+    }
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
@@ -42,6 +42,12 @@ public class SourceOptions {
                     .defaultValue(1024)
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
+    public static final Option<Integer> SNAPSHOT_BUFFER_SIZE =
+            Options.key("snapshot.buffer.size")
+                    .intType()
+                    .defaultValue(16384)
+                    .withDescription(
+                            "The maximum number of snapshot records of a split kept in memory while exactly-once reading normalizes it with the backfilled change events, the remaining records are spilled to local disk.");
 
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
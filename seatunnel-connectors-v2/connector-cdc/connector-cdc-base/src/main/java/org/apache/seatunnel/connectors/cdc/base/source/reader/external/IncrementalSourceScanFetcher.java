@@ -24,18 +24,18 @@ import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 
-import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.source.SourceRecord;
 
 import io.debezium.connector.base.ChangeEventQueue;
 import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -64,6 +64,8 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     // task to read snapshot for current split
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
+    // buffer of the last exactly-once split, its spill file is deleted when the fetcher closes
+    private SnapshotRecordBuffer snapshotBuffer;
 
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
 
@@ -154,7 +156,10 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
+        closeSnapshotBuffer();
+        SnapshotRecordBuffer snapshotBuffer =
+                new SnapshotRecordBuffer(taskContext.getSourceConfig().getSnapshotBufferSize());
+        this.snapshotBuffer = snapshotBuffer;
         while (!reachChangeLogEnd) {
             checkReadException();
             List<DataChangeEvent> batch = queue.poll();
@@ -180,11 +185,11 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
                 }
 
                 if (!reachChangeLogStart) {
-                    outputBuffer.put((Struct) record.key(), record);
+                    addSnapshotRecord(snapshotBuffer, record);
                 } else {
                     if (isChangeRecordInChunkRange(record)) {
                         // rewrite overlapping snapshot records through the record key
-                        taskContext.rewriteOutputBuffer(outputBuffer, record);
+                        taskContext.rewriteOutputBuffer(snapshotBuffer.getOutputBuffer(), record);
                     }
                 }
             }
@@ -192,9 +197,13 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         // snapshot split return its data once
         hasNextElement.set(false);
 
+        if (snapshotBuffer.isSpilled()) {
+            return streamSpilledRecords(snapshotBuffer, lowWatermark, highWatermark);
+        }
         final List<SourceRecord> normalizedRecords = new ArrayList<>();
         normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
+        normalizedRecords.addAll(
+                taskContext.formatMessageTimestamp(snapshotBuffer.getOutputBuffer().values()));
         normalizedRecords.add(highWatermark);
 
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
@@ -202,6 +211,86 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         return sourceRecordsSet.iterator();
     }
 
+    private void addSnapshotRecord(SnapshotRecordBuffer snapshotBuffer, SourceRecord record) {
+        try {
+            snapshotBuffer.addSnapshotRecord(record);
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format(
+                            "Spill snapshot records of split %s to disk failed",
+                            currentSnapshotSplit),
+                    e);
+        }
+    }
+
+    /**
+     * Emits a spilled split as a single {@link SourceRecords} that reads the spill file while it is
+     * iterated. The reader emits one {@link SourceRecords} per checkpoint lock, so no checkpoint
+     * can be taken between the low and the high watermark, and the split is never held in memory at
+     * once.
+     */
+    private Iterator<SourceRecords> streamSpilledRecords(
+            SnapshotRecordBuffer snapshotBuffer,
+            SourceRecord lowWatermark,
+            SourceRecord highWatermark) {
+        final int batchSize = taskContext.getSourceConfig().getSnapshotBufferSize();
+        final Iterator<SourceRecord> records;
+        try {
+            records = snapshotBuffer.iterator();
+        } catch (IOException e) {
+            throw new SeaTunnelException(
+                    String.format(
+                            "Read spilled snapshot records of split %s failed",
+                            currentSnapshotSplit),
+                    e);
+        }
+        Iterator<SourceRecord> normalizedRecords =
+                new Iterator<SourceRecord>() {
+                    private Iterator<SourceRecord> batch =
+                            Collections.singletonList(lowWatermark).iterator();
+                    private boolean highWatermarkEmitted;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (!batch.hasNext()) {
+                            if (records.hasNext()) {
+                                List<SourceRecord> nextBatch = new ArrayList<>();
+                                while (nextBatch.size() < batchSize && records.hasNext()) {
+                                    nextBatch.add(records.next());
+                                }
+                                batch = taskContext.formatMessageTimestamp(nextBatch).iterator();
+                            } else if (!highWatermarkEmitted) {
+                                highWatermarkEmitted = true;
+                                batch = Collections.singletonList(highWatermark).iterator();
+                            } else {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public SourceRecord next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return batch.next();
+                    }
+                };
+        return Collections.singletonList(SourceRecords.fromStream(normalizedRecords)).iterator();
+    }
+
+    private void closeSnapshotBuffer() {
+        if (snapshotBuffer != null) {
+            try {
+                snapshotBuffer.close();
+            } catch (IOException e) {
+                log.warn("Delete the spill file of the snapshot buffer failed", e);
+            }
+            snapshotBuffer = null;
+        }
+    }
+
     private void assertLowWatermark(SourceRecord lowWatermark) {
         checkState(
                 isLowWatermarkEvent(lowWatermark),
@@ -245,6 +334,7 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         } catch (Exception e) {
             log.error("Close scan fetcher error", e);
         } finally {
+            closeSnapshotBuffer();
             // 3. close the task context
             if (taskContext != null) {
                 taskContext.close();
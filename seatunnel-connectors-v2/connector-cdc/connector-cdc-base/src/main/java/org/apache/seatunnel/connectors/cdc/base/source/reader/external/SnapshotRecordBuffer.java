@@ -0,0 +1,560 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Buffers the snapshot records of a split between the low and the high watermark, so the change
+ * events read until the end watermark can be normalized into them.
+ *
+ * <p>At most {@code maxBufferedRecords} snapshot records are kept in memory, further records are
+ * appended to a local spill file. Once the buffer has spilled, the change events are kept in an
+ * overlay keyed by the record key instead of rewriting the spilled records, and the overlay is
+ * applied while the spill file is streamed back. A buffer that never spilled behaves like the plain
+ * {@link LinkedHashMap} it wraps.
+ */
+@Slf4j
+public class SnapshotRecordBuffer implements Closeable {
+
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    // type tags of schemaless values
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte BYTES = 6;
+    private static final byte LIST = 7;
+    private static final byte MAP = 8;
+
+    private final int maxBufferedRecords;
+    private final LinkedHashMap<Struct, SourceRecord> records = new LinkedHashMap<>();
+
+    // change events of spilled snapshot records and of keys that were not in the snapshot
+    private final LinkedHashMap<Struct, SourceRecord> changes = new LinkedHashMap<>();
+    private final Set<Struct> deletedKeys = new HashSet<>();
+
+    // schemas are shared by all records of a table, so they are only referenced from the file
+    private final List<Schema> schemas = new ArrayList<>();
+    private final Map<Schema, Integer> schemaIds = new IdentityHashMap<>();
+
+    private Path spillFile;
+    private DataOutputStream spillOutput;
+    private long spilledRecords;
+
+    public SnapshotRecordBuffer(int maxBufferedRecords) {
+        this.maxBufferedRecords = Math.max(1, maxBufferedRecords);
+    }
+
+    /** Adds a record read by the snapshot query. */
+    public void addSnapshotRecord(SourceRecord record) throws IOException {
+        records.put((Struct) record.key(), record);
+        if (records.size() >= maxBufferedRecords) {
+            spill();
+        }
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Returns the map the change events are rewritten into with {@link
+     * FetchTask.Context#rewriteOutputBuffer}, which only puts and removes records by key.
+     */
+    public Map<Struct, SourceRecord> getOutputBuffer() {
+        return isSpilled() ? new ChangeOverlay() : records;
+    }
+
+    /** Returns the normalized records, streaming the spilled ones back from disk. */
+    public Iterator<SourceRecord> iterator() throws IOException {
+        if (!isSpilled()) {
+            return records.values().iterator();
+        }
+        spillOutput.close();
+        spillOutput = null;
+        DataInputStream input =
+                new DataInputStream(
+                        new BufferedInputStream(
+                                Files.newInputStream(spillFile), SPILL_BUFFER_SIZE));
+        return new Iterator<SourceRecord>() {
+            private long remainingSpilled = spilledRecords;
+            private Iterator<SourceRecord> tail;
+            private SourceRecord next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = advance();
+                }
+                return next != null;
+            }
+
+            @Override
+            public SourceRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                SourceRecord record = next;
+                next = null;
+                return record;
+            }
+
+            private SourceRecord advance() {
+                try {
+                    while (remainingSpilled > 0) {
+                        remainingSpilled--;
+                        SourceRecord record = readRecord(input);
+                        Struct key = (Struct) record.key();
+                        SourceRecord changed = changes.remove(key);
+                        if (changed != null) {
+                            return changed;
+                        }
+                        if (!deletedKeys.contains(key)) {
+                            return record;
+                        }
+                    }
+                    if (tail == null) {
+                        input.close();
+                        close();
+                        List<SourceRecord> tailRecords = new ArrayList<>(records.values());
+                        tailRecords.addAll(changes.values());
+                        tail = tailRecords.iterator();
+                    }
+                    return tail.hasNext() ? tail.next() : null;
+                } catch (IOException e) {
+                    throw new SeaTunnelException(
+                            "Read spilled snapshot records from " + spillFile + " failed", e);
+                }
+            }
+        };
+    }
+
+    /** Deletes the spill file, the in-memory records stay readable. */
+    @Override
+    public void close() throws IOException {
+        if (spillOutput != null) {
+            spillOutput.close();
+            spillOutput = null;
+        }
+        if (spillFile != null) {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    private void spill() throws IOException {
+        if (spillFile == null) {
+            spillFile = Files.createTempFile("seatunnel-cdc-snapshot-", ".spill");
+            spillFile.toFile().deleteOnExit();
+            spillOutput =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    Files.newOutputStream(spillFile), SPILL_BUFFER_SIZE));
+            log.info(
+                    "The snapshot split has more than {} records, spill them to {}",
+                    maxBufferedRecords,
+                    spillFile);
+        }
+        for (SourceRecord record : records.values()) {
+            writeRecord(spillOutput, record);
+        }
+        spilledRecords += records.size();
+        records.clear();
+    }
+
+    /** Applies the change events of a spilled buffer without rewriting the spill file. */
+    private class ChangeOverlay extends AbstractMap<Struct, SourceRecord> {
+
+        @Override
+        public SourceRecord put(Struct key, SourceRecord record) {
+            if (records.containsKey(key)) {
+                return records.put(key, record);
+            }
+            deletedKeys.remove(key);
+            return changes.put(key, record);
+        }
+
+        @Override
+        public SourceRecord remove(Object key) {
+            records.remove(key);
+            deletedKeys.add((Struct) key);
+            return changes.remove(key);
+        }
+
+        @Override
+        public Set<Entry<Struct, SourceRecord>> entrySet() {
+            throw new UnsupportedOperationException(
+                    "The records of a spilled snapshot buffer can only be read by iterator()");
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------
+    // Record encoding, values are written against their schema without repeating it per record
+    // --------------------------------------------------------------------------------------------
+
+    private void writeRecord(DataOutputStream out, SourceRecord record) throws IOException {
+        writeUntyped(out, record.topic());
+        writeUntyped(out, record.kafkaPartition());
+        writeUntyped(out, record.timestamp());
+        writeUntyped(out, record.sourcePartition());
+        writeUntyped(out, record.sourceOffset());
+        writeSchemaAndValue(out, record.keySchema(), record.key());
+        writeSchemaAndValue(out, record.valueSchema(), record.value());
+        List<Header> headers = new ArrayList<>();
+        record.headers().forEach(headers::add);
+        out.writeInt(headers.size());
+        for (Header header : headers) {
+            out.writeUTF(header.key());
+            writeSchemaAndValue(out, header.schema(), header.value());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SourceRecord readRecord(DataInputStream in) throws IOException {
+        String topic = (String) readUntyped(in);
+        Integer kafkaPartition = (Integer) readUntyped(in);
+        Long timestamp = (Long) readUntyped(in);
+        Map<String, ?> sourcePartition = (Map<String, ?>) readUntyped(in);
+        Map<String, ?> sourceOffset = (Map<String, ?>) readUntyped(in);
+        Schema keySchema = readSchema(in);
+        Object key = readValue(in, keySchema);
+        Schema valueSchema = readSchema(in);
+        Object value = readValue(in, valueSchema);
+        ConnectHeaders headers = new ConnectHeaders();
+        int headerCount = in.readInt();
+        for (int i = 0; i < headerCount; i++) {
+            String headerKey = in.readUTF();
+            Schema headerSchema = readSchema(in);
+            headers.add(headerKey, readValue(in, headerSchema), headerSchema);
+        }
+        return new SourceRecord(
+                sourcePartition,
+                sourceOffset,
+                topic,
+                kafkaPartition,
+                keySchema,
+                key,
+                valueSchema,
+                value,
+                timestamp,
+                headers);
+    }
+
+    private void writeSchemaAndValue(DataOutputStream out, Schema schema, Object value)
+            throws IOException {
+        if (schema == null) {
+            out.writeInt(-1);
+            writeUntyped(out, value);
+            return;
+        }
+        Integer schemaId = schemaIds.get(schema);
+        if (schemaId == null) {
+            schemaId = schemas.size();
+            schemas.add(schema);
+            schemaIds.put(schema, schemaId);
+        }
+        out.writeInt(schemaId);
+        writeValue(out, schema, value);
+    }
+
+    private Schema readSchema(DataInputStream in) throws IOException {
+        int schemaId = in.readInt();
+        return schemaId < 0 ? null : schemas.get(schemaId);
+    }
+
+    private Object readValue(DataInputStream in, Schema schema) throws IOException {
+        return schema == null ? readUntyped(in) : readTypedValue(in, schema);
+    }
+
+    private static void writeValue(DataOutputStream out, Schema schema, Object value)
+            throws IOException {
+        out.writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+            return;
+        }
+        if (isDateLogicalType(schema)) {
+            out.writeLong(((java.util.Date) value).getTime());
+            return;
+        }
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                out.writeInt((Integer) value);
+                break;
+            case INT64:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                if (value instanceof ByteBuffer) {
+                    out.writeBoolean(true);
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    writeBytes(out, bytes);
+                } else {
+                    out.writeBoolean(false);
+                    writeBytes(out, (byte[]) value);
+                }
+                break;
+            case ARRAY:
+                List<?> list = (List<?>) value;
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(out, schema.keySchema(), entry.getKey());
+                    writeValue(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    writeValue(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static Object readTypedValue(DataInputStream in, Schema schema) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        if (Decimal.LOGICAL_NAME.equals(schema.name())) {
+            int scale = in.readInt();
+            return new BigDecimal(new BigInteger(readBytes(in)), scale);
+        }
+        if (isDateLogicalType(schema)) {
+            return new java.util.Date(in.readLong());
+        }
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                return in.readInt();
+            case INT64:
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                boolean byteBuffer = in.readBoolean();
+                byte[] bytes = readBytes(in);
+                return byteBuffer ? ByteBuffer.wrap(bytes) : bytes;
+            case ARRAY:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readTypedValue(in, schema.valueSchema()));
+                }
+                return list;
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(
+                            readTypedValue(in, schema.keySchema()),
+                            readTypedValue(in, schema.valueSchema()));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = readTypedValue(in, field.schema());
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new IllegalArgumentException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    private static boolean isDateLogicalType(Schema schema) {
+        return org.apache.kafka.connect.data.Date.LOGICAL_NAME.equals(schema.name())
+                || Time.LOGICAL_NAME.equals(schema.name())
+                || Timestamp.LOGICAL_NAME.equals(schema.name());
+    }
+
+    /** Writes the schemaless values used by source partitions and offsets. */
+    private static void writeUntyped(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof List) {
+            out.writeByte(LIST);
+            List<?> list = (List<?>) value;
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeUntyped(out, element);
+            }
+        } else if (value instanceof Map) {
+            out.writeByte(MAP);
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeUntyped(out, entry.getKey());
+                writeUntyped(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported schemaless value of " + value.getClass());
+        }
+    }
+
+    private static Object readUntyped(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case BYTES:
+                return readBytes(in);
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readUntyped(in));
+                }
+                return list;
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < entries; i++) {
+                    map.put(readUntyped(in), readUntyped(in));
+                }
+                return map;
+            default:
+                throw new EOFException("Corrupted spill file, unknown value type " + type);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
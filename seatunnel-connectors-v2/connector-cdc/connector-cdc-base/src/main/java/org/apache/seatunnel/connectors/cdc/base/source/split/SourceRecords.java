@@ -23,23 +23,40 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkState;
+
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private final Iterable<SourceRecord> sourceRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    private SourceRecords(Iterable<SourceRecord> sourceRecords) {
+        this.sourceRecords = sourceRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
-        return sourceRecords;
+        checkState(
+                sourceRecords instanceof List,
+                "Streamed source records can only be read through the iterator");
+        return (List<SourceRecord>) sourceRecords;
     }
 
     public Iterator<SourceRecord> iterator() {
         return sourceRecords.iterator();
     }
 
+    /**
+     * Records that are produced while they are iterated, e.g. read back from disk, so they are
+     * emitted as one set without being held in memory together. They can only be iterated once.
+     */
+    public static SourceRecords fromStream(Iterator<SourceRecord> records) {
+        return new SourceRecords(() -> records);
+    }
+
     public static SourceRecords fromSingleRecord(SourceRecord record) {
         final List<SourceRecord> records = new ArrayList<>();
         records.add(record);
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceRecords;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkEvent;
+import org.apache.seatunnel.connectors.cdc.base.source.split.wartermark.WatermarkKind;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.debezium.connector.base.ChangeEventQueue;
+import io.debezium.pipeline.DataChangeEvent;
+import io.debezium.relational.TableId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IncrementalSourceScanFetcherTest {
+    private static final Map<String, String> PARTITION = Collections.singletonMap("server", "test");
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .build();
+
+    @Test
+    public void testCheckpointInSpilledSplit() throws Exception {
+        List<DataChangeEvent> events = new ArrayList<>();
+        events.add(new DataChangeEvent(watermark(WatermarkKind.LOW)));
+        for (int i = 0; i < 10; i++) {
+            events.add(new DataChangeEvent(createRecord(i)));
+        }
+        events.add(new DataChangeEvent(watermark(WatermarkKind.HIGH)));
+        events.add(new DataChangeEvent(watermark(WatermarkKind.END)));
+        IncrementalSourceScanFetcher fetcher = createFetcher(events, 2);
+
+        // the reader emits one SourceRecords per checkpoint lock and may take a checkpoint
+        // between any two of them
+        Object checkpointLock = new Object();
+        List<SourceRecord> emitted = new ArrayList<>();
+        List<List<SourceRecord>> checkpoints = new ArrayList<>();
+        Iterator<SourceRecords> records = fetcher.pollSplitRecords();
+        while (records.hasNext()) {
+            SourceRecords sourceRecords = records.next();
+            synchronized (checkpointLock) {
+                sourceRecords.iterator().forEachRemaining(emitted::add);
+            }
+            synchronized (checkpointLock) {
+                checkpoints.add(new ArrayList<>(emitted));
+            }
+        }
+        fetcher.close();
+
+        Assertions.assertEquals(12, emitted.size());
+        Assertions.assertTrue(WatermarkEvent.isLowWatermarkEvent(emitted.get(0)));
+        Assertions.assertTrue(WatermarkEvent.isHighWatermarkEvent(emitted.get(11)));
+        for (List<SourceRecord> checkpoint : checkpoints) {
+            // a checkpoint between the watermarks would replay the emitted rows on restore
+            Assertions.assertTrue(
+                    checkpoint.isEmpty()
+                            || WatermarkEvent.isHighWatermarkEvent(
+                                    checkpoint.get(checkpoint.size() - 1)),
+                    "checkpoint taken inside the snapshot split: " + checkpoint.size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IncrementalSourceScanFetcher createFetcher(
+            List<DataChangeEvent> events, int snapshotBufferSize) throws Exception {
+        SourceConfig sourceConfig = mock(SourceConfig.class);
+        when(sourceConfig.getSnapshotBufferSize()).thenReturn(snapshotBufferSize);
+        ChangeEventQueue<DataChangeEvent> queue = mock(ChangeEventQueue.class);
+        when(queue.poll()).thenReturn(events, Collections.emptyList());
+
+        FetchTask.Context taskContext = mock(FetchTask.Context.class);
+        when(taskContext.isExactlyOnce()).thenReturn(true);
+        when(taskContext.getSourceConfig()).thenReturn(sourceConfig);
+        when(taskContext.getQueue()).thenReturn(queue);
+        when(taskContext.formatMessageTimestamp(any()))
+                .thenAnswer(
+                        invocation ->
+                                new ArrayList<>(
+                                        (Collection<SourceRecord>) invocation.getArgument(0)));
+
+        SnapshotSplit split =
+                new SnapshotSplit("split-0", new TableId("db", null, "table"), null, null, null);
+        FetchTask<SourceSplitBase> fetchTask = mock(FetchTask.class);
+        when(fetchTask.getSplit()).thenReturn(split);
+
+        IncrementalSourceScanFetcher fetcher = new IncrementalSourceScanFetcher(taskContext, 0);
+        fetcher.submitTask(fetchTask);
+        return fetcher;
+    }
+
+    private static SourceRecord watermark(WatermarkKind kind) {
+        Offset offset = mock(Offset.class);
+        when(offset.getOffset()).thenReturn(Collections.singletonMap("file", "binlog.000001"));
+        return WatermarkEvent.create(PARTITION, "test.db.table", "split-0", kind, offset);
+    }
+
+    private static SourceRecord createRecord(long id) {
+        return new SourceRecord(
+                PARTITION,
+                Collections.singletonMap("file", "binlog.000001"),
+                "test.db.table",
+                null,
+                KEY_SCHEMA,
+                new Struct(KEY_SCHEMA).put("id", id),
+                VALUE_SCHEMA,
+                new Struct(VALUE_SCHEMA).put("id", id).put("name", "name-" + id));
+    }
+}
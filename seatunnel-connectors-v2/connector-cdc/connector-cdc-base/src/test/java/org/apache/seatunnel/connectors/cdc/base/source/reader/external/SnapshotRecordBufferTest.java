@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class SnapshotRecordBufferTest {
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("value")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("updated", Timestamp.builder().optional().build())
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .build();
+
+    @Test
+    public void testBufferWithoutSpill() throws Exception {
+        try (SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(10)) {
+            buffer.addSnapshotRecord(createRecord(1, "a"));
+            buffer.addSnapshotRecord(createRecord(2, "b"));
+            Map<Struct, SourceRecord> output = buffer.getOutputBuffer();
+            output.remove(createKey(1));
+            output.put(createKey(3), createRecord(3, "c"));
+
+            Assertions.assertFalse(buffer.isSpilled());
+            Assertions.assertEquals(ids(2, 3), readIds(buffer.iterator()));
+        }
+    }
+
+    @Test
+    public void testSpillAndApplyChanges() throws Exception {
+        SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(2);
+        for (int i = 1; i <= 5; i++) {
+            buffer.addSnapshotRecord(createRecord(i, "name-" + i));
+        }
+        Assertions.assertTrue(buffer.isSpilled());
+
+        Map<Struct, SourceRecord> output = buffer.getOutputBuffer();
+        output.put(createKey(2), createRecord(2, "updated"));
+        output.remove(createKey(3));
+        output.put(createKey(5), createRecord(5, "updated"));
+        output.put(createKey(6), createRecord(6, "inserted"));
+        output.remove(createKey(4));
+        output.put(createKey(4), createRecord(4, "reinserted"));
+
+        List<SourceRecord> records = new ArrayList<>();
+        buffer.iterator().forEachRemaining(records::add);
+        Assertions.assertEquals(ids(1, 2, 4, 5, 6), readIds(records.iterator()));
+        Assertions.assertEquals("name-1", ((Struct) records.get(0).value()).get("name"));
+        Assertions.assertEquals("updated", ((Struct) records.get(1).value()).get("name"));
+        Assertions.assertEquals("reinserted", ((Struct) records.get(2).value()).get("name"));
+        Assertions.assertEquals("updated", ((Struct) records.get(3).value()).get("name"));
+        Assertions.assertEquals("inserted", ((Struct) records.get(4).value()).get("name"));
+        buffer.close();
+    }
+
+    @Test
+    public void testSpilledRecordRoundTrip() throws Exception {
+        SourceRecord record = createRecord(1, "a");
+        try (SnapshotRecordBuffer buffer = new SnapshotRecordBuffer(1)) {
+            buffer.addSnapshotRecord(record);
+            Assertions.assertTrue(buffer.isSpilled());
+
+            Iterator<SourceRecord> iterator = buffer.iterator();
+            SourceRecord restored = iterator.next();
+            Assertions.assertFalse(iterator.hasNext());
+            Assertions.assertEquals(record.sourcePartition(), restored.sourcePartition());
+            Assertions.assertEquals(record.sourceOffset(), restored.sourceOffset());
+            Assertions.assertEquals(record.topic(), restored.topic());
+            Assertions.assertEquals(record.key(), restored.key());
+            Assertions.assertEquals(record.value(), restored.value());
+        }
+    }
+
+    private static List<Long> ids(long... ids) {
+        List<Long> list = new ArrayList<>();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    private static List<Long> readIds(Iterator<SourceRecord> iterator) {
+        List<Long> ids = new ArrayList<>();
+        iterator.forEachRemaining(record -> ids.add(((Struct) record.key()).getInt64("id")));
+        return ids;
+    }
+
+    private static Struct createKey(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord createRecord(long id, String name) {
+        Struct value =
+                new Struct(VALUE_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("price", new BigDecimal("12.34"))
+                        .put("updated", new Date(1700000000000L))
+                        .put("tags", Collections.singletonList("tag"));
+        return new SourceRecord(
+                Collections.singletonMap("server", "test"),
+                Collections.singletonMap("file", "binlog.000001"),
+                "test.db.table",
+                null,
+                KEY_SCHEMA,
+                createKey(id),
+                VALUE_SCHEMA,
+                value);
+    }
+}
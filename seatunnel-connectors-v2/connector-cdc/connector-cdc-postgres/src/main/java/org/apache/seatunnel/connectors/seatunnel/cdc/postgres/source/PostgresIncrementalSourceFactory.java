@@ -30,6 +30,7 @@ import org.apache.seatunnel.api.table.factory.TableSourceFactory;
 import org.apache.seatunnel.api.table.factory.TableSourceFactoryContext;
 import org.apache.seatunnel.connectors.cdc.base.config.JdbcSourceTableConfig;
 import org.apache.seatunnel.connectors.cdc.base.option.JdbcSourceOptions;
+import org.apache.seatunnel.connectors.cdc.base.option.SourceOptions;
 import org.apache.seatunnel.connectors.cdc.base.option.StartupMode;
 import org.apache.seatunnel.connectors.cdc.base.utils.CatalogTableUtils;
 import org.apache.seatunnel.connectors.seatunnel.cdc.postgres.option.PostgresOptions;
@@ -72,7 +73,8 @@ public class PostgresIncrementalSourceFactory implements TableSourceFactory {
                 .conditional(
                         PostgresSourceOptions.STARTUP_MODE,
                         StartupMode.INITIAL,
-                        JdbcSourceOptions.EXACTLY_ONCE)
+                        JdbcSourceOptions.EXACTLY_ONCE,
+                        SourceOptions.SNAPSHOT_BUFFER_SIZE)
                 .build();
     }
 
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LinkedBlockingQueue} that completes an availability future whenever an element is
+ * enqueued, so the reader thread can park on {@link #getAvailabilityFuture()} instead of sleeping
+ * while the split fetchers are working.
+ *
+ * @param <T> the type of the queued elements.
+ */
+public class FutureCompletingBlockingQueue<T> extends LinkedBlockingQueue<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient CompletableFuture<Void> availabilityFuture = new CompletableFuture<>();
+
+    public FutureCompletingBlockingQueue() {
+        super();
+    }
+
+    public FutureCompletingBlockingQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Returns a future that is completed once the queue holds at least one element. The returned
+     * future is already completed if the queue is not empty.
+     */
+    public CompletableFuture<Void> getAvailabilityFuture() {
+        if (!isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            if (availabilityFuture.isDone()) {
+                availabilityFuture = new CompletableFuture<>();
+            }
+            future = availabilityFuture;
+        }
+        // an element may have been enqueued before the new future was installed
+        if (!isEmpty()) {
+            future.complete(null);
+        }
+        return future;
+    }
+
+    @Override
+    public boolean offer(T t) {
+        boolean added = super.offer(t);
+        if (added) {
+            notifyAvailable();
+        }
+        return added;
+    }
+
+    @Override
+    public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
+        boolean added = super.offer(t, timeout, unit);
+        if (added) {
+            notifyAvailable();
+        }
+        return added;
+    }
+
+    @Override
+    public void put(T t) throws InterruptedException {
+        super.put(t);
+        notifyAvailable();
+    }
+
+    private void notifyAvailable() {
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            future = availabilityFuture;
+        }
+        future.complete(null);
+    }
+}
@@ -22,7 +22,6 @@ import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SingleThreadFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.function.Supplier;
 
@@ -45,7 +44,7 @@ public abstract class SingleThreadMultiplexSourceReaderBase<
             SourceReaderOptions options,
             SourceReader.Context context) {
         this(
-                new ArrayBlockingQueue<>(options.getElementQueueCapacity()),
+                new FutureCompletingBlockingQueue<>(options.getElementQueueCapacity()),
                 splitReaderSupplier,
                 recordEmitter,
                 options,
@@ -22,7 +22,6 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.source.SourceEvent;
 import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.source.SourceSplit;
-import org.apache.seatunnel.common.utils.SeaTunnelException;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.fetcher.SplitFetcherManager;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.splitreader.SplitReader;
 
@@ -36,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -115,6 +115,14 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         }
     }
 
+    @Override
+    public CompletableFuture<Void> isAvailable() {
+        if (currentFetch != null || !(elementsQueue instanceof FutureCompletingBlockingQueue)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return ((FutureCompletingBlockingQueue<?>) elementsQueue).getAvailabilityFuture();
+    }
+
     @Override
     public List<SplitT> snapshotState(long checkpointId) {
         List<SplitT> splits = new ArrayList<>();
@@ -167,12 +175,8 @@ public abstract class SourceReaderBase<E, T, SplitT extends SourceSplit, SplitSt
         splitFetcherManager.checkErrors();
         RecordsWithSplitIds<E> recordsWithSplitId = elementsQueue.poll();
         if (recordsWithSplitId == null || !moveToNextSplit(recordsWithSplitId, output)) {
-            try {
-                log.trace("Current fetch is finished.");
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                throw new SeaTunnelException(e);
-            }
+            // the caller waits on isAvailable() or backs off before polling again
+            log.trace("Current fetch is finished.");
             return null;
         }
 
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.common.source.reader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class FutureCompletingBlockingQueueTest {
+
+    @Test
+    public void testAvailabilityFuture() throws Exception {
+        FutureCompletingBlockingQueue<String> queue = new FutureCompletingBlockingQueue<>(2);
+
+        CompletableFuture<Void> future = queue.getAvailabilityFuture();
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertSame(future, queue.getAvailabilityFuture());
+
+        Assertions.assertTrue(queue.offer("a", 1, TimeUnit.SECONDS));
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertTrue(queue.getAvailabilityFuture().isDone());
+
+        Assertions.assertEquals("a", queue.poll());
+        CompletableFuture<Void> next = queue.getAvailabilityFuture();
+        Assertions.assertFalse(next.isDone());
+        Assertions.assertNotSame(future, next);
+
+        queue.put("b");
+        Assertions.assertTrue(next.isDone());
+    }
+}
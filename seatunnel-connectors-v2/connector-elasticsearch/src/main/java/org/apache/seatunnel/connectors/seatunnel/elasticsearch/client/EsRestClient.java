@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -60,6 +62,7 @@ import javax.net.ssl.SSLContext;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -67,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsType.AGGREGATE_METRIC_DOUBLE;
@@ -209,6 +213,34 @@ public class EsRestClient implements Closeable {
     public BulkResponse bulk(String requestBody) {
         Request request = new Request("POST", "/_bulk");
         request.setJsonEntity(requestBody);
+        return bulk(request, () -> requestBody.substring(0, Math.min(1000, requestBody.length())));
+    }
+
+    /**
+     * Send a bulk request whose body is {@code length} bytes of {@code body} starting at {@code
+     * offset}, the body is sent as is and has to be gzip compressed if {@code gzip} is set.
+     */
+    public BulkResponse bulk(byte[] body, int offset, int length, boolean gzip) {
+        Request request = new Request("POST", "/_bulk");
+        ByteArrayEntity entity =
+                new ByteArrayEntity(body, offset, length, ContentType.APPLICATION_JSON);
+        if (gzip) {
+            entity.setContentEncoding("gzip");
+        }
+        request.setEntity(entity);
+        return bulk(
+                request,
+                () ->
+                        gzip
+                                ? String.format("<%s gzip compressed bytes>", length)
+                                : new String(
+                                        body,
+                                        offset,
+                                        Math.min(1000, length),
+                                        StandardCharsets.UTF_8));
+    }
+
+    private BulkResponse bulk(Request request, Supplier<String> truncatedRequestBody) {
         try {
             Response response = restClient.performRequest(request);
             if (response == null) {
@@ -221,25 +253,42 @@ public class EsRestClient implements Closeable {
                 JsonNode json = OBJECT_MAPPER.readTree(entity);
                 int took = json.get("took").asInt();
                 boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                if (!errors) {
+                    return new BulkResponse(false, took, entity);
+                }
+                return new BulkResponse(true, took, entity, getFailedItems(json));
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                         String.format(
                                 "bulk es response status=%s,request body(truncate)=%s",
-                                response,
-                                requestBody.substring(0, Math.min(1000, requestBody.length()))));
+                                response, truncatedRequestBody.get()));
             }
         } catch (IOException e) {
             throw new ElasticsearchConnectorException(
                     ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
                     String.format(
-                            "bulk es error,request body(truncate)=%s",
-                            requestBody.substring(0, Math.min(1000, requestBody.length()))),
+                            "bulk es error,request body(truncate)=%s", truncatedRequestBody.get()),
                     e);
         }
     }
 
+    /** Positions of the bulk items which failed, every item holds a single action result. */
+    private static List<Integer> getFailedItems(JsonNode json) {
+        List<Integer> failedItems = new ArrayList<>();
+        JsonNode items = json.get("items");
+        if (items == null) {
+            return failedItems;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            Iterator<JsonNode> results = items.get(i).elements();
+            if (results.hasNext() && results.next().has("error")) {
+                failedItems.add(i);
+            }
+        }
+        return failedItems;
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
@@ -285,11 +334,35 @@ public class EsRestClient implements Closeable {
             Map<String, Object> query,
             String scrollTime,
             int scrollSize) {
+        return searchByScroll(index, source, query, scrollTime, scrollSize, 0, 1);
+    }
+
+    /**
+     * first time to request search documents of one slice by sliced scroll call
+     * /${index}/_search?scroll=${scroll}
+     *
+     * @param sliceId the slice to read, from 0 to maxSlices - 1
+     * @param maxSlices the number of slices the scroll is split into, 1 reads all documents
+     */
+    public ScrollResult searchByScroll(
+            String index,
+            List<String> source,
+            Map<String, Object> query,
+            String scrollTime,
+            int scrollSize,
+            int sliceId,
+            int maxSlices) {
         Map<String, Object> param = new HashMap<>();
         param.put("query", query);
         param.put("_source", source);
         param.put("sort", new String[] {"_doc"});
         param.put("size", scrollSize);
+        if (maxSlices > 1) {
+            Map<String, Object> slice = new HashMap<>();
+            slice.put("id", sliceId);
+            slice.put("max", maxSlices);
+            param.put("slice", slice);
+        }
         String endpoint = "/" + index + "/_search?scroll=" + scrollTime;
         return getDocsFromScrollRequest(endpoint, JsonUtils.toJsonString(param));
     }
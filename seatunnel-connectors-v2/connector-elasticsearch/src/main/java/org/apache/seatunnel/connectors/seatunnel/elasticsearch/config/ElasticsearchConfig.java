@@ -32,11 +32,16 @@ import java.util.Map;
 @Setter
 public class ElasticsearchConfig implements Serializable {
 
+    // the computed value of the class before scrollSlices was added, so splits checkpointed by
+    // older versions can still be restored
+    private static final long serialVersionUID = 2547046199028120576L;
+
     private String index;
     private List<String> source;
     private Map<String, Object> query;
     private String scrollTime;
     private int scrollSize;
+    private int scrollSlices;
 
     private CatalogTable catalogTable;
 
@@ -47,6 +52,7 @@ public class ElasticsearchConfig implements Serializable {
         elasticsearchConfig.setQuery(new HashMap<>(query));
         elasticsearchConfig.setScrollTime(scrollTime);
         elasticsearchConfig.setScrollSize(scrollSize);
+        elasticsearchConfig.setScrollSlices(scrollSlices);
         elasticsearchConfig.setCatalogTable(catalogTable);
         return elasticsearchConfig;
     }
@@ -63,6 +63,19 @@ public class ElasticsearchSinkOptions extends ElasticsearchBaseOptions {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Integer> MAX_IN_FLIGHT_REQUESTS =
+            Options.key("max_in_flight_requests")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of bulk requests sent in the background while the next batch is built, 0 sends every bulk request synchronously");
+
+    public static final Option<Boolean> BULK_COMPRESSION =
+            Options.key("bulk_compression")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription("Whether to gzip compress the bulk request body");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
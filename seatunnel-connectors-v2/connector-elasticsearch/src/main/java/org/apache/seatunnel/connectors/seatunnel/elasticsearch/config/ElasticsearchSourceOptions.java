@@ -68,6 +68,13 @@ public class ElasticsearchSourceOptions extends ElasticsearchBaseOptions {
                     .withDescription(
                             "Maximum number of hits to be returned with each Elasticsearch scroll request");
 
+    public static final Option<Integer> SCROLL_SLICES =
+            Options.key("scroll_slices")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Number of slices an index is split into with sliced scroll, every slice is read by its own split so one index can be read by several readers in parallel");
+
     public static final Option<Map<String, Object>> QUERY =
             Options.key("query")
                     .type(new TypeReference<Map<String, Object>>() {})
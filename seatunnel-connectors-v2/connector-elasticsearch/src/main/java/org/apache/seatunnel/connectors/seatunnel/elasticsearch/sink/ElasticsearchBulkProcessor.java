@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.RetryUtils;
+import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sends the documents of {@link ElasticsearchSinkWriter} to Elasticsearch in bulk requests.
+ *
+ * <p>Bulk request bodies are encoded straight into reusable byte buffers and optionally gzip
+ * compressed. When {@code maxInFlightRequests} is greater than 0, full buffers are sent in the
+ * background while the next one is filled, and at most {@code maxInFlightRequests + 1} buffers are
+ * allocated.
+ *
+ * <p>When the documents have ids, a retry resends the batch from its first failed item, so the
+ * later actions on the same document are applied again after it, and the buffers are sent one at a
+ * time in order. Documents with generated ids have no order to keep, so a retry only resends the
+ * failed items, resending a succeeded one would index it twice, and up to {@code
+ * maxInFlightRequests} requests are sent concurrently.
+ */
+@Slf4j
+public class ElasticsearchBulkProcessor implements Closeable {
+
+    private static final long DEFAULT_SLEEP_TIME_MS = 200L;
+
+    private final EsRestClient esRestClient;
+    private final int maxBatchSize;
+    private final int maxInFlightRequests;
+    private final boolean keyed;
+    private final boolean compression;
+    private final RetryMaterial retryMaterial;
+
+    /** Sends the full buffers, null if bulk requests are sent synchronously. */
+    private final ExecutorService bulkExecutor;
+
+    /** Buffers which are neither filled nor in flight. */
+    private final BlockingQueue<BulkBuffer> idleBuffers;
+
+    private BulkBuffer currentBuffer = new BulkBuffer();
+    private volatile Exception bulkException;
+
+    public ElasticsearchBulkProcessor(
+            EsRestClient esRestClient,
+            int maxBatchSize,
+            int maxRetryCount,
+            int maxInFlightRequests,
+            boolean keyed,
+            boolean compression) {
+        this.esRestClient = esRestClient;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightRequests = Math.max(0, maxInFlightRequests);
+        this.keyed = keyed;
+        this.compression = compression;
+        this.retryMaterial =
+                new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        if (this.maxInFlightRequests > 0) {
+            this.bulkExecutor =
+                    Executors.newFixedThreadPool(
+                            keyed ? 1 : this.maxInFlightRequests,
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("es-bulk-%d")
+                                    .setDaemon(true)
+                                    .build());
+            this.idleBuffers = new ArrayBlockingQueue<>(this.maxInFlightRequests);
+            for (int i = 0; i < this.maxInFlightRequests; i++) {
+                idleBuffers.add(new BulkBuffer());
+            }
+        } else {
+            this.bulkExecutor = null;
+            this.idleBuffers = null;
+        }
+    }
+
+    /** Adds a serialized bulk action, sending the batch once it is full. */
+    public synchronized void add(String request) {
+        checkBulkException();
+        currentBuffer.append(request);
+        if (currentBuffer.size() >= maxBatchSize) {
+            sendCurrentBuffer();
+        }
+    }
+
+    /** Sends the pending documents and waits for every bulk request in flight. */
+    public synchronized void flush() {
+        checkBulkException();
+        sendCurrentBuffer();
+        if (bulkExecutor != null) {
+            waitForInFlightRequests();
+            checkBulkException();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            if (bulkExecutor != null) {
+                bulkExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private void sendCurrentBuffer() {
+        if (currentBuffer.size() == 0) {
+            return;
+        }
+        if (bulkExecutor == null) {
+            bulkWithRetry(currentBuffer);
+            currentBuffer.reset();
+            return;
+        }
+        BulkBuffer buffer = currentBuffer;
+        currentBuffer = takeIdleBuffer();
+        bulkExecutor.execute(
+                () -> {
+                    try {
+                        // a later batch must not overtake the actions of a failed one
+                        if (bulkException == null) {
+                            bulkWithRetry(buffer);
+                        }
+                    } catch (Exception e) {
+                        log.error("Bulk request in flight failed", e);
+                        if (bulkException == null) {
+                            bulkException = e;
+                        }
+                    } finally {
+                        buffer.reset();
+                        idleBuffers.add(buffer);
+                    }
+                });
+    }
+
+    private BulkBuffer takeIdleBuffer() {
+        try {
+            return idleBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "Interrupted while waiting for a bulk request in flight",
+                    e);
+        }
+    }
+
+    private void waitForInFlightRequests() {
+        List<BulkBuffer> buffers = new ArrayList<>(maxInFlightRequests);
+        try {
+            while (buffers.size() < maxInFlightRequests) {
+                buffers.add(takeIdleBuffer());
+            }
+        } finally {
+            idleBuffers.addAll(buffers);
+        }
+    }
+
+    private void checkBulkException() {
+        if (bulkException != null) {
+            throw new ElasticsearchConnectorException(
+                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                    "A bulk request in flight failed",
+                    bulkException);
+        }
+    }
+
+    private void bulkWithRetry(BulkBuffer buffer) {
+        try {
+            RetryUtils.retryWithException(
+                    () -> {
+                        BulkResponse bulkResponse = bulk(buffer);
+                        if (bulkResponse.isErrors()) {
+                            List<Integer> failedItems = bulkResponse.getFailedItems();
+                            if (!failedItems.isEmpty()) {
+                                if (keyed) {
+                                    buffer.retainFrom(failedItems.get(0));
+                                } else {
+                                    buffer.retain(failedItems);
+                                }
+                            }
+                            throw new ElasticsearchConnectorException(
+                                    ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                    "bulk es error: " + bulkResponse.getResponse());
+                        }
+                        return bulkResponse;
+                    },
+                    retryMaterial);
+        } catch (Exception e) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "ElasticSearch execute batch statement error",
+                    e);
+        }
+    }
+
+    private BulkResponse bulk(BulkBuffer buffer) throws IOException {
+        if (!compression) {
+            return esRestClient.bulk(buffer.bytes, 0, buffer.length, false);
+        }
+        CompressedBytes compressed = buffer.compress();
+        return esRestClient.bulk(compressed.buffer(), 0, compressed.size(), true);
+    }
+
+    /** Newline delimited bulk actions, remembering where every item starts. */
+    private static final class BulkBuffer {
+
+        private static final int INITIAL_CAPACITY = 64 * 1024;
+
+        private final CharsetEncoder encoder =
+                StandardCharsets.UTF_8
+                        .newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int length;
+        private int[] itemOffsets = new int[64];
+        private int size;
+        private CompressedBytes compressed;
+
+        int size() {
+            return size;
+        }
+
+        void append(String item) {
+            int maxLength = length + (int) (item.length() * encoder.maxBytesPerChar()) + 1;
+            if (maxLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(maxLength, bytes.length * 2));
+            }
+            if (size == itemOffsets.length) {
+                itemOffsets = Arrays.copyOf(itemOffsets, size * 2);
+            }
+            itemOffsets[size++] = length;
+
+            ByteBuffer out = ByteBuffer.wrap(bytes, length, bytes.length - length);
+            encoder.reset();
+            encoder.encode(CharBuffer.wrap(item), out, true);
+            encoder.flush(out);
+            length = out.position();
+            bytes[length++] = '\n';
+        }
+
+        /** Drops the items before the given one, keeping the order of the rest. */
+        void retainFrom(int item) {
+            int start = itemOffsets[item];
+            System.arraycopy(bytes, start, bytes, 0, length - start);
+            for (int i = item; i < size; i++) {
+                itemOffsets[i - item] = itemOffsets[i] - start;
+            }
+            size -= item;
+            length -= start;
+        }
+
+        /** Keeps only the given items, in ascending order, dropping the others. */
+        void retain(List<Integer> items) {
+            int newLength = 0;
+            int newSize = 0;
+            for (int item : items) {
+                int start = itemOffsets[item];
+                int end = item + 1 < size ? itemOffsets[item + 1] : length;
+                System.arraycopy(bytes, start, bytes, newLength, end - start);
+                itemOffsets[newSize++] = newLength;
+                newLength += end - start;
+            }
+            size = newSize;
+            length = newLength;
+        }
+
+        CompressedBytes compress() throws IOException {
+            if (compressed == null) {
+                compressed = new CompressedBytes();
+            }
+            compressed.reset();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed, 8192)) {
+                gzip.write(bytes, 0, length);
+            }
+            return compressed;
+        }
+
+        void reset() {
+            length = 0;
+            size = 0;
+        }
+    }
+
+    /** Gives access to the written bytes without copying them. */
+    private static final class CompressedBytes extends ByteArrayOutputStream {
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
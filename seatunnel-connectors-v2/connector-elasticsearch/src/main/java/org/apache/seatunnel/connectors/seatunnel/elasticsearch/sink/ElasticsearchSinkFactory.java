@@ -69,6 +69,8 @@ public class ElasticsearchSinkFactory implements TableSinkFactory {
                         PASSWORD,
                         MAX_RETRY_COUNT,
                         MAX_BATCH_SIZE,
+                        ElasticsearchSinkOptions.MAX_IN_FLIGHT_REQUESTS,
+                        ElasticsearchSinkOptions.BULK_COMPRESSION,
                         TLS_VERIFY_CERTIFICATE,
                         TLS_VERIFY_HOSTNAME,
                         TLS_KEY_STORE_PATH,
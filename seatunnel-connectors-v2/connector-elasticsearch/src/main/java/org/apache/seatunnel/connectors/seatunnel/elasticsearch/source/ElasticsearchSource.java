@@ -158,12 +158,14 @@ public class ElasticsearchSource
 
         String scrollTime = readonlyConfig.get(ElasticsearchSourceOptions.SCROLL_TIME);
         int scrollSize = readonlyConfig.get(ElasticsearchSourceOptions.SCROLL_SIZE);
+        int scrollSlices = readonlyConfig.get(ElasticsearchSourceOptions.SCROLL_SLICES);
         ElasticsearchConfig elasticsearchConfig = new ElasticsearchConfig();
         elasticsearchConfig.setSource(source);
         elasticsearchConfig.setCatalogTable(catalogTable);
         elasticsearchConfig.setQuery(query);
         elasticsearchConfig.setScrollTime(scrollTime);
         elasticsearchConfig.setScrollSize(scrollSize);
+        elasticsearchConfig.setScrollSlices(scrollSlices);
         elasticsearchConfig.setIndex(index);
         elasticsearchConfig.setCatalogTable(catalogTable);
         return elasticsearchConfig;
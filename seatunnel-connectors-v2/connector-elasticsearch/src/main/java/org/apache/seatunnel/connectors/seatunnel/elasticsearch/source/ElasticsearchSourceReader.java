@@ -83,7 +83,9 @@ public class ElasticsearchSourceReader
                                 sourceIndexInfo.getSource(),
                                 sourceIndexInfo.getQuery(),
                                 sourceIndexInfo.getScrollTime(),
-                                sourceIndexInfo.getScrollSize());
+                                sourceIndexInfo.getScrollSize(),
+                                split.getSliceId(),
+                                split.getMaxSlices());
                 outputFromScrollResult(scrollResult, sourceIndexInfo, output, deserializer);
                 while (scrollResult.getDocs() != null && scrollResult.getDocs().size() > 0) {
                     scrollResult =
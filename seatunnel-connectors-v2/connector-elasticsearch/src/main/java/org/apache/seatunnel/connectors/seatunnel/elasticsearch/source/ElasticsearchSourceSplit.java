@@ -35,6 +35,15 @@ public class ElasticsearchSourceSplit implements SourceSplit {
 
     @Getter private ElasticsearchConfig elasticsearchConfig;
 
+    /** The slice of the index read by this split, only used if {@link #maxSlices} > 1. */
+    @Getter private int sliceId;
+
+    @Getter private int maxSlices;
+
+    public ElasticsearchSourceSplit(String splitId, ElasticsearchConfig elasticsearchConfig) {
+        this(splitId, elasticsearchConfig, 0, 1);
+    }
+
     public SeaTunnelRowType getSeaTunnelRowType() {
         return elasticsearchConfig.getCatalogTable().getSeaTunnelRowType();
     }
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
@@ -149,16 +151,32 @@ public class ElasticsearchSourceSplitEnumerator
                             .sorted(Comparator.comparingLong(IndexDocsCount::getDocsCount))
                             .collect(Collectors.toList());
             for (IndexDocsCount indexDocsCount : indexDocsCounts) {
-                ElasticsearchConfig cloneCfg = elasticsearchConfig.clone();
-                cloneCfg.setIndex(indexDocsCount.getIndex());
-                splits.add(
-                        new ElasticsearchSourceSplit(
-                                String.valueOf(indexDocsCount.getIndex().hashCode()), cloneCfg));
+                splits.addAll(createIndexSplits(elasticsearchConfig, indexDocsCount.getIndex()));
             }
         }
         return splits;
     }
 
+    /** Creates a split per scroll slice of the index, or a single split if it isn't sliced. */
+    @VisibleForTesting
+    static List<ElasticsearchSourceSplit> createIndexSplits(
+            ElasticsearchConfig elasticsearchConfig, String index) {
+        ElasticsearchConfig cloneCfg = elasticsearchConfig.clone();
+        cloneCfg.setIndex(index);
+        String splitId = String.valueOf(index.hashCode());
+        int maxSlices = elasticsearchConfig.getScrollSlices();
+        if (maxSlices <= 1) {
+            return Collections.singletonList(new ElasticsearchSourceSplit(splitId, cloneCfg));
+        }
+        List<ElasticsearchSourceSplit> splits = new ArrayList<>(maxSlices);
+        for (int sliceId = 0; sliceId < maxSlices; sliceId++) {
+            splits.add(
+                    new ElasticsearchSourceSplit(
+                            splitId + "-" + sliceId, cloneCfg, sliceId, maxSlices));
+        }
+        return splits;
+    }
+
     @Override
     public void close() throws IOException {
         esRestClient.close();
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ElasticsearchBulkProcessorTest {
+
+    @Test
+    public void testRetryFromFirstFailedItem() {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        EsRestClient client = mockClient(bodies, true);
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(client, 3, 3, 0, true, true);
+
+        processor.add("{\"index\":{}}\n{\"id\":1}");
+        processor.add("{\"index\":{}}\n{\"id\":2}");
+        processor.add("{\"index\":{}}\n{\"id\":3}");
+        processor.close();
+
+        Assertions.assertEquals(2, bodies.size());
+        Assertions.assertEquals(
+                "{\"index\":{}}\n{\"id\":1}\n{\"index\":{}}\n{\"id\":2}\n{\"index\":{}}\n{\"id\":3}\n",
+                bodies.get(0));
+        // the third item succeeded, but is resent so it is applied after the second one again
+        Assertions.assertEquals(
+                "{\"index\":{}}\n{\"id\":2}\n{\"index\":{}}\n{\"id\":3}\n", bodies.get(1));
+    }
+
+    @Test
+    public void testAutoIdRetriesOnlyFailedItems() {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        EsRestClient client = mock(EsRestClient.class);
+        when(client.bulk(any(byte[].class), anyInt(), anyInt(), anyBoolean()))
+                .thenAnswer(
+                        invocation -> {
+                            bodies.add(
+                                    decode(
+                                            invocation.getArgument(0),
+                                            invocation.getArgument(1),
+                                            invocation.getArgument(2),
+                                            false));
+                            if (bodies.size() == 1) {
+                                return new BulkResponse(
+                                        true, 1, "{\"errors\":true}", Arrays.asList(1, 3));
+                            }
+                            return new BulkResponse(false, 1, "{\"errors\":false}");
+                        });
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(client, 5, 3, 0, false, false);
+
+        processor.add("{\"index\":{}}\n{\"id\":1}");
+        processor.add("{\"delete\":{\"_id\":\"0\"}}");
+        processor.add("{\"index\":{}}\n{\"id\":3}");
+        processor.add("{\"index\":{}}\n{\"id\":4}");
+        processor.add("{\"index\":{}}\n{\"id\":5}");
+        processor.close();
+
+        Assertions.assertEquals(2, bodies.size());
+        // documents with generated ids which were indexed must not be sent again
+        Assertions.assertEquals(
+                "{\"delete\":{\"_id\":\"0\"}}\n{\"index\":{}}\n{\"id\":4}\n", bodies.get(1));
+    }
+
+    @Test
+    public void testKeyedRequestsAreSentInOrder() {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        EsRestClient client = mock(EsRestClient.class);
+        when(client.bulk(any(byte[].class), anyInt(), anyInt(), anyBoolean()))
+                .thenAnswer(
+                        invocation -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            Thread.sleep(20);
+                            bodies.add(
+                                    decode(
+                                            invocation.getArgument(0),
+                                            invocation.getArgument(1),
+                                            invocation.getArgument(2),
+                                            false));
+                            active.decrementAndGet();
+                            return new BulkResponse(false, 1, "{\"errors\":false}");
+                        });
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(client, 1, 1, 3, true, false);
+
+        for (int i = 0; i < 6; i++) {
+            processor.add("{\"index\":{\"_id\":\"1\"}}\n{\"id\":" + i + "}");
+        }
+        processor.close();
+
+        Assertions.assertEquals(1, maxActive.get());
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertTrue(bodies.get(i).endsWith("{\"id\":" + i + "}\n"));
+        }
+    }
+
+    @Test
+    public void testInFlightRequestsDrainOnFlush() {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        EsRestClient client = mockClient(bodies, false);
+        ElasticsearchBulkProcessor processor =
+                new ElasticsearchBulkProcessor(client, 2, 1, 2, false, false);
+
+        for (int i = 0; i < 7; i++) {
+            processor.add("{\"index\":{}}\n{\"id\":" + i + "}");
+        }
+        processor.flush();
+
+        Assertions.assertEquals(4, bodies.size());
+        List<String> documents = new ArrayList<>();
+        for (String body : bodies) {
+            for (String line : body.split("\n")) {
+                if (line.startsWith("{\"id\"")) {
+                    documents.add(line);
+                }
+            }
+        }
+        Collections.sort(documents);
+        Assertions.assertEquals(7, documents.size());
+        Assertions.assertEquals("{\"id\":0}", documents.get(0));
+        Assertions.assertEquals("{\"id\":6}", documents.get(6));
+        processor.close();
+    }
+
+    /**
+     * Records the request bodies, the second item of the first request fails once if {@code
+     * failSecondItem} is set.
+     */
+    private static EsRestClient mockClient(List<String> bodies, boolean failSecondItem) {
+        EsRestClient client = mock(EsRestClient.class);
+        when(client.bulk(any(byte[].class), anyInt(), anyInt(), anyBoolean()))
+                .thenAnswer(
+                        invocation -> {
+                            byte[] body = invocation.getArgument(0);
+                            int offset = invocation.getArgument(1);
+                            int length = invocation.getArgument(2);
+                            boolean gzip = invocation.getArgument(3);
+                            bodies.add(decode(body, offset, length, gzip));
+                            if (failSecondItem && bodies.size() == 1) {
+                                return new BulkResponse(
+                                        true, 1, "{\"errors\":true}", Collections.singletonList(1));
+                            }
+                            return new BulkResponse(false, 1, "{\"errors\":false}");
+                        });
+        return client;
+    }
+
+    private static String decode(byte[] body, int offset, int length, boolean gzip)
+            throws IOException {
+        if (!gzip) {
+            return new String(body, offset, length, StandardCharsets.UTF_8);
+        }
+        try (GZIPInputStream input =
+                new GZIPInputStream(new ByteArrayInputStream(body, offset, length))) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.ElasticsearchConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ElasticsearchSourceSplitEnumeratorTest {
+
+    @Test
+    public void testCreateIndexSplits() {
+        ElasticsearchConfig config = new ElasticsearchConfig();
+        config.setSource(Collections.singletonList("name"));
+        config.setQuery(Collections.emptyMap());
+        config.setScrollSlices(1);
+
+        List<ElasticsearchSourceSplit> splits =
+                ElasticsearchSourceSplitEnumerator.createIndexSplits(config, "st_index");
+        Assertions.assertEquals(1, splits.size());
+        Assertions.assertEquals(String.valueOf("st_index".hashCode()), splits.get(0).splitId());
+        Assertions.assertEquals(1, splits.get(0).getMaxSlices());
+
+        config.setScrollSlices(3);
+        splits = ElasticsearchSourceSplitEnumerator.createIndexSplits(config, "st_index");
+        Assertions.assertEquals(3, splits.size());
+        for (int i = 0; i < splits.size(); i++) {
+            ElasticsearchSourceSplit split = splits.get(i);
+            Assertions.assertEquals("st_index".hashCode() + "-" + i, split.splitId());
+            Assertions.assertEquals(i, split.getSliceId());
+            Assertions.assertEquals(3, split.getMaxSlices());
+            Assertions.assertEquals("st_index", split.getElasticsearchConfig().getIndex());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.source;
+
+import org.apache.seatunnel.api.serialization.DefaultSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+
+public class ElasticsearchSourceSplitTest {
+
+    /** A split of index st_index checkpointed by a version without scroll slices. */
+    private static final String SPLIT_WITHOUT_SLICES =
+            "rO0ABXNyAFdvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLnNlYXR1bm5lbC5lbGFzdGljc2Vh"
+                    + "cmNoLnNvdXJjZS5FbGFzdGljc2VhcmNoU291cmNlU3BsaXT//////////wIAAkwAE2VsYXN0aWNzZWFy"
+                    + "Y2hDb25maWd0AFRMb3JnL2FwYWNoZS9zZWF0dW5uZWwvY29ubmVjdG9ycy9zZWF0dW5uZWwvZWxhc3Rp"
+                    + "Y3NlYXJjaC9jb25maWcvRWxhc3RpY3NlYXJjaENvbmZpZztMAAdzcGxpdElkdAASTGphdmEvbGFuZy9T"
+                    + "dHJpbmc7eHBzcgBSb3JnLmFwYWNoZS5zZWF0dW5uZWwuY29ubmVjdG9ycy5zZWF0dW5uZWwuZWxhc3Rp"
+                    + "Y3NlYXJjaC5jb25maWcuRWxhc3RpY3NlYXJjaENvbmZpZyNY7QXvlHwAAgAGSQAKc2Nyb2xsU2l6ZUwA"
+                    + "DGNhdGFsb2dUYWJsZXQANUxvcmcvYXBhY2hlL3NlYXR1bm5lbC9hcGkvdGFibGUvY2F0YWxvZy9DYXRh"
+                    + "bG9nVGFibGU7TAAFaW5kZXhxAH4AAkwABXF1ZXJ5dAAPTGphdmEvdXRpbC9NYXA7TAAKc2Nyb2xsVGlt"
+                    + "ZXEAfgACTAAGc291cmNldAAQTGphdmEvdXRpbC9MaXN0O3hwAAAAZHB0AAhzdF9pbmRleHNyABFqYXZh"
+                    + "LnV0aWwuSGFzaE1hcAUH2sHDFmDRAwACRgAKbG9hZEZhY3RvckkACXRocmVzaG9sZHhwP0AAAAAAAAF3"
+                    + "CAAAAAIAAAABdAAJbWF0Y2hfYWxsc3EAfgAKP0AAAAAAAAB3CAAAABAAAAAAeHh0AAIxbXNyABNqYXZh"
+                    + "LnV0aWwuQXJyYXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAAAAACdwQAAAACdAAFY19pbnR0AAhjX3N0"
+                    + "cmluZ3hxAH4ACQ==";
+
+    @Test
+    public void testRestoreSplitWithoutSlices() throws Exception {
+        ElasticsearchSourceSplit split =
+                new DefaultSerializer<ElasticsearchSourceSplit>()
+                        .deserialize(Base64.getDecoder().decode(SPLIT_WITHOUT_SLICES));
+
+        Assertions.assertEquals("st_index", split.splitId());
+        Assertions.assertEquals("st_index", split.getElasticsearchConfig().getIndex());
+        Assertions.assertEquals(
+                Arrays.asList("c_int", "c_string"), split.getElasticsearchConfig().getSource());
+        Assertions.assertEquals(
+                Collections.singletonMap("match_all", Collections.emptyMap()),
+                split.getElasticsearchConfig().getQuery());
+        Assertions.assertEquals("1m", split.getElasticsearchConfig().getScrollTime());
+        Assertions.assertEquals(100, split.getElasticsearchConfig().getScrollSize());
+        // restored splits read the whole index without slicing
+        Assertions.assertEquals(0, split.getElasticsearchConfig().getScrollSlices());
+        Assertions.assertTrue(split.getMaxSlices() <= 1);
+    }
+}
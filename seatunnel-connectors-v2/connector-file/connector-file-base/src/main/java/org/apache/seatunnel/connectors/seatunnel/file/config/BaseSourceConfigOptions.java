@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.file.config;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.type.TypeReference;
+
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.common.utils.DateTimeUtils;
@@ -25,6 +27,7 @@ import org.apache.seatunnel.common.utils.TimeUtils;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 
 import java.util.List;
+import java.util.Map;
 
 public class BaseSourceConfigOptions {
     public static final Option<FileFormat> FILE_FORMAT_TYPE =
@@ -185,4 +188,32 @@ public class BaseSourceConfigOptions {
                     .enumType(ArchiveCompressFormat.class)
                     .defaultValue(ArchiveCompressFormat.NONE)
                     .withDescription("Archive compression codec");
+
+    public static final Option<Boolean> ENABLE_FILE_SPLIT =
+            Options.key("enable_file_split")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Turn on the file splitting function, a large text, json, parquet or orc file will be read by multiple readers. Only valid for uncompressed files.");
+
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(128 * 1024 * 1024L)
+                    .withDescription(
+                            "The file split size (in bytes), only valid when enable_file_split is true.");
+
+    public static final Option<Boolean> VECTORIZED_READ =
+            Options.key("vectorized_read")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Decode parquet and orc files column by column in batches and only build the rows when they are emitted. Parquet files whose read columns are nested types are still read row by row.");
+
+    public static final Option<List<Map<String, Object>>> READ_FILTERS =
+            Options.key("read_filters")
+                    .type(new TypeReference<List<Map<String, Object>>>() {})
+                    .noDefaultValue()
+                    .withDescription(
+                            "The filters on top level columns that a row must match all of, e.g. [{field = \"age\", operator = \">=\", value = 18}]. Only valid for parquet and orc files, they are also used to skip the row groups and stripes that can't match.");
 }
@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
 
 import org.apache.seatunnel.shade.com.typesafe.config.Config;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.BasicType;
@@ -30,12 +31,14 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 
 import lombok.extern.slf4j.Slf4j;
@@ -44,15 +47,19 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -60,6 +67,8 @@ import java.util.zip.ZipInputStream;
 
 @Slf4j
 public abstract class AbstractReadStrategy implements ReadStrategy {
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
     protected static final String[] TYPE_ARRAY_STRING = new String[0];
     protected static final Boolean[] TYPE_ARRAY_BOOLEAN = new Boolean[0];
     protected static final Byte[] TYPE_ARRAY_BYTE = new Byte[0];
@@ -85,6 +94,10 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
     protected ArchiveCompressFormat archiveCompressFormat =
             BaseSourceConfigOptions.ARCHIVE_COMPRESS_CODEC.defaultValue();
+    protected boolean enableFileSplit = BaseSourceConfigOptions.ENABLE_FILE_SPLIT.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected boolean vectorizedRead = BaseSourceConfigOptions.VECTORIZED_READ.defaultValue();
+    protected List<Map<String, Object>> readFilterConfigs;
 
     protected Pattern pattern;
 
@@ -180,6 +193,25 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                     pluginConfig.getString(BaseSourceConfigOptions.FILE_FILTER_PATTERN.key());
             this.pattern = Pattern.compile(Matcher.quoteReplacement(filterPattern));
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key())) {
+            enableFileSplit =
+                    pluginConfig.getBoolean(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+            if (fileSplitSize <= 0) {
+                throw new IllegalArgumentException(
+                        BaseSourceConfigOptions.FILE_SPLIT_SIZE.key() + " must be positive");
+            }
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.VECTORIZED_READ.key())) {
+            vectorizedRead = pluginConfig.getBoolean(BaseSourceConfigOptions.VECTORIZED_READ.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_FILTERS.key())) {
+            readFilterConfigs =
+                    ReadonlyConfig.fromConfig(pluginConfig)
+                            .get(BaseSourceConfigOptions.READ_FILTERS);
+        }
     }
 
     @Override
@@ -307,6 +339,158 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
                 "The file does not support the compressed file reading");
     }
 
+    /** Whether the files of this strategy may be read by more than one split. */
+    protected boolean isFileSplitEnabled() {
+        return enableFileSplit && archiveCompressFormat == ArchiveCompressFormat.NONE;
+    }
+
+    /** The configured filters resolved against the read columns. */
+    protected List<ReadFilter> getReadFilters() {
+        return ReadFilter.of(readFilterConfigs, seaTunnelRowType);
+    }
+
+    /** Whether lines can be located by searching for the line feed byte in this encoding. */
+    protected static boolean isLineSplittable(String encoding) {
+        return Arrays.equals("\n".getBytes(Charset.forName(encoding)), new byte[] {LINE_FEED});
+    }
+
+    /** Split the file into byte ranges of {@link #fileSplitSize}. */
+    protected List<FileSourceSplit> splitByByteRange(String tableId, String path)
+            throws IOException {
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /**
+     * Merge consecutive blocks of a file, such as parquet row groups or orc stripes, into splits of
+     * about {@link #fileSplitSize} bytes. A block is never divided.
+     */
+    protected List<FileSourceSplit> splitByBlocks(
+            String tableId, String path, long[] blockOffsets, long[] blockLengths) {
+        if (blockOffsets.length <= 1) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = blockOffsets[0];
+        long end = start;
+        for (int i = 0; i < blockOffsets.length; i++) {
+            if (end - start >= fileSplitSize) {
+                splits.add(new FileSourceSplit(tableId, path, start, end - start));
+                start = blockOffsets[i];
+            }
+            end = blockOffsets[i] + blockLengths[i];
+        }
+        if (splits.isEmpty()) {
+            return Collections.singletonList(new FileSourceSplit(tableId, path));
+        }
+        splits.add(new FileSourceSplit(tableId, path, start, end - start));
+        return splits;
+    }
+
+    /**
+     * Read the lines whose first byte lies in the byte range of the split. A line that starts in
+     * the range is read to its end even if it crosses the end of the range, and a line that starts
+     * before the range belongs to the previous split. Lines end with {@code \n} or {@code \r\n}.
+     */
+    protected void readLinesInRange(
+            FileSourceSplit split, String encoding, long skipLines, Consumer<String> lineConsumer)
+            throws IOException {
+        long end = split.getStart() + split.getLength();
+        try (FSDataInputStream inputStream =
+                hadoopFileSystemProxy.getInputStream(split.getFilePath())) {
+            LineReader lineReader = new LineReader(inputStream);
+            long position = split.getStart();
+            if (position > 0) {
+                // the byte before the range tells whether the range starts with a new line
+                inputStream.seek(position - 1);
+                position = position - 1 + lineReader.skipLine();
+            }
+            long skipped = 0;
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            while (position < end) {
+                line.reset();
+                int consumed = lineReader.readLine(line);
+                if (consumed == 0) {
+                    break;
+                }
+                position += consumed;
+                if (skipped < skipLines) {
+                    skipped++;
+                    continue;
+                }
+                lineConsumer.accept(decodeLine(line, encoding));
+            }
+        }
+    }
+
+    private static String decodeLine(ByteArrayOutputStream line, String encoding)
+            throws UnsupportedEncodingException {
+        byte[] bytes = line.toByteArray();
+        int length = bytes.length;
+        if (length > 0 && bytes[length - 1] == CARRIAGE_RETURN) {
+            length--;
+        }
+        return new String(bytes, 0, length, encoding);
+    }
+
+    /** Reads raw lines from a stream and reports how many bytes each line took. */
+    private static class LineReader {
+        private final InputStream inputStream;
+        private final byte[] buffer = new byte[64 * 1024];
+        private int bufferLength;
+        private int bufferPosition;
+
+        private LineReader(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        /** @return the number of bytes up to and including the next line feed. */
+        private int skipLine() throws IOException {
+            return readLine(null);
+        }
+
+        /**
+         * Read the next line without its line feed into the output.
+         *
+         * @return the number of consumed bytes including the line feed, 0 at the end of stream.
+         */
+        private int readLine(ByteArrayOutputStream output) throws IOException {
+            int consumed = 0;
+            while (true) {
+                if (bufferPosition >= bufferLength) {
+                    bufferLength = inputStream.read(buffer);
+                    bufferPosition = 0;
+                    if (bufferLength <= 0) {
+                        bufferLength = 0;
+                        return consumed;
+                    }
+                }
+                int lineStart = bufferPosition;
+                while (bufferPosition < bufferLength && buffer[bufferPosition] != LINE_FEED) {
+                    bufferPosition++;
+                }
+                if (output != null) {
+                    output.write(buffer, lineStart, bufferPosition - lineStart);
+                }
+                consumed += bufferPosition - lineStart;
+                if (bufferPosition < bufferLength) {
+                    // skip the line feed
+                    bufferPosition++;
+                    return consumed + 1;
+                }
+            }
+        }
+    }
+
     protected Map<String, String> parsePartitionsByPath(String path) {
         LinkedHashMap<String, String> partitions = new LinkedHashMap<>();
         Arrays.stream(path.split("/", -1))
@@ -30,6 +30,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import io.airlift.compress.lzo.LzopCodec;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -108,32 +110,56 @@ public class JsonReadStrategy extends AbstractReadStrategy {
         }
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(actualInputStream, encoding))) {
-            reader.lines()
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Deserialize this jsonFile data [%s] failed, please check the origin data",
-                                                    line);
-                                    throw new FileConnectorException(
-                                            FileConnectorErrorCode.DATA_DESERIALIZE_FAILED,
-                                            errorMsg,
-                                            e);
-                                }
-                            });
+            reader.lines().forEach(line -> processLine(line, tableId, partitionsMap, output));
+        }
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        readLinesInRange(
+                split, encoding, 0, line -> processLine(line, tableId, partitionsMap, output));
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (isFileSplitEnabled()
+                && compressFormat == CompressFormat.NONE
+                && isLineSplittable(encoding)) {
+            return splitByByteRange(tableId, path);
+        }
+        return super.getFileSourceSplits(tableId, path);
+    }
+
+    private void processLine(
+            String line,
+            String tableId,
+            Map<String, String> partitionsMap,
+            Collector<SeaTunnelRow> output) {
+        try {
+            SeaTunnelRow seaTunnelRow =
+                    deserializationSchema.deserialize(line.getBytes(StandardCharsets.UTF_8));
+            if (isMergePartition) {
+                int index = seaTunnelRowType.getTotalFields();
+                for (String value : partitionsMap.values()) {
+                    seaTunnelRow.setField(index++, value);
+                }
+            }
+            seaTunnelRow.setTableId(tableId);
+            output.collect(seaTunnelRow);
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Deserialize this jsonFile data [%s] failed, please check the origin data",
+                            line);
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.DATA_DESERIALIZE_FAILED, errorMsg, e);
         }
     }
 
@@ -33,6 +33,7 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -41,6 +42,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.orc.OrcFile;
 import org.apache.orc.Reader;
 import org.apache.orc.RecordReader;
+import org.apache.orc.StripeInformation;
 import org.apache.orc.TypeDescription;
 import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
 import org.apache.orc.storage.ql.exec.vector.ColumnVector;
@@ -53,6 +55,9 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -63,6 +68,7 @@ import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -80,9 +86,42 @@ import static org.apache.seatunnel.connectors.seatunnel.file.sink.writer.OrcWrit
 public class OrcReadStrategy extends AbstractReadStrategy {
     private static final long MIN_SIZE = 16 * 1024;
 
+    private transient Charset charset;
+
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!isFileSplitEnabled()) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        try (Reader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        (configuration, userGroupInformation) -> {
+                            OrcFile.ReaderOptions readerOptions =
+                                    OrcFile.readerOptions(configuration);
+                            return OrcFile.createReader(new Path(path), readerOptions);
+                        })) {
+            List<StripeInformation> stripes = reader.getStripes();
+            long[] offsets = new long[stripes.size()];
+            long[] lengths = new long[stripes.size()];
+            for (int i = 0; i < stripes.size(); i++) {
+                offsets[i] = stripes.get(i).getOffset();
+                lengths[i] = stripes.get(i).getLength();
+            }
+            return splitByBlocks(tableId, path, offsets, lengths);
+        }
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -105,42 +144,367 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
-            VectorizedRowBatch rowBatch = schema.createRowBatch();
-            while (rows.nextBatch(rowBatch)) {
-                int num = 0;
-                for (int i = 0; i < rowBatch.size; i++) {
-                    int numCols = rowBatch.numCols;
-                    Object[] fields;
-                    if (isMergePartition) {
-                        int index = numCols;
-                        fields = new Object[numCols + partitionsMap.size()];
-                        for (String value : partitionsMap.values()) {
-                            fields[index++] = value;
+            Reader.Options options = reader.options().schema(schema);
+            if (!split.isWholeFile()) {
+                // only the stripes starting in the range are read
+                options.range(split.getStart(), split.getLength());
+            }
+            List<ReadFilter> filters = getReadFilters();
+            SearchArgument searchArgument = toSearchArgument(filters, reader.getSchema());
+            if (searchArgument != null) {
+                // skip the stripes and row groups whose statistics can't match the filters
+                options.searchArgument(
+                        searchArgument, schema.getFieldNames().toArray(TYPE_ARRAY_STRING));
+            }
+            try (RecordReader rows = reader.rows(options)) {
+                VectorizedRowBatch rowBatch = schema.createRowBatch();
+                if (vectorizedRead) {
+                    readColumnar(rows, rowBatch, children, filters, partitionsMap, tableId, output);
+                    return;
+                }
+                while (rows.nextBatch(rowBatch)) {
+                    int num = 0;
+                    for (int i = 0; i < rowBatch.size; i++) {
+                        int numCols = rowBatch.numCols;
+                        Object[] fields = createFields(numCols, partitionsMap);
+                        ColumnVector[] cols = rowBatch.cols;
+                        for (int j = 0; j < numCols; j++) {
+                            if (cols[j] == null) {
+                                fields[j] = null;
+                            } else {
+                                fields[j] =
+                                        readColumn(
+                                                cols[j],
+                                                children.get(j),
+                                                seaTunnelRowType.getFieldType(j),
+                                                num);
+                            }
                         }
-                    } else {
-                        fields = new Object[numCols];
-                    }
-                    ColumnVector[] cols = rowBatch.cols;
-                    for (int j = 0; j < numCols; j++) {
-                        if (cols[j] == null) {
-                            fields[j] = null;
-                        } else {
-                            fields[j] =
-                                    readColumn(
-                                            cols[j],
-                                            children.get(j),
-                                            seaTunnelRowType.getFieldType(j),
-                                            num);
+                        num++;
+                        if (!ReadFilter.testAll(filters, fields)) {
+                            continue;
                         }
+                        SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                        seaTunnelRow.setTableId(tableId);
+                        output.collect(seaTunnelRow);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Convert each batch column by column and only build the rows when they are emitted. The
+     * columns used by the filters are converted first, so the other columns are only converted for
+     * the rows that match.
+     */
+    private void readColumnar(
+            RecordReader rows,
+            VectorizedRowBatch rowBatch,
+            List<TypeDescription> children,
+            List<ReadFilter> filters,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
+        int numCols = rowBatch.numCols;
+        OrcColumnConverter[] converters = new OrcColumnConverter[numCols];
+        for (int j = 0; j < numCols; j++) {
+            converters[j] =
+                    createColumnConverter(children.get(j), seaTunnelRowType.getFieldType(j));
+        }
+        boolean[] filterColumns = new boolean[numCols];
+        for (ReadFilter filter : filters) {
+            filterColumns[filter.getFieldIndex()] = true;
+        }
+        Object[][] columnValues = new Object[numCols][rowBatch.getMaxSize()];
+        boolean[] selected = new boolean[rowBatch.getMaxSize()];
+        while (rows.nextBatch(rowBatch)) {
+            int size = rowBatch.size;
+            Arrays.fill(selected, 0, size, true);
+            for (int j = 0; j < numCols; j++) {
+                if (filterColumns[j]) {
+                    convertColumn(rowBatch.cols[j], converters[j], columnValues[j], selected, size);
+                }
+            }
+            for (ReadFilter filter : filters) {
+                Object[] values = columnValues[filter.getFieldIndex()];
+                for (int i = 0; i < size; i++) {
+                    if (selected[i] && !filter.test(values[i])) {
+                        selected[i] = false;
+                    }
+                }
+            }
+            for (int j = 0; j < numCols; j++) {
+                if (!filterColumns[j]) {
+                    convertColumn(rowBatch.cols[j], converters[j], columnValues[j], selected, size);
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (!selected[i]) {
+                    continue;
+                }
+                Object[] fields = createFields(numCols, partitionsMap);
+                for (int j = 0; j < numCols; j++) {
+                    fields[j] = columnValues[j][i];
+                }
+                SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                seaTunnelRow.setTableId(tableId);
+                output.collect(seaTunnelRow);
+            }
+        }
+    }
+
+    private void convertColumn(
+            ColumnVector colVec,
+            OrcColumnConverter converter,
+            Object[] values,
+            boolean[] selected,
+            int size) {
+        for (int i = 0; i < size; i++) {
+            values[i] = colVec == null || !selected[i] ? null : converter.convert(colVec, i);
+        }
+    }
+
+    /**
+     * Create the converter of a column. The read schema is built from the row type, so the vector
+     * of a column always holds the type of its field. The types that need more than a cast are
+     * converted by {@link #readColumn}.
+     */
+    private OrcColumnConverter createColumnConverter(
+            TypeDescription colType, SeaTunnelDataType<?> dataType) {
+        switch (colType.getCategory()) {
+            case BOOLEAN:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : ((LongColumnVector) colVec).vector[index] == 1;
+                };
+            case BYTE:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : (byte) ((LongColumnVector) colVec).vector[index];
+                };
+            case SHORT:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : (short) ((LongColumnVector) colVec).vector[index];
+                };
+            case INT:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : (int) ((LongColumnVector) colVec).vector[index];
+                };
+            case LONG:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : ((LongColumnVector) colVec).vector[index];
+                };
+            case DATE:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : LocalDate.ofEpochDay(((LongColumnVector) colVec).vector[index]);
+                };
+            case FLOAT:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : (float) ((DoubleColumnVector) colVec).vector[index];
+                };
+            case DOUBLE:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : ((DoubleColumnVector) colVec).vector[index];
+                };
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+                Charset charset = getCharset();
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    if (isNullAt(colVec, index)) {
+                        return null;
                     }
-                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
-                    seaTunnelRow.setTableId(tableId);
-                    output.collect(seaTunnelRow);
-                    num++;
+                    BytesColumnVector bytesVector = (BytesColumnVector) colVec;
+                    return new String(
+                            bytesVector.vector[index],
+                            bytesVector.start[index],
+                            bytesVector.length[index],
+                            charset);
+                };
+            case DECIMAL:
+                return (colVec, row) -> {
+                    int index = colVec.isRepeating ? 0 : row;
+                    return isNullAt(colVec, index)
+                            ? null
+                            : ((DecimalColumnVector) colVec)
+                                    .vector[index]
+                                    .getHiveDecimal()
+                                    .bigDecimalValue();
+                };
+            case TIMESTAMP:
+                if (dataType.getSqlType() == SqlType.TIMESTAMP) {
+                    return (colVec, row) -> {
+                        int index = colVec.isRepeating ? 0 : row;
+                        if (isNullAt(colVec, index)) {
+                            return null;
+                        }
+                        TimestampColumnVector timestampVector = (TimestampColumnVector) colVec;
+                        Timestamp timestamp = new Timestamp(timestampVector.time[index]);
+                        timestamp.setNanos(timestampVector.nanos[index]);
+                        return timestamp.toLocalDateTime();
+                    };
                 }
+                return (colVec, row) -> readColumn(colVec, colType, dataType, row);
+            default:
+                return (colVec, row) -> readColumn(colVec, colType, dataType, row);
+        }
+    }
+
+    private static boolean isNullAt(ColumnVector colVec, int index) {
+        return !colVec.noNulls && colVec.isNull[index];
+    }
+
+    private Object[] createFields(int numCols, Map<String, String> partitionsMap) {
+        if (!isMergePartition) {
+            return new Object[numCols];
+        }
+        Object[] fields = new Object[numCols + partitionsMap.size()];
+        int index = numCols;
+        for (String value : partitionsMap.values()) {
+            fields[index++] = value;
+        }
+        return fields;
+    }
+
+    /** Returns null when none of the filters can be evaluated on the statistics of the file. */
+    private static SearchArgument toSearchArgument(
+            List<ReadFilter> filters, TypeDescription fileSchema) {
+        if (filters.isEmpty()) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        int leaves = 0;
+        for (ReadFilter filter : filters) {
+            int index = fileSchema.getFieldNames().indexOf(filter.getField());
+            if (index == -1) {
+                continue;
             }
+            PredicateLeaf.Type type =
+                    toPredicateLeafType(
+                            fileSchema.getChildren().get(index).getCategory(),
+                            filter.getFieldType().getSqlType());
+            if (type == null) {
+                continue;
+            }
+            String column = filter.getField();
+            Object literal = toLiteral(type, filter.getValue());
+            switch (filter.getOperator()) {
+                case EQ:
+                    builder.equals(column, type, literal);
+                    break;
+                case NOT_EQ:
+                    builder.startNot().equals(column, type, literal).end();
+                    break;
+                case GT:
+                    builder.startNot().lessThanEquals(column, type, literal).end();
+                    break;
+                case GT_EQ:
+                    builder.startNot().lessThan(column, type, literal).end();
+                    break;
+                case LT:
+                    builder.lessThan(column, type, literal);
+                    break;
+                case LT_EQ:
+                    builder.lessThanEquals(column, type, literal);
+                    break;
+                case IS_NULL:
+                    builder.isNull(column, type);
+                    break;
+                default:
+                    builder.startNot().isNull(column, type).end();
+            }
+            leaves++;
         }
+        return leaves == 0 ? null : builder.end().build();
+    }
+
+    private static PredicateLeaf.Type toPredicateLeafType(
+            TypeDescription.Category category, SqlType sqlType) {
+        switch (category) {
+            case BOOLEAN:
+                return sqlType == SqlType.BOOLEAN ? PredicateLeaf.Type.BOOLEAN : null;
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return sqlType == SqlType.TINYINT
+                                || sqlType == SqlType.SMALLINT
+                                || sqlType == SqlType.INT
+                                || sqlType == SqlType.BIGINT
+                        ? PredicateLeaf.Type.LONG
+                        : null;
+            case FLOAT:
+            case DOUBLE:
+                return sqlType == SqlType.FLOAT || sqlType == SqlType.DOUBLE
+                        ? PredicateLeaf.Type.FLOAT
+                        : null;
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+                return sqlType == SqlType.STRING ? PredicateLeaf.Type.STRING : null;
+            case DATE:
+                return sqlType == SqlType.DATE ? PredicateLeaf.Type.DATE : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Object toLiteral(PredicateLeaf.Type type, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (type) {
+            case LONG:
+                return ((Number) value).longValue();
+            case FLOAT:
+                return ((Number) value).doubleValue();
+            case DATE:
+                return Date.valueOf((LocalDate) value);
+            default:
+                return value;
+        }
+    }
+
+    private Charset getCharset() {
+        if (charset == null) {
+            charset =
+                    pluginConfig == null
+                            ? StandardCharsets.UTF_8
+                            : ReadonlyConfig.fromConfig(pluginConfig)
+                                    .getOptional(BaseSourceConfigOptions.ENCODING)
+                                    .map(Charset::forName)
+                                    .orElse(StandardCharsets.UTF_8);
+        }
+        return charset;
+    }
+
+    private interface OrcColumnConverter {
+        Object convert(ColumnVector colVec, int row);
     }
 
     @Override
@@ -435,15 +799,7 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             TypeDescription typeDescription,
             SeaTunnelDataType<?> dataType,
             int rowNum) {
-        Charset charset = StandardCharsets.UTF_8;
-        if (pluginConfig != null) {
-            charset =
-                    ReadonlyConfig.fromConfig(pluginConfig)
-                            .getOptional(BaseSourceConfigOptions.ENCODING)
-                            .map(Charset::forName)
-                            .orElse(StandardCharsets.UTF_8);
-        }
-
+        Charset charset = getCharset();
         Object bytesObj = null;
         if (!colVec.isNull[rowNum]) {
             BytesColumnVector bytesVector = (BytesColumnVector) colVec;
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.DummyRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the top level primitive columns of a parquet file with the column readers of parquet.
+ *
+ * <p>Each batch is decoded column by column into value arrays, the columns used by the filters are
+ * decoded first so the values of the rows that are filtered out are skipped in the other columns.
+ * Only the requested columns are read from the file and the row groups which can't match the
+ * filters are already dropped by the {@link ParquetFileReader}.
+ */
+class ParquetColumnarReader implements Closeable {
+    static final int BATCH_SIZE = 1024;
+
+    private final ParquetFileReader fileReader;
+    private final MessageType requestedSchema;
+    private final String createdBy;
+    private final ColumnDescriptor[] descriptors;
+    private final ValueDecoder[] decoders;
+    private final List<ReadFilter> filters;
+    private final boolean[] filterColumns;
+    private final ColumnReader[] columnReaders;
+    private final Object[][] columnValues;
+    private final boolean[] selected = new boolean[BATCH_SIZE];
+    private long rowsLeftInGroup;
+
+    ParquetColumnarReader(
+            ParquetFileReader fileReader, String[] columns, List<ReadFilter> filters) {
+        this.fileReader = fileReader;
+        MessageType fileSchema = fileReader.getFileMetaData().getSchema();
+        Type[] types = new Type[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            types[i] = fileSchema.getType(columns[i]);
+        }
+        this.requestedSchema = new MessageType(fileSchema.getName(), types);
+        this.createdBy = fileReader.getFileMetaData().getCreatedBy();
+        this.descriptors = new ColumnDescriptor[columns.length];
+        this.decoders = new ValueDecoder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            descriptors[i] = requestedSchema.getColumnDescription(new String[] {columns[i]});
+            decoders[i] = createDecoder(types[i].asPrimitiveType());
+        }
+        this.filters = filters;
+        this.filterColumns = new boolean[columns.length];
+        for (ReadFilter filter : filters) {
+            filterColumns[filter.getFieldIndex()] = true;
+        }
+        this.columnReaders = new ColumnReader[columns.length];
+        this.columnValues = new Object[columns.length][BATCH_SIZE];
+        // only the chunks of the requested columns are read from the file
+        fileReader.setRequestedSchema(requestedSchema);
+    }
+
+    /** Whether all the columns can be read by this reader. */
+    static boolean isSupported(MessageType fileSchema, String[] columns) {
+        Set<String> distinctColumns = new HashSet<>(Arrays.asList(columns));
+        if (distinctColumns.size() != columns.length) {
+            return false;
+        }
+        for (String column : columns) {
+            if (!fileSchema.containsField(column)) {
+                return false;
+            }
+            Type type = fileSchema.getType(column);
+            if (!type.isPrimitive()
+                    || type.isRepetition(Type.Repetition.REPEATED)
+                    || createDecoder(type.asPrimitiveType()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decode the next batch of rows.
+     *
+     * @return the number of rows in the batch, 0 at the end of the file
+     */
+    int nextBatch() throws IOException {
+        if (rowsLeftInGroup == 0 && !nextRowGroup()) {
+            return 0;
+        }
+        int batchSize = (int) Math.min(BATCH_SIZE, rowsLeftInGroup);
+        rowsLeftInGroup -= batchSize;
+        Arrays.fill(selected, 0, batchSize, true);
+        for (int i = 0; i < columnReaders.length; i++) {
+            if (filterColumns[i]) {
+                decodeColumn(i, batchSize);
+            }
+        }
+        for (ReadFilter filter : filters) {
+            Object[] values = columnValues[filter.getFieldIndex()];
+            for (int row = 0; row < batchSize; row++) {
+                if (selected[row] && !filter.test(values[row])) {
+                    selected[row] = false;
+                }
+            }
+        }
+        for (int i = 0; i < columnReaders.length; i++) {
+            if (!filterColumns[i]) {
+                decodeColumn(i, batchSize);
+            }
+        }
+        return batchSize;
+    }
+
+    boolean isSelected(int row) {
+        return selected[row];
+    }
+
+    Object getValue(int column, int row) {
+        return columnValues[column][row];
+    }
+
+    private boolean nextRowGroup() throws IOException {
+        PageReadStore pages;
+        do {
+            pages = fileReader.readNextRowGroup();
+            if (pages == null) {
+                return false;
+            }
+        } while (pages.getRowCount() == 0);
+        rowsLeftInGroup = pages.getRowCount();
+        ColumnReadStoreImpl columnReadStore =
+                new ColumnReadStoreImpl(
+                        pages,
+                        new DummyRecordConverter(requestedSchema).getRootConverter(),
+                        requestedSchema,
+                        createdBy);
+        for (int i = 0; i < descriptors.length; i++) {
+            columnReaders[i] = columnReadStore.getColumnReader(descriptors[i]);
+        }
+        return true;
+    }
+
+    private void decodeColumn(int column, int batchSize) {
+        ColumnReader columnReader = columnReaders[column];
+        ValueDecoder decoder = decoders[column];
+        Object[] values = columnValues[column];
+        int maxDefinitionLevel = descriptors[column].getMaxDefinitionLevel();
+        for (int row = 0; row < batchSize; row++) {
+            if (columnReader.getCurrentDefinitionLevel() != maxDefinitionLevel) {
+                values[row] = null;
+            } else if (selected[row]) {
+                values[row] = decoder.decode(columnReader);
+            } else {
+                values[row] = null;
+                columnReader.skip();
+            }
+            columnReader.consume();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileReader.close();
+    }
+
+    /** Returns null when the type is not supported. */
+    private static ValueDecoder createDecoder(PrimitiveType type) {
+        OriginalType originalType = type.getOriginalType();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return originalType == null ? ColumnReader::getBoolean : null;
+            case FLOAT:
+                return originalType == null ? ColumnReader::getFloat : null;
+            case DOUBLE:
+                return originalType == null ? ColumnReader::getDouble : null;
+            case INT32:
+                if (originalType == null || originalType == OriginalType.INT_32) {
+                    return ColumnReader::getInteger;
+                }
+                switch (originalType) {
+                    case INT_8:
+                        return reader -> (byte) reader.getInteger();
+                    case INT_16:
+                        return reader -> (short) reader.getInteger();
+                    case DATE:
+                        return reader -> LocalDate.ofEpochDay(reader.getInteger());
+                    default:
+                        return null;
+                }
+            case INT64:
+                if (originalType == null || originalType == OriginalType.INT_64) {
+                    return ColumnReader::getLong;
+                }
+                if (originalType == OriginalType.TIMESTAMP_MILLIS) {
+                    return reader ->
+                            LocalDateTime.ofInstant(
+                                    Instant.ofEpochMilli(reader.getLong()), ZoneId.systemDefault());
+                }
+                return null;
+            case INT96:
+                return reader -> ParquetReadStrategy.int96ToLocalDateTime(reader.getBinary());
+            case BINARY:
+                if (originalType == null) {
+                    return reader -> reader.getBinary().getBytes();
+                }
+                if (originalType == OriginalType.UTF8 || originalType == OriginalType.ENUM) {
+                    return reader -> reader.getBinary().toStringUsingUTF8();
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (type.getLogicalTypeAnnotation()
+                        instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation)
+                                            type.getLogicalTypeAnnotation())
+                                    .getScale();
+                    return reader ->
+                            new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private interface ValueDecoder {
+        Object decode(ColumnReader reader);
+    }
+}
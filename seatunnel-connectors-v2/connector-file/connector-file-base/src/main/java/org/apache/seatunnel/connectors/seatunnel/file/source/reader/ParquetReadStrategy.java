@@ -33,6 +33,7 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
@@ -41,10 +42,17 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -61,6 +69,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -85,6 +94,39 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        if (!isFileSplitEnabled()) {
+            return super.getFileSourceSplits(tableId, path);
+        }
+        ParquetMetadata metadata;
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) -> {
+                            HadoopInputFile hadoopInputFile =
+                                    HadoopInputFile.fromPath(new Path(path), configuration);
+                            return ParquetFileReader.open(hadoopInputFile);
+                        }))) {
+            metadata = reader.getFooter();
+        }
+        List<BlockMetaData> rowGroups = metadata.getBlocks();
+        long[] offsets = new long[rowGroups.size()];
+        long[] lengths = new long[rowGroups.size()];
+        for (int i = 0; i < rowGroups.size(); i++) {
+            offsets[i] = rowGroups.get(i).getStartingPos();
+            lengths[i] = rowGroups.get(i).getCompressedSize();
+        }
+        return splitByBlocks(tableId, path, offsets, lengths);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,31 +140,53 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
+        List<ReadFilter> filters = getReadFilters();
+        FilterCompat.Filter recordFilter = FilterCompat.NOOP;
+        if (!filters.isEmpty()) {
+            MessageType fileSchema;
+            try (ParquetFileReader reader = ParquetFileReader.open(hadoopInputFile)) {
+                fileSchema = reader.getFileMetaData().getSchema();
+            }
+            FilterPredicate predicate = toFilterPredicate(filters, fileSchema);
+            if (predicate != null) {
+                recordFilter = FilterCompat.get(predicate);
+            }
+        }
+        if (vectorizedRead
+                && readColumnar(
+                        split,
+                        tableId,
+                        output,
+                        hadoopInputFile,
+                        partitionsMap,
+                        filters,
+                        recordFilter)) {
+            return;
+        }
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
                         .withDataModel(dataModel)
-                        .build()) {
+                        .withFilter(recordFilter);
+        if (!split.isWholeFile()) {
+            // only the row groups whose midpoint lies in the range are read
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
-                Object[] fields;
-                if (isMergePartition) {
-                    int index = fieldsCount;
-                    fields = new Object[fieldsCount + partitionsMap.size()];
-                    for (String value : partitionsMap.values()) {
-                        fields[index++] = value;
-                    }
-                } else {
-                    fields = new Object[fieldsCount];
-                }
+                Object[] fields = createFields(fieldsCount, partitionsMap);
                 for (int i = 0; i < fieldsCount; i++) {
                     Object data = record.get(indexes[i]);
                     fields[i] = resolveObject(data, seaTunnelRowType.getFieldType(i));
                 }
+                if (!ReadFilter.testAll(filters, fields)) {
+                    continue;
+                }
                 SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
                 seaTunnelRow.setTableId(tableId);
                 output.collect(seaTunnelRow);
@@ -130,6 +194,70 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    /**
+     * Read the split with the column readers of parquet.
+     *
+     * @return false if the read columns contain types that have to be read row by row
+     */
+    private boolean readColumnar(
+            FileSourceSplit split,
+            String tableId,
+            Collector<SeaTunnelRow> output,
+            HadoopInputFile hadoopInputFile,
+            Map<String, String> partitionsMap,
+            List<ReadFilter> filters,
+            FilterCompat.Filter recordFilter)
+            throws IOException {
+        ParquetReadOptions.Builder optionsBuilder =
+                HadoopReadOptions.builder(hadoopInputFile.getConfiguration())
+                        .withRecordFilter(recordFilter);
+        if (!split.isWholeFile()) {
+            optionsBuilder.withRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        ParquetFileReader fileReader =
+                ParquetFileReader.open(hadoopInputFile, optionsBuilder.build());
+        String[] columns = seaTunnelRowType.getFieldNames();
+        if (!ParquetColumnarReader.isSupported(fileReader.getFileMetaData().getSchema(), columns)) {
+            fileReader.close();
+            log.info(
+                    "The read columns of file [{}] contain nested types, read it row by row",
+                    split.getFilePath());
+            return false;
+        }
+        int fieldsCount = columns.length;
+        try (ParquetColumnarReader reader =
+                new ParquetColumnarReader(fileReader, columns, filters)) {
+            int batchSize;
+            while ((batchSize = reader.nextBatch()) > 0) {
+                for (int row = 0; row < batchSize; row++) {
+                    if (!reader.isSelected(row)) {
+                        continue;
+                    }
+                    Object[] fields = createFields(fieldsCount, partitionsMap);
+                    for (int i = 0; i < fieldsCount; i++) {
+                        fields[i] = reader.getValue(i, row);
+                    }
+                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                    seaTunnelRow.setTableId(tableId);
+                    output.collect(seaTunnelRow);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Object[] createFields(int fieldsCount, Map<String, String> partitionsMap) {
+        if (!isMergePartition) {
+            return new Object[fieldsCount];
+        }
+        Object[] fields = new Object[fieldsCount + partitionsMap.size()];
+        int index = fieldsCount;
+        for (String value : partitionsMap.values()) {
+            fields[index++] = value;
+        }
+        return fields;
+    }
+
     private Object resolveObject(Object field, SeaTunnelDataType<?> fieldType) {
         if (field == null) {
             return null;
@@ -207,15 +335,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return int96ToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
@@ -236,6 +357,135 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    static LocalDateTime int96ToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
+    private static FilterPredicate toFilterPredicate(
+            List<ReadFilter> filters, MessageType fileSchema) {
+        FilterPredicate predicate = null;
+        for (ReadFilter filter : filters) {
+            FilterPredicate filterPredicate = toFilterPredicate(filter, fileSchema);
+            if (filterPredicate != null) {
+                predicate =
+                        predicate == null
+                                ? filterPredicate
+                                : FilterApi.and(predicate, filterPredicate);
+            }
+        }
+        return predicate;
+    }
+
+    /** Returns null when the filter can't be evaluated by parquet on this column. */
+    private static FilterPredicate toFilterPredicate(ReadFilter filter, MessageType fileSchema) {
+        String field = filter.getField();
+        // the column path of the filter api is split by dots
+        if (field.contains(".") || !fileSchema.containsField(field)) {
+            return null;
+        }
+        Type type = fileSchema.getType(field);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        OriginalType originalType = type.getOriginalType();
+        SqlType sqlType = filter.getFieldType().getSqlType();
+        ReadFilter.Operator operator = filter.getOperator();
+        Object value = filter.getValue();
+        switch (type.asPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+                if (sqlType == SqlType.DATE && originalType == OriginalType.DATE) {
+                    Integer days = value == null ? null : (int) ((LocalDate) value).toEpochDay();
+                    return toFilterPredicate(FilterApi.intColumn(field), operator, days);
+                }
+                if ((sqlType == SqlType.TINYINT
+                                || sqlType == SqlType.SMALLINT
+                                || sqlType == SqlType.INT)
+                        && (originalType == null
+                                || originalType == OriginalType.INT_8
+                                || originalType == OriginalType.INT_16
+                                || originalType == OriginalType.INT_32)) {
+                    Integer intValue = value == null ? null : ((Number) value).intValue();
+                    return toFilterPredicate(FilterApi.intColumn(field), operator, intValue);
+                }
+                return null;
+            case INT64:
+                if (sqlType == SqlType.BIGINT
+                        && (originalType == null || originalType == OriginalType.INT_64)) {
+                    return toFilterPredicate(FilterApi.longColumn(field), operator, (Long) value);
+                }
+                return null;
+            case FLOAT:
+                if (sqlType == SqlType.FLOAT && originalType == null) {
+                    return toFilterPredicate(FilterApi.floatColumn(field), operator, (Float) value);
+                }
+                return null;
+            case DOUBLE:
+                if (sqlType == SqlType.DOUBLE && originalType == null) {
+                    return toFilterPredicate(
+                            FilterApi.doubleColumn(field), operator, (Double) value);
+                }
+                return null;
+            case BINARY:
+                if (sqlType == SqlType.STRING
+                        && (originalType == OriginalType.UTF8
+                                || originalType == OriginalType.ENUM)) {
+                    Binary binary = value == null ? null : Binary.fromString((String) value);
+                    return toFilterPredicate(FilterApi.binaryColumn(field), operator, binary);
+                }
+                return null;
+            case BOOLEAN:
+                if (sqlType != SqlType.BOOLEAN || originalType != null) {
+                    return null;
+                }
+                Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(field);
+                switch (operator) {
+                    case EQ:
+                        return FilterApi.eq(booleanColumn, (Boolean) value);
+                    case NOT_EQ:
+                        return FilterApi.and(
+                                FilterApi.notEq(booleanColumn, (Boolean) value),
+                                FilterApi.notEq(booleanColumn, null));
+                    case IS_NULL:
+                        return FilterApi.eq(booleanColumn, null);
+                    case IS_NOT_NULL:
+                        return FilterApi.notEq(booleanColumn, null);
+                    default:
+                        return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate toFilterPredicate(C column, ReadFilter.Operator operator, T value) {
+        switch (operator) {
+            case EQ:
+                return FilterApi.eq(column, value);
+            case NOT_EQ:
+                // parquet treats null as not equal to any value
+                return FilterApi.and(FilterApi.notEq(column, value), FilterApi.notEq(column, null));
+            case GT:
+                return FilterApi.gt(column, value);
+            case GT_EQ:
+                return FilterApi.gtEq(column, value);
+            case LT:
+                return FilterApi.lt(column, value);
+            case LT_EQ:
+                return FilterApi.ltEq(column, value);
+            case IS_NULL:
+                return FilterApi.eq(column, null);
+            default:
+                return FilterApi.notEq(column, null);
+        }
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfo(TablePath.DEFAULT, path);
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A simple predicate on a top level column configured by {@link
+ * BaseSourceConfigOptions#READ_FILTERS}. Comparisons follow the SQL semantic, a null value never
+ * matches them.
+ */
+@Getter
+public class ReadFilter implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String FIELD = "field";
+    public static final String OPERATOR = "operator";
+    public static final String VALUE = "value";
+
+    public enum Operator {
+        EQ("="),
+        NOT_EQ("!="),
+        GT(">"),
+        GT_EQ(">="),
+        LT("<"),
+        LT_EQ("<="),
+        IS_NULL("is_null"),
+        IS_NOT_NULL("is_not_null");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public static Operator of(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equalsIgnoreCase(symbol)) {
+                    return operator;
+                }
+            }
+            throw CommonError.illegalArgument(
+                    symbol, "parse the operator of " + BaseSourceConfigOptions.READ_FILTERS.key());
+        }
+    }
+
+    private final String field;
+    private final int fieldIndex;
+    private final SeaTunnelDataType<?> fieldType;
+    private final Operator operator;
+    private final Comparable<Object> value;
+
+    private ReadFilter(
+            String field,
+            int fieldIndex,
+            SeaTunnelDataType<?> fieldType,
+            Operator operator,
+            Comparable<Object> value) {
+        this.field = field;
+        this.fieldIndex = fieldIndex;
+        this.fieldType = fieldType;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    public boolean test(Object fieldValue) {
+        switch (operator) {
+            case IS_NULL:
+                return fieldValue == null;
+            case IS_NOT_NULL:
+                return fieldValue != null;
+            default:
+                if (fieldValue == null) {
+                    return false;
+                }
+        }
+        // compare the filter value with the field value, so the signs are reversed
+        int result = value.compareTo(fieldValue);
+        switch (operator) {
+            case EQ:
+                return result == 0;
+            case NOT_EQ:
+                return result != 0;
+            case GT:
+                return result < 0;
+            case GT_EQ:
+                return result <= 0;
+            case LT:
+                return result > 0;
+            default:
+                return result >= 0;
+        }
+    }
+
+    /** Test the filters against the fields of a row, all of them must match. */
+    public static boolean testAll(List<ReadFilter> filters, Object[] fields) {
+        for (ReadFilter filter : filters) {
+            if (!filter.test(fields[filter.fieldIndex])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static List<ReadFilter> of(
+            List<Map<String, Object>> filterConfigs, SeaTunnelRowType rowType) {
+        if (filterConfigs == null || filterConfigs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ReadFilter> filters = new ArrayList<>(filterConfigs.size());
+        for (Map<String, Object> filterConfig : filterConfigs) {
+            String field = String.valueOf(filterConfig.get(FIELD));
+            int fieldIndex = rowType.indexOf(field, false);
+            if (fieldIndex == -1) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Filter column [%s] does not exists in the read columns [%s]",
+                                field, String.join(",", rowType.getFieldNames())));
+            }
+            SeaTunnelDataType<?> fieldType = rowType.getFieldType(fieldIndex);
+            Operator operator = Operator.of(String.valueOf(filterConfig.get(OPERATOR)));
+            Comparable<Object> value = null;
+            if (operator != Operator.IS_NULL && operator != Operator.IS_NOT_NULL) {
+                Object rawValue = filterConfig.get(VALUE);
+                if (rawValue == null) {
+                    throw CommonError.illegalArgument(
+                            field,
+                            "parse the value of " + BaseSourceConfigOptions.READ_FILTERS.key());
+                }
+                value = convertValue(field, fieldType, rawValue.toString());
+            }
+            filters.add(new ReadFilter(field, fieldIndex, fieldType, operator, value));
+        }
+        return filters;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> convertValue(
+            String field, SeaTunnelDataType<?> fieldType, String value) {
+        Comparable<?> converted;
+        switch (fieldType.getSqlType()) {
+            case BOOLEAN:
+                converted = Boolean.parseBoolean(value);
+                break;
+            case TINYINT:
+                converted = Byte.parseByte(value);
+                break;
+            case SMALLINT:
+                converted = Short.parseShort(value);
+                break;
+            case INT:
+                converted = Integer.parseInt(value);
+                break;
+            case BIGINT:
+                converted = Long.parseLong(value);
+                break;
+            case FLOAT:
+                converted = Float.parseFloat(value);
+                break;
+            case DOUBLE:
+                converted = Double.parseDouble(value);
+                break;
+            case DECIMAL:
+                converted = new BigDecimal(value);
+                break;
+            case DATE:
+                converted = LocalDate.parse(value);
+                break;
+            case STRING:
+                converted = value;
+                break;
+            default:
+                throw CommonError.unsupportedDataType(
+                        BaseSourceConfigOptions.READ_FILTERS.key(), fieldType.toString(), field);
+        }
+        return (Comparable<Object>) converted;
+    }
+}
@@ -29,10 +29,12 @@ import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,6 +47,27 @@ public interface ReadStrategy extends Serializable, Closeable {
     void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws IOException, FileConnectorException;
 
+    /**
+     * Read the rows of the given split. Strategies that return ranged splits from {@link
+     * #getFileSourceSplits(String, String)} must override this method to honour the range.
+     */
+    default void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws IOException, FileConnectorException {
+        read(split.getFilePath(), tableId, output);
+    }
+
+    /**
+     * Split the file into {@link FileSourceSplit}s. By default, the whole file is one split.
+     *
+     * @param tableId the table id of the splits, may be null.
+     * @param path the file path.
+     * @return the splits of the file.
+     */
+    default List<FileSourceSplit> getFileSourceSplits(String tableId, String path)
+            throws IOException {
+        return Collections.singletonList(new FileSourceSplit(tableId, path));
+    }
+
     SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException;
 
     default SeaTunnelRowType getSeaTunnelRowTypeInfo(TablePath tablePath, String path)
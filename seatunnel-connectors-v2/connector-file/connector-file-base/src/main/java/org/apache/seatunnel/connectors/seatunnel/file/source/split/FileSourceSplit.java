@@ -27,23 +27,42 @@ public class FileSourceSplit implements SourceSplit {
     @Getter private final String tableId;
     @Getter private final String filePath;
 
+    /** Offset of the first byte of this split in the file. */
+    @Getter private final long start;
+
+    /**
+     * Number of bytes covered by this split. A length of 0 or less stands for the whole file, which
+     * is also what splits restored from older states carry.
+     */
+    @Getter private final long length;
+
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, -1);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String fileSplitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return fileSplitId;
         }
-        return tableId + "_" + filePath;
+        return fileSplitId + "_" + start;
     }
 }
@@ -18,8 +18,10 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseFileSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseMultipleTableFileSourceConfig;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -42,6 +44,8 @@ public class MultipleTableFileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit;
     private final Set<FileSourceSplit> assignedSplit;
     private final Map<String, List<String>> filePathMap;
+    private final Map<String, ReadStrategy> readStrategyMap;
+    private List<FileSourceSplit> allSplit;
 
     public MultipleTableFileSourceSplitEnumerator(
             Context<FileSourceSplit> context,
@@ -58,6 +62,17 @@ public class MultipleTableFileSourceSplitEnumerator
                                                         .toTablePath()
                                                         .toString(),
                                         BaseFileSourceConfig::getFilePaths));
+        this.readStrategyMap =
+                multipleTableFileSourceConfig.getFileSourceConfigs().stream()
+                        .collect(
+                                Collectors.toMap(
+                                        fileSourceConfig ->
+                                                fileSourceConfig
+                                                        .getCatalogTable()
+                                                        .getTableId()
+                                                        .toTablePath()
+                                                        .toString(),
+                                        BaseFileSourceConfig::getReadStrategy));
         this.assignedSplit = new HashSet<>();
         this.pendingSplit = new HashSet<>();
     }
@@ -89,14 +104,27 @@ public class MultipleTableFileSourceSplitEnumerator
 
     @Override
     public void registerReader(int subtaskId) {
-        for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
-            String tableId = filePathEntry.getKey();
-            List<String> filePaths = filePathEntry.getValue();
-            for (String filePath : filePaths) {
-                pendingSplit.add(new FileSourceSplit(tableId, filePath));
+        pendingSplit.addAll(getAllSplit());
+        assignSplit(subtaskId);
+    }
+
+    private List<FileSourceSplit> getAllSplit() {
+        if (allSplit == null) {
+            // the splits of large files need the file metadata, so only discover them once
+            allSplit = new ArrayList<>();
+            for (Map.Entry<String, List<String>> filePathEntry : filePathMap.entrySet()) {
+                String tableId = filePathEntry.getKey();
+                ReadStrategy readStrategy = readStrategyMap.get(tableId);
+                for (String filePath : filePathEntry.getValue()) {
+                    try {
+                        allSplit.addAll(readStrategy.getFileSourceSplits(tableId, filePath));
+                    } catch (IOException e) {
+                        throw CommonError.fileOperationFailed("SeaTunnel", "split", filePath, e);
+                    }
+                }
             }
         }
-        assignSplit(subtaskId);
+        return allSplit;
     }
 
     @Override
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ReadStrategyEncodingTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class TextReadStrategySplitTest {
+
+    @TempDir File tempDir;
+
+    @Test
+    public void testReadSplitsOfTextFile() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add("line_" + i);
+        }
+        File file = new File(tempDir, "test.txt");
+        Files.write(file.toPath(), String.join("\r\n", lines).getBytes(StandardCharsets.UTF_8));
+        String path = file.getAbsolutePath();
+
+        Map<String, Object> configMap = new HashMap<>();
+        configMap.put(BaseSourceConfigOptions.FILE_PATH.key(), path);
+        configMap.put(BaseSourceConfigOptions.ENABLE_FILE_SPLIT.key(), true);
+        configMap.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), 100);
+        Config pluginConfig = ConfigFactory.parseMap(configMap);
+
+        try (TextReadStrategy textReadStrategy = new TextReadStrategy()) {
+            textReadStrategy.setPluginConfig(pluginConfig);
+            textReadStrategy.init(new ReadStrategyEncodingTest.LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            textReadStrategy.getFileNamesByPath(path);
+            textReadStrategy.getSeaTunnelRowTypeInfo(path);
+
+            List<FileSourceSplit> splits = textReadStrategy.getFileSourceSplits("", path);
+            Assertions.assertTrue(splits.size() > 1);
+            Assertions.assertEquals(
+                    splits.size(),
+                    splits.stream().map(FileSourceSplit::splitId).distinct().count());
+
+            ReadStrategyEncodingTest.TestCollector collector =
+                    new ReadStrategyEncodingTest.TestCollector();
+            for (FileSourceSplit split : splits) {
+                textReadStrategy.read(split, "", collector);
+            }
+            // every line must be read exactly once, whatever split boundary it crosses
+            Assertions.assertEquals(
+                    lines,
+                    collector.getRows().stream()
+                            .map(row -> (String) row.getField(0))
+                            .collect(Collectors.toList()));
+        }
+    }
+}
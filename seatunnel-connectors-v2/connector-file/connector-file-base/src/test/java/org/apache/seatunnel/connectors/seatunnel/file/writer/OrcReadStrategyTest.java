@@ -23,8 +23,10 @@ import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
 import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadFilter;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -36,7 +38,11 @@ import java.io.FileNotFoundException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
 
@@ -101,6 +107,64 @@ public class OrcReadStrategyTest {
         }
     }
 
+    @Test
+    public void testOrcVectorizedRead() throws Exception {
+        URL orcFile = OrcReadStrategyTest.class.getResource("/test.orc");
+        Assertions.assertNotNull(orcFile);
+        String orcFilePath = Paths.get(orcFile.toURI()).toString();
+        List<SeaTunnelRow> rows = readOrc(orcFilePath, new HashMap<>());
+        Assertions.assertFalse(rows.isEmpty());
+        Map<String, Object> config = new HashMap<>();
+        config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), true);
+        Assertions.assertEquals(rows, readOrc(orcFilePath, config));
+    }
+
+    @Test
+    public void testOrcReadFilter() throws Exception {
+        URL orcFile = OrcReadStrategyTest.class.getResource("/test.orc");
+        Assertions.assertNotNull(orcFile);
+        String orcFilePath = Paths.get(orcFile.toURI()).toString();
+        List<SeaTunnelRow> rows = readOrc(orcFilePath, new HashMap<>());
+        Assertions.assertFalse(rows.isEmpty());
+        // filter by the tinyint column at index 1
+        String field;
+        try (OrcReadStrategy orcReadStrategy = new OrcReadStrategy()) {
+            orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            field = orcReadStrategy.getSeaTunnelRowTypeInfo(orcFilePath).getFieldName(1);
+        }
+        Object value = rows.get(0).getField(1);
+        List<SeaTunnelRow> expected =
+                rows.stream()
+                        .filter(row -> value.equals(row.getField(1)))
+                        .collect(Collectors.toList());
+        for (boolean vectorized : new boolean[] {false, true}) {
+            Map<String, Object> config = new HashMap<>();
+            config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), vectorized);
+            Map<String, Object> filter = new HashMap<>();
+            filter.put(ReadFilter.FIELD, field);
+            filter.put(ReadFilter.OPERATOR, "=");
+            filter.put(ReadFilter.VALUE, value);
+            config.put(
+                    BaseSourceConfigOptions.READ_FILTERS.key(), Collections.singletonList(filter));
+            Assertions.assertEquals(expected, readOrc(orcFilePath, config));
+            filter.put(ReadFilter.OPERATOR, "!=");
+            Assertions.assertEquals(
+                    rows.size() - expected.size(), readOrc(orcFilePath, config).size());
+        }
+    }
+
+    private static List<SeaTunnelRow> readOrc(String path, Map<String, Object> config)
+            throws Exception {
+        try (OrcReadStrategy orcReadStrategy = new OrcReadStrategy()) {
+            orcReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            orcReadStrategy.setPluginConfig(ConfigFactory.parseMap(config));
+            orcReadStrategy.getSeaTunnelRowTypeInfo(path);
+            TestCollector testCollector = new TestCollector();
+            orcReadStrategy.read(path, "", testCollector);
+            return testCollector.getRows();
+        }
+    }
+
     public static class TestCollector implements Collector<SeaTunnelRow> {
 
         private final List<SeaTunnelRow> rows = new ArrayList<>();
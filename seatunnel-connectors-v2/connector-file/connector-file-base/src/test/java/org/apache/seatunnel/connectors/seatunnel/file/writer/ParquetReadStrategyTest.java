@@ -24,9 +24,12 @@ import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.type.ArrayType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.common.exception.SeaTunnelRuntimeException;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadFilter;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericArray;
@@ -52,7 +55,11 @@ import java.net.URL;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 
 import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
@@ -168,6 +175,87 @@ public class ParquetReadStrategyTest {
         parquetReadStrategy.read(path, "", testCollector);
     }
 
+    @Test
+    public void testParquetVectorizedRead() throws Exception {
+        for (String file :
+                new String[] {
+                    "/timestamp_as_int64.parquet", "/timestamp_as_int96.parquet", "/hive.parquet"
+                }) {
+            URL resource = ParquetReadStrategyTest.class.getResource(file);
+            Assertions.assertNotNull(resource);
+            String path = Paths.get(resource.toURI()).toString();
+            Map<String, Object> config = new HashMap<>();
+            List<SeaTunnelRow> rows = readParquet(path, config);
+            Assertions.assertFalse(rows.isEmpty());
+            config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), true);
+            Assertions.assertEquals(rows, readParquet(path, config));
+
+            // nested columns are read row by row, so check the primitive columns on their own
+            SeaTunnelRowType rowType;
+            try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy()) {
+                parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+                rowType = parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            }
+            List<String> primitiveColumns = new ArrayList<>();
+            for (int i = 0; i < rowType.getTotalFields(); i++) {
+                SqlType sqlType = rowType.getFieldType(i).getSqlType();
+                if (sqlType != SqlType.ARRAY && sqlType != SqlType.MAP && sqlType != SqlType.ROW) {
+                    primitiveColumns.add(rowType.getFieldName(i));
+                }
+            }
+            config.put(BaseSourceConfigOptions.READ_COLUMNS.key(), primitiveColumns);
+            config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), false);
+            rows = readParquet(path, config);
+            config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), true);
+            Assertions.assertEquals(rows, readParquet(path, config));
+        }
+    }
+
+    @Test
+    public void testParquetReadFilter() throws Exception {
+        URL resource = ParquetReadStrategyTest.class.getResource("/timestamp_as_int96.parquet");
+        Assertions.assertNotNull(resource);
+        String path = Paths.get(resource.toURI()).toString();
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+                BaseSourceConfigOptions.READ_COLUMNS.key(),
+                Arrays.asList("test_bigint", "test_tinyint", "test_smallint"));
+        List<SeaTunnelRow> rows = readParquet(path, config);
+        Assertions.assertFalse(rows.isEmpty());
+        for (boolean vectorized : new boolean[] {false, true}) {
+            config.put(BaseSourceConfigOptions.VECTORIZED_READ.key(), vectorized);
+            config.put(
+                    BaseSourceConfigOptions.READ_FILTERS.key(),
+                    Collections.singletonList(filter("test_bigint", "=", 40000000000L)));
+            Assertions.assertEquals(rows, readParquet(path, config));
+            config.put(
+                    BaseSourceConfigOptions.READ_FILTERS.key(),
+                    Arrays.asList(
+                            filter("test_tinyint", ">=", 1), filter("test_smallint", "<", 1)));
+            Assertions.assertTrue(readParquet(path, config).isEmpty());
+        }
+    }
+
+    private static Map<String, Object> filter(String field, String operator, Object value) {
+        Map<String, Object> filter = new HashMap<>();
+        filter.put(ReadFilter.FIELD, field);
+        filter.put(ReadFilter.OPERATOR, operator);
+        filter.put(ReadFilter.VALUE, value);
+        return filter;
+    }
+
+    private static List<SeaTunnelRow> readParquet(String path, Map<String, Object> config)
+            throws Exception {
+        try (ParquetReadStrategy parquetReadStrategy = new ParquetReadStrategy()) {
+            parquetReadStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            parquetReadStrategy.setPluginConfig(ConfigFactory.parseMap(config));
+            parquetReadStrategy.getSeaTunnelRowTypeInfo(path);
+            TestCollector testCollector = new TestCollector();
+            parquetReadStrategy.read(path, "", testCollector);
+            return testCollector.getRows();
+        }
+    }
+
     @DisabledOnOs(OS.WINDOWS)
     @Test
     public void testParquetReadArray() throws Exception {
@@ -81,6 +81,13 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> MAX_IN_FLIGHT_BATCHES =
+            Options.key("max_in_flight_batches")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of full batches that may be written by a background thread while the writer fills the next one, 0 writes every batch synchronously");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -164,6 +171,13 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<Boolean> USE_STAGING_TABLE =
+            Options.key("use_staging_table")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "upsert each batch through a session temporary table and a single merge statement (oracle, db2, sqlserver, postgresql)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
@@ -31,11 +33,30 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
-/** A JDBC outputFormat */
+/**
+ * A JDBC outputFormat.
+ *
+ * <p>When {@code max_in_flight_batches} is greater than zero, full batches are executed by a
+ * background thread while the writer keeps collecting the records of the next batch, so upstream
+ * processing overlaps the database round trip. At most that many batches are in flight, the writer
+ * blocks once all of them are taken. The writer only buffers the records in memory, the statement
+ * executor and the connection are used by the flush thread alone, so batches are executed one at a
+ * time and in order and a reconnect never races with the writer. {@link #flush()} waits for all of
+ * them and rethrows a failed one, so a checkpoint only completes after every buffered record was
+ * written.
+ */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implements Serializable {
 
     protected final JdbcConnectionProvider connectionProvider;
@@ -52,6 +73,11 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    private transient ExecutorService flushExecutor;
+    private transient List<I> pendingRecords;
+    private transient BlockingQueue<List<I>> idleBatches;
+    private transient List<Future<?>> inFlightFlushes;
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
@@ -72,6 +98,22 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        int maxInFlightBatches = jdbcConnectionConfig.getMaxInFlightBatches();
+        if (maxInFlightBatches > 0) {
+            pendingRecords = new ArrayList<>();
+            // the record list being filled by the writer comes back to the idle queue as well
+            idleBatches = new ArrayBlockingQueue<>(maxInFlightBatches + 1);
+            for (int i = 0; i < maxInFlightBatches; i++) {
+                idleBatches.add(new ArrayList<>());
+            }
+            inFlightFlushes = new ArrayList<>(maxInFlightBatches);
+            flushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jdbc-flush-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
     }
 
     private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
@@ -99,11 +141,19 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     public final synchronized void writeRecord(I record) {
         checkFlushException();
         try {
-            addToBatch(record);
+            if (flushExecutor != null) {
+                pendingRecords.add(record);
+            } else {
+                addToBatch(record);
+            }
             batchCount++;
             if (jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+                if (flushExecutor != null) {
+                    flushAsync();
+                } else {
+                    flush();
+                }
             }
         } catch (Exception e) {
             throw new JdbcConnectorException(
@@ -117,7 +167,71 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
         jdbcStatementExecutor.addToBatch(record);
     }
 
+    /**
+     * Hands the pending records to the flush thread, which adds them to the statement executor and
+     * executes them, and continues with an idle record list, waiting for one when all of them are
+     * in flight.
+     */
+    private void flushAsync() throws InterruptedException {
+        final List<I> records = pendingRecords;
+        inFlightFlushes.removeIf(Future::isDone);
+        inFlightFlushes.add(
+                flushExecutor.submit(
+                        () -> {
+                            try {
+                                if (flushException == null) {
+                                    for (I record : records) {
+                                        addToBatch(record);
+                                    }
+                                    flushWithRetries();
+                                }
+                            } catch (Exception e) {
+                                LOG.error("Writing records to JDBC failed.", e);
+                                flushException = e;
+                            } finally {
+                                records.clear();
+                                idleBatches.add(records);
+                            }
+                        }));
+        batchCount = 0;
+        pendingRecords = idleBatches.take();
+    }
+
+    private void waitForInFlightFlushes() {
+        try {
+            for (Future<?> inFlightFlush : inFlightFlushes) {
+                inFlightFlush.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for in-flight batches",
+                    e);
+        } catch (ExecutionException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED, e.getCause());
+        }
+        inFlightFlushes.clear();
+        checkFlushException();
+    }
+
     public synchronized void flush() throws IOException {
+        if (flushExecutor != null) {
+            try {
+                if (batchCount > 0 && flushException == null) {
+                    flushAsync();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                        "unable to flush; interrupted while waiting for in-flight batches",
+                        e);
+            }
+            waitForInFlightFlushes();
+            return;
+        }
         if (flushException != null) {
             LOG.warn(
                     String.format(
@@ -130,11 +244,15 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             return;
         }
 
+        flushWithRetries();
+        batchCount = 0;
+    }
+
+    private void flushWithRetries() {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -174,10 +292,23 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
 
     /** Executes prepared statement and closes all resources of this instance. */
     public synchronized void close() {
+        try {
+            closeStatements();
+        } finally {
+            connectionProvider.closeConnection();
+        }
+    }
+
+    /**
+     * Executes prepared statement and closes the statements and the flush thread of this instance,
+     * but keeps the connection of the provider open, e.g. because it is shared with other writers
+     * or holds an open transaction.
+     */
+    public synchronized void closeStatements() {
         if (!closed) {
             closed = true;
 
-            if (batchCount > 0) {
+            if (batchCount > 0 || flushExecutor != null) {
                 try {
                     flush();
                 } catch (Exception e) {
@@ -190,6 +321,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
             }
 
+            if (flushExecutor != null) {
+                flushExecutor.shutdownNow();
+            }
+
             try {
                 if (jdbcStatementExecutor != null) {
                     jdbcStatementExecutor.closeStatements();
@@ -198,7 +333,6 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 LOG.warn("Close JDBC writer failed.", e);
             }
         }
-        connectionProvider.closeConnection();
         checkFlushException();
     }
 
@@ -27,11 +27,11 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRow
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
-import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.StagingMergeBatchStatementExecutor;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -41,9 +41,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
@@ -70,9 +72,10 @@ public class JdbcOutputFormatBuilder {
         if (jdbcSinkConfig.isUseCopyStatement()) {
             statementExecutorFactory =
                     () ->
-                            createCopyInBufferStatementExecutor(
-                                    createCopyInBatchStatementExecutor(
-                                            dialect, table, tableSchema));
+                            new BufferedBatchStatementExecutor(
+                                    dialect.getBulkLoadStatementExecutor(
+                                            database, table, tableSchema, databaseTableSchema),
+                                    Function.identity());
         } else if (StringUtils.isNotBlank(jdbcSinkConfig.getSimpleSql())) {
             statementExecutorFactory =
                     () ->
@@ -86,6 +89,16 @@ public class JdbcOutputFormatBuilder {
                     () ->
                             createSimpleBufferedExecutor(
                                     dialect, database, table, tableSchema, databaseTableSchema);
+        } else if (useStagingTable(dialect, database, table, tableSchema, primaryKeys)) {
+            statementExecutorFactory =
+                    () ->
+                            createStagingMergeExecutor(
+                                    dialect,
+                                    database,
+                                    table,
+                                    tableSchema,
+                                    databaseTableSchema,
+                                    primaryKeys.toArray(new String[0]));
         } else {
             statementExecutorFactory =
                     () ->
@@ -107,6 +120,135 @@ public class JdbcOutputFormatBuilder {
                 statementExecutorFactory);
     }
 
+    private boolean useStagingTable(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            List<String> primaryKeys) {
+        if (!jdbcSinkConfig.isUseStagingTable()) {
+            return false;
+        }
+        if (jdbcSinkConfig.isExactlyOnce()) {
+            // temporary tables can not be used in a prepared XA transaction by every database
+            log.warn("use_staging_table is ignored because is_exactly_once is enabled");
+            return false;
+        }
+        String[] fieldNames = tableSchema.getFieldNames();
+        String[] pkNames = primaryKeys.toArray(new String[0]);
+        String stagingTable = dialect.stagingTableIdentifier("st");
+        if (!dialect.getCreateStagingTableStatement(database, table, "st", fieldNames).isPresent()
+                || !dialect.getMergeFromStagingStatement(
+                                database, table, stagingTable, fieldNames, pkNames)
+                        .isPresent()) {
+            log.warn(
+                    "use_staging_table is ignored because dialect {} does not support it",
+                    dialect.dialectName());
+            return false;
+        }
+        return true;
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createStagingMergeExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema,
+            String[] pkNames) {
+        int[] pkFields =
+                Arrays.stream(pkNames)
+                        .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
+                        .toArray();
+
+        TableSchema pkSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.stream(pkFields)
+                                        .mapToObj(
+                                                (IntFunction<Column>) tableSchema.getColumns()::get)
+                                        .collect(Collectors.toList()))
+                        .build();
+
+        String stagingName = stagingTableName(dialect, database, table, tableSchema);
+        String upsertStaging = dialect.stagingTableIdentifier(stagingName + "_u");
+        String deleteStaging = dialect.stagingTableIdentifier(stagingName + "_d");
+        StagingMergeBatchStatementExecutor.StagingTable upsertStagingTable =
+                new StagingMergeBatchStatementExecutor.StagingTable(
+                        dialect.getCreateStagingTableStatement(
+                                        database,
+                                        table,
+                                        stagingName + "_u",
+                                        tableSchema.getFieldNames())
+                                .get(),
+                        "DELETE FROM " + upsertStaging,
+                        dialect.getMergeFromStagingStatement(
+                                        database,
+                                        table,
+                                        upsertStaging,
+                                        tableSchema.getFieldNames(),
+                                        pkNames)
+                                .get(),
+                        createSimpleExecutor(
+                                createStagingInsertStatement(
+                                        dialect, upsertStaging, tableSchema.getFieldNames()),
+                                tableSchema,
+                                databaseTableSchema,
+                                dialect.getRowConverter()));
+        StagingMergeBatchStatementExecutor.StagingTable deleteStagingTable =
+                new StagingMergeBatchStatementExecutor.StagingTable(
+                        dialect.getCreateStagingTableStatement(
+                                        database, table, stagingName + "_d", pkNames)
+                                .get(),
+                        "DELETE FROM " + deleteStaging,
+                        dialect.getDeleteByStagingStatement(
+                                database, table, deleteStaging, pkNames),
+                        createSimpleExecutor(
+                                createStagingInsertStatement(dialect, deleteStaging, pkNames),
+                                pkSchema,
+                                databaseTableSchema,
+                                dialect.getRowConverter()));
+        return new StagingMergeBatchStatementExecutor(
+                upsertStagingTable,
+                deleteStagingTable,
+                createKeyExtractor(pkFields),
+                Function.identity());
+    }
+
+    /**
+     * The quoted sink table path and columns decide the name, so writers of the same table share
+     * the definition of a global temporary table while sessions keep their rows apart. A digest
+     * keeps the name within the identifier length limits of every dialect.
+     */
+    static String stagingTableName(
+            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(dialect::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        String digest =
+                UUID.nameUUIDFromBytes(
+                                (dialect.tableIdentifier(database, table) + columns)
+                                        .getBytes(StandardCharsets.UTF_8))
+                        .toString()
+                        .replace("-", "");
+        return "st_" + digest.substring(0, 24);
+    }
+
+    private static String createStagingInsertStatement(
+            JdbcDialect dialect, String stagingTable, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(dialect::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String placeholders =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> ":" + fieldName)
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "INSERT INTO %s (%s) VALUES (%s)", stagingTable, columns, placeholders);
+    }
+
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
             JdbcDialect dialect,
             String database,
@@ -222,22 +364,6 @@ public class JdbcOutputFormatBuilder {
                 isPrimaryKeyUpdated);
     }
 
-    private static JdbcBatchStatementExecutor<SeaTunnelRow> createCopyInBufferStatementExecutor(
-            CopyManagerBatchStatementExecutor copyManagerBatchStatementExecutor) {
-        return new BufferedBatchStatementExecutor(
-                copyManagerBatchStatementExecutor, Function.identity());
-    }
-
-    private static CopyManagerBatchStatementExecutor createCopyInBatchStatementExecutor(
-            JdbcDialect dialect, String table, TableSchema tableSchema) {
-        String columns =
-                Arrays.stream(tableSchema.getFieldNames())
-                        .map(dialect::quoteIdentifier)
-                        .collect(Collectors.joining(",", "(", ")"));
-        String copyInSql = String.format("COPY %s %s FROM STDIN WITH CSV", table, columns);
-        return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
-    }
-
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOnlyExecutor(
             JdbcDialect dialect,
             String database,
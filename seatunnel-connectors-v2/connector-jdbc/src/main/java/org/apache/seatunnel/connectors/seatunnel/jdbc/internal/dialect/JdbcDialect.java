@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
@@ -27,12 +28,15 @@ import org.apache.seatunnel.api.table.schema.event.AlterTableColumnsEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableDropColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SqlType;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.SimpleJdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.DefaultValueUtils;
 
@@ -239,6 +243,101 @@ public interface JdbcDialect extends Serializable {
     Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields);
 
+    /**
+     * Constructs the statement creating a staging table with the given columns of the sink table,
+     * used by {@code use_staging_table} to load a whole batch before applying it with one
+     * statement. The staging table must be private to the session, or at least its rows must be,
+     * and the statement must succeed when the table already exists. It is executed once per
+     * connection and must not commit the open transaction of the session.
+     *
+     * <pre>{@code
+     * CREATE TEMPORARY TABLE staging_name AS SELECT column_name [, ...] FROM table_name WHERE 1 = 0
+     * }</pre>
+     *
+     * @return the dialects create statement or {@link Optional#empty()} if not supported.
+     */
+    default Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        return Optional.empty();
+    }
+
+    /** Returns the identifier a staging table created by this dialect is referenced with. */
+    default String stagingTableIdentifier(String stagingTableName) {
+        return stagingTableName;
+    }
+
+    /**
+     * Constructs the set-based statement that inserts or updates all rows of the staging table in
+     * the sink table, matched by the unique key fields.
+     *
+     * <pre>{@code
+     * MERGE INTO table_name USING staging_name ON (key = key [AND ...])
+     * WHEN MATCHED THEN UPDATE SET col = col [, ...]
+     * WHEN NOT MATCHED THEN INSERT (column_name [, ...]) VALUES (column_name [, ...])
+     * }</pre>
+     *
+     * @return the dialects merge statement or {@link Optional#empty()} if not supported.
+     */
+    default Optional<String> getMergeFromStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        return Optional.empty();
+    }
+
+    /**
+     * Constructs the set-based statement that deletes all rows from the sink table whose unique key
+     * is in the staging table.
+     *
+     * <pre>{@code
+     * DELETE FROM table_name WHERE (key [, ...]) IN (SELECT key [, ...] FROM staging_name)
+     * }</pre>
+     *
+     * @return the dialects delete statement.
+     */
+    default String getDeleteByStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] uniqueKeyFields) {
+        String keyColumns =
+                Arrays.stream(uniqueKeyFields)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return String.format(
+                "DELETE FROM %s WHERE (%s) IN (SELECT %s FROM %s)",
+                tableIdentifier(database, tableName),
+                keyColumns,
+                keyColumns,
+                stagingTableIdentifier);
+    }
+
+    /**
+     * Creates the executor used when {@code use_copy_statement} is enabled, which writes a whole
+     * batch through the native bulk load path of the database instead of batched inserts. The rows
+     * are buffered by the caller, so the executor only has to load them in {@code executeBatch}.
+     *
+     * <pre>{@code
+     * COPY table_name (column_name [, ...]) FROM STDIN WITH CSV
+     * }</pre>
+     *
+     * @return an executor loading the rows with {@code COPY ... FROM STDIN} by default.
+     */
+    default JdbcBatchStatementExecutor<SeaTunnelRow> getBulkLoadStatementExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        String copyInSql = String.format("COPY %s %s FROM STDIN WITH CSV", tableName, columns);
+        return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
+    }
+
     /**
      * Different dialects optimize their PreparedStatement
      *
@@ -98,4 +98,71 @@ public class DB2Dialect implements JdbcDialect {
 
         return Optional.of(mergeStatement);
     }
+
+    /**
+     * Declares a global temporary table in the {@code SESSION} schema, which requires a user
+     * temporary table space. The table is private to the connection and declared once per
+     * connection, {@code WITH REPLACE} only matters if it was left behind by an earlier writer.
+     */
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "DECLARE GLOBAL TEMPORARY TABLE %s AS (SELECT %s FROM %s) WITH NO DATA"
+                                + " ON COMMIT PRESERVE ROWS NOT LOGGED WITH REPLACE",
+                        stagingTableIdentifier(stagingTableName),
+                        columns,
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public String stagingTableIdentifier(String stagingTableName) {
+        return "SESSION." + quoteIdentifier(stagingTableName);
+    }
+
+    @Override
+    public Optional<String> getMergeFromStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String onClause =
+                Arrays.stream(uniqueKeyFields)
+                        .map(this::quoteIdentifier)
+                        .map(field -> "target." + field + " = source." + field)
+                        .collect(Collectors.joining(" AND "));
+        String updateSetClause =
+                Arrays.stream(fieldNames)
+                        .filter(field -> !Arrays.asList(uniqueKeyFields).contains(field))
+                        .map(this::quoteIdentifier)
+                        .map(field -> "target." + field + " = source." + field)
+                        .collect(Collectors.joining(", "));
+        String insertClause =
+                "INSERT ("
+                        + Arrays.stream(fieldNames)
+                                .map(this::quoteIdentifier)
+                                .collect(Collectors.joining(", "))
+                        + ") VALUES ("
+                        + Arrays.stream(fieldNames)
+                                .map(field -> "source." + quoteIdentifier(field))
+                                .collect(Collectors.joining(", "))
+                        + ")";
+        return Optional.of(
+                String.format(
+                        "MERGE INTO %s AS target USING %s AS source ON %s%s"
+                                + " WHEN NOT MATCHED THEN %s",
+                        tableIdentifier(database, tableName),
+                        stagingTableIdentifier,
+                        onClause,
+                        updateSetClause.isEmpty()
+                                ? ""
+                                : " WHEN MATCHED THEN UPDATE SET " + updateSetClause,
+                        insertClause));
+    }
 }
@@ -18,14 +18,18 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MySqlLoadDataBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -115,6 +119,20 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> getBulkLoadStatementExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String[] columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .toArray(String[]::new);
+        return new MySqlLoadDataBatchStatementExecutor(
+                tableIdentifier(database, tableName), columns, tableSchema);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
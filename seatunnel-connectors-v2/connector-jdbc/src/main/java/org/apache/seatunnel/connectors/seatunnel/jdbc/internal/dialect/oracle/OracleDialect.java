@@ -19,18 +19,23 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableChangeColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -165,6 +170,118 @@ public class OracleDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    /**
+     * Creates a global temporary table, whose rows are private to the session and kept across
+     * commits. The definition is shared by all writers of the sink table and is kept. The DDL runs
+     * in an autonomous transaction, so its implicit commit does not commit the open transaction of
+     * the sink.
+     */
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String createSQL =
+                String.format(
+                        "CREATE GLOBAL TEMPORARY TABLE %s ON COMMIT PRESERVE ROWS"
+                                + " AS SELECT %s FROM %s WHERE 1 = 0",
+                        stagingTableIdentifier(stagingTableName),
+                        columns,
+                        tableIdentifier(database, tableName));
+        // ORA-00955: name is already used by an existing object
+        return Optional.of(
+                String.format(
+                        "DECLARE PRAGMA AUTONOMOUS_TRANSACTION;"
+                                + " BEGIN EXECUTE IMMEDIATE '%s';"
+                                + " EXCEPTION WHEN OTHERS THEN IF SQLCODE != -955 THEN RAISE; END IF;"
+                                + " END;",
+                        createSQL));
+    }
+
+    @Override
+    public Optional<String> getMergeFromStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String onConditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "TARGET.%s=SOURCE.%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        String updateSetClause =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "TARGET.%s=SOURCE.%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(", "));
+        String insertFields =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String insertValues =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "SOURCE." + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        String mergeSQL =
+                String.format(
+                        "MERGE INTO %s TARGET USING %s SOURCE ON (%s)%s"
+                                + " WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)",
+                        tableIdentifier(database, tableName),
+                        stagingTableIdentifier,
+                        onConditions,
+                        updateSetClause.isEmpty()
+                                ? ""
+                                : " WHEN MATCHED THEN UPDATE SET " + updateSetClause,
+                        insertFields,
+                        insertValues);
+        return Optional.of(mergeSQL);
+    }
+
+    /**
+     * Loads the batch with a direct-path array insert, which appends the rows above the high water
+     * mark of the table and bypasses the buffer cache. A direct-path insert locks the table until
+     * the transaction ends and the table can not be modified again in the same transaction, so the
+     * hint is only used when every batch is committed on its own.
+     */
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> getBulkLoadStatementExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        String insertSql = getInsertIntoStatement(database, tableName, fieldNames);
+        String directPathSql =
+                "INSERT /*+ APPEND_VALUES */" + insertSql.substring("INSERT".length());
+        return new SimpleBatchStatementExecutor(
+                connection -> {
+                    if (connection.getAutoCommit()) {
+                        return FieldNamedPreparedStatement.prepareStatement(
+                                connection, directPathSql, fieldNames);
+                    }
+                    log.warn(
+                            "Direct-path insert requires auto commit, fall back to conventional insert for table {}",
+                            tableName);
+                    return FieldNamedPreparedStatement.prepareStatement(
+                            connection, insertSql, fieldNames);
+                },
+                tableSchema,
+                databaseTableSchema,
+                getRowConverter());
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
@@ -19,17 +19,21 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.psql;
 
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.converter.BasicTypeDefine;
 import org.apache.seatunnel.api.table.converter.TypeConverter;
 import org.apache.seatunnel.api.table.schema.event.AlterTableAddColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableChangeColumnEvent;
 import org.apache.seatunnel.api.table.schema.event.AlterTableModifyColumnEvent;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBinaryBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -176,6 +180,83 @@ public class PostgresDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "CREATE TEMPORARY TABLE IF NOT EXISTS %s AS SELECT %s FROM %s WHERE 1 = 0",
+                        stagingTableIdentifier(stagingTableName),
+                        columns,
+                        tableIdentifier(database, tableName)));
+    }
+
+    @Override
+    public Optional<String> getMergeFromStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String uniqueColumns =
+                Arrays.stream(uniqueKeyFields)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String updateClause =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .map(
+                                fieldName ->
+                                        quoteIdentifier(fieldName)
+                                                + "=EXCLUDED."
+                                                + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        return Optional.of(
+                String.format(
+                        "INSERT INTO %s (%s) SELECT %s FROM %s ON CONFLICT (%s) %s",
+                        tableIdentifier(database, tableName),
+                        columns,
+                        columns,
+                        stagingTableIdentifier,
+                        uniqueColumns,
+                        updateClause.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + updateClause));
+    }
+
+    /**
+     * Streams the batch with binary {@code COPY} when every column can be encoded for its
+     * destination type, otherwise falls back to the text {@code COPY}.
+     */
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> getBulkLoadStatementExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        if (!CopyManagerBinaryBatchStatementExecutor.isSupported(
+                tableSchema, databaseTableSchema)) {
+            log.info(
+                    "Columns of table {} can not be written with binary COPY, use text COPY instead",
+                    tableName);
+            return JdbcDialect.super.getBulkLoadStatementExecutor(
+                    database, tableName, tableSchema, databaseTableSchema);
+        }
+        String columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(",", "(", ")"));
+        String copyInSql = String.format("COPY %s %s FROM STDIN WITH BINARY", tableName, columns);
+        return new CopyManagerBinaryBatchStatementExecutor(
+                copyInSql, tableSchema, databaseTableSchema);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
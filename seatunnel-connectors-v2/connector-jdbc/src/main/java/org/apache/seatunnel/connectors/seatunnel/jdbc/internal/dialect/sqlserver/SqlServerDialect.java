@@ -18,12 +18,16 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlserver;
 
 import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.DatabaseIdentifier;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialectTypeMapper;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.SQLUtils;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SqlServerBulkCopyBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.source.JdbcSourceTable;
 
 import org.apache.commons.lang3.StringUtils;
@@ -130,6 +134,116 @@ public class SqlServerDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    /**
+     * Creates a local temporary table, which is dropped with the session. The union keeps the
+     * identity property of the sink table columns out of the copied definition.
+     */
+    @Override
+    public Optional<String> getCreateStagingTableStatement(
+            String database, String tableName, String stagingTableName, String[] fieldNames) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String stagingTable = stagingTableIdentifier(stagingTableName);
+        String sinkTable = tableIdentifier(database, tableName);
+        return Optional.of(
+                String.format(
+                        "IF OBJECT_ID('tempdb..%s') IS NULL"
+                                + " SELECT %s INTO %s FROM %s WHERE 1 = 0"
+                                + " UNION ALL SELECT %s FROM %s WHERE 1 = 0",
+                        stagingTable, columns, stagingTable, sinkTable, columns, sinkTable));
+    }
+
+    @Override
+    public String stagingTableIdentifier(String stagingTableName) {
+        return "#" + stagingTableName;
+    }
+
+    @Override
+    public Optional<String> getMergeFromStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] fieldNames,
+            String[] uniqueKeyFields) {
+        String onConditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        String updateSetClause =
+                Arrays.stream(fieldNames)
+                        .filter(fieldName -> !Arrays.asList(uniqueKeyFields).contains(fieldName))
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(", "));
+        String insertFields =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String insertValues =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "[SOURCE]." + quoteIdentifier(fieldName))
+                        .collect(Collectors.joining(", "));
+        String mergeSQL =
+                String.format(
+                        "MERGE INTO %s AS [TARGET] USING %s AS [SOURCE] ON (%s)%s"
+                                + " WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s);",
+                        tableIdentifier(database, tableName),
+                        stagingTableIdentifier,
+                        onConditions,
+                        updateSetClause.isEmpty()
+                                ? ""
+                                : " WHEN MATCHED THEN UPDATE SET " + updateSetClause,
+                        insertFields,
+                        insertValues);
+        return Optional.of(mergeSQL);
+    }
+
+    /** SQL Server has no row value comparison, so the staged keys are joined instead. */
+    @Override
+    public String getDeleteByStagingStatement(
+            String database,
+            String tableName,
+            String stagingTableIdentifier,
+            String[] uniqueKeyFields) {
+        String onConditions =
+                Arrays.stream(uniqueKeyFields)
+                        .map(
+                                fieldName ->
+                                        String.format(
+                                                "[TARGET].%s=[SOURCE].%s",
+                                                quoteIdentifier(fieldName),
+                                                quoteIdentifier(fieldName)))
+                        .collect(Collectors.joining(" AND "));
+        return String.format(
+                "DELETE [TARGET] FROM %s AS [TARGET] INNER JOIN %s AS [SOURCE] ON (%s)",
+                tableIdentifier(database, tableName), stagingTableIdentifier, onConditions);
+    }
+
+    @Override
+    public JdbcBatchStatementExecutor<SeaTunnelRow> getBulkLoadStatementExecutor(
+            String database,
+            String tableName,
+            TableSchema tableSchema,
+            TableSchema databaseTableSchema) {
+        String[] columns =
+                Arrays.stream(tableSchema.getFieldNames())
+                        .map(fieldName -> getFieldIde(fieldName, fieldIde))
+                        .toArray(String[]::new);
+        return new SqlServerBulkCopyBatchStatementExecutor(
+                tableIdentifier(database, tableName), columns, tableSchema);
+    }
+
     @Override
     public String quoteIdentifier(String identifier) {
         if (identifier.contains(".")) {
@@ -0,0 +1,457 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+/**
+ * Streams the rows of a batch to {@code COPY ... FROM STDIN WITH BINARY}. Every value is encoded
+ * from its typed {@link SeaTunnelRow} field straight into the PGCOPY binary format and written to
+ * the open copy operation in fixed size chunks, so a batch is never rendered to text in memory.
+ *
+ * <p>The binary format requires each value to match the type of its destination column exactly, so
+ * the wire type of every column is resolved from the database table schema. Use {@link
+ * #isSupported} to check that all columns can be encoded before creating the executor.
+ */
+public class CopyManagerBinaryBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long POSTGRES_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final long POSTGRES_EPOCH_SECOND = POSTGRES_EPOCH_DAY * 86400;
+    private static final short NUMERIC_POSITIVE = 0x0000;
+    private static final short NUMERIC_NEGATIVE = 0x4000;
+
+    /** The binary wire types a column can be written as. */
+    enum WireType {
+        BOOL,
+        INT2,
+        INT4,
+        INT8,
+        FLOAT4,
+        FLOAT8,
+        NUMERIC,
+        TEXT,
+        JSONB,
+        BYTEA,
+        DATE,
+        TIME,
+        TIMESTAMP,
+        TIMESTAMPTZ
+    }
+
+    private final String copySql;
+    private final SeaTunnelRowType rowType;
+    private final WireType[] wireTypes;
+    private transient CopyManagerProxy copyManagerProxy;
+    private transient Object copyIn;
+    private transient DataOutputStream out;
+    private short[] numericDigits = new short[16];
+
+    public CopyManagerBinaryBatchStatementExecutor(
+            String copySql, TableSchema tableSchema, TableSchema databaseTableSchema) {
+        this.copySql = copySql;
+        this.rowType = tableSchema.toPhysicalRowDataType();
+        this.wireTypes = resolveWireTypes(rowType, databaseTableSchema);
+        if (wireTypes == null) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                    "Binary COPY is not supported for the columns of " + copySql);
+        }
+    }
+
+    public static boolean isSupported(
+            TableSchema tableSchema, @Nullable TableSchema databaseTableSchema) {
+        return resolveWireTypes(tableSchema.toPhysicalRowDataType(), databaseTableSchema) != null;
+    }
+
+    private static WireType[] resolveWireTypes(
+            SeaTunnelRowType rowType, @Nullable TableSchema databaseTableSchema) {
+        if (databaseTableSchema == null) {
+            return null;
+        }
+        WireType[] wireTypes = new WireType[rowType.getTotalFields()];
+        for (int i = 0; i < wireTypes.length; i++) {
+            String fieldName = rowType.getFieldName(i);
+            if (!databaseTableSchema.contains(fieldName)) {
+                return null;
+            }
+            String sourceType = databaseTableSchema.getColumn(fieldName).getSourceType();
+            wireTypes[i] = resolveWireType(rowType.getFieldType(i), sourceType);
+            if (wireTypes[i] == null) {
+                return null;
+            }
+        }
+        return wireTypes;
+    }
+
+    static WireType resolveWireType(SeaTunnelDataType<?> dataType, String sourceType) {
+        if (sourceType == null) {
+            return null;
+        }
+        String columnType = sourceType.trim().toLowerCase(Locale.ROOT);
+        boolean withModifier = columnType.contains("(");
+        if (withModifier) {
+            columnType = columnType.substring(0, columnType.indexOf('(')).trim();
+        }
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return "bool".equals(columnType) ? WireType.BOOL : null;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                switch (columnType) {
+                    case "int2":
+                        return WireType.INT2;
+                    case "int4":
+                        return WireType.INT4;
+                    case "int8":
+                        return WireType.INT8;
+                    case "numeric":
+                        return WireType.NUMERIC;
+                    default:
+                        return null;
+                }
+            case FLOAT:
+                return "float4".equals(columnType)
+                        ? WireType.FLOAT4
+                        : "float8".equals(columnType) ? WireType.FLOAT8 : null;
+            case DOUBLE:
+                return "float8".equals(columnType) ? WireType.FLOAT8 : null;
+            case DECIMAL:
+                return "numeric".equals(columnType) ? WireType.NUMERIC : null;
+            case STRING:
+                switch (columnType) {
+                    case "text":
+                    case "varchar":
+                    case "bpchar":
+                    case "json":
+                        return WireType.TEXT;
+                    case "char":
+                        // only char(n) is bpchar, a bare "char" is the single byte internal type
+                        return withModifier ? WireType.TEXT : null;
+                    case "jsonb":
+                        return WireType.JSONB;
+                    default:
+                        return null;
+                }
+            case BYTES:
+                return "bytea".equals(columnType) ? WireType.BYTEA : null;
+            case DATE:
+                return "date".equals(columnType) ? WireType.DATE : null;
+            case TIME:
+                return "time".equals(columnType) ? WireType.TIME : null;
+            case TIMESTAMP:
+                // a local date time written to timestamptz depends on the session time zone,
+                // which only the text format applies
+                return "timestamp".equals(columnType) ? WireType.TIMESTAMP : null;
+            case TIMESTAMP_TZ:
+                return "timestamptz".equals(columnType) ? WireType.TIMESTAMPTZ : null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        abortCopy();
+        try {
+            this.copyManagerProxy = new CopyManagerProxy(connection);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to open CopyManager Operation in this JDBC writer. Please configure option use_copy_statement = false.",
+                    e);
+        }
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        try {
+            if (out == null) {
+                copyIn = copyManagerProxy.startCopy(copySql);
+                out =
+                        new DataOutputStream(
+                                new BufferedOutputStream(new CopyInOutputStream(), BUFFER_SIZE));
+                writeHeader(out);
+            }
+            writeRow(out, record);
+        } catch (JdbcConnectorException e) {
+            abortCopy();
+            throw e;
+        } catch (Exception e) {
+            abortCopy();
+            throw toSQLException(e);
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.writeShort(-1);
+            out.flush();
+            copyManagerProxy.endCopy(copyIn);
+        } catch (JdbcConnectorException e) {
+            abortCopy();
+            throw e;
+        } catch (Exception e) {
+            abortCopy();
+            throw toSQLException(e);
+        } finally {
+            out = null;
+            copyIn = null;
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        abortCopy();
+        this.copyManagerProxy = null;
+    }
+
+    private void abortCopy() {
+        if (copyIn != null) {
+            try {
+                copyManagerProxy.cancelCopy(copyIn);
+            } catch (Exception ignore) {
+            }
+        }
+        out = null;
+        copyIn = null;
+    }
+
+    private SQLException toSQLException(Exception e) {
+        Throwable cause = e;
+        while ((cause instanceof InvocationTargetException || cause instanceof IOException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+        return new SQLException("Sql command: " + copySql, cause);
+    }
+
+    void writeRow(DataOutputStream out, SeaTunnelRow record) throws IOException {
+        out.writeShort(wireTypes.length);
+        for (int fieldIndex = 0; fieldIndex < wireTypes.length; fieldIndex++) {
+            Object fieldValue = record.getField(fieldIndex);
+            if (fieldValue == null) {
+                out.writeInt(-1);
+                continue;
+            }
+            switch (wireTypes[fieldIndex]) {
+                case BOOL:
+                    out.writeInt(1);
+                    out.writeBoolean((Boolean) fieldValue);
+                    break;
+                case INT2:
+                    out.writeInt(2);
+                    out.writeShort((int) checkRange(fieldValue, Short.MIN_VALUE, Short.MAX_VALUE));
+                    break;
+                case INT4:
+                    out.writeInt(4);
+                    out.writeInt(
+                            (int) checkRange(fieldValue, Integer.MIN_VALUE, Integer.MAX_VALUE));
+                    break;
+                case INT8:
+                    out.writeInt(8);
+                    out.writeLong(((Number) fieldValue).longValue());
+                    break;
+                case FLOAT4:
+                    out.writeInt(4);
+                    out.writeFloat((Float) fieldValue);
+                    break;
+                case FLOAT8:
+                    out.writeInt(8);
+                    // a float is widened through its shortest decimal form, like the text COPY
+                    // writes it, so 0.1f is stored as 0.1 instead of 0.10000000149011612
+                    out.writeDouble(
+                            fieldValue instanceof Float
+                                    ? Double.parseDouble(fieldValue.toString())
+                                    : ((Number) fieldValue).doubleValue());
+                    break;
+                case NUMERIC:
+                    writeNumeric(
+                            out,
+                            fieldValue instanceof BigDecimal
+                                    ? (BigDecimal) fieldValue
+                                    : BigDecimal.valueOf(((Number) fieldValue).longValue()));
+                    break;
+                case TEXT:
+                    byte[] text = ((String) fieldValue).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(text.length);
+                    out.write(text);
+                    break;
+                case JSONB:
+                    byte[] json = ((String) fieldValue).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(json.length + 1);
+                    // jsonb binary format version
+                    out.writeByte(1);
+                    out.write(json);
+                    break;
+                case BYTEA:
+                    byte[] bytes = (byte[]) fieldValue;
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    break;
+                case DATE:
+                    out.writeInt(4);
+                    out.writeInt(
+                            (int) (((LocalDate) fieldValue).toEpochDay() - POSTGRES_EPOCH_DAY));
+                    break;
+                case TIME:
+                    out.writeInt(8);
+                    out.writeLong(toMicros(0, ((LocalTime) fieldValue).toNanoOfDay()));
+                    break;
+                case TIMESTAMP:
+                    LocalDateTime localDateTime = (LocalDateTime) fieldValue;
+                    out.writeInt(8);
+                    out.writeLong(
+                            toMicros(
+                                    localDateTime.toEpochSecond(ZoneOffset.UTC)
+                                            - POSTGRES_EPOCH_SECOND,
+                                    localDateTime.getNano()));
+                    break;
+                case TIMESTAMPTZ:
+                    OffsetDateTime offsetDateTime = (OffsetDateTime) fieldValue;
+                    out.writeInt(8);
+                    out.writeLong(
+                            toMicros(
+                                    offsetDateTime.toEpochSecond() - POSTGRES_EPOCH_SECOND,
+                                    offsetDateTime.getNano()));
+                    break;
+                default:
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                            "Unexpected value: " + rowType.getFieldType(fieldIndex));
+            }
+        }
+    }
+
+    static void writeHeader(DataOutputStream out) throws IOException {
+        out.write(HEADER);
+    }
+
+    private static long toMicros(long seconds, long nanos) {
+        // round like the text input of the server does
+        return seconds * 1_000_000L + (nanos + 500) / 1000;
+    }
+
+    private static long checkRange(Object fieldValue, long min, long max) {
+        long value = ((Number) fieldValue).longValue();
+        if (value < min || value > max) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.DATA_TYPE_CAST_FAILED,
+                    "Value " + value + " is out of range of the destination column");
+        }
+        return value;
+    }
+
+    /**
+     * Writes a numeric as base 10000 digit groups, the weight of the first group and the display
+     * scale, which is the binary representation of the server.
+     */
+    private void writeNumeric(DataOutputStream out, BigDecimal value) throws IOException {
+        int dscale = Math.max(value.scale(), 0);
+        String digits = value.setScale(dscale).unscaledValue().abs().toString();
+        int intDigits = digits.length() - dscale;
+        int intGroups = intDigits > 0 ? (intDigits + 3) / 4 : 0;
+        int totalGroups = intGroups + (dscale + 3) / 4;
+        int leadPadding = intGroups * 4 - intDigits;
+        if (numericDigits.length < totalGroups) {
+            numericDigits = new short[totalGroups];
+        }
+        for (int group = 0; group < totalGroups; group++) {
+            int groupValue = 0;
+            for (int position = group * 4; position < group * 4 + 4; position++) {
+                int index = position - leadPadding;
+                int digit = index >= 0 && index < digits.length() ? digits.charAt(index) - '0' : 0;
+                groupValue = groupValue * 10 + digit;
+            }
+            numericDigits[group] = (short) groupValue;
+        }
+        int first = 0;
+        int last = totalGroups;
+        while (first < last && numericDigits[first] == 0) {
+            first++;
+        }
+        while (last > first && numericDigits[last - 1] == 0) {
+            last--;
+        }
+        int ndigits = last - first;
+        int weight = ndigits == 0 ? 0 : intGroups - 1 - first;
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        out.writeShort(dscale);
+        for (int group = first; group < last; group++) {
+            out.writeShort(numericDigits[group]);
+        }
+    }
+
+    /** Forwards the encoded bytes to the open copy operation. */
+    private class CopyInOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                copyManagerProxy.writeToCopy(copyIn, b, off, len);
+            } catch (InvocationTargetException | IllegalAccessException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
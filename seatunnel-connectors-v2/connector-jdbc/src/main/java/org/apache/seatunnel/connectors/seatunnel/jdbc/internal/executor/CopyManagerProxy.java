@@ -36,6 +36,11 @@ class CopyManagerProxy {
     Class<?> copyManagerClazz;
     Method getCopyAPIMethod;
     Method copyInMethod;
+    Method copyInStreamMethod;
+    Method writeToCopyMethod;
+    Method endCopyMethod;
+    Method cancelCopyMethod;
+    Method isActiveMethod;
 
     CopyManagerProxy(Connection connection)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException,
@@ -66,6 +71,42 @@ class CopyManagerProxy {
         return (long) this.copyInMethod.invoke(this.copyManager, sql, reader);
     }
 
+    /**
+     * Starts a {@code COPY ... FROM STDIN} operation that is fed with {@link #writeToCopy} and
+     * finished with {@link #endCopy}. The connection can not be used for anything else until the
+     * operation is ended or cancelled.
+     */
+    Object startCopy(String sql)
+            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        if (this.copyInStreamMethod == null) {
+            this.copyInStreamMethod = this.copyManagerClazz.getMethod("copyIn", String.class);
+            // resolve the operation methods on the public interface, the implementation class
+            // of the driver is not accessible
+            Class<?> copyInClazz = this.copyInStreamMethod.getReturnType();
+            this.writeToCopyMethod =
+                    copyInClazz.getMethod("writeToCopy", byte[].class, int.class, int.class);
+            this.endCopyMethod = copyInClazz.getMethod("endCopy");
+            this.cancelCopyMethod = copyInClazz.getMethod("cancelCopy");
+            this.isActiveMethod = copyInClazz.getMethod("isActive");
+        }
+        return this.copyInStreamMethod.invoke(this.copyManager, sql);
+    }
+
+    void writeToCopy(Object copyIn, byte[] buf, int off, int len)
+            throws InvocationTargetException, IllegalAccessException {
+        this.writeToCopyMethod.invoke(copyIn, buf, off, len);
+    }
+
+    long endCopy(Object copyIn) throws InvocationTargetException, IllegalAccessException {
+        return (long) this.endCopyMethod.invoke(copyIn);
+    }
+
+    void cancelCopy(Object copyIn) throws InvocationTargetException, IllegalAccessException {
+        if ((boolean) this.isActiveMethod.invoke(copyIn)) {
+            this.cancelCopyMethod.invoke(copyIn);
+        }
+    }
+
     private static Object getConnectionFromInvocationHandler(InvocationHandler handler)
             throws IllegalAccessException {
         Class<?> handlerClass = handler.getClass();
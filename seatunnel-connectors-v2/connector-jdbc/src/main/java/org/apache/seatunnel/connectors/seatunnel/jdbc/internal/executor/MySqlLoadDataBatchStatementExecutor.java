@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.codec.binary.Hex;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the buffered rows with a single {@code LOAD DATA LOCAL INFILE} statement per batch. The
+ * rows are encoded as tab separated text and streamed to the server from memory, so the server
+ * parses them in bulk instead of executing one insert per row.
+ *
+ * <p>The connection must be opened with {@code allowLoadLocalInfile=true} and the server must
+ * enable {@code local_infile}. A {@code LOCAL} load only reports duplicate keys and conversion
+ * errors as warnings, so the batch fails when the server loaded fewer rows than were sent or raised
+ * any warning, like an insert or {@code COPY} would.
+ *
+ * <p>{@code TIMESTAMP_TZ} values are sent as UTC and converted to the session time zone by the
+ * server, so the instant is kept. MySQL can not store NaN or infinite {@code FLOAT} and {@code
+ * DOUBLE} values, such a row fails the batch before it is sent.
+ *
+ * <p>NOTICE: `MAP`, `ARRAY`, `ROW` types are not supported.
+ */
+public class MySqlLoadDataBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final String NULL_VALUE = "\\N";
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final SeaTunnelRowType rowType;
+    private final String loadDataSql;
+    private final StringBuilder buffer = new StringBuilder();
+    private int bufferedRows;
+    private transient Statement statement;
+
+    public MySqlLoadDataBatchStatementExecutor(
+            String tableIdentifier, String[] quotedColumns, TableSchema tableSchema) {
+        this.rowType = tableSchema.toPhysicalRowDataType();
+        this.loadDataSql = createLoadDataSql(tableIdentifier, quotedColumns, rowType);
+    }
+
+    private static String createLoadDataSql(
+            String tableIdentifier, String[] quotedColumns, SeaTunnelRowType rowType) {
+        List<String> columns = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (int i = 0; i < quotedColumns.length; i++) {
+            SqlType sqlType = rowType.getFieldType(i).getSqlType();
+            if (sqlType == SqlType.BYTES) {
+                // binary values are sent as hex so they cannot clash with the field separators
+                String variable = "@v" + i;
+                columns.add(variable);
+                assignments.add(quotedColumns[i] + " = UNHEX(" + variable + ")");
+            } else if (sqlType == SqlType.TIMESTAMP_TZ) {
+                String variable = "@v" + i;
+                columns.add(variable);
+                assignments.add(
+                        quotedColumns[i]
+                                + " = CONVERT_TZ("
+                                + variable
+                                + ", '+00:00', @@session.time_zone)");
+            } else {
+                columns.add(quotedColumns[i]);
+            }
+        }
+        String sql =
+                String.format(
+                        "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE %s CHARACTER SET utf8mb4"
+                                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                                + " LINES TERMINATED BY '\\n' (%s)",
+                        tableIdentifier, String.join(", ", columns));
+        if (!assignments.isEmpty()) {
+            sql += " SET " + String.join(", ", assignments);
+        }
+        return sql;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        JdbcConnection mysqlConnection;
+        try {
+            mysqlConnection = connection.unwrap(JdbcConnection.class);
+        } catch (SQLException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to open LOAD DATA Operation in this JDBC writer. Please configure option use_copy_statement = false.",
+                    e);
+        }
+        if (!mysqlConnection
+                .getPropertySet()
+                .getBooleanProperty(PropertyKey.allowLoadLocalInfile)
+                .getValue()) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "LOAD DATA LOCAL INFILE is disabled on this connection. Please add allowLoadLocalInfile=true to the url or configure option use_copy_statement = false.");
+        }
+        this.statement = connection.createStatement();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        int rowStart = buffer.length();
+        try {
+            for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
+                if (fieldIndex > 0) {
+                    buffer.append('\t');
+                }
+                appendField(rowType.getFieldType(fieldIndex), record.getField(fieldIndex));
+            }
+        } catch (RuntimeException e) {
+            // drop the partly encoded row, the buffered rows before it stay intact
+            buffer.setLength(rowStart);
+            throw e;
+        }
+        buffer.append('\n');
+        bufferedRows++;
+    }
+
+    private void appendField(SeaTunnelDataType<?> seaTunnelDataType, Object fieldValue) {
+        if (fieldValue == null) {
+            buffer.append(NULL_VALUE);
+            return;
+        }
+        switch (seaTunnelDataType.getSqlType()) {
+            case STRING:
+                appendEscaped((String) fieldValue);
+                break;
+            case BOOLEAN:
+                buffer.append((Boolean) fieldValue ? '1' : '0');
+                break;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                buffer.append(fieldValue);
+                break;
+            case FLOAT:
+            case DOUBLE:
+                double doubleValue = ((Number) fieldValue).doubleValue();
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                            "MySQL can not store the value " + fieldValue);
+                }
+                buffer.append(fieldValue);
+                break;
+            case DECIMAL:
+                buffer.append(((BigDecimal) fieldValue).toPlainString());
+                break;
+            case DATE:
+                buffer.append((LocalDate) fieldValue);
+                break;
+            case TIME:
+                buffer.append(TIME_FORMATTER.format((LocalTime) fieldValue));
+                break;
+            case TIMESTAMP:
+                buffer.append(TIMESTAMP_FORMATTER.format((LocalDateTime) fieldValue));
+                break;
+            case TIMESTAMP_TZ:
+                buffer.append(
+                        TIMESTAMP_FORMATTER.format(
+                                ((OffsetDateTime) fieldValue)
+                                        .withOffsetSameInstant(ZoneOffset.UTC)));
+                break;
+            case BYTES:
+                buffer.append(Hex.encodeHex((byte[]) fieldValue));
+                break;
+            case NULL:
+                buffer.append(NULL_VALUE);
+                break;
+            case MAP:
+            case ARRAY:
+            case ROW:
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + seaTunnelDataType);
+        }
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\0':
+                    buffer.append("\\0");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        JdbcStatement mysqlStatement = statement.unwrap(JdbcStatement.class);
+        try {
+            mysqlStatement.setLocalInfileInputStream(new Utf8InputStream(buffer));
+            statement.clearWarnings();
+            statement.execute(loadDataSql);
+            checkLoadedRows(statement.getUpdateCount(), bufferedRows, statement.getWarnings());
+        } finally {
+            // the caller replays the whole batch on retry, so the buffer is never kept
+            mysqlStatement.setLocalInfileInputStream(null);
+            buffer.setLength(0);
+            bufferedRows = 0;
+        }
+    }
+
+    static void checkLoadedRows(int loadedRows, int expectedRows, SQLWarning warning) {
+        if (loadedRows == expectedRows && warning == null) {
+            return;
+        }
+        String message =
+                String.format(
+                        "LOAD DATA loaded %s of %s rows%s",
+                        loadedRows,
+                        expectedRows,
+                        warning == null ? "" : ", first warning: " + warning.getMessage());
+        throw new JdbcConnectorException(
+                JdbcConnectorErrorCode.TRANSACTION_OPERATION_FAILED, message);
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        buffer.setLength(0);
+        bufferedRows = 0;
+        if (statement != null) {
+            statement.close();
+        }
+    }
+
+    String getLoadDataSql() {
+        return loadDataSql;
+    }
+
+    String getBufferedData() {
+        return buffer.toString();
+    }
+
+    /** Encodes the buffered text as UTF-8 while the driver reads it, without copying it first. */
+    static class Utf8InputStream extends InputStream {
+
+        private final CharBuffer chars;
+        private final CharsetEncoder encoder =
+                StandardCharsets.UTF_8
+                        .newEncoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(8192);
+        private boolean flushed;
+
+        Utf8InputStream(CharSequence text) {
+            this.chars = CharBuffer.wrap(text);
+            bytes.flip();
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!bytes.hasRemaining() && !fill()) {
+                return -1;
+            }
+            int count = Math.min(len, bytes.remaining());
+            bytes.get(b, off, count);
+            return count;
+        }
+
+        private boolean fill() {
+            if (flushed) {
+                return false;
+            }
+            bytes.clear();
+            if (encoder.encode(chars, bytes, true).isUnderflow()) {
+                // every char is consumed, only the encoder state is left to write
+                encoder.flush(bytes);
+                flushed = true;
+            }
+            bytes.flip();
+            return bytes.hasRemaining();
+        }
+    }
+}
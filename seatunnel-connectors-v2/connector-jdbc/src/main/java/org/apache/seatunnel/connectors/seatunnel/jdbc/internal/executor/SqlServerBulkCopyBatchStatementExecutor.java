@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the buffered rows through {@link SQLServerBulkCopy}, which streams them to the server with
+ * the TDS bulk load protocol instead of executing one insert per row.
+ *
+ * <p>The bulk copy runs in the transaction of the writer connection, keeps null values and checks
+ * constraints and triggers, so the result is the same as inserting the rows.
+ *
+ * <p>NOTICE: `MAP`, `ARRAY`, `ROW` types are not supported.
+ */
+public class SqlServerBulkCopyBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+
+    private static final DateTimeFormatter TIME_FORMATTER =
+            new DateTimeFormatterBuilder()
+                    .appendPattern("HH:mm:ss")
+                    .appendFraction(ChronoField.NANO_OF_SECOND, 0, 7, true)
+                    .toFormatter();
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            new DateTimeFormatterBuilder()
+                    .appendPattern("yyyy-MM-dd HH:mm:ss")
+                    .appendFraction(ChronoField.NANO_OF_SECOND, 0, 7, true)
+                    .toFormatter();
+
+    private final String tableIdentifier;
+    private final String[] columnNames;
+    private final SeaTunnelRowType rowType;
+    private final List<Object[]> buffer = new ArrayList<>();
+    private transient SQLServerBulkCopy bulkCopy;
+
+    public SqlServerBulkCopyBatchStatementExecutor(
+            String tableIdentifier, String[] columnNames, TableSchema tableSchema) {
+        this.tableIdentifier = tableIdentifier;
+        this.columnNames = columnNames;
+        this.rowType = tableSchema.toPhysicalRowDataType();
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        try {
+            this.bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class));
+        } catch (SQLException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to open BulkCopy Operation in this JDBC writer. Please configure option use_copy_statement = false.",
+                    e);
+        }
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setKeepNulls(true);
+        options.setCheckConstraints(true);
+        options.setFireTriggers(true);
+        bulkCopy.setBulkCopyOptions(options);
+        bulkCopy.setDestinationTableName(tableIdentifier);
+        for (int i = 0; i < columnNames.length; i++) {
+            bulkCopy.addColumnMapping(i + 1, columnNames[i]);
+        }
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        Object[] values = new Object[rowType.getTotalFields()];
+        for (int fieldIndex = 0; fieldIndex < values.length; fieldIndex++) {
+            values[fieldIndex] =
+                    toExternal(rowType.getFieldType(fieldIndex), record.getField(fieldIndex));
+        }
+        buffer.add(values);
+    }
+
+    private static Object toExternal(SeaTunnelDataType<?> seaTunnelDataType, Object fieldValue) {
+        if (fieldValue == null) {
+            return null;
+        }
+        switch (seaTunnelDataType.getSqlType()) {
+            case TINYINT:
+                return ((Byte) fieldValue).shortValue();
+            case DATE:
+                return ((LocalDate) fieldValue).toString();
+            case TIME:
+                // temporal values are sent as strings and converted by the server
+                return TIME_FORMATTER.format((LocalTime) fieldValue);
+            case TIMESTAMP:
+                return TIMESTAMP_FORMATTER.format((LocalDateTime) fieldValue);
+            case NULL:
+                return null;
+            default:
+                return fieldValue;
+        }
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            bulkCopy.writeToServer(new BufferedBulkData());
+        } finally {
+            // the caller replays the whole batch on retry, so the buffer is never kept
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        buffer.clear();
+        if (bulkCopy != null) {
+            bulkCopy.close();
+            bulkCopy = null;
+        }
+    }
+
+    private static int toJdbcType(SeaTunnelDataType<?> seaTunnelDataType) {
+        switch (seaTunnelDataType.getSqlType()) {
+            case STRING:
+                return Types.NVARCHAR;
+            case BOOLEAN:
+                return Types.BIT;
+            case TINYINT:
+            case SMALLINT:
+                return Types.SMALLINT;
+            case INT:
+                return Types.INTEGER;
+            case BIGINT:
+                return Types.BIGINT;
+            case FLOAT:
+                return Types.REAL;
+            case DOUBLE:
+                return Types.DOUBLE;
+            case DECIMAL:
+                return Types.DECIMAL;
+            case BYTES:
+                return Types.VARBINARY;
+            case DATE:
+                return Types.DATE;
+            case TIME:
+                return Types.TIME;
+            case TIMESTAMP:
+                return Types.TIMESTAMP;
+            case NULL:
+                return Types.NULL;
+            case MAP:
+            case ARRAY:
+            case ROW:
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + seaTunnelDataType);
+        }
+    }
+
+    /** Exposes the buffered rows to the bulk copy, column ordinals start at 1. */
+    private class BufferedBulkData implements ISQLServerBulkData {
+
+        private int current = -1;
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int i = 1; i <= columnNames.length; i++) {
+                ordinals.add(i);
+            }
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column - 1];
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return toJdbcType(rowType.getFieldType(column - 1));
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            SeaTunnelDataType<?> type = rowType.getFieldType(column - 1);
+            return type instanceof DecimalType ? ((DecimalType) type).getPrecision() : 0;
+        }
+
+        @Override
+        public int getScale(int column) {
+            SeaTunnelDataType<?> type = rowType.getFieldType(column - 1);
+            switch (type.getSqlType()) {
+                case DECIMAL:
+                    return ((DecimalType) type).getScale();
+                case TIME:
+                case TIMESTAMP:
+                    return 7;
+                default:
+                    return 0;
+            }
+        }
+
+        @Override
+        public Object[] getRowData() {
+            return buffer.get(current);
+        }
+
+        @Override
+        public boolean next() {
+            return ++current < buffer.size();
+        }
+    }
+}
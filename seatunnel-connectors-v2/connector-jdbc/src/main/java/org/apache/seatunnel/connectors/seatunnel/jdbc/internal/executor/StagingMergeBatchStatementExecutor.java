@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Applies a flush with one set-based statement per change kind instead of one statement per row.
+ *
+ * <p>The rows are reduced by key like in {@link BufferReducedBatchStatementExecutor}, then the
+ * deleted keys and the upserted rows are batch inserted into two session scoped staging tables,
+ * which are applied to the sink table with a single delete and a single merge statement. Because
+ * the buffer holds at most one change per key the two statements never touch the same row, so their
+ * order does not matter.
+ *
+ * <p>The staging tables are created once per connection and only cleared when the statements are
+ * prepared again on it. The buffered rows are kept until {@link #executeBatch()} succeeds and are
+ * never applied by {@link #closeStatements()}, the caller flushes before closing.
+ */
+@RequiredArgsConstructor
+public class StagingMergeBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    @NonNull private final StagingTable upsertStaging;
+    @NonNull private final StagingTable deleteStaging;
+    @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> keyExtractor;
+    @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> valueTransform;
+
+    @NonNull private final LinkedHashMap<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> buffer =
+            new LinkedHashMap<>();
+
+    private transient Statement statement;
+    private transient Connection stagingConnection;
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        statement = connection.createStatement();
+        if (connection != stagingConnection) {
+            // temporary tables must be created with a direct statement, SQL Server drops a table
+            // created by a prepared statement when the statement completes
+            statement.execute(deleteStaging.getCreateSQL());
+            statement.execute(upsertStaging.getCreateSQL());
+            stagingConnection = connection;
+        } else {
+            // rows left behind by a failed attempt on the same session must not be applied
+            statement.executeUpdate(deleteStaging.getClearSQL());
+            statement.executeUpdate(upsertStaging.getClearSQL());
+        }
+        deleteStaging.getLoadExecutor().prepareStatements(connection);
+        upsertStaging.getLoadExecutor().prepareStatements(connection);
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        if (RowKind.UPDATE_BEFORE.equals(record.getRowKind())) {
+            // do nothing
+            return;
+        }
+
+        SeaTunnelRow key = keyExtractor.apply(record);
+        boolean changeFlag = changeFlag(record.getRowKind());
+        SeaTunnelRow value = valueTransform.apply(record);
+        buffer.put(key, Pair.of(changeFlag, value));
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        int deletes = 0;
+        int upserts = 0;
+        for (Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> entry : buffer.entrySet()) {
+            if (entry.getValue().getKey()) {
+                upsertStaging.getLoadExecutor().addToBatch(entry.getValue().getValue());
+                upserts++;
+            } else {
+                deleteStaging.getLoadExecutor().addToBatch(entry.getKey());
+                deletes++;
+            }
+        }
+        if (deletes > 0) {
+            apply(deleteStaging);
+        }
+        if (upserts > 0) {
+            apply(upsertStaging);
+        }
+        buffer.clear();
+    }
+
+    private void apply(StagingTable stagingTable) throws SQLException {
+        // rows left behind by a failed attempt must not be applied again
+        statement.executeUpdate(stagingTable.getClearSQL());
+        stagingTable.getLoadExecutor().executeBatch();
+        statement.executeUpdate(stagingTable.getApplySQL());
+        statement.executeUpdate(stagingTable.getClearSQL());
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        try {
+            upsertStaging.getLoadExecutor().closeStatements();
+            deleteStaging.getLoadExecutor().closeStatements();
+        } finally {
+            if (statement != null) {
+                statement.close();
+            }
+        }
+    }
+
+    private boolean changeFlag(RowKind rowKind) {
+        switch (rowKind) {
+            case INSERT:
+            case UPDATE_AFTER:
+                return true;
+            case DELETE:
+            case UPDATE_BEFORE:
+                return false;
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                        "Unsupported rowKind: " + rowKind);
+        }
+    }
+
+    /**
+     * A staging table with the statements to create, clear and apply it, and the executor loading
+     * rows into it.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class StagingTable {
+        @NonNull private final String createSQL;
+        @NonNull private final String clearSQL;
+        @NonNull private final String applySQL;
+        @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> loadExecutor;
+    }
+}
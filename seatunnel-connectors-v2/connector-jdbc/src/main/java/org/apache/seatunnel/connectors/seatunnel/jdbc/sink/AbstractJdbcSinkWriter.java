@@ -66,6 +66,9 @@ public abstract class AbstractJdbcSinkWriter<ResourceT>
 
     protected void reOpenOutputFormat(SchemaChangeEvent event) throws IOException {
         this.prepareCommit();
+        // everything is committed, release the old statements and flush thread before rebuilding,
+        // the connection may be shared with other tables or hold the transaction just started
+        this.outputFormat.closeStatements();
         JdbcConnectionProvider refreshTableSchemaConnectionProvider =
                 dialect.getJdbcConnectionProvider(jdbcSinkConfig.getJdbcConnectionConfig());
         try (Connection connection =
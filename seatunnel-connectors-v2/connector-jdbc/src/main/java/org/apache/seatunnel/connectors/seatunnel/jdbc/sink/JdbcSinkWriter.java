@@ -116,6 +116,12 @@ public class JdbcSinkWriter extends AbstractJdbcSinkWriter<ConnectionPoolManager
         return primaryKeyIndex != null ? Optional.of(primaryKeyIndex) : Optional.empty();
     }
 
+    @Override
+    public boolean flushOnPrepareCommit() {
+        // prepareCommit flushes the output format and commits the connection
+        return true;
+    }
+
     private void tryOpen() throws IOException {
         if (!isOpen) {
             isOpen = true;
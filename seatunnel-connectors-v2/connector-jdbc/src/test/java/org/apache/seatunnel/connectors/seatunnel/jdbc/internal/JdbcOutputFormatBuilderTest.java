@@ -17,11 +17,15 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
 
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.oracle.OracleDialect;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -71,4 +75,32 @@ public class JdbcOutputFormatBuilderTest {
         updateAfter.setField(0, "2");
         Assertions.assertNotEquals(keyExtractor.apply(insertRow), keyExtractor.apply(updateAfter));
     }
+
+    @Test
+    public void testStagingTableName() {
+        JdbcDialect dialect = new OracleDialect();
+        TableSchema schema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 0L, true, null, null))
+                        .build();
+        TableSchema otherSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0L, false, null, null))
+                        .build();
+
+        String name = JdbcOutputFormatBuilder.stagingTableName(dialect, "DB", "T_1", schema);
+        Assertions.assertEquals(
+                name, JdbcOutputFormatBuilder.stagingTableName(dialect, "DB", "T_1", schema));
+        // with the suffix of the upsert and delete table it fits a 30 byte identifier
+        Assertions.assertTrue((name + "_u").length() <= 30);
+        Assertions.assertNotEquals(
+                name, JdbcOutputFormatBuilder.stagingTableName(dialect, "DB_T", "1", schema));
+        Assertions.assertNotEquals(
+                name, JdbcOutputFormatBuilder.stagingTableName(dialect, "DB", "T_2", schema));
+        Assertions.assertNotEquals(
+                name, JdbcOutputFormatBuilder.stagingTableName(dialect, "DB", "T_1", otherSchema));
+    }
 }
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.utils.TestConnection;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JdbcOutputFormatTest {
+
+    @Test
+    void testAsyncFlushKeepsBatchOrder() throws Exception {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        JdbcOutputFormat<Integer, JdbcBatchStatementExecutor<Integer>> outputFormat =
+                new JdbcOutputFormat<>(
+                        new TestConnectionProvider(),
+                        JdbcConnectionConfig.builder().batchSize(2).maxInFlightBatches(1).build(),
+                        () ->
+                                new RecordingExecutor(batches) {
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        if (batches.isEmpty()) {
+                                            firstBatchStarted.countDown();
+                                            try {
+                                                releaseFirstBatch.await();
+                                            } catch (InterruptedException e) {
+                                                throw new SQLException(e);
+                                            }
+                                        }
+                                        super.executeBatch();
+                                    }
+                                });
+        outputFormat.open();
+
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        Assertions.assertTrue(firstBatchStarted.await(10, TimeUnit.SECONDS));
+        // the writer keeps buffering while the first batch is in flight
+        outputFormat.writeRecord(3);
+        Assertions.assertTrue(batches.isEmpty());
+
+        releaseFirstBatch.countDown();
+        outputFormat.flush();
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), batches);
+        outputFormat.close();
+    }
+
+    @Test
+    void testAsyncFlushFailureSurfacesOnNextFlush() throws Exception {
+        JdbcOutputFormat<Integer, JdbcBatchStatementExecutor<Integer>> outputFormat =
+                new JdbcOutputFormat<>(
+                        new TestConnectionProvider(),
+                        JdbcConnectionConfig.builder().batchSize(1).maxInFlightBatches(2).build(),
+                        () ->
+                                new RecordingExecutor(new ArrayList<>()) {
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        throw new SQLException("test");
+                                    }
+                                });
+        outputFormat.open();
+
+        outputFormat.writeRecord(1);
+        JdbcConnectorException exception =
+                Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertTrue(exception.getMessage().contains("Writing records to JDBC failed"));
+        Assertions.assertThrows(JdbcConnectorException.class, () -> outputFormat.writeRecord(2));
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+    }
+
+    @Test
+    void testAsyncFlushReconnectsWhileWriting() throws Exception {
+        List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        List<Connection> preparedConnections = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> executorThreads = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch failFirstBatch = new CountDownLatch(1);
+        TestConnectionProvider connectionProvider = new TestConnectionProvider();
+        JdbcOutputFormat<Integer, JdbcBatchStatementExecutor<Integer>> outputFormat =
+                new JdbcOutputFormat<>(
+                        connectionProvider,
+                        JdbcConnectionConfig.builder()
+                                .batchSize(2)
+                                .maxInFlightBatches(1)
+                                .maxRetries(1)
+                                .build(),
+                        () ->
+                                new RecordingExecutor(batches) {
+                                    private boolean failed;
+
+                                    @Override
+                                    public void prepareStatements(Connection connection) {
+                                        preparedConnections.add(connection);
+                                    }
+
+                                    @Override
+                                    public void addToBatch(Integer record) {
+                                        enter();
+                                        super.addToBatch(record);
+                                        concurrentCalls.decrementAndGet();
+                                    }
+
+                                    @Override
+                                    public void executeBatch() throws SQLException {
+                                        enter();
+                                        try {
+                                            if (!failed) {
+                                                failed = true;
+                                                firstBatchStarted.countDown();
+                                                failFirstBatch.await();
+                                                connectionProvider.valid = false;
+                                                throw new SQLException("connection lost");
+                                            }
+                                            super.executeBatch();
+                                        } catch (InterruptedException e) {
+                                            throw new SQLException(e);
+                                        } finally {
+                                            concurrentCalls.decrementAndGet();
+                                        }
+                                    }
+
+                                    private void enter() {
+                                        executorThreads.add(Thread.currentThread());
+                                        maxConcurrentCalls.accumulateAndGet(
+                                                concurrentCalls.incrementAndGet(), Math::max);
+                                    }
+                                });
+        outputFormat.open();
+
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        Assertions.assertTrue(firstBatchStarted.await(10, TimeUnit.SECONDS));
+        // the writer keeps buffering while the flush fails and reconnects
+        outputFormat.writeRecord(3);
+        failFirstBatch.countDown();
+        outputFormat.writeRecord(4);
+        outputFormat.writeRecord(5);
+        outputFormat.flush();
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), batches);
+        Assertions.assertEquals(1, connectionProvider.reconnects);
+        Assertions.assertEquals(2, preparedConnections.size());
+        Assertions.assertNotSame(preparedConnections.get(0), preparedConnections.get(1));
+        Assertions.assertEquals(1, maxConcurrentCalls.get());
+        Assertions.assertFalse(executorThreads.contains(Thread.currentThread()));
+        outputFormat.close();
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+        private final List<List<Integer>> batches;
+        private final List<Integer> buffer = new ArrayList<>();
+
+        RecordingExecutor(List<List<Integer>> batches) {
+            this.batches = batches;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(Integer record) {
+            buffer.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            batches.add(new ArrayList<>(buffer));
+            buffer.clear();
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+
+    private static class TestConnectionProvider implements JdbcConnectionProvider {
+        private volatile Connection connection = new TestConnection();
+        private volatile boolean valid = true;
+        private volatile int reconnects;
+
+        @Override
+        public Connection getConnection() {
+            return connection;
+        }
+
+        @Override
+        public boolean isConnectionValid() {
+            return valid;
+        }
+
+        @Override
+        public Connection getOrEstablishConnection() {
+            return connection;
+        }
+
+        @Override
+        public void closeConnection() {}
+
+        @Override
+        public Connection reestablishConnection() {
+            reconnects++;
+            valid = true;
+            connection = new TestConnection();
+            return connection;
+        }
+    }
+}
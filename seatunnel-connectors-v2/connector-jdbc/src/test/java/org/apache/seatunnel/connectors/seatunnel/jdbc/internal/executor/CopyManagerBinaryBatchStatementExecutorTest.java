@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class CopyManagerBinaryBatchStatementExecutorTest {
+
+    @Test
+    void testResolveWireType() {
+        Assertions.assertEquals(
+                CopyManagerBinaryBatchStatementExecutor.WireType.INT4,
+                CopyManagerBinaryBatchStatementExecutor.resolveWireType(
+                        BasicType.LONG_TYPE, "int4"));
+        Assertions.assertEquals(
+                CopyManagerBinaryBatchStatementExecutor.WireType.NUMERIC,
+                CopyManagerBinaryBatchStatementExecutor.resolveWireType(
+                        new DecimalType(10, 2), "numeric(10, 2)"));
+        Assertions.assertEquals(
+                CopyManagerBinaryBatchStatementExecutor.WireType.TEXT,
+                CopyManagerBinaryBatchStatementExecutor.resolveWireType(
+                        BasicType.STRING_TYPE, "char(10)"));
+        Assertions.assertNull(
+                CopyManagerBinaryBatchStatementExecutor.resolveWireType(
+                        BasicType.STRING_TYPE, "uuid"));
+        Assertions.assertNull(
+                CopyManagerBinaryBatchStatementExecutor.resolveWireType(
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE, "timestamptz(6)"));
+        Assertions.assertFalse(
+                CopyManagerBinaryBatchStatementExecutor.isSupported(
+                        schema("id", BasicType.LONG_TYPE, "int8"), null));
+    }
+
+    @Test
+    void testWriteRow() throws IOException {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(column("id", BasicType.LONG_TYPE, "int8"))
+                        .column(column("price", new DecimalType(10, 3), "numeric(10, 3)"))
+                        .column(column("small", new DecimalType(10, 5), "numeric(10, 5)"))
+                        .column(column("day", LocalTimeType.LOCAL_DATE_TYPE, "date"))
+                        .column(column("ts", LocalTimeType.LOCAL_DATE_TIME_TYPE, "timestamp(6)"))
+                        .column(column("name", BasicType.STRING_TYPE, "varchar(10)"))
+                        .build();
+        CopyManagerBinaryBatchStatementExecutor executor =
+                new CopyManagerBinaryBatchStatementExecutor("COPY t", tableSchema, tableSchema);
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        executor.writeRow(
+                new DataOutputStream(actual),
+                new SeaTunnelRow(
+                        new Object[] {
+                            7L,
+                            new BigDecimal("-12345.678"),
+                            new BigDecimal("0.00001"),
+                            LocalDate.of(2000, 1, 2),
+                            LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_000),
+                            null
+                        }));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(expected);
+        out.writeShort(6);
+        out.writeInt(8);
+        out.writeLong(7);
+        // -12345.678 is 1 2345 6780 with weight 1
+        out.writeInt(14);
+        out.writeShort(3);
+        out.writeShort(1);
+        out.writeShort(0x4000);
+        out.writeShort(3);
+        out.writeShort(1);
+        out.writeShort(2345);
+        out.writeShort(6780);
+        // 0.00001 is 1000 with weight -2
+        out.writeInt(10);
+        out.writeShort(1);
+        out.writeShort(-2);
+        out.writeShort(0);
+        out.writeShort(5);
+        out.writeShort(1000);
+        out.writeInt(4);
+        out.writeInt(1);
+        out.writeInt(8);
+        out.writeLong(-1);
+        out.writeInt(-1);
+        Assertions.assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    void testWriteFloat() throws IOException {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(column("f4", BasicType.FLOAT_TYPE, "float4"))
+                        .column(column("f8", BasicType.FLOAT_TYPE, "float8"))
+                        .build();
+        CopyManagerBinaryBatchStatementExecutor executor =
+                new CopyManagerBinaryBatchStatementExecutor("COPY t", tableSchema, tableSchema);
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        executor.writeRow(
+                new DataOutputStream(actual), new SeaTunnelRow(new Object[] {0.1f, 0.1f}));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(expected);
+        out.writeShort(2);
+        out.writeInt(4);
+        out.writeFloat(0.1f);
+        // widened like the text COPY, not to 0.10000000149011612
+        out.writeInt(8);
+        out.writeDouble(0.1d);
+        Assertions.assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    private static PhysicalColumn column(
+            String name, SeaTunnelDataType<?> dataType, String sourceType) {
+        return PhysicalColumn.of(name, dataType, 0L, true, null, null, sourceType, null);
+    }
+
+    private static TableSchema schema(
+            String name, SeaTunnelDataType<?> dataType, String sourceType) {
+        return TableSchema.builder().column(column(name, dataType, sourceType)).build();
+    }
+}
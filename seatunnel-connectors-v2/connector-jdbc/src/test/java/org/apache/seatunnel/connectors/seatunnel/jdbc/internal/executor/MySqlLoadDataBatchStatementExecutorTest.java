@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+public class MySqlLoadDataBatchStatementExecutorTest {
+
+    private static final TableSchema TABLE_SCHEMA =
+            TableSchema.builder()
+                    .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                    .column(PhysicalColumn.of("name", BasicType.STRING_TYPE, 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "price", new DecimalType(10, 2), 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "active", BasicType.BOOLEAN_TYPE, 0L, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "created",
+                                    LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                    0L,
+                                    true,
+                                    null,
+                                    null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "payload",
+                                    PrimitiveByteArrayType.INSTANCE,
+                                    0L,
+                                    true,
+                                    null,
+                                    null))
+                    .build();
+
+    @Test
+    void testLoadDataSql() {
+        MySqlLoadDataBatchStatementExecutor executor =
+                new MySqlLoadDataBatchStatementExecutor(
+                        "`db`.`t`",
+                        new String[] {
+                            "`id`", "`name`", "`price`", "`active`", "`created`", "`payload`"
+                        },
+                        TABLE_SCHEMA);
+        Assertions.assertEquals(
+                "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE `db`.`t` CHARACTER SET utf8mb4"
+                        + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                        + " LINES TERMINATED BY '\\n'"
+                        + " (`id`, `name`, `price`, `active`, `created`, @v5)"
+                        + " SET `payload` = UNHEX(@v5)",
+                executor.getLoadDataSql());
+    }
+
+    @Test
+    void testEncodeRows() throws SQLException {
+        MySqlLoadDataBatchStatementExecutor executor =
+                new MySqlLoadDataBatchStatementExecutor(
+                        "`db`.`t`",
+                        new String[] {
+                            "`id`", "`name`", "`price`", "`active`", "`created`", "`payload`"
+                        },
+                        TABLE_SCHEMA);
+        executor.addToBatch(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L,
+                            "a\tb\nc\\d",
+                            new BigDecimal("1E+3"),
+                            true,
+                            LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6000),
+                            new byte[] {0x0a, (byte) 0xff}
+                        }));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {2L, null, null, false, null, null}));
+        Assertions.assertEquals(
+                "1\ta\\tb\\nc\\\\d\t1000\t1\t2024-01-02 03:04:05.000006\t0aff\n"
+                        + "2\t\\N\t\\N\t0\t\\N\t\\N\n",
+                executor.getBufferedData());
+    }
+
+    @Test
+    void testEncodeTimestampTzAsUtc() throws SQLException {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "updated",
+                                        LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                                        0L,
+                                        true,
+                                        null,
+                                        null))
+                        .build();
+        MySqlLoadDataBatchStatementExecutor executor =
+                new MySqlLoadDataBatchStatementExecutor(
+                        "`db`.`t`", new String[] {"`id`", "`updated`"}, tableSchema);
+        Assertions.assertTrue(
+                executor.getLoadDataSql()
+                        .endsWith(
+                                " (`id`, @v1) SET `updated` = CONVERT_TZ(@v1, '+00:00', @@session.time_zone)"));
+
+        executor.addToBatch(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1L, OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6000, ZoneOffset.ofHours(8))
+                        }));
+        Assertions.assertEquals("1\t2024-01-01 19:04:05.000006\n", executor.getBufferedData());
+    }
+
+    @Test
+    void testRejectNonFiniteFloatingPoint() throws SQLException {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.LONG_TYPE, 0L, false, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "ratio", BasicType.DOUBLE_TYPE, 0L, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "score", BasicType.FLOAT_TYPE, 0L, true, null, null))
+                        .build();
+        MySqlLoadDataBatchStatementExecutor executor =
+                new MySqlLoadDataBatchStatementExecutor(
+                        "`db`.`t`", new String[] {"`id`", "`ratio`", "`score`"}, tableSchema);
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1L, 0.5d, 1.5f}));
+
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> executor.addToBatch(new SeaTunnelRow(new Object[] {2L, Double.NaN, 1f})));
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () ->
+                        executor.addToBatch(
+                                new SeaTunnelRow(new Object[] {3L, 1d, Float.NEGATIVE_INFINITY})));
+        // the rejected rows leave no partial line behind
+        Assertions.assertEquals("1\t0.5\t1.5\n", executor.getBufferedData());
+    }
+
+    @Test
+    void testStreamBufferAsUtf8() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append(i).append("\t名称-é-\uD83D\uDE00\n");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new MySqlLoadDataBatchStatementExecutor.Utf8InputStream(text)) {
+            byte[] chunk = new byte[1000];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+        }
+        Assertions.assertArrayEquals(
+                text.toString().getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    void testSkippedRowsFailTheBatch() {
+        MySqlLoadDataBatchStatementExecutor.checkLoadedRows(2, 2, null);
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> MySqlLoadDataBatchStatementExecutor.checkLoadedRows(1, 2, null));
+        JdbcConnectorException exception =
+                Assertions.assertThrows(
+                        JdbcConnectorException.class,
+                        () ->
+                                MySqlLoadDataBatchStatementExecutor.checkLoadedRows(
+                                        2,
+                                        2,
+                                        new SQLWarning(
+                                                "Data truncated for column 'price' at row 1")));
+        Assertions.assertTrue(exception.getMessage().contains("Data truncated"));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.catalog.utils.TestConnection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StagingMergeBatchStatementExecutorTest {
+
+    @Test
+    void testApplyReducedBatchThroughStagingTables() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        List<SeaTunnelRow> upsertRows = new ArrayList<>();
+        List<SeaTunnelRow> deleteKeys = new ArrayList<>();
+        JdbcBatchStatementExecutor<SeaTunnelRow> executor =
+                new StagingMergeBatchStatementExecutor(
+                        new StagingMergeBatchStatementExecutor.StagingTable(
+                                "create_u",
+                                "clear_u",
+                                "merge_u",
+                                recordingExecutor(upsertRows, statements, "load_u")),
+                        new StagingMergeBatchStatementExecutor.StagingTable(
+                                "create_d",
+                                "clear_d",
+                                "delete_d",
+                                recordingExecutor(deleteKeys, statements, "load_d")),
+                        row -> new SeaTunnelRow(new Object[] {row.getField(0)}),
+                        row -> row);
+
+        executor.prepareStatements(recordingConnection(statements));
+        Assertions.assertEquals(Arrays.asList("create_d", "create_u"), statements);
+        statements.clear();
+
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        executor.addToBatch(row(RowKind.INSERT, 2, "b"));
+        executor.addToBatch(row(RowKind.UPDATE_BEFORE, 1, "a"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 1, "c"));
+        executor.addToBatch(row(RowKind.DELETE, 2, "b"));
+        executor.addToBatch(row(RowKind.INSERT, 3, "d"));
+        executor.executeBatch();
+
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "clear_d",
+                        "load_d",
+                        "delete_d",
+                        "clear_d",
+                        "clear_u",
+                        "load_u",
+                        "merge_u",
+                        "clear_u"),
+                statements);
+        Assertions.assertEquals(1, deleteKeys.size());
+        Assertions.assertEquals(2, deleteKeys.get(0).getField(0));
+        Assertions.assertEquals(2, upsertRows.size());
+        Assertions.assertEquals("c", upsertRows.get(0).getField(1));
+        Assertions.assertEquals(3, upsertRows.get(1).getField(0));
+
+        // nothing is applied for an empty batch
+        statements.clear();
+        executor.executeBatch();
+        executor.closeStatements();
+        Assertions.assertTrue(statements.isEmpty());
+    }
+
+    @Test
+    void testCreateStagingTablesOncePerConnection() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        JdbcBatchStatementExecutor<SeaTunnelRow> executor =
+                new StagingMergeBatchStatementExecutor(
+                        new StagingMergeBatchStatementExecutor.StagingTable(
+                                "create_u",
+                                "clear_u",
+                                "merge_u",
+                                recordingExecutor(new ArrayList<>(), statements, "load_u")),
+                        new StagingMergeBatchStatementExecutor.StagingTable(
+                                "create_d",
+                                "clear_d",
+                                "delete_d",
+                                recordingExecutor(new ArrayList<>(), statements, "load_d")),
+                        row -> new SeaTunnelRow(new Object[] {row.getField(0)}),
+                        row -> row);
+        Connection connection = recordingConnection(statements);
+        executor.prepareStatements(connection);
+        Assertions.assertEquals(Arrays.asList("create_d", "create_u"), statements);
+
+        // buffered rows are neither applied on close nor lost by preparing again
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        statements.clear();
+        executor.closeStatements();
+        executor.prepareStatements(connection);
+        Assertions.assertEquals(Arrays.asList("clear_d", "clear_u"), statements);
+
+        statements.clear();
+        executor.executeBatch();
+        Assertions.assertEquals(
+                Arrays.asList("clear_u", "load_u", "merge_u", "clear_u"), statements);
+
+        // a reestablished connection is a new session without the staging tables
+        statements.clear();
+        executor.closeStatements();
+        executor.prepareStatements(recordingConnection(statements));
+        Assertions.assertEquals(Arrays.asList("create_d", "create_u"), statements);
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static Connection recordingConnection(List<String> statements) {
+        Statement statement =
+                (Statement)
+                        Proxy.newProxyInstance(
+                                Statement.class.getClassLoader(),
+                                new Class<?>[] {Statement.class},
+                                (proxy, method, args) -> {
+                                    switch (method.getName()) {
+                                        case "execute":
+                                            statements.add((String) args[0]);
+                                            return false;
+                                        case "executeUpdate":
+                                            statements.add((String) args[0]);
+                                            return 0;
+                                        default:
+                                            return null;
+                                    }
+                                });
+        return new TestConnection() {
+            @Override
+            public Statement createStatement() {
+                return statement;
+            }
+        };
+    }
+
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> recordingExecutor(
+            List<SeaTunnelRow> recorder, List<String> statements, String loadStatement) {
+        return new JdbcBatchStatementExecutor<SeaTunnelRow>() {
+            @Override
+            public void prepareStatements(Connection connection) {}
+
+            @Override
+            public void addToBatch(SeaTunnelRow record) {
+                recorder.add(record);
+            }
+
+            @Override
+            public void executeBatch() {
+                statements.add(loadStatement);
+            }
+
+            @Override
+            public void closeStatements() {}
+        };
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.seatunnel.api.source.SupportParallelism;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.constants.JobMode;
+import org.apache.seatunnel.connectors.seatunnel.common.source.reader.FutureCompletingBlockingQueue;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.RecordsWithSplitIds;
 import org.apache.seatunnel.connectors.seatunnel.common.source.reader.SourceReaderOptions;
 import org.apache.seatunnel.connectors.seatunnel.kafka.config.KafkaBaseOptions;
@@ -39,7 +40,6 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 public class KafkaSource
@@ -80,7 +80,7 @@ public class KafkaSource
             SourceReader.Context readerContext) {
 
         BlockingQueue<RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>>> elementsQueue =
-                new LinkedBlockingQueue<>();
+                new FutureCompletingBlockingQueue<>();
 
         Supplier<KafkaPartitionSplitReader> kafkaPartitionSplitReaderSupplier =
                 () -> new KafkaPartitionSplitReader(kafkaSourceConfig, readerContext);
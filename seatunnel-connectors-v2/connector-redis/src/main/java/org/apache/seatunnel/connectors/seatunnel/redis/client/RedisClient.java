@@ -82,6 +82,12 @@ public abstract class RedisClient extends Jedis {
         return new ScanResult<>(resultCursor, typeKeys);
     }
 
+    @Override
+    public void close() {
+        jedis.close();
+        super.close();
+    }
+
     public abstract List<String> batchGetString(List<String> keys);
 
     public abstract List<List<String>> batchGetList(List<String> keys);
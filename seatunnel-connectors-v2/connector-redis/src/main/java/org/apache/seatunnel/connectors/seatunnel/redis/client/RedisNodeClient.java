@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.redis.client;
+
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Connected to one master node of a cluster, all scanned keys are owned by that node so their
+// values can be read with pipelines. The keys may belong to different hash slots, which mget
+// doesn't allow in cluster mode.
+public class RedisNodeClient extends RedisSingleClient {
+
+    public RedisNodeClient(RedisParameters redisParameters, Jedis jedis, int redisVersion) {
+        super(redisParameters, jedis, redisVersion);
+    }
+
+    @Override
+    public List<String> batchGetString(List<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return new ArrayList<>();
+        }
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<String>> responses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            responses.add(pipeline.get(key));
+        }
+        pipeline.sync();
+        List<String> resultList = new ArrayList<>(keys.size());
+        for (Response<String> response : responses) {
+            resultList.add(response.get());
+        }
+        return resultList;
+    }
+}
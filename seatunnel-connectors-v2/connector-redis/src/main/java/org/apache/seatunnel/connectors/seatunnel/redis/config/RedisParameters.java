@@ -17,10 +17,13 @@
 
 package org.apache.seatunnel.connectors.seatunnel.redis.config;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClusterClient;
+import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisNodeClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisSingleClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
 
@@ -35,6 +38,8 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -158,6 +163,83 @@ public class RedisParameters implements Serializable {
                 "Did not get the expected redis_version from the jedis.info() method");
     }
 
+    /**
+     * Builds a client connected to one node of the cluster, so the keys owned by that node can be
+     * scanned and read in pipelines.
+     */
+    public RedisClient buildRedisNodeClient(String node) {
+        Jedis jedis = buildNodeJedis(parseNode(node));
+        try {
+            return new RedisNodeClient(this, jedis, extractRedisVersion(jedis));
+        } catch (RuntimeException e) {
+            jedis.close();
+            throw e;
+        }
+    }
+
+    /** Returns the address of every master node of the cluster which serves hash slots. */
+    public List<String> getClusterMasterNodes() {
+        Assert.requireNonEmpty(redisNodes, "nodes parameter must not be empty");
+        RuntimeException lastException = null;
+        for (String redisNode : redisNodes) {
+            HostAndPort hostAndPort = parseNode(redisNode);
+            try (Jedis jedis = buildNodeJedis(hostAndPort)) {
+                return parseClusterMasterNodes(jedis.clusterNodes(), hostAndPort.getHost());
+            } catch (RuntimeException e) {
+                log.warn("Failed to get the cluster nodes from redis node {}", redisNode, e);
+                lastException = e;
+            }
+        }
+        throw new RedisConnectorException(
+                INVALID_CONFIG,
+                "Failed to get the cluster nodes from any redis node",
+                lastException);
+    }
+
+    /**
+     * Parses the reply of {@code CLUSTER NODES}, whose lines look like {@code <id> <ip:port@cport>
+     * <flags> <master> <ping-sent> <pong-recv> <config-epoch> <link-state> <slot> ...}.
+     */
+    @VisibleForTesting
+    static List<String> parseClusterMasterNodes(String clusterNodes, String defaultHost) {
+        List<String> masterNodes = new ArrayList<>();
+        for (String line : clusterNodes.split("\n")) {
+            String[] fields = line.trim().split(" ");
+            // masters without slots don't own any key
+            if (fields.length < 9) {
+                continue;
+            }
+            List<String> flags = Arrays.asList(fields[2].split(","));
+            if (!flags.contains("master") || flags.contains("fail") || flags.contains("noaddr")) {
+                continue;
+            }
+            String address = fields[1].split("[@,]")[0];
+            int portIndex = address.lastIndexOf(':');
+            String host = address.substring(0, portIndex);
+            masterNodes.add((host.isEmpty() ? defaultHost : host) + address.substring(portIndex));
+        }
+        return masterNodes;
+    }
+
+    private Jedis buildNodeJedis(HostAndPort hostAndPort) {
+        Jedis jedis = new Jedis(hostAndPort);
+        if (StringUtils.isNotBlank(auth)) {
+            jedis.auth(auth);
+        }
+        return jedis;
+    }
+
+    private static HostAndPort parseNode(String redisNode) {
+        String[] splits = redisNode.split(":");
+        if (splits.length != 2) {
+            throw new RedisConnectorException(
+                    INVALID_CONFIG,
+                    "Invalid redis node information,"
+                            + "redis node information must like as the following: [host:port]");
+        }
+        return new HostAndPort(splits[0], Integer.parseInt(splits[1]));
+    }
+
     public Jedis buildJedis() {
         switch (mode) {
             case SINGLE:
@@ -174,16 +256,7 @@ public class RedisParameters implements Serializable {
                 HashSet<HostAndPort> nodes = new HashSet<>();
                 Assert.requireNonEmpty(redisNodes, "nodes parameter must not be empty");
                 for (String redisNode : redisNodes) {
-                    String[] splits = redisNode.split(":");
-                    if (splits.length != 2) {
-                        throw new RedisConnectorException(
-                                INVALID_CONFIG,
-                                "Invalid redis node information,"
-                                        + "redis node information must like as the following: [host:port]");
-                    }
-                    HostAndPort hostAndPort =
-                            new HostAndPort(splits[0], Integer.parseInt(splits[1]));
-                    nodes.add(hostAndPort);
+                    nodes.add(parseNode(redisNode));
                 }
                 ConnectionPoolConfig connectionPoolConfig = new ConnectionPoolConfig();
                 JedisCluster jedisCluster;
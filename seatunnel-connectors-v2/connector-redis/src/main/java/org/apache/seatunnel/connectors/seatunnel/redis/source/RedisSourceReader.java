@@ -19,11 +19,10 @@ package org.apache.seatunnel.connectors.seatunnel.redis.source;
 
 import org.apache.seatunnel.api.serialization.DeserializationSchema;
 import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.source.SourceReader;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCode;
 import org.apache.seatunnel.common.utils.JsonUtils;
-import org.apache.seatunnel.connectors.seatunnel.common.source.AbstractSingleSplitReader;
-import org.apache.seatunnel.connectors.seatunnel.common.source.SingleSplitReaderContext;
 import org.apache.seatunnel.connectors.seatunnel.redis.client.RedisClient;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisDataType;
 import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
@@ -32,24 +31,34 @@ import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorE
 
 import org.apache.commons.collections4.CollectionUtils;
 
+import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
+@Slf4j
+public class RedisSourceReader implements SourceReader<SeaTunnelRow, RedisSourceSplit> {
     private final RedisParameters redisParameters;
-    private final SingleSplitReaderContext context;
+    private final SourceReader.Context context;
     private final DeserializationSchema<SeaTunnelRow> deserializationSchema;
+    private final Deque<RedisSourceSplit> splits = new LinkedList<>();
+    private final long pollNextWaitTime = 1000L;
+    private volatile boolean noMoreSplit;
+
+    /** The client of the split which is scanned, connected to the node of the split. */
     private RedisClient redisClient;
 
     public RedisSourceReader(
             RedisParameters redisParameters,
-            SingleSplitReaderContext context,
+            SourceReader.Context context,
             DeserializationSchema<SeaTunnelRow> deserializationSchema) {
         this.redisParameters = redisParameters;
         this.context = context;
@@ -57,36 +66,87 @@ public class RedisSourceReader extends AbstractSingleSplitReader<SeaTunnelRow> {
     }
 
     @Override
-    public void open() throws Exception {
-        this.redisClient = redisParameters.buildRedisClient();
-    }
+    public void open() throws Exception {}
 
     @Override
     public void close() throws IOException {
-        if (Objects.nonNull(redisClient)) {
-            redisClient.close();
-        }
+        closeClient();
     }
 
+    /**
+     * Emits the values of one SCAN batch of the current split. The batch is emitted and the cursor
+     * of the split is advanced under the checkpoint lock, so a restored split continues after the
+     * last emitted batch.
+     */
     @Override
-    public void internalPollNext(Collector<SeaTunnelRow> output) throws Exception {
-        RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
-        String cursor = ScanParams.SCAN_POINTER_START;
-        String keysPattern = redisParameters.getKeysPattern();
-        int batchSize = redisParameters.getBatchSize();
-        while (true) {
-            // String cursor, int batchSize, String keysPattern, RedisType type
-            ScanResult<String> scanResult =
-                    redisClient.scanKeys(cursor, batchSize, keysPattern, redisDataType);
-            cursor = scanResult.getCursor();
-            List<String> keys = scanResult.getResult();
-            pollNext(keys, redisDataType, output);
-            // when cursor return "0", scan end
-            if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
-                break;
+    public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
+        synchronized (output.getCheckpointLock()) {
+            RedisSourceSplit split = splits.peek();
+            if (split != null) {
+                scanSplit(split, output);
+                return;
             }
+            if (noMoreSplit) {
+                log.info("Closed the bounded Redis source");
+                context.signalNoMoreElement();
+                return;
+            }
+        }
+        // wait for splits without holding the checkpoint lock, so checkpoints are not delayed
+        Thread.sleep(pollNextWaitTime);
+    }
+
+    private void scanSplit(RedisSourceSplit split, Collector<SeaTunnelRow> output)
+            throws Exception {
+        if (redisClient == null) {
+            redisClient =
+                    split.getNode() == null
+                            ? redisParameters.buildRedisClient()
+                            : redisParameters.buildRedisNodeClient(split.getNode());
+        }
+        RedisDataType redisDataType = resolveScanType(redisParameters.getRedisDataType());
+        ScanResult<String> scanResult =
+                redisClient.scanKeys(
+                        split.getCursor(),
+                        redisParameters.getBatchSize(),
+                        redisParameters.getKeysPattern(),
+                        redisDataType);
+        pollNext(scanResult.getResult(), redisDataType, output);
+        split.setCursor(scanResult.getCursor());
+        // when cursor return "0", scan end
+        if (ScanParams.SCAN_POINTER_START.equals(scanResult.getCursor())) {
+            splits.poll();
+            closeClient();
+        }
+    }
+
+    @Override
+    public List<RedisSourceSplit> snapshotState(long checkpointId) {
+        List<RedisSourceSplit> state = new ArrayList<>(splits.size());
+        for (RedisSourceSplit split : splits) {
+            state.add(new RedisSourceSplit(split.splitId(), split.getNode(), split.getCursor()));
+        }
+        return state;
+    }
+
+    @Override
+    public void addSplits(List<RedisSourceSplit> splits) {
+        this.splits.addAll(splits);
+    }
+
+    @Override
+    public void handleNoMoreSplits() {
+        noMoreSplit = true;
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) {}
+
+    private void closeClient() {
+        if (Objects.nonNull(redisClient)) {
+            redisClient.close();
+            redisClient = null;
         }
-        context.signalNoMoreElement();
     }
 
     private void pollNext(List<String> keys, RedisDataType dataType, Collector<SeaTunnelRow> output)
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.redis.source;
+
+import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisBaseOptions;
+import org.apache.seatunnel.connectors.seatunnel.redis.config.RedisParameters;
+import org.apache.seatunnel.connectors.seatunnel.redis.exception.RedisConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.params.ScanParams;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates one split per master node in cluster mode, so every master is scanned by its own reader,
+ * and a single split in single mode.
+ */
+@Slf4j
+public class RedisSourceSplitEnumerator
+        implements SourceSplitEnumerator<RedisSourceSplit, RedisSourceState> {
+
+    private final SourceSplitEnumerator.Context<RedisSourceSplit> context;
+
+    private final RedisParameters redisParameters;
+
+    private final Object stateLock = new Object();
+
+    private final Map<Integer, List<RedisSourceSplit>> pendingSplit;
+
+    private volatile boolean shouldEnumerate;
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> context,
+            RedisParameters redisParameters) {
+        this(context, null, redisParameters);
+    }
+
+    public RedisSourceSplitEnumerator(
+            SourceSplitEnumerator.Context<RedisSourceSplit> context,
+            RedisSourceState sourceState,
+            RedisParameters redisParameters) {
+        this.context = context;
+        this.redisParameters = redisParameters;
+        this.pendingSplit = new HashMap<>();
+        this.shouldEnumerate = sourceState == null;
+        if (sourceState != null) {
+            this.shouldEnumerate = sourceState.isShouldEnumerate();
+            this.pendingSplit.putAll(sourceState.getPendingSplit());
+        }
+    }
+
+    @Override
+    public void open() {}
+
+    @Override
+    public void run() {
+        Set<Integer> readers = context.registeredReaders();
+        if (shouldEnumerate) {
+            List<RedisSourceSplit> newSplits =
+                    createSplits(
+                            redisParameters.getMode(),
+                            RedisBaseOptions.RedisMode.CLUSTER.equals(redisParameters.getMode())
+                                    ? redisParameters.getClusterMasterNodes()
+                                    : Collections.emptyList());
+
+            synchronized (stateLock) {
+                int readerCount = context.currentParallelism();
+                for (int i = 0; i < newSplits.size(); i++) {
+                    addPendingSplit(Collections.singletonList(newSplits.get(i)), i % readerCount);
+                }
+                shouldEnumerate = false;
+            }
+
+            assignSplit(readers);
+        }
+
+        log.debug(
+                "No more splits to assign." + " Sending NoMoreSplitsEvent to reader {}.", readers);
+        readers.forEach(context::signalNoMoreSplits);
+    }
+
+    private static List<RedisSourceSplit> createSplits(
+            RedisBaseOptions.RedisMode mode, List<String> masterNodes) {
+        if (!RedisBaseOptions.RedisMode.CLUSTER.equals(mode)) {
+            return Collections.singletonList(
+                    new RedisSourceSplit("redis", null, ScanParams.SCAN_POINTER_START));
+        }
+        List<RedisSourceSplit> splits = new ArrayList<>(masterNodes.size());
+        for (String node : masterNodes) {
+            splits.add(new RedisSourceSplit(node, node, ScanParams.SCAN_POINTER_START));
+        }
+        return splits;
+    }
+
+    private void addPendingSplit(Collection<RedisSourceSplit> splits, int ownerReader) {
+        for (RedisSourceSplit split : splits) {
+            log.info("Assigning {} to {} reader.", split, ownerReader);
+            pendingSplit.computeIfAbsent(ownerReader, r -> new ArrayList<>()).add(split);
+        }
+    }
+
+    private void assignSplit(Collection<Integer> readers) {
+        log.debug("Assign pendingSplits to readers {}", readers);
+
+        for (int reader : readers) {
+            List<RedisSourceSplit> assignmentForReader = pendingSplit.remove(reader);
+            if (assignmentForReader != null && !assignmentForReader.isEmpty()) {
+                log.info("Assign splits {} to reader {}", assignmentForReader, reader);
+                try {
+                    context.assignSplit(reader, assignmentForReader);
+                } catch (Exception e) {
+                    log.error(
+                            "Failed to assign splits {} to reader {}",
+                            assignmentForReader,
+                            reader,
+                            e);
+                    pendingSplit.put(reader, assignmentForReader);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void addSplitsBack(List<RedisSourceSplit> splits, int subtaskId) {
+        if (!splits.isEmpty()) {
+            addPendingSplit(splits, subtaskId);
+            assignSplit(Collections.singletonList(subtaskId));
+        }
+    }
+
+    @Override
+    public int currentUnassignedSplitSize() {
+        return pendingSplit.size();
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId) {
+        throw new RedisConnectorException(
+                CommonErrorCode.OPERATION_NOT_SUPPORTED,
+                "Unsupported handleSplitRequest: " + subtaskId);
+    }
+
+    @Override
+    public void registerReader(int subtaskId) {
+        log.debug("Register reader {} to RedisSourceSplitEnumerator.", subtaskId);
+        if (!pendingSplit.isEmpty()) {
+            assignSplit(Collections.singletonList(subtaskId));
+        }
+    }
+
+    @Override
+    public RedisSourceState snapshotState(long checkpointId) throws Exception {
+        synchronized (stateLock) {
+            return new RedisSourceState(shouldEnumerate, pendingSplit);
+        }
+    }
+
+    @Override
+    public void notifyCheckpointComplete(long checkpointId) throws Exception {}
+}
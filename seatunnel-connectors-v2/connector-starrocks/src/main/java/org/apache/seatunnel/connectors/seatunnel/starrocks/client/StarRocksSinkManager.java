@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
 
 import org.apache.seatunnel.shade.com.google.common.base.Strings;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
@@ -31,6 +32,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class StarRocksSinkManager {
@@ -39,6 +43,11 @@ public class StarRocksSinkManager {
     private final List<byte[]> batchList;
 
     private final StarRocksStreamLoadVisitor starrocksStreamLoadVisitor;
+    /** Sends the rows with streaming loads, null if the batches are loaded after they are full. */
+    private final StarRocksStreamLoader streamLoader;
+    /** Completes streaming loads open for too long, null if there is no time limit. */
+    private final ScheduledExecutorService loadTimer;
+
     private volatile boolean initialize;
     private volatile Exception flushException;
     private int batchRowCount = 0;
@@ -48,6 +57,39 @@ public class StarRocksSinkManager {
         this.sinkConfig = sinkConfig;
         this.batchList = new ArrayList<>();
         starrocksStreamLoadVisitor = new StarRocksStreamLoadVisitor(sinkConfig, tableSchema);
+        this.streamLoader =
+                sinkConfig.isEnableStreamingLoad()
+                        ? new StarRocksStreamLoader(
+                                sinkConfig, starrocksStreamLoadVisitor, this::createBatchLabel)
+                        : null;
+        if (streamLoader != null && sinkConfig.getMaxLoadOpenTimeMs() > 0) {
+            long checkInterval = Math.min(sinkConfig.getMaxLoadOpenTimeMs(), 1000L);
+            this.loadTimer =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("starrocks-load-timer-%d")
+                                    .setDaemon(true)
+                                    .build());
+            loadTimer.scheduleWithFixedDelay(
+                    this::finishExpiredLoad, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        } else {
+            this.loadTimer = null;
+        }
+    }
+
+    private synchronized void finishExpiredLoad() {
+        if (flushException != null) {
+            return;
+        }
+        try {
+            if (streamLoader.finishExpiredLoad()) {
+                batchRowCount = 0;
+                batchBytesSize = 0;
+            }
+        } catch (Exception e) {
+            log.error("Completing the expired streaming load to StarRocks failed", e);
+            flushException = e;
+        }
     }
 
     private void tryInit() throws IOException {
@@ -61,21 +103,45 @@ public class StarRocksSinkManager {
         tryInit();
         checkFlushException();
         byte[] bts = record.getBytes(StandardCharsets.UTF_8);
-        batchList.add(bts);
+        if (streamLoader != null) {
+            streamLoader.write(bts);
+        } else {
+            batchList.add(bts);
+        }
         batchRowCount++;
         batchBytesSize += bts.length;
         if (batchRowCount >= sinkConfig.getBatchMaxSize()
                 || batchBytesSize >= sinkConfig.getBatchMaxBytes()) {
-            flush();
+            if (streamLoader != null) {
+                // the body is already sent, let the load commit while the next batch is written
+                streamLoader.finishLoad();
+                batchRowCount = 0;
+                batchBytesSize = 0;
+            } else {
+                flush();
+            }
         }
     }
 
     public synchronized void close() throws IOException {
+        if (streamLoader != null) {
+            if (loadTimer != null) {
+                loadTimer.shutdownNow();
+            }
+            streamLoader.close();
+            return;
+        }
         flush();
     }
 
     public synchronized void flush() throws IOException {
         checkFlushException();
+        if (streamLoader != null) {
+            streamLoader.flush();
+            batchRowCount = 0;
+            batchBytesSize = 0;
+            return;
+        }
         if (batchList.isEmpty()) {
             return;
         }
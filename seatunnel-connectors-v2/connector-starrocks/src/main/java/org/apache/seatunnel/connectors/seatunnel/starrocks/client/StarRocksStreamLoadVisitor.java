@@ -27,11 +27,17 @@ import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDe
 import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksSinkOP;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
@@ -67,6 +73,26 @@ public class StarRocksStreamLoadVisitor {
     }
 
     public Boolean doStreamLoad(StarRocksFlushTuple flushData) throws IOException {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(
+                    String.format(
+                            "Start to join batch data: rows[%d] bytes[%d] label[%s].",
+                            flushData.getRows().size(),
+                            flushData.getBytes(),
+                            flushData.getLabel()));
+        }
+        byte[] data = joinRows(flushData.getRows(), flushData.getBytes().intValue());
+        if (SinkConfig.StreamLoadCompression.LZ4_FRAME.equals(sinkConfig.getLoadCompression())) {
+            data = compressLz4Frame(data);
+        }
+        return doStreamLoad(flushData.getLabel(), new ByteArrayEntity(data));
+    }
+
+    /**
+     * Sends a stream load with the given label, the body has to be encoded in the configured format
+     * and compression.
+     */
+    public Boolean doStreamLoad(String label, HttpEntity body) throws IOException {
         String host = getAvailableHost();
         if (null == host) {
             throw new StarRocksConnectorException(
@@ -81,19 +107,8 @@ public class StarRocksStreamLoadVisitor {
                         .append(sinkConfig.getTable())
                         .append("/_stream_load")
                         .toString();
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(
-                    String.format(
-                            "Start to join batch data: rows[%d] bytes[%d] label[%s].",
-                            flushData.getRows().size(),
-                            flushData.getBytes(),
-                            flushData.getLabel()));
-        }
         Map<String, Object> loadResult =
-                httpHelper.doHttpPut(
-                        loadUrl,
-                        joinRows(flushData.getRows(), flushData.getBytes().intValue()),
-                        getStreamLoadHttpHeader(flushData.getLabel()));
+                httpHelper.doHttpPut(loadUrl, body, getStreamLoadHttpHeader(label));
         final String keyStatus = "Status";
         if (null == loadResult || !loadResult.containsKey(keyStatus)) {
             LOG.error("unknown result status. {}", loadResult);
@@ -133,12 +148,14 @@ public class StarRocksStreamLoadVisitor {
         } else if (RESULT_LABEL_EXISTED.equals(loadResult.get(keyStatus))) {
             LOG.debug("StreamLoad response:\n" + JsonUtils.toJsonString(loadResult));
             // has to block-checking the state to get the final result
-            checkLabelState(host, flushData.getLabel());
+            checkLabelState(host, label);
+            // the load of an earlier attempt with the same label has been committed
+            return true;
         }
         return RESULT_SUCCESS.equals(loadResult.get(keyStatus));
     }
 
-    private String getAvailableHost() {
+    private synchronized String getAvailableHost() {
         List<String> hostList = sinkConfig.getNodeUrls();
         long tmp = pos + hostList.size();
         for (; pos < tmp; pos++) {
@@ -185,6 +202,15 @@ public class StarRocksStreamLoadVisitor {
                 "Failed to join rows data, unsupported `format` from stream load properties:");
     }
 
+    private byte[] compressLz4Frame(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (OutputStream out =
+                new LZ4FrameOutputStream(buffer, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB)) {
+            out.write(data);
+        }
+        return buffer.toByteArray();
+    }
+
     @SuppressWarnings("unchecked")
     private void checkLabelState(String host, String label) throws IOException {
         int idx = 0;
@@ -192,7 +218,11 @@ public class StarRocksStreamLoadVisitor {
             try {
                 TimeUnit.SECONDS.sleep(Math.min(++idx, MAX_SLEEP_TIME));
             } catch (InterruptedException ex) {
-                break;
+                Thread.currentThread().interrupt();
+                throw new StarRocksConnectorException(
+                        StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                        String.format("Interrupted while checking the state of label[%s]", label),
+                        ex);
             }
             try {
                 String queryLoadStateUrl =
@@ -286,6 +316,9 @@ public class StarRocksStreamLoadVisitor {
         headerMap.put("label", label);
         headerMap.put("Content-Type", "application/x-www-form-urlencoded");
         headerMap.put("format", sinkConfig.getLoadFormat().name().toUpperCase());
+        if (SinkConfig.StreamLoadCompression.LZ4_FRAME.equals(sinkConfig.getLoadCompression())) {
+            headerMap.put("compression", "lz4_frame");
+        }
         headerMap.put(
                 "Authorization",
                 getBasicAuthHeader(sinkConfig.getUsername(), sinkConfig.getPassword()));
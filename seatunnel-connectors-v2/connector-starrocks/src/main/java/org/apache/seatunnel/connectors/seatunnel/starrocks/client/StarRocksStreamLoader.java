@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.exception.StarRocksConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.serialize.StarRocksDelimiterParser;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Writes the rows of {@link StarRocksSinkManager} with streaming stream loads.
+ *
+ * <p>A load is started with its first row and its body is sent with chunked transfer encoding while
+ * the following rows are written, so finishing a batch only has to wait for the rest of the body
+ * instead of the whole upload. The body is kept in fixed size chunks, optionally LZ4 frame
+ * compressed, until the load is committed, so a failed attempt is replayed under the same label and
+ * a load committed by an earlier attempt is detected by its label state. At most {@code
+ * max_concurrent_loads} loads of the writer are in flight, which bounds the buffered bytes to
+ * {@code max_concurrent_loads * batch_max_bytes}. A load which has been open for {@code
+ * max_load_open_time_ms} is completed by {@link #finishExpiredLoad()} even if its batch is not
+ * full.
+ *
+ * <p>This class is not thread safe, {@link StarRocksSinkManager} synchronizes the calls.
+ */
+@Slf4j
+public class StarRocksStreamLoader implements Closeable {
+
+    private final SinkConfig sinkConfig;
+    private final StarRocksStreamLoadVisitor streamLoadVisitor;
+    private final Supplier<String> labelGenerator;
+    private final int maxConcurrentLoads;
+    private final ExecutorService loadExecutor;
+    private final Deque<Future<?>> inFlightLoads = new ArrayDeque<>();
+
+    private final byte[] rowDelimiter;
+    private final boolean jsonFormat;
+
+    private StreamingLoad currentLoad;
+    private volatile Exception loadException;
+
+    public StarRocksStreamLoader(
+            SinkConfig sinkConfig,
+            StarRocksStreamLoadVisitor streamLoadVisitor,
+            Supplier<String> labelGenerator) {
+        this.sinkConfig = sinkConfig;
+        this.streamLoadVisitor = streamLoadVisitor;
+        this.labelGenerator = labelGenerator;
+        this.maxConcurrentLoads = Math.max(1, sinkConfig.getMaxConcurrentLoads());
+        this.loadExecutor =
+                Executors.newFixedThreadPool(
+                        maxConcurrentLoads,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("starrocks-stream-load-%d")
+                                .setDaemon(true)
+                                .build());
+        this.jsonFormat = SinkConfig.StreamLoadFormat.JSON.equals(sinkConfig.getLoadFormat());
+        if (jsonFormat) {
+            this.rowDelimiter = ",".getBytes(StandardCharsets.UTF_8);
+        } else {
+            String delimiter =
+                    sinkConfig.getStreamLoadProps() == null
+                            ? null
+                            : (String) sinkConfig.getStreamLoadProps().get("row_delimiter");
+            this.rowDelimiter =
+                    StarRocksDelimiterParser.parse(delimiter, "\n")
+                            .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Appends a row to the current load, starting a new load if there is none. */
+    public void write(byte[] row) throws IOException {
+        checkLoadException();
+        if (currentLoad == null) {
+            currentLoad = startLoad();
+        }
+        currentLoad.append(row);
+    }
+
+    /** Completes the body of the current load without waiting for it to be committed. */
+    public void finishLoad() throws IOException {
+        if (currentLoad == null) {
+            return;
+        }
+        StreamingLoad load = currentLoad;
+        currentLoad = null;
+        load.finish();
+    }
+
+    /**
+     * Completes the body of the current load if it has been open for {@code max_load_open_time_ms},
+     * so an idle writer does not keep the load open until it times out on the server.
+     *
+     * @return whether the current load has been completed
+     */
+    public boolean finishExpiredLoad() throws IOException {
+        if (currentLoad == null
+                || sinkConfig.getMaxLoadOpenTimeMs() <= 0
+                || System.currentTimeMillis() - currentLoad.startTime
+                        < sinkConfig.getMaxLoadOpenTimeMs()) {
+            return false;
+        }
+        finishLoad();
+        return true;
+    }
+
+    /** Completes the current load and waits until every load in flight is committed. */
+    public void flush() throws IOException {
+        checkLoadException();
+        finishLoad();
+        while (!inFlightLoads.isEmpty()) {
+            waitFor(inFlightLoads.poll());
+        }
+        checkLoadException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (currentLoad != null) {
+                currentLoad.body.abort(new IOException("The stream loader has been closed"));
+                currentLoad = null;
+            }
+            loadExecutor.shutdownNow();
+        }
+    }
+
+    private StreamingLoad startLoad() throws IOException {
+        while (!inFlightLoads.isEmpty() && inFlightLoads.peek().isDone()) {
+            waitFor(inFlightLoads.poll());
+        }
+        while (inFlightLoads.size() >= maxConcurrentLoads) {
+            waitFor(inFlightLoads.poll());
+        }
+        checkLoadException();
+        StreamingLoad load = new StreamingLoad(labelGenerator.get());
+        inFlightLoads.add(loadExecutor.submit(() -> loadWithRetry(load)));
+        return load;
+    }
+
+    private void loadWithRetry(StreamingLoad load) {
+        try {
+            for (int i = 0; i <= sinkConfig.getMaxRetries(); i++) {
+                try {
+                    if (streamLoadVisitor.doStreamLoad(load.label, load.body)) {
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.warn(
+                            "Streaming load of label [{}] to StarRocks failed, retry times = {}",
+                            load.label,
+                            i,
+                            e);
+                    if (load.body.isAborted() || i >= sinkConfig.getMaxRetries()) {
+                        throw new StarRocksConnectorException(
+                                StarRocksConnectorErrorCode.WRITE_RECORDS_FAILED,
+                                "The number of retries was exceeded, writing records to StarRocks failed.",
+                                e);
+                    }
+                    if (e instanceof StarRocksConnectorException
+                            && ((StarRocksConnectorException) e).needReCreateLabel()) {
+                        String newLabel = labelGenerator.get();
+                        log.warn(
+                                String.format(
+                                        "Batch label changed from [%s] to [%s]",
+                                        load.label, newLabel));
+                        load.label = newLabel;
+                    }
+                    long backoff =
+                            Math.min(
+                                    (long) sinkConfig.getRetryBackoffMultiplierMs() * i,
+                                    sinkConfig.getMaxRetryBackoffMs());
+                    Thread.sleep(backoff);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordLoadException(e);
+        } catch (Exception e) {
+            recordLoadException(e);
+        } finally {
+            // a body which is still written belongs to a failed load, stop buffering its rows
+            load.body.abort(new IOException("The streaming load has failed"));
+        }
+    }
+
+    private void recordLoadException(Exception e) {
+        log.error("Streaming load to StarRocks failed", e);
+        if (loadException == null) {
+            loadException = e;
+        }
+    }
+
+    private void waitFor(Future<?> load) throws IOException {
+        try {
+            load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED,
+                    "Interrupted while waiting for a streaming load in flight",
+                    e);
+        } catch (ExecutionException e) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, e.getCause());
+        }
+    }
+
+    private void checkLoadException() {
+        if (loadException != null) {
+            throw new StarRocksConnectorException(
+                    StarRocksConnectorErrorCode.FLUSH_DATA_FAILED, loadException);
+        }
+    }
+
+    /** A load whose body is written by the writer thread and sent by a load thread. */
+    private final class StreamingLoad {
+
+        private volatile String label;
+        private final long startTime = System.currentTimeMillis();
+        private final StreamLoadBody body = new StreamLoadBody();
+        private final OutputStream out;
+        private boolean empty = true;
+
+        StreamingLoad(String label) throws IOException {
+            this.label = label;
+            this.out =
+                    SinkConfig.StreamLoadCompression.LZ4_FRAME.equals(
+                                    sinkConfig.getLoadCompression())
+                            ? new LZ4FrameOutputStream(
+                                    body.writer(), LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB)
+                            : body.writer();
+            if (jsonFormat) {
+                out.write('[');
+            }
+        }
+
+        void append(byte[] row) throws IOException {
+            if (jsonFormat) {
+                if (!empty) {
+                    out.write(rowDelimiter);
+                }
+                out.write(row);
+            } else {
+                out.write(row);
+                out.write(rowDelimiter);
+            }
+            empty = false;
+        }
+
+        void finish() throws IOException {
+            if (jsonFormat) {
+                out.write(']');
+            }
+            out.close();
+        }
+    }
+
+    /**
+     * The body of a streaming load. It is sent while it is written and kept until the load is
+     * completed, so it can be sent again by every attempt of the load and after the redirect from
+     * the frontend to a backend.
+     */
+    static final class StreamLoadBody extends AbstractHttpEntity {
+
+        private static final int CHUNK_SIZE = 64 * 1024;
+
+        private final List<byte[]> chunks = new ArrayList<>();
+        private final OutputStream writer = new ChunkWriter();
+        private byte[] currentChunk = new byte[CHUNK_SIZE];
+        private int position;
+        private boolean finished;
+        private IOException failure;
+
+        StreamLoadBody() {
+            setChunked(true);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return -1;
+        }
+
+        /** Returns a new stream over the chunks, blocking for the chunks which are not written. */
+        @Override
+        public InputStream getContent() {
+            return new ChunkReader();
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+
+        /** Writes the chunks of the body, waiting for the chunks which are not written yet. */
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            byte[] chunk;
+            for (int next = 0; (chunk = awaitChunk(next)) != null; next++) {
+                out.write(chunk);
+            }
+            out.flush();
+        }
+
+        /** Waits until the chunk is written, returns null if the body ends before it. */
+        private synchronized byte[] awaitChunk(int index) throws IOException {
+            while (index == chunks.size() && !finished && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for rows", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return index < chunks.size() ? chunks.get(index) : null;
+        }
+
+        synchronized boolean isAborted() {
+            return failure != null;
+        }
+
+        synchronized void abort(IOException cause) {
+            if (!finished && failure == null) {
+                failure = cause;
+                notifyAll();
+            }
+        }
+
+        /** The stream the writer thread writes the body to. */
+        OutputStream writer() {
+            return writer;
+        }
+
+        private synchronized void publish(byte[] chunk, boolean last) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            chunks.add(chunk);
+            finished = last;
+            notifyAll();
+        }
+
+        private final class ChunkReader extends InputStream {
+
+            private int next;
+            private byte[] chunk = new byte[0];
+            private int offset;
+
+            @Override
+            public int read() throws IOException {
+                if (!fill()) {
+                    return -1;
+                }
+                return chunk[offset++] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!fill()) {
+                    return -1;
+                }
+                int length = Math.min(len, chunk.length - offset);
+                System.arraycopy(chunk, offset, b, off, length);
+                offset += length;
+                return length;
+            }
+
+            private boolean fill() throws IOException {
+                while (chunk != null && offset == chunk.length) {
+                    chunk = awaitChunk(next++);
+                    offset = 0;
+                }
+                return chunk != null;
+            }
+        }
+
+        private final class ChunkWriter extends OutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                currentChunk[position++] = (byte) b;
+                if (position == CHUNK_SIZE) {
+                    publishCurrentChunk();
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                while (len > 0) {
+                    int length = Math.min(len, CHUNK_SIZE - position);
+                    System.arraycopy(b, off, currentChunk, position, length);
+                    position += length;
+                    off += length;
+                    len -= length;
+                    if (position == CHUNK_SIZE) {
+                        publishCurrentChunk();
+                    }
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                publish(Arrays.copyOf(currentChunk, position), true);
+                currentChunk = null;
+            }
+
+            private void publishCurrentChunk() throws IOException {
+                publish(currentChunk, false);
+                currentChunk = new byte[CHUNK_SIZE];
+                position = 0;
+            }
+        }
+    }
+}
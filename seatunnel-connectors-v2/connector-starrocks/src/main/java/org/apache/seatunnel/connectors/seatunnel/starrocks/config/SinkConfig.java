@@ -40,6 +40,11 @@ public class SinkConfig implements Serializable {
         JSON;
     }
 
+    public enum StreamLoadCompression {
+        NONE,
+        LZ4_FRAME;
+    }
+
     private List<String> nodeUrls;
     private String jdbcUrl;
     private String username;
@@ -65,6 +70,11 @@ public class SinkConfig implements Serializable {
 
     private int httpSocketTimeout;
 
+    private boolean enableStreamingLoad;
+    private StreamLoadCompression loadCompression;
+    private int maxConcurrentLoads;
+    private int maxLoadOpenTimeMs;
+
     @Getter private final Map<String, Object> streamLoadProps = new HashMap<>();
 
     public static SinkConfig of(ReadonlyConfig config) {
@@ -98,6 +108,10 @@ public class SinkConfig implements Serializable {
         sinkConfig.setDataSaveMode(config.get(StarRocksSinkOptions.DATA_SAVE_MODE));
         sinkConfig.setCustomSql(config.get(StarRocksSinkOptions.CUSTOM_SQL));
         sinkConfig.setHttpSocketTimeout(config.get(StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS));
+        sinkConfig.setEnableStreamingLoad(config.get(StarRocksSinkOptions.ENABLE_STREAMING_LOAD));
+        sinkConfig.setLoadCompression(config.get(StarRocksSinkOptions.LOAD_COMPRESSION));
+        sinkConfig.setMaxConcurrentLoads(config.get(StarRocksSinkOptions.MAX_CONCURRENT_LOADS));
+        sinkConfig.setMaxLoadOpenTimeMs(config.get(StarRocksSinkOptions.MAX_LOAD_OPEN_TIME_MS));
         return sinkConfig;
     }
 }
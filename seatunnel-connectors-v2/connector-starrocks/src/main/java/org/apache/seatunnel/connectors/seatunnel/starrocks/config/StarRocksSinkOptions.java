@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.sink.DataSaveMode;
 import org.apache.seatunnel.api.sink.SaveModePlaceHolder;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadCompression;
 import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig.StreamLoadFormat;
 
 import java.util.Map;
@@ -150,6 +151,39 @@ public class StarRocksSinkOptions extends StarRocksBaseOptions {
                     .defaultValue(3 * 60 * 1000)
                     .withDescription("Set http socket timeout, default is 3 minutes.");
 
+    public static final Option<Boolean> ENABLE_STREAMING_LOAD =
+            Options.key("enable_streaming_load")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to send the stream load body with chunked transfer encoding while the rows "
+                                    + "of the batch arrive, instead of after the batch is complete");
+
+    public static final Option<StreamLoadCompression> LOAD_COMPRESSION =
+            Options.key("stream_load_compression")
+                    .enumType(StreamLoadCompression.class)
+                    .defaultValue(StreamLoadCompression.NONE)
+                    .withDescription(
+                            "The compression of the stream load body, LZ4_FRAME needs a StarRocks version "
+                                    + "which supports the compression header of stream load");
+
+    public static final Option<Integer> MAX_CONCURRENT_LOADS =
+            Options.key("max_concurrent_loads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of streaming loads of one writer which are in flight at the same time, "
+                                    + "only used when enable_streaming_load is true");
+
+    public static final Option<Integer> MAX_LOAD_OPEN_TIME_MS =
+            Options.key("max_load_open_time_ms")
+                    .intType()
+                    .defaultValue(60 * 1000)
+                    .withDescription(
+                            "The maximum time a streaming load stays open before it is committed even if its batch "
+                                    + "is not full, 0 keeps it open until the batch is full or the next checkpoint, "
+                                    + "only used when enable_streaming_load is true");
+
     public static final Option<String> CUSTOM_SQL =
             Options.key("custom_sql")
                     .stringType()
@@ -66,7 +66,11 @@ public class StarRocksSinkFactory implements TableSinkFactory {
                         DATA_SAVE_MODE,
                         MULTI_TABLE_SINK_REPLICA,
                         StarRocksSinkOptions.SAVE_MODE_CREATE_TEMPLATE,
-                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS)
+                        StarRocksSinkOptions.HTTP_SOCKET_TIMEOUT_MS,
+                        StarRocksSinkOptions.ENABLE_STREAMING_LOAD,
+                        StarRocksSinkOptions.LOAD_COMPRESSION,
+                        StarRocksSinkOptions.MAX_CONCURRENT_LOADS,
+                        StarRocksSinkOptions.MAX_LOAD_OPEN_TIME_MS)
                 .conditional(
                         DATA_SAVE_MODE,
                         DataSaveMode.CUSTOM_PROCESSING,
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.starrocks.client;
+
+import org.apache.seatunnel.connectors.seatunnel.starrocks.config.SinkConfig;
+
+import org.apache.http.HttpEntity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StarRocksStreamLoaderTest {
+
+    @Test
+    public void testRetryReplaysBodyWithSameLabel() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadCompression.NONE, 1);
+        List<String> labels = Collections.synchronizedList(new ArrayList<>());
+        List<byte[]> bodies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger attempts = new AtomicInteger();
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.anyString(), Mockito.any(HttpEntity.class)))
+                .thenAnswer(
+                        invocation -> {
+                            ByteArrayOutputStream out = new ByteArrayOutputStream();
+                            ((HttpEntity) invocation.getArgument(1)).writeTo(out);
+                            labels.add(invocation.getArgument(0));
+                            bodies.add(out.toByteArray());
+                            if (attempts.getAndIncrement() == 0) {
+                                throw new IOException("connection reset");
+                            }
+                            return true;
+                        });
+
+        AtomicInteger labelId = new AtomicInteger();
+        StarRocksStreamLoader loader =
+                new StarRocksStreamLoader(
+                        sinkConfig, visitor, () -> "label-" + labelId.getAndIncrement());
+        loader.write(bytes("{\"id\":1}"));
+        loader.write(bytes("{\"id\":2}"));
+        loader.flush();
+
+        Assertions.assertEquals(2, bodies.size());
+        Assertions.assertEquals("[{\"id\":1},{\"id\":2}]", string(bodies.get(0)));
+        Assertions.assertEquals(string(bodies.get(0)), string(bodies.get(1)));
+        Assertions.assertEquals(Collections.nCopies(2, "label-0"), labels);
+        loader.close();
+    }
+
+    @Test
+    public void testBodyContentIsRepeatable() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadCompression.NONE, 1);
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.anyString(), Mockito.any(HttpEntity.class)))
+                .thenAnswer(
+                        invocation -> {
+                            HttpEntity entity = invocation.getArgument(1);
+                            Assertions.assertTrue(entity.isRepeatable());
+                            // the frontend redirects the request to a backend, which reads the
+                            // body again
+                            for (int i = 0; i < 2; i++) {
+                                try (InputStream content = entity.getContent()) {
+                                    bodies.add(string(readAll(content)));
+                                }
+                            }
+                            return true;
+                        });
+
+        AtomicInteger labelId = new AtomicInteger();
+        StarRocksStreamLoader loader =
+                new StarRocksStreamLoader(
+                        sinkConfig, visitor, () -> "label-" + labelId.getAndIncrement());
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            String row = "{\"id\":" + i + "}";
+            loader.write(bytes(row));
+            expected.append(i == 0 ? "" : ",").append(row);
+        }
+        loader.close();
+
+        Assertions.assertEquals(Collections.nCopies(2, expected.append("]").toString()), bodies);
+    }
+
+    @Test
+    public void testConcurrentCompressedLoads() throws IOException {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadCompression.LZ4_FRAME, 2);
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.anyString(), Mockito.any(HttpEntity.class)))
+                .thenAnswer(
+                        invocation -> {
+                            ByteArrayOutputStream out = new ByteArrayOutputStream();
+                            ((HttpEntity) invocation.getArgument(1)).writeTo(out);
+                            bodies.add(decompress(out.toByteArray()));
+                            return true;
+                        });
+
+        AtomicInteger labelId = new AtomicInteger();
+        StarRocksStreamLoader loader =
+                new StarRocksStreamLoader(
+                        sinkConfig, visitor, () -> "label-" + labelId.getAndIncrement());
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            String row = "{\"id\":" + i + ",\"name\":\"name-" + i + "\"}";
+            loader.write(bytes(row));
+            expected.append(i == 0 ? "" : ",").append(row);
+        }
+        loader.finishLoad();
+        loader.write(bytes("{\"id\":-1}"));
+        loader.close();
+
+        Assertions.assertEquals(2, bodies.size());
+        Assertions.assertTrue(bodies.contains(expected.append("]").toString()));
+        Assertions.assertTrue(bodies.contains("[{\"id\":-1}]"));
+    }
+
+    @Test
+    public void testFinishExpiredLoad() throws Exception {
+        SinkConfig sinkConfig = sinkConfig(SinkConfig.StreamLoadCompression.NONE, 1);
+        sinkConfig.setMaxLoadOpenTimeMs(50);
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        StarRocksStreamLoadVisitor visitor = Mockito.mock(StarRocksStreamLoadVisitor.class);
+        Mockito.when(visitor.doStreamLoad(Mockito.anyString(), Mockito.any(HttpEntity.class)))
+                .thenAnswer(
+                        invocation -> {
+                            ByteArrayOutputStream out = new ByteArrayOutputStream();
+                            ((HttpEntity) invocation.getArgument(1)).writeTo(out);
+                            bodies.add(string(out.toByteArray()));
+                            return true;
+                        });
+
+        AtomicInteger labelId = new AtomicInteger();
+        StarRocksStreamLoader loader =
+                new StarRocksStreamLoader(
+                        sinkConfig, visitor, () -> "label-" + labelId.getAndIncrement());
+        loader.write(bytes("{\"id\":1}"));
+        Assertions.assertFalse(loader.finishExpiredLoad());
+        Thread.sleep(100);
+        Assertions.assertTrue(loader.finishExpiredLoad());
+        loader.write(bytes("{\"id\":2}"));
+        loader.close();
+
+        Assertions.assertEquals(
+                Arrays.asList("[{\"id\":1}]", "[{\"id\":2}]"), new ArrayList<>(bodies));
+    }
+
+    private static SinkConfig sinkConfig(
+            SinkConfig.StreamLoadCompression compression, int maxConcurrentLoads) {
+        SinkConfig sinkConfig = new SinkConfig();
+        sinkConfig.setLoadFormat(SinkConfig.StreamLoadFormat.JSON);
+        sinkConfig.setLoadCompression(compression);
+        sinkConfig.setMaxConcurrentLoads(maxConcurrentLoads);
+        sinkConfig.setMaxRetries(2);
+        return sinkConfig;
+    }
+
+    private static String decompress(byte[] data) throws IOException {
+        try (InputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(data))) {
+            return string(readAll(in));
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
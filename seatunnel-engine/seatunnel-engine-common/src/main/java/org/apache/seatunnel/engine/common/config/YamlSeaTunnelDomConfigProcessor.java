@@ -55,6 +55,7 @@ import static com.hazelcast.internal.config.DomConfigHelper.childElements;
 import static com.hazelcast.internal.config.DomConfigHelper.cleanNodeName;
 import static com.hazelcast.internal.config.DomConfigHelper.getBooleanValue;
 import static com.hazelcast.internal.config.DomConfigHelper.getIntegerValue;
+import static com.hazelcast.internal.config.DomConfigHelper.getLongValue;
 
 public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor {
     private static final ILogger LOGGER = Logger.getLogger(YamlSeaTunnelDomConfigProcessor.class);
@@ -296,6 +297,30 @@ public class YamlSeaTunnelDomConfigProcessor extends AbstractDomConfigProcessor
                     .key()
                     .equals(name)) {
                 checkpointConfig.setStorage(parseCheckpointStorageConfig(node));
+            } else if (ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_INCREMENTAL
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setIncremental(getBooleanValue(getTextContent(node)));
+            } else if (ServerConfigOptions.MasterServerConfigOptions
+                    .CHECKPOINT_INCREMENTAL_MAX_DELTAS
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setIncrementalMaxDeltas(
+                        getIntegerValue(
+                                ServerConfigOptions.MasterServerConfigOptions
+                                        .CHECKPOINT_INCREMENTAL_MAX_DELTAS
+                                        .key(),
+                                getTextContent(node)));
+            } else if (ServerConfigOptions.MasterServerConfigOptions
+                    .CHECKPOINT_DIRECT_UPLOAD_THRESHOLD
+                    .key()
+                    .equals(name)) {
+                checkpointConfig.setDirectUploadThreshold(
+                        getLongValue(
+                                ServerConfigOptions.MasterServerConfigOptions
+                                        .CHECKPOINT_DIRECT_UPLOAD_THRESHOLD
+                                        .key(),
+                                getTextContent(node)));
             } else {
                 LOGGER.warning("Unrecognized element: " + name);
             }
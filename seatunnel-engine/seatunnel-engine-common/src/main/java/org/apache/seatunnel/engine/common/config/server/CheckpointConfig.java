@@ -41,6 +41,17 @@ public class CheckpointConfig implements Serializable {
 
     private boolean checkpointEnable = true;
 
+    private boolean incremental =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_INCREMENTAL.defaultValue();
+
+    private int incrementalMaxDeltas =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_INCREMENTAL_MAX_DELTAS
+                    .defaultValue();
+
+    private long directUploadThreshold =
+            ServerConfigOptions.MasterServerConfigOptions.CHECKPOINT_DIRECT_UPLOAD_THRESHOLD
+                    .defaultValue();
+
     public void setCheckpointInterval(long checkpointInterval) {
         checkArgument(
                 checkpointInterval >= MINIMAL_CHECKPOINT_TIME,
@@ -61,4 +72,9 @@ public class CheckpointConfig implements Serializable {
                 "The minimum checkpoint timeout is 10 ms.");
         this.schemaChangeCheckpointTimeout = checkpointTimeout;
     }
+
+    public void setIncrementalMaxDeltas(int incrementalMaxDeltas) {
+        checkArgument(incrementalMaxDeltas >= 1, "The minimum incremental max deltas is 1.");
+        this.incrementalMaxDeltas = incrementalMaxDeltas;
+    }
 }
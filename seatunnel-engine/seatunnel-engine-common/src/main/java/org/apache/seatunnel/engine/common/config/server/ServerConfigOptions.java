@@ -147,6 +147,27 @@ public class ServerConfigOptions {
                         .withDescription(
                                 "The timeout (in milliseconds) for a schema change checkpoint.");
 
+        public static final Option<Boolean> CHECKPOINT_INCREMENTAL =
+                Options.key("incremental")
+                        .booleanType()
+                        .defaultValue(false)
+                        .withDescription(
+                                "Whether to store subtask states which did not change since the last full checkpoint as references to it.");
+
+        public static final Option<Integer> CHECKPOINT_INCREMENTAL_MAX_DELTAS =
+                Options.key("incremental-max-deltas")
+                        .intType()
+                        .defaultValue(10)
+                        .withDescription(
+                                "The number of incremental checkpoints stored before a full checkpoint is stored again.");
+
+        public static final Option<Long> CHECKPOINT_DIRECT_UPLOAD_THRESHOLD =
+                Options.key("direct-upload-threshold")
+                        .longType()
+                        .defaultValue(-1L)
+                        .withDescription(
+                                "Subtask states with at least this many bytes are written to the checkpoint storage by the task itself, and only a handle to them is sent to the master. -1 disables direct upload.");
+
         public static final Option<Map<String, String>> CHECKPOINT_STORAGE_PLUGIN_CONFIG =
                 Options.key("plugin-config")
                         .type(new TypeReference<Map<String, String>>() {})
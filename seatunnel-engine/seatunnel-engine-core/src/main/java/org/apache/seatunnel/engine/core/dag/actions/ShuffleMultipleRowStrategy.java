@@ -31,6 +31,7 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -104,6 +105,11 @@ public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
         return queues;
     }
 
+    @Override
+    public List<CatalogTable> getShuffleTables() {
+        return catalogTables == null ? Collections.emptyList() : catalogTables;
+    }
+
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
         return "ShuffleMultipleRow-Queue_"
                 + getJobId()
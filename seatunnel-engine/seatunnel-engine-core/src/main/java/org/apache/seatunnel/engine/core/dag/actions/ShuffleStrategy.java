@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -30,6 +31,8 @@ import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @SuperBuilder(toBuilder = true)
@@ -40,6 +43,8 @@ public abstract class ShuffleStrategy implements Serializable {
     private static final int DEFAULT_QUEUE_SIZE = 2048;
     private static final int DEFAULT_QUEUE_BACKUP_COUNT = 0;
     private static final int DEFAULT_QUEUE_ASYNC_BACKUP_COUNT = 0;
+    private static final int DEFAULT_QUEUE_ITEM_MAX_RECORDS = 1;
+    private static final int MIN_QUEUE_ITEMS = 8;
 
     protected long jobId;
     protected int inputPartitions;
@@ -48,6 +53,14 @@ public abstract class ShuffleStrategy implements Serializable {
     @Builder.Default protected int queueAsyncBackupCount = DEFAULT_QUEUE_ASYNC_BACKUP_COUNT;
     protected int queueEmptyQueueTtl;
 
+    /**
+     * The maximum number of records a writer packs into one queue item. {@link #queueMaxSize} is
+     * counted in records, so the queue holds {@code queueMaxSize / queueItemMaxRecords} items, but
+     * never fewer than {@link #MIN_QUEUE_ITEMS}: with only one or two items in flight the writer
+     * and the reader would wait on each other for every batch instead of overlapping.
+     */
+    @Builder.Default protected int queueItemMaxRecords = DEFAULT_QUEUE_ITEM_MAX_RECORDS;
+
     @Tolerate
     public ShuffleStrategy() {}
 
@@ -59,9 +72,23 @@ public abstract class ShuffleStrategy implements Serializable {
     public abstract IQueue<Record<?>>[] getShuffles(
             HazelcastInstance hazelcast, int pipelineId, int targetIndex);
 
+    /**
+     * The tables whose rows pass through this shuffle. Both ends of the shuffle see the same list,
+     * so the position of a table in it can be sent instead of its id. An empty list means the
+     * schema of the shuffled rows is not known up front.
+     */
+    public List<CatalogTable> getShuffleTables() {
+        return Collections.emptyList();
+    }
+
+    /** The capacity of a shuffle queue in items, see {@link #queueItemMaxRecords}. */
+    public int getQueueMaxItems() {
+        return Math.max(MIN_QUEUE_ITEMS, queueMaxSize / queueItemMaxRecords);
+    }
+
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
-        targetQueueConfig.setMaxSize(queueMaxSize);
+        targetQueueConfig.setMaxSize(getQueueMaxItems());
         targetQueueConfig.setBackupCount(queueBackupCount);
         targetQueueConfig.setAsyncBackupCount(queueAsyncBackupCount);
         targetQueueConfig.setEmptyQueueTtl(queueEmptyQueueTtl);
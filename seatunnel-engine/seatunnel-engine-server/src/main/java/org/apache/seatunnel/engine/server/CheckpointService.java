@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.utils.FactoryUtil;
 import org.apache.seatunnel.engine.core.job.JobPipelineCheckpointData;
@@ -29,6 +30,8 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionState;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CompletedCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpoint;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateStore;
 
 import lombok.SneakyThrows;
 
@@ -65,9 +68,9 @@ public class CheckpointService {
                 .map(
                         pipelineState -> {
                             try {
-                                return serializer.deserialize(
-                                        pipelineState.getStates(), CompletedCheckpoint.class);
-                            } catch (IOException e) {
+                                return IncrementalCheckpoint.restore(
+                                        pipelineState, checkpointStorage, serializer);
+                            } catch (IOException | CheckpointStorageException e) {
                                 throw new RuntimeException(e);
                             }
                         })
@@ -94,6 +97,7 @@ public class CheckpointService {
                                 ActionState taskState = checkpoint.getTaskStates().get(stateKey);
                                 List<JobPipelineCheckpointData.ActionSubtaskState> subtaskStates =
                                         taskState.getSubtaskStates().stream()
+                                                .map(state -> resolve(checkpoint.getJobId(), state))
                                                 .map(
                                                         state -> {
                                                             if (state == null) {
@@ -106,7 +110,9 @@ public class CheckpointService {
                                                         })
                                                 .collect(Collectors.toList());
                                 ActionSubtaskState coordinatorState =
-                                        taskState.getCoordinatorState();
+                                        resolve(
+                                                checkpoint.getJobId(),
+                                                taskState.getCoordinatorState());
                                 JobPipelineCheckpointData.ActionState actionState =
                                         new JobPipelineCheckpointData.ActionState(
                                                 coordinatorState == null
@@ -127,4 +133,9 @@ public class CheckpointService {
                         })
                 .collect(Collectors.toList());
     }
+
+    @SneakyThrows
+    private ActionSubtaskState resolve(long jobId, ActionSubtaskState state) {
+        return TaskStateStore.resolve(checkpointStorage, String.valueOf(jobId), state);
+    }
 }
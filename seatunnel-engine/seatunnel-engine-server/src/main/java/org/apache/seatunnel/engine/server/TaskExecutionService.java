@@ -34,6 +34,7 @@ import org.apache.seatunnel.engine.common.utils.PassiveCompletableFuture;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.classloader.ClassLoaderService;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateStore;
 import org.apache.seatunnel.engine.server.exception.TaskGroupContextNotFoundException;
 import org.apache.seatunnel.engine.server.execution.ExecutionState;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
@@ -147,6 +148,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
 
     private final EventService eventService;
 
+    private final TaskStateStore taskStateStore;
+
     public TaskExecutionService(
             ClassLoaderService classLoaderService,
             NodeEngineImpl nodeEngine,
@@ -174,6 +177,8 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
         this.eventService = eventService;
+        this.taskStateStore =
+                new TaskStateStore(seaTunnelConfig.getEngineConfig().getCheckpointConfig());
     }
 
     public void start() {
@@ -184,6 +189,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         isRunning = false;
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
+        taskStateStore.close();
     }
 
     public TaskGroupContext getExecutionContext(TaskGroupLocation taskGroupLocation) {
@@ -997,6 +1003,10 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         }
     }
 
+    public TaskStateStore getTaskStateStore() {
+        return taskStateStore;
+    }
+
     public ServerConnectorPackageClient getServerConnectorPackageClient() {
         return serverConnectorPackageClient;
     }
@@ -30,4 +30,16 @@ public class ActionSubtaskState implements Serializable {
     private final ActionStateKey stateKey;
     private final int index;
     private final List<byte[]> state;
+
+    /**
+     * Set when the state is not stored inline because it is unchanged since the full checkpoint
+     * with this id, see {@link IncrementalCheckpoint}.
+     */
+    private Long baseCheckpointId;
+
+    /**
+     * Set when the state was written to the checkpoint storage by the task, the state itself is not
+     * sent to the master then, see {@link TaskStateStore}.
+     */
+    private TaskStateHandle stateHandle;
 }
@@ -67,8 +67,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -120,6 +123,9 @@ public class CheckpointCoordinator {
 
     private final ArrayDeque<String> completedCheckpointIds;
 
+    /** Set when incremental checkpoints are enabled, only used by the persist executor. */
+    private final IncrementalCheckpoint incrementalCheckpoint;
+
     private volatile CompletedCheckpoint latestCompletedCheckpoint = null;
 
     private final CheckpointConfig coordinatorConfig;
@@ -141,6 +147,18 @@ public class CheckpointCoordinator {
 
     private final ExecutorService executorService;
 
+    /**
+     * Serializes and stores completed checkpoints off the coordinator threads, in order. It is shut
+     * down with the coordinator and replaced when the coordinator is restored.
+     */
+    private volatile ExecutorService persistExecutor;
+
+    /**
+     * Checkpoints aborted before they were stored. Tasks may still upload states for them and
+     * acknowledge afterwards, those states are deleted when the acknowledgement arrives.
+     */
+    private final Set<Long> abortedCheckpointIds = ConcurrentHashMap.newKeySet();
+
     private CompletableFuture<CheckpointCoordinatorState> checkpointCoordinatorFuture;
 
     private AtomicReference<String> errorByPhysicalVertex = new AtomicReference<>();
@@ -178,6 +196,10 @@ public class CheckpointCoordinator {
         this.pendingCheckpoints = new ConcurrentHashMap<>();
         this.completedCheckpointIds =
                 new ArrayDeque<>(coordinatorConfig.getStorage().getMaxRetainedCheckpoints() + 1);
+        this.incrementalCheckpoint =
+                coordinatorConfig.isIncremental()
+                        ? new IncrementalCheckpoint(coordinatorConfig.getIncrementalMaxDeltas())
+                        : null;
         this.scheduler =
                 Executors.newScheduledThreadPool(
                         2,
@@ -190,6 +212,7 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.scheduler = MDCTracer.tracing(scheduler);
+        this.persistExecutor = createPersistExecutor();
         this.serializer = new ProtoStuffSerializer();
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
@@ -205,7 +228,7 @@ public class CheckpointCoordinator {
                 plan);
         if (pipelineState != null) {
             this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+                    IncrementalCheckpoint.restore(pipelineState, checkpointStorage, serializer);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -472,6 +495,7 @@ public class CheckpointCoordinator {
         checkpointCoordinatorFuture = new CompletableFuture<>();
         updateStatus(CheckpointCoordinatorStatus.RUNNING);
         cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET);
+        restorePersistExecutor();
         shutdown = false;
         if (alreadyStarted) {
             isAllTaskReady = true;
@@ -782,6 +806,15 @@ public class CheckpointCoordinator {
         synchronized (lock) {
             LOG.info("start clean pending checkpoint cause {}", closedReason.message());
             if (!pendingCheckpoints.isEmpty()) {
+                // states uploaded by the tasks of checkpoints which are not being stored are
+                // never referenced
+                List<Long> abortedCheckpointIds =
+                        pendingCheckpoints.values().stream()
+                                .filter(
+                                        pendingCheckpoint ->
+                                                !pendingCheckpoint.getCompletableFuture().isDone())
+                                .map(PendingCheckpoint::getCheckpointId)
+                                .collect(Collectors.toList());
                 pendingCheckpoints
                         .values()
                         .forEach(
@@ -789,6 +822,17 @@ public class CheckpointCoordinator {
                                         pendingCheckpoint.abortCheckpoint(closedReason, null));
                 // TODO: clear related future & scheduler task
                 pendingCheckpoints.clear();
+                this.abortedCheckpointIds.addAll(abortedCheckpointIds);
+                if (!abortedCheckpointIds.isEmpty() && !persistExecutor.isShutdown()) {
+                    persistExecutor.execute(
+                            () ->
+                                    abortedCheckpointIds.forEach(
+                                            checkpointId ->
+                                                    checkpointStorage.deleteTaskStates(
+                                                            String.valueOf(jobId),
+                                                            String.valueOf(pipelineId),
+                                                            String.valueOf(checkpointId))));
+                }
             }
             pipelineTaskStatus.clear();
             readyToCloseStartingTask.clear();
@@ -796,6 +840,8 @@ public class CheckpointCoordinator {
             closedIdleTask.clear();
             pendingCounter.set(0);
             schemaChanging.set(false);
+            // checkpoints queued for storing and the cleanup above still run to completion
+            persistExecutor.shutdown();
             scheduler.shutdownNow();
             scheduler =
                     Executors.newScheduledThreadPool(
@@ -810,11 +856,77 @@ public class CheckpointCoordinator {
         }
     }
 
+    private ExecutorService createPersistExecutor() {
+        ThreadPoolExecutor persistThreadPool =
+                new ThreadPoolExecutor(
+                        1,
+                        1,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName(
+                                    String.format("checkpoint-persist-%s/%s", pipelineId, jobId));
+                            return thread;
+                        });
+        persistThreadPool.allowCoreThreadTimeOut(true);
+        return MDCTracer.tracing(persistThreadPool);
+    }
+
+    private void restorePersistExecutor() {
+        ExecutorService previousExecutor = persistExecutor;
+        if (!previousExecutor.isShutdown()) {
+            return;
+        }
+        persistExecutor = createPersistExecutor();
+        // keep storing checkpoints in order, after the tasks left in the previous executor
+        persistExecutor.execute(
+                () -> {
+                    try {
+                        previousExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+    }
+
+    /**
+     * The task states of an aborted checkpoint were deleted when it was aborted, states uploaded by
+     * a task which acknowledges later are deleted here so they are not left behind.
+     */
+    private void deleteLateUploadedStates(TaskAcknowledgeOperation ackOperation) {
+        long checkpointId = ackOperation.getBarrier().getId();
+        if (!abortedCheckpointIds.contains(checkpointId)
+                || ackOperation.getStates() == null
+                || ackOperation.getStates().stream()
+                        .noneMatch(state -> state != null && state.getStateHandle() != null)) {
+            return;
+        }
+        CompletableFuture.runAsync(
+                        () ->
+                                checkpointStorage.deleteTaskStates(
+                                        String.valueOf(jobId),
+                                        String.valueOf(pipelineId),
+                                        String.valueOf(checkpointId)),
+                        executorService)
+                .whenComplete(
+                        (ignored, error) -> {
+                            if (error != null) {
+                                LOG.warn(
+                                        "Failed to delete the task states of aborted checkpoint "
+                                                + checkpointId,
+                                        error);
+                            }
+                        });
+    }
+
     protected void acknowledgeTask(TaskAcknowledgeOperation ackOperation) {
         final long checkpointId = ackOperation.getBarrier().getId();
         final PendingCheckpoint pendingCheckpoint = pendingCheckpoints.get(checkpointId);
         if (pendingCheckpoint == null) {
             LOG.info("skip already ack checkpoint " + checkpointId);
+            deleteLateUploadedStates(ackOperation);
             return;
         }
         TaskLocation location = ackOperation.getTaskLocation();
@@ -838,7 +950,7 @@ public class CheckpointCoordinator {
         }
     }
 
-    public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
+    public void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
                 completedCheckpoint.getCheckpointId(),
@@ -848,11 +960,52 @@ public class CheckpointCoordinator {
                         - completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
+        // serializing and uploading the states of large jobs can take seconds, so it must not
+        // hold the coordinator while it runs
+        CompletableFuture<Void> persistFuture;
+        try {
+            persistFuture =
+                    CompletableFuture.runAsync(
+                            () -> persistCompletedCheckpoint(completedCheckpoint), persistExecutor);
+        } catch (RejectedExecutionException e) {
+            LOG.info(
+                    "skip storing checkpoint({}/{}@{}), the coordinator is shut down",
+                    completedCheckpoint.getCheckpointId(),
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            return;
+        }
+        persistFuture.whenCompleteAsync(
+                (ignored, error) -> {
+                    if (error != null) {
+                        handleCoordinatorError(
+                                "store checkpoint states failed",
+                                error,
+                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                        return;
+                    }
+                    try {
+                        finishCompletedCheckpoint(completedCheckpoint);
+                    } catch (Throwable e) {
+                        handleCoordinatorError(
+                                "complete checkpoint failed",
+                                e,
+                                CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                    }
+                },
+                executorService);
+    }
+
+    private void persistCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
         final long checkpointId = completedCheckpoint.getCheckpointId();
         completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
         try {
             if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
-                byte[] states = serializer.serialize(completedCheckpoint);
+                CompletedCheckpoint storedCheckpoint =
+                        incrementalCheckpoint == null
+                                ? completedCheckpoint
+                                : incrementalCheckpoint.encode(completedCheckpoint);
+                byte[] states = serializer.serialize(storedCheckpoint);
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
                                 .checkpointId(checkpointId)
@@ -860,6 +1013,9 @@ public class CheckpointCoordinator {
                                 .pipelineId(pipelineId)
                                 .states(states)
                                 .build());
+                if (incrementalCheckpoint != null) {
+                    incrementalCheckpoint.stored(completedCheckpoint, storedCheckpoint);
+                }
             }
             if (completedCheckpointIds.size()
                                     % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
@@ -873,15 +1029,35 @@ public class CheckpointCoordinator {
                         i++) {
                     needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
                 }
+                if (incrementalCheckpoint != null
+                        && incrementalCheckpoint.getBaseCheckpointId() != null) {
+                    // the newer incremental checkpoints still reference the base checkpoint
+                    String baseCheckpointId =
+                            String.valueOf(incrementalCheckpoint.getBaseCheckpointId());
+                    if (needDeleteCheckpointId.remove(baseCheckpointId)) {
+                        completedCheckpointIds.addFirst(baseCheckpointId);
+                    }
+                }
                 checkpointStorage.deleteCheckpoint(
                         String.valueOf(completedCheckpoint.getJobId()),
                         String.valueOf(completedCheckpoint.getPipelineId()),
                         needDeleteCheckpointId);
             }
         } catch (Throwable e) {
-            LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
         }
+    }
+
+    private synchronized void finishCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        if (!pendingCheckpoints.containsKey(checkpointId)) {
+            LOG.info(
+                    "skip notify checkpoint({}/{}@{}), it was cleaned while being stored",
+                    checkpointId,
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            return;
+        }
         LOG.info(
                 "pending checkpoint({}/{}@{}) notify finished!",
                 completedCheckpoint.getCheckpointId(),
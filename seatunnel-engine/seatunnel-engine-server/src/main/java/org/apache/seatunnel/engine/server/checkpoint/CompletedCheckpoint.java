@@ -48,6 +48,9 @@ public class CompletedCheckpoint implements Checkpoint, Serializable {
 
     @Getter @Setter private volatile boolean isRestored = false;
 
+    /** The full checkpoint referenced by the unchanged states of an incremental checkpoint. */
+    @Getter @Setter private Long baseCheckpointId;
+
     public CompletedCheckpoint(
             long jobId,
             int pipelineId,
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes completed checkpoints for storage in incremental mode.
+ *
+ * <p>A subtask state which is byte-for-byte equal to its state in the last full checkpoint is
+ * stored as a reference to that checkpoint instead of being uploaded again. After {@code maxDeltas}
+ * incremental checkpoints a full checkpoint is stored again, so a checkpoint never depends on more
+ * than one other checkpoint and old deltas can be deleted with their base.
+ *
+ * <p>Not thread safe, a coordinator only uses it from its persist thread.
+ */
+public class IncrementalCheckpoint {
+
+    private final int maxDeltas;
+
+    /** The last full checkpoint which has been stored. */
+    private CompletedCheckpoint base;
+
+    private int deltas;
+
+    public IncrementalCheckpoint(int maxDeltas) {
+        this.maxDeltas = maxDeltas;
+    }
+
+    /**
+     * @return the checkpoint to store, either the checkpoint itself or a delta against the last
+     *     full checkpoint
+     */
+    public CompletedCheckpoint encode(CompletedCheckpoint checkpoint) {
+        if (base == null
+                || deltas >= maxDeltas
+                || !checkpoint.getCheckpointType().isGeneralCheckpoint()) {
+            return checkpoint;
+        }
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState baseState = base.getTaskStates().get(entry.getKey());
+            ActionState state = entry.getValue();
+            if (baseState == null || baseState.getParallelism() != state.getParallelism()) {
+                taskStates.put(entry.getKey(), state);
+                continue;
+            }
+            ActionState delta = new ActionState(state.getStateKey(), state.getParallelism());
+            delta.reportState(
+                    -1, encode(state.getCoordinatorState(), baseState.getCoordinatorState()));
+            for (int i = 0; i < state.getParallelism(); i++) {
+                delta.reportState(
+                        i,
+                        encode(
+                                state.getSubtaskStates().get(i),
+                                baseState.getSubtaskStates().get(i)));
+            }
+            taskStates.put(entry.getKey(), delta);
+        }
+        CompletedCheckpoint delta = copyOf(checkpoint, taskStates);
+        delta.setBaseCheckpointId(base.getCheckpointId());
+        return delta;
+    }
+
+    private ActionSubtaskState encode(ActionSubtaskState state, ActionSubtaskState baseState) {
+        if (state == null || baseState == null || !sameState(state, baseState)) {
+            return state;
+        }
+        ActionSubtaskState reference =
+                new ActionSubtaskState(state.getStateKey(), state.getIndex(), null);
+        reference.setBaseCheckpointId(base.getCheckpointId());
+        return reference;
+    }
+
+    private static boolean sameState(ActionSubtaskState state, ActionSubtaskState baseState) {
+        if (state.getStateHandle() != null || baseState.getStateHandle() != null) {
+            return state.getStateHandle() != null
+                    && baseState.getStateHandle() != null
+                    && state.getStateHandle().getSize() == baseState.getStateHandle().getSize()
+                    && MessageDigest.isEqual(
+                            state.getStateHandle().getDigest(),
+                            baseState.getStateHandle().getDigest());
+        }
+        List<byte[]> bytes = state.getState();
+        List<byte[]> baseBytes = baseState.getState();
+        if (bytes == null || baseBytes == null || bytes.size() != baseBytes.size()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.size(); i++) {
+            if (!Arrays.equals(bytes.get(i), baseBytes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Called once the encoded checkpoint is stored, a full checkpoint becomes the base of the
+     * following deltas.
+     */
+    public void stored(CompletedCheckpoint checkpoint, CompletedCheckpoint encoded) {
+        if (encoded.getBaseCheckpointId() == null) {
+            if (checkpoint.getCheckpointType().isGeneralCheckpoint()) {
+                base = checkpoint;
+                deltas = 0;
+            }
+        } else {
+            deltas++;
+        }
+    }
+
+    /** The base checkpoint which must not be deleted while deltas may still reference it. */
+    public Long getBaseCheckpointId() {
+        return base == null ? null : base.getCheckpointId();
+    }
+
+    /**
+     * Read a stored checkpoint, resolving the states an incremental checkpoint references from its
+     * base checkpoint.
+     */
+    public static CompletedCheckpoint restore(
+            PipelineState pipelineState, CheckpointStorage storage, Serializer serializer)
+            throws IOException, CheckpointStorageException {
+        CompletedCheckpoint checkpoint =
+                serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        Long baseCheckpointId = checkpoint.getBaseCheckpointId();
+        if (baseCheckpointId == null) {
+            return checkpoint;
+        }
+        PipelineState baseState =
+                storage.getCheckpoint(
+                        pipelineState.getJobId(),
+                        String.valueOf(pipelineState.getPipelineId()),
+                        String.valueOf(baseCheckpointId));
+        CompletedCheckpoint base =
+                serializer.deserialize(baseState.getStates(), CompletedCheckpoint.class);
+
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (Map.Entry<ActionStateKey, ActionState> entry : checkpoint.getTaskStates().entrySet()) {
+            ActionState state = entry.getValue();
+            ActionState baseActionState = base.getTaskStates().get(entry.getKey());
+            ActionState resolved = new ActionState(state.getStateKey(), state.getParallelism());
+            resolved.reportState(
+                    -1,
+                    resolve(
+                            state.getCoordinatorState(),
+                            baseActionState == null ? null : baseActionState.getCoordinatorState(),
+                            baseCheckpointId));
+            for (int i = 0; i < state.getParallelism(); i++) {
+                resolved.reportState(
+                        i,
+                        resolve(
+                                state.getSubtaskStates().get(i),
+                                baseActionState == null
+                                        ? null
+                                        : baseActionState.getSubtaskStates().get(i),
+                                baseCheckpointId));
+            }
+            taskStates.put(entry.getKey(), resolved);
+        }
+        return copyOf(checkpoint, taskStates);
+    }
+
+    private static ActionSubtaskState resolve(
+            ActionSubtaskState state, ActionSubtaskState baseState, long baseCheckpointId) {
+        if (state == null || state.getBaseCheckpointId() == null) {
+            return state;
+        }
+        if (baseState == null) {
+            throw new IllegalStateException(
+                    String.format(
+                            "State %s of subtask %s references checkpoint %s which does not contain it",
+                            state.getStateKey(), state.getIndex(), baseCheckpointId));
+        }
+        return baseState;
+    }
+
+    private static CompletedCheckpoint copyOf(
+            CompletedCheckpoint checkpoint, Map<ActionStateKey, ActionState> taskStates) {
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpoint.getCheckpointId(),
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                taskStates,
+                checkpoint.getTaskStatistics());
+    }
+}
@@ -135,8 +135,15 @@ public class PendingCheckpoint implements Checkpoint {
             if (actionState == null) {
                 continue;
             }
-            stateSize +=
-                    state.getState().stream().filter(Objects::nonNull).map(s -> s.length).count();
+            if (state.getStateHandle() != null) {
+                stateSize += state.getStateHandle().getSize();
+            } else if (state.getState() != null) {
+                stateSize +=
+                        state.getState().stream()
+                                .filter(Objects::nonNull)
+                                .mapToLong(s -> s.length)
+                                .sum();
+            }
             actionState.reportState(state.getIndex(), state);
         }
         statistics.reportSubtaskStatistics(
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
+import org.apache.seatunnel.engine.common.utils.FactoryUtil;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes subtask states straight to the checkpoint storage from the node running the task.
+ *
+ * <p>States with at least {@code direct-upload-threshold} bytes are uploaded by the task and only a
+ * {@link TaskStateHandle} is sent to the master, so the master neither receives nor stores the
+ * state bytes of large jobs. The states are read back on the node the task is restored on. Uploads
+ * run on a small pool of this node, so the task thread that handled the barrier is not held up.
+ */
+@Slf4j
+public class TaskStateStore {
+
+    private static final Serializer SERIALIZER = new ProtoStuffSerializer();
+
+    private static final int UPLOAD_THREADS = 4;
+
+    private final CheckpointConfig checkpointConfig;
+
+    private final long uploadThreshold;
+
+    private final ExecutorService uploadExecutor = createUploadExecutor();
+
+    private volatile CheckpointStorage checkpointStorage;
+
+    public TaskStateStore(CheckpointConfig checkpointConfig) {
+        this.checkpointConfig = checkpointConfig;
+        this.uploadThreshold = checkpointConfig.getDirectUploadThreshold();
+    }
+
+    public TaskStateStore(CheckpointStorage checkpointStorage, long uploadThreshold) {
+        this.checkpointConfig = null;
+        this.checkpointStorage = checkpointStorage;
+        this.uploadThreshold = uploadThreshold;
+    }
+
+    /** Whether any of the states reaches the threshold and is uploaded by {@link #upload}. */
+    public boolean needsUpload(List<ActionSubtaskState> states) {
+        return uploadThreshold >= 0
+                && states != null
+                && states.stream()
+                        .anyMatch(
+                                state ->
+                                        state != null
+                                                && state.getState() != null
+                                                && sizeOf(state) >= uploadThreshold);
+    }
+
+    /** {@link #upload} on the upload pool of this node. */
+    public CompletableFuture<List<ActionSubtaskState>> uploadAsync(
+            TaskLocation taskLocation, long checkpointId, List<ActionSubtaskState> states) {
+        return CompletableFuture.supplyAsync(
+                () -> upload(taskLocation, checkpointId, states), uploadExecutor);
+    }
+
+    public void close() {
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * Upload the states which reach the threshold.
+     *
+     * @return the states to acknowledge, uploaded states are replaced by their handle. A state
+     *     which fails to upload is acknowledged with its bytes as before.
+     */
+    public List<ActionSubtaskState> upload(
+            TaskLocation taskLocation, long checkpointId, List<ActionSubtaskState> states) {
+        if (uploadThreshold < 0 || states == null) {
+            return states;
+        }
+        List<ActionSubtaskState> acknowledged = new ArrayList<>(states.size());
+        for (int i = 0; i < states.size(); i++) {
+            ActionSubtaskState state = states.get(i);
+            if (state == null || state.getState() == null || sizeOf(state) < uploadThreshold) {
+                acknowledged.add(state);
+                continue;
+            }
+            String name = taskLocation.getTaskID() + "-" + taskLocation.getTaskIndex() + "-" + i;
+            try {
+                byte[] data = SERIALIZER.serialize(state);
+                String path =
+                        getCheckpointStorage()
+                                .storeTaskState(
+                                        String.valueOf(taskLocation.getJobId()),
+                                        String.valueOf(taskLocation.getPipelineId()),
+                                        String.valueOf(checkpointId),
+                                        name,
+                                        data);
+                ActionSubtaskState handle =
+                        new ActionSubtaskState(state.getStateKey(), state.getIndex(), null);
+                handle.setStateHandle(new TaskStateHandle(path, data.length, digest(data)));
+                acknowledged.add(handle);
+            } catch (Exception e) {
+                log.warn(
+                        "Failed to upload state {} of {} for checkpoint {}, sending it to the master",
+                        state.getStateKey(),
+                        taskLocation,
+                        checkpointId,
+                        e);
+                acknowledged.add(state);
+            }
+        }
+        return acknowledged;
+    }
+
+    /** Replace the handles in the states by the uploaded states. */
+    public List<ActionSubtaskState> resolve(long jobId, List<ActionSubtaskState> states)
+            throws IOException, CheckpointStorageException {
+        if (states == null
+                || states.stream()
+                        .filter(Objects::nonNull)
+                        .noneMatch(state -> state.getStateHandle() != null)) {
+            return states;
+        }
+        List<ActionSubtaskState> resolved = new ArrayList<>(states.size());
+        for (ActionSubtaskState state : states) {
+            resolved.add(resolve(getCheckpointStorage(), String.valueOf(jobId), state));
+        }
+        return resolved;
+    }
+
+    /**
+     * Read the uploaded state a handle points to.
+     *
+     * @return the state itself if it has no handle, otherwise the uploaded state
+     */
+    public static ActionSubtaskState resolve(
+            CheckpointStorage checkpointStorage, String jobId, ActionSubtaskState state)
+            throws IOException, CheckpointStorageException {
+        if (state == null || state.getStateHandle() == null) {
+            return state;
+        }
+        TaskStateHandle handle = state.getStateHandle();
+        byte[] data = checkpointStorage.readTaskState(jobId, handle.getPath());
+        if (data.length != handle.getSize()
+                || !MessageDigest.isEqual(digest(data), handle.getDigest())) {
+            throw new CheckpointStorageException(
+                    String.format(
+                            "Task state %s of job %s is corrupted, expected %s bytes with a matching SHA-256 digest",
+                            handle.getPath(), jobId, handle.getSize()));
+        }
+        ActionSubtaskState uploaded = SERIALIZER.deserialize(data, ActionSubtaskState.class);
+        return new ActionSubtaskState(state.getStateKey(), state.getIndex(), uploaded.getState());
+    }
+
+    private CheckpointStorage getCheckpointStorage() throws CheckpointStorageException {
+        if (checkpointStorage == null) {
+            synchronized (this) {
+                if (checkpointStorage == null) {
+                    checkpointStorage =
+                            FactoryUtil.discoverFactory(
+                                            TaskStateStore.class.getClassLoader(),
+                                            CheckpointStorageFactory.class,
+                                            checkpointConfig.getStorage().getStorage())
+                                    .create(checkpointConfig.getStorage().getStoragePluginConfig());
+                }
+            }
+        }
+        return checkpointStorage;
+    }
+
+    private static long sizeOf(ActionSubtaskState state) {
+        long size = 0;
+        for (byte[] bytes : state.getState()) {
+            if (bytes != null) {
+                size += bytes.length;
+            }
+        }
+        return size;
+    }
+
+    private static byte[] digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ExecutorService createUploadExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor uploadThreadPool =
+                new ThreadPoolExecutor(
+                        UPLOAD_THREADS,
+                        UPLOAD_THREADS,
+                        60L,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setName("task-state-upload-" + threadIndex.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        uploadThreadPool.allowCoreThreadTimeOut(true);
+        return uploadThreadPool;
+    }
+}
@@ -104,7 +104,12 @@ public class NotifyTaskRestoreOperation extends TaskOperation {
                                                 log.debug(
                                                         "NotifyTaskRestoreOperation.restoreState "
                                                                 + restoredState);
-                                                task.restoreState(restoredState);
+                                                task.restoreState(
+                                                        server.getTaskExecutionService()
+                                                                .getTaskStateStore()
+                                                                .resolve(
+                                                                        taskLocation.getJobId(),
+                                                                        restoredState));
                                                 log.debug(
                                                         "NotifyTaskRestoreOperation.finished "
                                                                 + restoredState);
@@ -251,18 +251,19 @@ public class ExecutionPlanGenerator {
         checkArgument(!hasOtherAction.isPresent());
 
         Set<ExecutionEdge> newExecutionEdges = new LinkedHashSet<>();
+        ShuffleConfig shuffleConfig = ShuffleConfig.builder().build();
         ShuffleStrategy shuffleStrategy =
                 ShuffleMultipleRowStrategy.builder()
                         .jobId(jobImmutableInformation.getJobId())
                         .inputPartitions(sourceAction.getParallelism())
                         .catalogTables(producedCatalogTables)
+                        .queueItemMaxRecords(shuffleConfig.getBatchSize())
                         .queueEmptyQueueTtl(
                                 (int)
                                         (engineConfig.getCheckpointConfig().getCheckpointInterval()
                                                 * 3))
                         .build();
-        ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+        shuffleConfig.setShuffleStrategy(shuffleStrategy);
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
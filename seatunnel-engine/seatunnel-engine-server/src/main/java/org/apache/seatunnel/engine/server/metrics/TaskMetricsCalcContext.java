@@ -172,6 +172,52 @@ public class TaskMetricsCalcContext {
         }
     }
 
+    /**
+     * Updates the metrics for a batch of rows of one table at once.
+     *
+     * @param tableId the table id of the rows, may be blank for single table jobs.
+     * @param rowCount the number of rows.
+     * @param bytesSize the total bytes size of the rows.
+     */
+    public void updateMetrics(String tableId, long rowCount, long bytesSize) {
+        count.inc(rowCount);
+        QPS.markEvent(rowCount);
+        bytes.inc(bytesSize);
+        bytesPerSeconds.markEvent(bytesSize);
+
+        if (StringUtils.isNotBlank(tableId)) {
+            String tableName = TablePath.of(tableId).getFullName();
+            processMetrics(
+                    countPerTable,
+                    Counter.class,
+                    tableName,
+                    SINK_WRITE_COUNT,
+                    SOURCE_RECEIVED_COUNT,
+                    counter -> counter.inc(rowCount));
+            processMetrics(
+                    bytesPerTable,
+                    Counter.class,
+                    tableName,
+                    SINK_WRITE_BYTES,
+                    SOURCE_RECEIVED_BYTES,
+                    counter -> counter.inc(bytesSize));
+            processMetrics(
+                    QPSPerTable,
+                    Meter.class,
+                    tableName,
+                    SINK_WRITE_QPS,
+                    SOURCE_RECEIVED_QPS,
+                    meter -> meter.markEvent(rowCount));
+            processMetrics(
+                    bytesPerSecondsPerTable,
+                    Meter.class,
+                    tableName,
+                    SINK_WRITE_BYTES_PER_SECONDS,
+                    SOURCE_RECEIVED_BYTES_PER_SECONDS,
+                    meter -> meter.markEvent(bytesSize));
+        }
+    }
+
     private <T> void processMetrics(
             Map<String, T> metricMap,
             Class<T> cls,
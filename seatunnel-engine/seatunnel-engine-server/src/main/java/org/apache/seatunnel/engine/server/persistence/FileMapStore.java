@@ -33,11 +33,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FileMapStore implements MapStore<Object, Object>, MapLoaderLifecycleSupport {
 
     private IMapStorage mapStorage;
 
+    /**
+     * Entries read by {@link #loadAllKeys()} which the following {@link #loadAll(Collection)}
+     * batches of the initial load have not taken yet, so the storage is only read once for it.
+     * Dropped once every entry is taken and on any write, so it never outlives the initial load.
+     */
+    private volatile Map<Object, Object> pendingLoad;
+
     @Override
     public void init(HazelcastInstance hazelcastInstance, Properties properties, String mapName) {
 
@@ -52,26 +60,31 @@ public class FileMapStore implements MapStore<Object, Object>, MapLoaderLifecycl
 
     @Override
     public void destroy() {
+        pendingLoad = null;
         mapStorage.destroy(false);
     }
 
     @Override
     public void store(Object key, Object value) {
+        pendingLoad = null;
         mapStorage.store(key, value);
     }
 
     @Override
     public void storeAll(Map<Object, Object> map) {
+        pendingLoad = null;
         mapStorage.storeAll(map);
     }
 
     @Override
     public void delete(Object key) {
+        pendingLoad = null;
         mapStorage.delete(key);
     }
 
     @Override
     public void deleteAll(Collection<Object> keys) {
+        pendingLoad = null;
         mapStorage.deleteAll(keys);
     }
 
@@ -84,15 +97,38 @@ public class FileMapStore implements MapStore<Object, Object>, MapLoaderLifecycl
     @SneakyThrows
     @Override
     public Map<Object, Object> loadAll(Collection<Object> keys) {
-        Map<Object, Object> allMap = mapStorage.loadAll();
+        Map<Object, Object> pending = pendingLoad;
+        Map<Object, Object> allMap = null;
         Map<Object, Object> retMap = new HashMap<>();
-        keys.forEach(key -> retMap.put(key, allMap.get(key)));
+        for (Object key : keys) {
+            Object value = pending == null ? null : pending.remove(key);
+            if (value == null) {
+                if (allMap == null) {
+                    allMap = mapStorage.loadAll();
+                }
+                value = allMap.get(key);
+            }
+            retMap.put(key, value);
+        }
+        if (pending != null && pending.isEmpty()) {
+            pendingLoad = null;
+        }
 
         return Collections.unmodifiableMap(retMap);
     }
 
+    @SneakyThrows
     @Override
     public Iterable<Object> loadAllKeys() {
-        return mapStorage.loadAllKeys();
+        Map<Object, Object> allMap = mapStorage.loadAll();
+        Map<Object, Object> pending = new ConcurrentHashMap<>();
+        allMap.forEach(
+                (key, value) -> {
+                    if (key != null && value != null) {
+                        pending.put(key, value);
+                    }
+                });
+        pendingLoad = pending;
+        return allMap.keySet();
     }
 }
@@ -22,6 +22,7 @@ import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -29,11 +30,15 @@ import com.hazelcast.nio.serialization.StreamSerializer;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        SERIALIZED_SEATUNNEL_ROW,
+        RECORD_BATCH;
     }
 
     @Override
@@ -52,10 +57,20 @@ public class RecordSerializer implements StreamSerializer<Record> {
             out.writeByte(RecordDataType.SEATUNNEL_ROW.ordinal());
             out.writeString(row.getTableId());
             out.writeByte(row.getRowKind().toByteValue());
-            out.writeByte(row.getArity());
+            out.writeInt(row.getArity());
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof SerializedSeaTunnelRow) {
+            out.writeByte(RecordDataType.SERIALIZED_SEATUNNEL_ROW.ordinal());
+            ((SerializedSeaTunnelRow) data).writeTo(out);
+        } else if (data instanceof RecordBatch) {
+            List<Record<?>> records = ((RecordBatch) data).getRecords();
+            out.writeByte(RecordDataType.RECORD_BATCH.ordinal());
+            out.writeInt(records.size());
+            for (Record<?> batchRecord : records) {
+                write(out, batchRecord);
+            }
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -77,7 +92,7 @@ public class RecordSerializer implements StreamSerializer<Record> {
         } else if (dataType == RecordDataType.SEATUNNEL_ROW.ordinal()) {
             String tableId = in.readString();
             byte rowKind = in.readByte();
-            byte arity = in.readByte();
+            int arity = in.readInt();
             SeaTunnelRow row = new SeaTunnelRow(arity);
             row.setTableId(tableId);
             row.setRowKind(RowKind.fromByteValue(rowKind));
@@ -85,6 +100,15 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.SERIALIZED_SEATUNNEL_ROW.ordinal()) {
+            data = new SerializedSeaTunnelRow(in.readByteArray());
+        } else if (dataType == RecordDataType.RECORD_BATCH.ordinal()) {
+            int size = in.readInt();
+            List<Record<?>> records = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                records.add(read(in));
+            }
+            data = new RecordBatch(records);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
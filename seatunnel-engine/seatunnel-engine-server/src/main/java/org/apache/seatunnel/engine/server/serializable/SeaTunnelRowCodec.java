@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Encodes the fields of a {@link SeaTunnelRow} against a known {@link SeaTunnelRowType}.
+ *
+ * <p>Fields are preceded by a null bitmap and written with the primitive method matching their
+ * {@link SqlType}, so no type id or boxed object has to be written per column. Nested rows are
+ * encoded recursively, other composite types fall back to {@link ObjectDataOutput#writeObject}.
+ * Table id and row kind are not part of the encoding.
+ */
+public class SeaTunnelRowCodec {
+
+    private final SeaTunnelDataType<?>[] fieldTypes;
+    private final SeaTunnelRowCodec[] nestedCodecs;
+    private final int bitmapSize;
+
+    public SeaTunnelRowCodec(SeaTunnelRowType rowType) {
+        this.fieldTypes = rowType.getFieldTypes();
+        this.nestedCodecs = new SeaTunnelRowCodec[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if (fieldTypes[i].getSqlType() == SqlType.ROW) {
+                nestedCodecs[i] = new SeaTunnelRowCodec((SeaTunnelRowType) fieldTypes[i]);
+            }
+        }
+        this.bitmapSize = (fieldTypes.length + 7) >>> 3;
+    }
+
+    public int getArity() {
+        return fieldTypes.length;
+    }
+
+    /** Whether every field of the row has the class the codec writes for its {@link SqlType}. */
+    public boolean accepts(SeaTunnelRow row) {
+        Object[] fields = row.getFields();
+        if (fields.length != fieldTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null && !acceptsField(i, fields[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void write(ObjectDataOutput out, SeaTunnelRow row) throws IOException {
+        Object[] fields = row.getFields();
+        if (fields.length != fieldTypes.length) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Row arity %s does not match the codec arity %s",
+                            fields.length, fieldTypes.length));
+        }
+        byte[] nullBitmap = new byte[bitmapSize];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(nullBitmap);
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                writeField(out, i, fields[i]);
+            }
+        }
+    }
+
+    public SeaTunnelRow read(ObjectDataInput in) throws IOException {
+        byte[] nullBitmap = new byte[bitmapSize];
+        in.readFully(nullBitmap);
+        SeaTunnelRow row = new SeaTunnelRow(fieldTypes.length);
+        for (int i = 0; i < fieldTypes.length; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) == 0) {
+                row.setField(i, readField(in, i));
+            }
+        }
+        return row;
+    }
+
+    private boolean acceptsField(int pos, Object value) {
+        switch (fieldTypes[pos].getSqlType()) {
+            case STRING:
+                return value instanceof String;
+            case BOOLEAN:
+                return value instanceof Boolean;
+            case TINYINT:
+                return value instanceof Byte;
+            case SMALLINT:
+                return value instanceof Short;
+            case INT:
+                return value instanceof Integer;
+            case BIGINT:
+                return value instanceof Long;
+            case FLOAT:
+                return value instanceof Float;
+            case DOUBLE:
+                return value instanceof Double;
+            case DECIMAL:
+                return value instanceof BigDecimal;
+            case BYTES:
+                return value instanceof byte[];
+            case DATE:
+                return value instanceof LocalDate;
+            case TIME:
+                return value instanceof LocalTime;
+            case TIMESTAMP:
+                return value instanceof LocalDateTime;
+            case TIMESTAMP_TZ:
+                return value instanceof OffsetDateTime;
+            case ROW:
+                return value instanceof SeaTunnelRow
+                        && nestedCodecs[pos].accepts((SeaTunnelRow) value);
+            default:
+                return true;
+        }
+    }
+
+    private void writeField(ObjectDataOutput out, int pos, Object value) throws IOException {
+        switch (fieldTypes[pos].getSqlType()) {
+            case STRING:
+                out.writeString((String) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case TINYINT:
+                out.writeByte((Byte) value);
+                break;
+            case SMALLINT:
+                out.writeShort((Short) value);
+                break;
+            case INT:
+                out.writeInt((Integer) value);
+                break;
+            case BIGINT:
+                out.writeLong((Long) value);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                out.writeInt(decimal.scale());
+                out.writeByteArray(decimal.unscaledValue().toByteArray());
+                break;
+            case BYTES:
+                out.writeByteArray((byte[]) value);
+                break;
+            case DATE:
+                out.writeLong(((LocalDate) value).toEpochDay());
+                break;
+            case TIME:
+                out.writeLong(((LocalTime) value).toNanoOfDay());
+                break;
+            case TIMESTAMP:
+                LocalDateTime dateTime = (LocalDateTime) value;
+                out.writeLong(dateTime.toLocalDate().toEpochDay());
+                out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+                break;
+            case TIMESTAMP_TZ:
+                OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+                out.writeLong(offsetDateTime.toLocalDate().toEpochDay());
+                out.writeLong(offsetDateTime.toLocalTime().toNanoOfDay());
+                out.writeInt(offsetDateTime.getOffset().getTotalSeconds());
+                break;
+            case ROW:
+                nestedCodecs[pos].write(out, (SeaTunnelRow) value);
+                break;
+            default:
+                out.writeObject(value);
+        }
+    }
+
+    private Object readField(ObjectDataInput in, int pos) throws IOException {
+        switch (fieldTypes[pos].getSqlType()) {
+            case STRING:
+                return in.readString();
+            case BOOLEAN:
+                return in.readBoolean();
+            case TINYINT:
+                return in.readByte();
+            case SMALLINT:
+                return in.readShort();
+            case INT:
+                return in.readInt();
+            case BIGINT:
+                return in.readLong();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(in.readByteArray()), scale);
+            case BYTES:
+                return in.readByteArray();
+            case DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TIMESTAMP:
+                return LocalDateTime.of(
+                        LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+            case TIMESTAMP_TZ:
+                LocalDateTime dateTime =
+                        LocalDateTime.of(
+                                LocalDate.ofEpochDay(in.readLong()),
+                                LocalTime.ofNanoOfDay(in.readLong()));
+                return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(in.readInt()));
+            case ROW:
+                return nestedCodecs[pos].read(in);
+            default:
+                return in.readObject();
+        }
+    }
+}
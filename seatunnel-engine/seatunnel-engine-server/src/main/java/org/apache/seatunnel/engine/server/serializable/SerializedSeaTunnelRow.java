@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+
+/**
+ * A {@link SeaTunnelRow} encoded by a {@link ShuffleRowSerializer}.
+ *
+ * <p>On the sending side the row is only encoded when the record is serialized, straight into the
+ * output of the shuffle queue. On the receiving side the encoded bytes are kept until the row is
+ * decoded by {@link ShuffleRowSerializer#deserialize}.
+ */
+public class SerializedSeaTunnelRow {
+    private final byte[] bytes;
+
+    private final InternalSerializationService serializationService;
+    private final SeaTunnelRowCodec codec;
+    private final int tableIndex;
+    private final SeaTunnelRow row;
+
+    public SerializedSeaTunnelRow(byte[] bytes) {
+        this.bytes = bytes;
+        this.serializationService = null;
+        this.codec = null;
+        this.tableIndex = -1;
+        this.row = null;
+    }
+
+    SerializedSeaTunnelRow(
+            InternalSerializationService serializationService,
+            SeaTunnelRowCodec codec,
+            int tableIndex,
+            SeaTunnelRow row) {
+        this.bytes = null;
+        this.serializationService = serializationService;
+        this.codec = codec;
+        this.tableIndex = tableIndex;
+        this.row = row;
+    }
+
+    /** The encoded row, only available on the receiving side. */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /** Writes the encoded row in the format of {@link ObjectDataOutput#writeByteArray}. */
+    public void writeTo(ObjectDataOutput out) throws IOException {
+        if (bytes != null) {
+            out.writeByteArray(bytes);
+            return;
+        }
+        if (out instanceof BufferObjectDataOutput) {
+            // encode in place and fill in the length afterwards, instead of copying a byte array
+            BufferObjectDataOutput buffer = (BufferObjectDataOutput) out;
+            int lengthPosition = buffer.position();
+            buffer.writeInt(0);
+            encode(buffer);
+            buffer.writeInt(lengthPosition, buffer.position() - lengthPosition - Integer.BYTES);
+            return;
+        }
+        BufferObjectDataOutput buffer = serializationService.createObjectDataOutput();
+        try {
+            encode(buffer);
+            out.writeByteArray(buffer.toByteArray());
+        } finally {
+            buffer.close();
+        }
+    }
+
+    private void encode(ObjectDataOutput out) throws IOException {
+        out.writeInt(tableIndex);
+        out.writeByte(row.getRowKind().toByteValue());
+        codec.write(out, row);
+    }
+}
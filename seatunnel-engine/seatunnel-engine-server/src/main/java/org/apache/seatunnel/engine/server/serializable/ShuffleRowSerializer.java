@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.schema.event.SchemaChangeEvent;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes the rows sent through a shuffle with the {@link SeaTunnelRowCodec} of their table.
+ *
+ * <p>The table id of a row is replaced by its position in the shuffle table list, which is known to
+ * both ends of the shuffle. Records of unknown tables, rows that do not match the declared schema
+ * and all rows of a table after a schema change are passed through unchanged and serialized
+ * generically by {@link RecordSerializer}.
+ */
+@Slf4j
+public class ShuffleRowSerializer {
+    private final InternalSerializationService serializationService;
+    private final Map<String, Integer> tableIndexes = new HashMap<>();
+    private final String[] tableIds;
+    private final SeaTunnelRowCodec[] readCodecs;
+    private final SeaTunnelRowCodec[] writeCodecs;
+
+    public ShuffleRowSerializer(
+            InternalSerializationService serializationService, List<CatalogTable> tables) {
+        this.serializationService = serializationService;
+        this.tableIds = new String[tables.size()];
+        this.readCodecs = new SeaTunnelRowCodec[tables.size()];
+        for (int i = 0; i < tables.size(); i++) {
+            CatalogTable table = tables.get(i);
+            tableIds[i] = table.getTableId().toTablePath().toString();
+            tableIndexes.put(tableIds[i], i);
+            readCodecs[i] = new SeaTunnelRowCodec(table.getSeaTunnelRowType());
+        }
+        this.writeCodecs = readCodecs.clone();
+    }
+
+    public Record<?> serialize(Record<?> record) throws IOException {
+        Object data = record.getData();
+        if (data instanceof SchemaChangeEvent) {
+            disableCodec(((SchemaChangeEvent) data).tablePath().toString());
+            return record;
+        }
+        if (!(data instanceof SeaTunnelRow)) {
+            return record;
+        }
+        SeaTunnelRow row = (SeaTunnelRow) data;
+        Integer tableIndex = tableIndexes.get(row.getTableId());
+        if (tableIndex == null) {
+            return record;
+        }
+        SeaTunnelRowCodec codec = writeCodecs[tableIndex];
+        if (codec == null || codec.getArity() != row.getArity()) {
+            return record;
+        }
+        if (!codec.accepts(row)) {
+            log.warn(
+                    "Row of table {} does not match its declared schema, "
+                            + "fall back to generic serialization",
+                    row.getTableId());
+            writeCodecs[tableIndex] = null;
+            return record;
+        }
+        // the row is encoded when the shuffle queue serializes the record
+        return new Record<>(
+                new SerializedSeaTunnelRow(serializationService, codec, tableIndex, row));
+    }
+
+    public Record<?> deserialize(Record<?> record) throws IOException {
+        if (!(record.getData() instanceof SerializedSeaTunnelRow)) {
+            return record;
+        }
+        byte[] bytes = ((SerializedSeaTunnelRow) record.getData()).getBytes();
+        BufferObjectDataInput input = serializationService.createObjectDataInput(bytes);
+        int tableIndex = input.readInt();
+        RowKind rowKind = RowKind.fromByteValue(input.readByte());
+        SeaTunnelRow row = readCodecs[tableIndex].read(input);
+        row.setTableId(tableIds[tableIndex]);
+        row.setRowKind(rowKind);
+        return new Record<>(row);
+    }
+
+    private void disableCodec(String tableId) {
+        Integer tableIndex = tableIndexes.get(tableId);
+        if (tableIndex != null && writeCodecs[tableIndex] != null) {
+            log.info("Schema of table {} changed, disable its shuffle row codec", tableId);
+            writeCodecs[tableIndex] = null;
+        }
+    }
+}
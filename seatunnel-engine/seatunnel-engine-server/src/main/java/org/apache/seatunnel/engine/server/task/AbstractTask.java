@@ -20,6 +20,10 @@ package org.apache.seatunnel.engine.server.task;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
+import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.checkpoint.TaskStateStore;
+import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.Task;
@@ -28,6 +32,7 @@ import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.net.URL;
@@ -38,6 +43,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 
+@Slf4j
 public abstract class AbstractTask implements Task {
     private static final long serialVersionUID = -2524701323779523718L;
 
@@ -111,6 +117,43 @@ public abstract class AbstractTask implements Task {
                 .join();
     }
 
+    /**
+     * Acknowledge the barrier to the checkpoint coordinator, large states are uploaded to the
+     * checkpoint storage by this node and only their handles are sent. The upload and the
+     * acknowledgement then run on the upload pool, so the task keeps processing records meanwhile.
+     */
+    protected void acknowledgeCheckpoint(
+            CheckpointBarrier barrier, List<ActionSubtaskState> states) {
+        TaskStateStore taskStateStore =
+                getExecutionContext().getTaskExecutionService().getTaskStateStore();
+        if (!taskStateStore.needsUpload(states)) {
+            getExecutionContext()
+                    .sendToMaster(new TaskAcknowledgeOperation(taskLocation, barrier, states))
+                    .join();
+            return;
+        }
+        taskStateStore
+                .uploadAsync(taskLocation, barrier.getId(), states)
+                .thenAccept(
+                        acknowledgedStates ->
+                                getExecutionContext()
+                                        .sendToMaster(
+                                                new TaskAcknowledgeOperation(
+                                                        taskLocation, barrier, acknowledgedStates))
+                                        .join())
+                .whenComplete(
+                        (ignored, error) -> {
+                            if (error != null) {
+                                // the checkpoint times out without this acknowledgement
+                                log.error(
+                                        "Failed to acknowledge checkpoint {} of {}",
+                                        barrier.getId(),
+                                        taskLocation,
+                                        error);
+                            }
+                        });
+    }
+
     public static <T> List<byte[]> serializeStates(Serializer<T> serializer, List<T> states) {
         return states.stream()
                 .map(state -> sneaky(() -> serializer.serialize(state)))
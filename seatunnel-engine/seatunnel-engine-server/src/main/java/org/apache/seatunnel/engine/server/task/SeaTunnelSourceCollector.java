@@ -43,11 +43,20 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 public class SeaTunnelSourceCollector<T> implements Collector<T> {
 
+    private static final int BYTES_SIZE_SAMPLE_INTERVAL = 16;
+
+    private static final int METRICS_FLUSH_ROWS = 1024;
+
+    private static final int EMIT_BATCH_SIZE = 256;
+
     private final Object checkpointLock;
 
     private final List<OneInputFlowLifeCycle<Record<?>>> outputs;
@@ -67,6 +76,14 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     private SeaTunnelDataType rowType;
     private FlowControlGate flowControlGate;
 
+    private final Queue<Record<?>> pendingRecords = new ConcurrentLinkedQueue<>();
+    private int pendingRecordCount;
+
+    private final Map<String, PendingMetrics> pendingMetrics = new HashMap<>();
+    private String lastTableId;
+    private PendingMetrics lastPendingMetrics;
+    private long pendingRows;
+
     public SeaTunnelSourceCollector(
             Object checkpointLock,
             List<OneInputFlowLifeCycle<Record<?>>> outputs,
@@ -96,26 +113,96 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     public void collect(T row) {
         try {
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
-                } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
+                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) row;
+                String tableId = seaTunnelRow.getTableId();
+                PendingMetrics metrics = getPendingMetrics(tableId);
+                if (metrics.seenRows++ % BYTES_SIZE_SAMPLE_INTERVAL == 0) {
+                    metrics.sampledRows++;
+                    metrics.sampledBytes += getBytesSize(seaTunnelRow, tableId);
                 }
-                flowControlGate.audit((SeaTunnelRow) row);
-                taskMetricsCalcContext.updateMetrics(row, tableId);
+                metrics.rows++;
+                pendingRows++;
+                flowControlGate.audit(seaTunnelRow);
             }
-            sendRecordToNext(new Record<>(row));
+            emit(new Record<>(row));
             emptyThisPollNext = false;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void emit(Record<?> record) throws IOException {
+        if (Thread.holdsLock(checkpointLock)) {
+            // the reader emits records and updates its state atomically under the lock itself
+            emitPendingRecords();
+            sendRecordToNext(record);
+            return;
+        }
+        pendingRecords.add(record);
+        if (++pendingRecordCount >= EMIT_BATCH_SIZE) {
+            emitPendingRecords();
+        }
+    }
+
+    /**
+     * Sends the records collected outside of the checkpoint lock to the downstream flows, taking
+     * the lock once for all of them. Called when a batch is full, after every poll and before a
+     * barrier is injected, so a barrier never overtakes a record collected before it.
+     */
+    public void emitPendingRecords() throws IOException {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        synchronized (checkpointLock) {
+            pendingRecordCount = 0;
+            Record<?> record;
+            while ((record = pendingRecords.poll()) != null) {
+                sendRecordToNext(record);
+            }
+        }
+    }
+
+    private int getBytesSize(SeaTunnelRow row, String tableId) {
+        if (rowType instanceof SeaTunnelRowType) {
+            return row.getBytesSize((SeaTunnelRowType) rowType);
+        } else if (rowType instanceof MultipleRowType) {
+            return row.getBytesSize(rowTypeMap.get(tableId));
+        }
+        throw new SeaTunnelEngineException("Unsupported row type: " + rowType.getClass().getName());
+    }
+
+    private PendingMetrics getPendingMetrics(String tableId) {
+        if (lastPendingMetrics == null || !Objects.equals(lastTableId, tableId)) {
+            lastPendingMetrics =
+                    pendingMetrics.computeIfAbsent(tableId, id -> new PendingMetrics());
+            lastTableId = tableId;
+        }
+        return lastPendingMetrics;
+    }
+
+    /** Flushes the pending metrics once enough rows have been collected since the last flush. */
+    public void maybeFlushMetrics() {
+        if (pendingRows >= METRICS_FLUSH_ROWS) {
+            flushMetrics();
+        }
+    }
+
+    /** Publishes the row count and the estimated bytes size collected since the last flush. */
+    public void flushMetrics() {
+        if (pendingRows == 0) {
+            return;
+        }
+        for (Map.Entry<String, PendingMetrics> entry : pendingMetrics.entrySet()) {
+            PendingMetrics metrics = entry.getValue();
+            if (metrics.rows > 0) {
+                taskMetricsCalcContext.updateMetrics(
+                        entry.getKey(), metrics.rows, metrics.estimateBytesSize());
+                metrics.reset();
+            }
+        }
+        pendingRows = 0;
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
@@ -130,7 +217,7 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
                 throw new SeaTunnelEngineException(
                         "Unsupported row type: " + rowType.getClass().getName());
             }
-            sendRecordToNext(new Record<>(event));
+            emit(new Record<>(event));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -189,11 +276,39 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         this.emptyThisPollNext = true;
     }
 
+    /**
+     * Sends the record to the downstream flows. The caller must hold the checkpoint lock, records
+     * collected by the reader are sent in batches by {@link #emitPendingRecords()}.
+     */
     public void sendRecordToNext(Record<?> record) throws IOException {
-        synchronized (checkpointLock) {
-            for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
-                output.received(record);
+        for (OneInputFlowLifeCycle<Record<?>> output : outputs) {
+            output.received(record);
+        }
+    }
+
+    /**
+     * Row count and sampled bytes size of one table since the last flush. The bytes size is only
+     * computed for one of {@link #BYTES_SIZE_SAMPLE_INTERVAL} rows and extrapolated to the others.
+     */
+    private static class PendingMetrics {
+        private long seenRows;
+        private long rows;
+        private long sampledRows;
+        private long sampledBytes;
+        private long averageBytesSize;
+
+        private long estimateBytesSize() {
+            if (sampledRows > 0) {
+                averageBytesSize = sampledBytes / sampledRows;
+                return sampledBytes + (rows - sampledRows) * averageBytesSize;
             }
+            return rows * averageBytesSize;
+        }
+
+        private void reset() {
+            rows = 0;
+            sampledRows = 0;
+            sampledBytes = 0;
         }
     }
 }
@@ -35,7 +35,6 @@ import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
-import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeAfterCheckpointOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TriggerSchemaChangeBeforeCheckpointOperation;
 import org.apache.seatunnel.engine.server.dag.physical.config.IntermediateQueueConfig;
@@ -64,6 +63,7 @@ import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -241,6 +241,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
             } else if (f.getAction() instanceof ShuffleAction) {
                 ShuffleAction shuffleAction = (ShuffleAction) f.getAction();
                 HazelcastInstance hazelcastInstance = getExecutionContext().getInstance();
+                InternalSerializationService serializationService =
+                        getExecutionContext().getSerializationService();
                 if (flow.getNext().isEmpty()) {
                     lifeCycle =
                             new ShuffleSinkFlowLifeCycle(
@@ -248,6 +250,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    serializationService,
                                     completableFuture);
                 } else {
                     lifeCycle =
@@ -256,6 +259,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                                     indexID,
                                     shuffleAction,
                                     hazelcastInstance,
+                                    serializationService,
                                     completableFuture);
                 }
                 outputs = flowLifeCycles;
@@ -345,13 +349,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 this.prepareCloseBarrierId.set(barrier.getId());
             }
             if (barrier.snapshot()) {
-                this.getExecutionContext()
-                        .sendToMaster(
-                                new TaskAcknowledgeOperation(
-                                        this.taskLocation,
-                                        (CheckpointBarrier) barrier,
-                                        checkpointStates.remove(barrier.getId())))
-                        .join();
+                acknowledgeCheckpoint(
+                        (CheckpointBarrier) barrier, checkpointStates.remove(barrier.getId()));
             }
         }
     }
@@ -27,7 +27,6 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointCloseReason;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointException;
-import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
@@ -238,15 +237,10 @@ public class SinkAggregatedCommitterTask<CommandInfoT, AggregatedCommitInfoT>
                             aggregatedCommitInfoSerializer,
                             checkpointCommitInfoMap.getOrDefault(
                                     barrier.getId(), Collections.emptyList()));
-            this.getExecutionContext()
-                    .sendToMaster(
-                            new TaskAcknowledgeOperation(
-                                    this.taskLocation,
-                                    (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(sink), -1, states))))
-                    .join();
+            acknowledgeCheckpoint(
+                    (CheckpointBarrier) barrier,
+                    Collections.singletonList(
+                            new ActionSubtaskState(ActionStateKey.of(sink), -1, states)));
         }
 
         log.debug(
@@ -29,7 +29,6 @@ import org.apache.seatunnel.engine.core.job.ConnectorJarIdentifier;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
-import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
@@ -164,17 +163,13 @@ public class SourceSplitEnumeratorTask<SplitT extends SourceSplit> extends Coord
             sendToActiveReader(barrier);
         }
         if (barrier.snapshot()) {
-            this.getExecutionContext()
-                    .sendToMaster(
-                            new TaskAcknowledgeOperation(
-                                    this.taskLocation,
-                                    (CheckpointBarrier) barrier,
-                                    Collections.singletonList(
-                                            new ActionSubtaskState(
-                                                    ActionStateKey.of(source),
-                                                    -1,
-                                                    Collections.singletonList(serialize)))))
-                    .join();
+            acknowledgeCheckpoint(
+                    (CheckpointBarrier) barrier,
+                    Collections.singletonList(
+                            new ActionSubtaskState(
+                                    ActionStateKey.of(source),
+                                    -1,
+                                    Collections.singletonList(serialize))));
         }
 
         log.debug(
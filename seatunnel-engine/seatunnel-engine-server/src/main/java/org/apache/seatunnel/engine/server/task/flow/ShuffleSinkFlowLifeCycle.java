@@ -23,20 +23,33 @@ import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowSerializer;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 
+/**
+ * Partitions the records of the upstream task onto the shuffle queues of the downstream tasks. The
+ * records buffered for a queue are sent as one {@link RecordBatch} per flush, barriers are copied
+ * to every queue.
+ *
+ * <p>The transfer still goes through Hazelcast {@link IQueue}s, only the number of queue items is
+ * reduced by batching. A direct point-to-point channel between the tasks with credit-based flow
+ * control is not implemented.
+ */
 @SuppressWarnings("MagicNumber")
 @Slf4j
 public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
@@ -49,6 +62,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     private final long shuffleBatchFlushInterval;
     private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final ShuffleRowSerializer shuffleRowSerializer;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -57,6 +71,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            InternalSerializationService serializationService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
@@ -67,6 +82,8 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
         this.shuffleBuffer = new HashMap<>();
+        this.shuffleRowSerializer =
+                new ShuffleRowSerializer(serializationService, shuffleStrategy.getShuffleTables());
     }
 
     @Override
@@ -126,9 +143,11 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
+    private synchronized void shuffleItem(Record<?> record) throws IOException {
         String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+        shuffleBuffer
+                .computeIfAbsent(shuffleKey, key -> new LinkedList<>())
+                .add(shuffleRowSerializer.serialize(record));
         shuffleBufferSize++;
 
         if (shuffleBufferSize >= shuffleBatchSize
@@ -142,19 +161,19 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
             IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
             Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+            if (shuffleQueueBatch.isEmpty()) {
+                continue;
+            }
+            // send the whole batch as one queue element, so the queue pays one item per flush
+            // instead of one item per record
+            Record<?> shuffleItem =
+                    shuffleQueueBatch.size() == 1
+                            ? shuffleQueueBatch.poll()
+                            : new Record<>(new RecordBatch(new ArrayList<>(shuffleQueueBatch)));
+            try {
+                shuffleQueue.put(shuffleItem);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
             }
             shuffleQueueBatch.clear();
         }
@@ -22,27 +22,40 @@ import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.common.utils.concurrent.CompletableFuture;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.ShuffleRowSerializer;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
 
 import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Reads the records of the downstream task from the shuffle queues of all upstream tasks and aligns
+ * their barriers. Up to a configured number of records is drained from a queue at once, {@link
+ * RecordBatch} items are unpacked into the records they carry.
+ *
+ * <p>Like {@link ShuffleSinkFlowLifeCycle}, this still reads from Hazelcast {@link IQueue}s; a
+ * direct point-to-point channel with credit-based flow control is not implemented.
+ */
 @Slf4j
 @SuppressWarnings("MagicNumber")
 public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
-    private final int shuffleBatchSize;
+    private final int shuffleBatchItems;
     private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleRowSerializer shuffleRowSerializer;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -53,6 +66,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
             int taskIndex,
             ShuffleAction shuffleAction,
             HazelcastInstance hazelcastInstance,
+            InternalSerializationService serializationService,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
@@ -62,7 +76,20 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                         .getConfig()
                         .getShuffleStrategy()
                         .getShuffles(hazelcastInstance, pipelineId, taskIndex);
-        this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        // queue items are batches of up to queueItemMaxRecords records, so drain only as many
+        // items as make up one batch of records
+        this.shuffleBatchItems =
+                Math.max(
+                        1,
+                        shuffleAction.getConfig().getBatchSize()
+                                / shuffleAction
+                                        .getConfig()
+                                        .getShuffleStrategy()
+                                        .getQueueItemMaxRecords());
+        this.shuffleRowSerializer =
+                new ShuffleRowSerializer(
+                        serializationService,
+                        shuffleAction.getConfig().getShuffleStrategy().getShuffleTables());
     }
 
     @Override
@@ -83,15 +110,23 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                 continue;
             }
 
-            List<Record<?>> shuffleBatch = new LinkedList<>();
+            List<Record<?>> shuffleBatch = new ArrayList<>();
+            List<Record<?>> shuffleItems = new ArrayList<>();
             if (alignedBarriersCounter > 0) {
-                shuffleBatch.add(shuffleQueue.take());
+                shuffleItems.add(shuffleQueue.take());
             } else if (!unsentBuffer.isEmpty()) {
                 shuffleBatch.addAll(unsentBuffer);
                 unsentBuffer.clear();
             }
 
-            shuffleQueue.drainTo(shuffleBatch, shuffleBatchSize);
+            shuffleQueue.drainTo(shuffleItems, shuffleBatchItems);
+            for (Record<?> shuffleItem : shuffleItems) {
+                if (shuffleItem.getData() instanceof RecordBatch) {
+                    shuffleBatch.addAll(((RecordBatch) shuffleItem.getData()).getRecords());
+                } else {
+                    shuffleBatch.add(shuffleItem);
+                }
+            }
 
             for (int recordIndex = 0; recordIndex < shuffleBatch.size(); recordIndex++) {
                 Record<?> record = shuffleBatch.get(recordIndex);
@@ -138,7 +173,7 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
-                    collector.collect(record);
+                    collector.collect(shuffleRowSerializer.deserialize(record));
                 }
             }
         }
@@ -58,7 +58,13 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -68,6 +74,10 @@ import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStat
 public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFlowLifeCycle
         implements InternalCheckpointListener {
 
+    private static final long MAX_IDLE_WAIT_MILLIS = 100;
+
+    private static final long BARRIER_HANDOVER_TIMEOUT_MILLIS = 1000;
+
     private final SourceAction<T, SplitT, ?> sourceAction;
     private final TaskLocation enumeratorTaskLocation;
 
@@ -89,6 +99,15 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
 
+    private long idleBackoffMillis;
+
+    private final Queue<PendingBarrier> pendingBarriers = new ConcurrentLinkedQueue<>();
+
+    /** Released when a barrier is triggered or the awaited reader availability completes. */
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    private CompletionStage<Void> awaitedAvailability;
+
     public SourceFlowLifeCycle(
             SourceAction<T, SplitT, ?> sourceAction,
             int indexID,
@@ -148,27 +167,26 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     }
 
     public void collect() throws Exception {
+        processPendingBarriers(true);
         if (!prepareClose) {
             if (schemaChanging()) {
                 log.debug("schema is changing, stop reader collect records");
 
-                Thread.sleep(200);
+                backoff();
                 return;
             }
 
+            // The collector takes the checkpoint lock per batch of emitted records, so a reader
+            // blocked on I/O does not hold back a barrier.
             reader.pollNext(collector);
+            collector.emitPendingRecords();
+            collector.maybeFlushMetrics();
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                collector.flushMetrics();
+                waitForData();
             } else {
+                idleBackoffMillis = 0;
                 collector.resetEmptyThisPollNext();
-                /**
-                 * The current thread obtain a checkpoint lock in the method {@link
-                 * SourceReader#pollNext(Collector)}. When trigger the checkpoint or savepoint,
-                 * other threads try to obtain the lock in the method {@link
-                 * SourceFlowLifeCycle#triggerBarrier(Barrier)}. When high CPU load, checkpoint
-                 * process may be blocked as long time. So we need sleep to free the CPU.
-                 */
-                Thread.sleep(0L);
             }
 
             if (collector.captureSchemaChangeBeforeCheckpointSignal()) {
@@ -191,7 +209,38 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 log.info("triggered schema-change-after checkpoint, stopping collect data");
             }
         } else {
-            Thread.sleep(100);
+            idle(MAX_IDLE_WAIT_MILLIS);
+        }
+    }
+
+    /**
+     * Parks the task until the reader reports available data or a barrier is triggered. The wait is
+     * bounded so that close requests and bounded readers that need to signal no more element are
+     * still served.
+     */
+    private void waitForData() throws InterruptedException {
+        CompletionStage<Void> available = reader.isAvailable();
+        if (available.toCompletableFuture().isDone()) {
+            backoff();
+            return;
+        }
+        if (available != awaitedAvailability) {
+            awaitedAvailability = available;
+            available.thenRun(wakeUp::release);
+        }
+        idle(MAX_IDLE_WAIT_MILLIS);
+    }
+
+    /** Waits with an exponential backoff for readers that do not track data availability. */
+    private void backoff() throws InterruptedException {
+        idleBackoffMillis =
+                idleBackoffMillis == 0 ? 1 : Math.min(idleBackoffMillis * 2, MAX_IDLE_WAIT_MILLIS);
+        idle(idleBackoffMillis);
+    }
+
+    private void idle(long millis) throws InterruptedException {
+        if (wakeUp.tryAcquire(millis, TimeUnit.MILLISECONDS)) {
+            wakeUp.drainPermits();
         }
     }
 
@@ -269,21 +318,20 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
         long startTime = System.currentTimeMillis();
 
-        // Block the reader from adding barrier to the collector.
-        synchronized (collector.getCheckpointLock()) {
-            if (barrier.prepareClose(this.currentTaskLocation)) {
-                this.prepareClose = true;
-            }
-            if (barrier.snapshot()) {
-                List<byte[]> states =
-                        serializeStates(splitSerializer, reader.snapshotState(barrier.getId()));
-                runningTask.addState(barrier, ActionStateKey.of(sourceAction), states);
+        // Hand the barrier over to the task thread, which injects it between two polls. If the
+        // task thread is not collecting, e.g. it is restoring or closing, inject it here.
+        PendingBarrier pendingBarrier = new PendingBarrier(barrier, new CompletableFuture<>());
+        pendingBarriers.add(pendingBarrier);
+        wakeUp.release();
+        try {
+            try {
+                pendingBarrier.injected.get(BARRIER_HANDOVER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                processPendingBarriers(false);
+                pendingBarrier.injected.get();
             }
-            // ack after #addState
-            runningTask.ack(barrier);
-            log.debug("source ack barrier finished, taskId: [{}]", runningTask.getTaskID());
-            collector.sendRecordToNext(new Record<>(barrier));
-            log.debug("send record to next finished, taskId: [{}]", runningTask.getTaskID());
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
         }
 
         log.debug(
@@ -322,6 +370,47 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         }
     }
 
+    /**
+     * Injects the pending barriers under the checkpoint lock. The pending metrics of the collector
+     * are only touched by the task thread, so they are flushed only when called from it.
+     */
+    private void processPendingBarriers(boolean taskThread) throws IOException {
+        if (pendingBarriers.isEmpty()) {
+            return;
+        }
+        synchronized (collector.getCheckpointLock()) {
+            if (taskThread) {
+                collector.flushMetrics();
+            }
+            collector.emitPendingRecords();
+            PendingBarrier pendingBarrier;
+            while ((pendingBarrier = pendingBarriers.poll()) != null) {
+                try {
+                    injectBarrier(pendingBarrier.barrier);
+                    pendingBarrier.injected.complete(null);
+                } catch (Throwable e) {
+                    pendingBarrier.injected.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void injectBarrier(Barrier barrier) throws Exception {
+        if (barrier.prepareClose(this.currentTaskLocation)) {
+            this.prepareClose = true;
+        }
+        if (barrier.snapshot()) {
+            List<byte[]> states =
+                    serializeStates(splitSerializer, reader.snapshotState(barrier.getId()));
+            runningTask.addState(barrier, ActionStateKey.of(sourceAction), states);
+        }
+        // ack after #addState
+        runningTask.ack(barrier);
+        log.debug("source ack barrier finished, taskId: [{}]", runningTask.getTaskID());
+        collector.sendRecordToNext(new Record<>(barrier));
+        log.debug("send record to next finished, taskId: [{}]", runningTask.getTaskID());
+    }
+
     private boolean schemaChanging() {
         return schemaChangePhase.get() != null;
     }
@@ -379,6 +468,12 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         }
     }
 
+    @RequiredArgsConstructor
+    private static class PendingBarrier {
+        private final Barrier barrier;
+        private final CompletableFuture<Void> injected;
+    }
+
     @Getter
     @ToString
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class IncrementalCheckpointTest {
+
+    private static final long JOB_ID = 1;
+    private static final int PIPELINE_ID = 1;
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+    private static final ActionStateKey SINK = new ActionStateKey("sink");
+
+    private final ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    public void setup() {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", "/tmp/seatunnel/incremental-checkpoint/");
+        storage = new LocalFileStorage(config);
+    }
+
+    @AfterEach
+    public void teardown() {
+        storage.deleteCheckpoint(String.valueOf(JOB_ID));
+    }
+
+    @Test
+    public void testUnchangedStatesReferenceBase() throws Exception {
+        IncrementalCheckpoint incremental = new IncrementalCheckpoint(2);
+
+        CompletedCheckpoint full =
+                checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "split-a", "enumerator", "commit-1");
+        CompletedCheckpoint stored = store(incremental, full);
+        Assertions.assertNull(stored.getBaseCheckpointId());
+        Assertions.assertEquals(1L, incremental.getBaseCheckpointId());
+
+        CompletedCheckpoint second =
+                checkpoint(2, CheckpointType.CHECKPOINT_TYPE, "split-a", "enumerator", "commit-2");
+        stored = store(incremental, second);
+        Assertions.assertEquals(1L, stored.getBaseCheckpointId());
+        ActionState storedSource = stored.getTaskStates().get(SOURCE);
+        Assertions.assertNull(storedSource.getSubtaskStates().get(0).getState());
+        Assertions.assertEquals(1L, storedSource.getSubtaskStates().get(0).getBaseCheckpointId());
+        Assertions.assertNull(storedSource.getCoordinatorState().getState());
+        Assertions.assertNotNull(
+                stored.getTaskStates().get(SINK).getSubtaskStates().get(0).getState());
+
+        CompletedCheckpoint restored = restore(2);
+        Assertions.assertNull(restored.getBaseCheckpointId());
+        assertStates(second, restored);
+
+        // the third checkpoint is still a delta, the fourth one is full again
+        store(
+                incremental,
+                checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "split-b", "enumerator", "commit-3"));
+        assertStates(
+                checkpoint(3, CheckpointType.CHECKPOINT_TYPE, "split-b", "enumerator", "commit-3"),
+                restore(3));
+        stored =
+                store(
+                        incremental,
+                        checkpoint(
+                                4, CheckpointType.CHECKPOINT_TYPE, "split-b", "enumerator", "c"));
+        Assertions.assertNull(stored.getBaseCheckpointId());
+        Assertions.assertEquals(4L, incremental.getBaseCheckpointId());
+    }
+
+    @Test
+    public void testSavepointIsAlwaysFull() throws Exception {
+        IncrementalCheckpoint incremental = new IncrementalCheckpoint(10);
+        store(incremental, checkpoint(1, CheckpointType.CHECKPOINT_TYPE, "a", "b", "c"));
+        CompletedCheckpoint stored =
+                store(incremental, checkpoint(2, CheckpointType.SAVEPOINT_TYPE, "a", "b", "c"));
+        Assertions.assertNull(stored.getBaseCheckpointId());
+        Assertions.assertEquals(1L, incremental.getBaseCheckpointId());
+    }
+
+    private CompletedCheckpoint store(
+            IncrementalCheckpoint incremental, CompletedCheckpoint checkpoint)
+            throws IOException, CheckpointStorageException {
+        CompletedCheckpoint encoded = incremental.encode(checkpoint);
+        storage.storeCheckPoint(
+                PipelineState.builder()
+                        .jobId(String.valueOf(JOB_ID))
+                        .pipelineId(PIPELINE_ID)
+                        .checkpointId(checkpoint.getCheckpointId())
+                        .states(serializer.serialize(encoded))
+                        .build());
+        incremental.stored(checkpoint, encoded);
+        return encoded;
+    }
+
+    private CompletedCheckpoint restore(long checkpointId)
+            throws IOException, CheckpointStorageException {
+        PipelineState state =
+                storage.getCheckpoint(
+                        String.valueOf(JOB_ID),
+                        String.valueOf(PIPELINE_ID),
+                        String.valueOf(checkpointId));
+        return IncrementalCheckpoint.restore(state, storage, serializer);
+    }
+
+    private static void assertStates(CompletedCheckpoint expected, CompletedCheckpoint actual) {
+        Assertions.assertEquals(expected.getCheckpointId(), actual.getCheckpointId());
+        for (ActionStateKey key : expected.getTaskStates().keySet()) {
+            ActionState expectedState = expected.getTaskStates().get(key);
+            ActionState actualState = actual.getTaskStates().get(key);
+            Assertions.assertArrayEquals(
+                    expectedState.getSubtaskStates().get(0).getState().get(0),
+                    actualState.getSubtaskStates().get(0).getState().get(0));
+            if (expectedState.getCoordinatorState() != null) {
+                Assertions.assertArrayEquals(
+                        expectedState.getCoordinatorState().getState().get(0),
+                        actualState.getCoordinatorState().getState().get(0));
+            }
+        }
+    }
+
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId,
+            CheckpointType type,
+            String sourceState,
+            String enumeratorState,
+            String sinkState) {
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        ActionState source = new ActionState(SOURCE, 1);
+        source.reportState(0, subtaskState(SOURCE, 0, sourceState));
+        source.reportState(-1, subtaskState(SOURCE, -1, enumeratorState));
+        taskStates.put(SOURCE, source);
+        ActionState sink = new ActionState(SINK, 1);
+        sink.reportState(0, subtaskState(SINK, 0, sinkState));
+        taskStates.put(SINK, sink);
+        return new CompletedCheckpoint(
+                JOB_ID,
+                PIPELINE_ID,
+                checkpointId,
+                checkpointId,
+                type,
+                checkpointId,
+                taskStates,
+                new HashMap<>());
+    }
+
+    private static ActionSubtaskState subtaskState(ActionStateKey key, int index, String state) {
+        return new ActionSubtaskState(key, index, Collections.singletonList(state.getBytes()));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.apache.commons.io.FileUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class TaskStateStoreTest {
+
+    private static final String NAMESPACE = "/tmp/seatunnel/task-state-store/";
+    private static final long JOB_ID = 1;
+    private static final TaskLocation TASK_LOCATION =
+            new TaskLocation(new TaskGroupLocation(JOB_ID, 1, 1), 1, 0);
+    private static final ActionStateKey SOURCE = new ActionStateKey("source");
+    private static final ActionStateKey SINK = new ActionStateKey("sink");
+
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    public void setup() {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", NAMESPACE);
+        storage = new LocalFileStorage(config);
+    }
+
+    @AfterEach
+    public void teardown() {
+        storage.deleteCheckpoint(String.valueOf(JOB_ID));
+    }
+
+    @Test
+    public void testUploadAndResolve() throws Exception {
+        TaskStateStore store = new TaskStateStore(storage, 16);
+        byte[] largeState = new byte[64];
+        Arrays.fill(largeState, (byte) 7);
+        List<ActionSubtaskState> states =
+                Arrays.asList(
+                        new ActionSubtaskState(SOURCE, 0, Collections.singletonList(largeState)),
+                        new ActionSubtaskState(SINK, 0, Collections.singletonList(new byte[1])));
+
+        List<ActionSubtaskState> acknowledged = store.upload(TASK_LOCATION, 1, states);
+        Assertions.assertNull(acknowledged.get(0).getState());
+        Assertions.assertNotNull(acknowledged.get(0).getStateHandle());
+        Assertions.assertEquals(SOURCE, acknowledged.get(0).getStateKey());
+        // states below the threshold are still sent to the master
+        Assertions.assertSame(states.get(1), acknowledged.get(1));
+
+        List<ActionSubtaskState> resolved = store.resolve(JOB_ID, acknowledged);
+        Assertions.assertNull(resolved.get(0).getStateHandle());
+        Assertions.assertArrayEquals(largeState, resolved.get(0).getState().get(0));
+        Assertions.assertSame(acknowledged.get(1), resolved.get(1));
+    }
+
+    @Test
+    public void testUploadDisabled() {
+        TaskStateStore store = new TaskStateStore(storage, -1);
+        List<ActionSubtaskState> states =
+                Collections.singletonList(
+                        new ActionSubtaskState(SOURCE, 0, Collections.singletonList(new byte[64])));
+        Assertions.assertSame(states, store.upload(TASK_LOCATION, 1, states));
+    }
+
+    @Test
+    public void testCorruptedStateIsRejected() throws Exception {
+        TaskStateStore store = new TaskStateStore(storage, 0);
+        ActionSubtaskState handle =
+                store.upload(
+                                TASK_LOCATION,
+                                1,
+                                Collections.singletonList(
+                                        new ActionSubtaskState(
+                                                SOURCE,
+                                                0,
+                                                Collections.singletonList(new byte[] {1, 2, 3}))))
+                        .get(0);
+        File file = new File(NAMESPACE + JOB_ID, handle.getStateHandle().getPath());
+        byte[] data = FileUtils.readFileToByteArray(file);
+        data[data.length - 1]++;
+        FileUtils.writeByteArrayToFile(file, data);
+
+        Assertions.assertThrows(
+                CheckpointStorageException.class,
+                () -> store.resolve(JOB_ID, Collections.singletonList(handle)));
+    }
+
+    @Test
+    public void testStatesAreDeletedWithCheckpoint() throws Exception {
+        TaskStateStore store = new TaskStateStore(storage, 0);
+        List<ActionSubtaskState> states =
+                Collections.singletonList(
+                        new ActionSubtaskState(SOURCE, 0, Collections.singletonList(new byte[8])));
+        ActionSubtaskState stored = store.upload(TASK_LOCATION, 1, states).get(0);
+        ActionSubtaskState aborted = store.upload(TASK_LOCATION, 2, states).get(0);
+        storage.storeCheckPoint(
+                PipelineState.builder()
+                        .jobId(String.valueOf(JOB_ID))
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(new byte[0])
+                        .build());
+
+        storage.deleteTaskStates(String.valueOf(JOB_ID), "1", "2");
+        Assertions.assertFalse(
+                new File(NAMESPACE + JOB_ID, aborted.getStateHandle().getPath()).exists());
+        Assertions.assertTrue(
+                new File(NAMESPACE + JOB_ID, stored.getStateHandle().getPath()).exists());
+
+        storage.deleteCheckpoint(String.valueOf(JOB_ID), "1", "1");
+        Assertions.assertFalse(
+                new File(NAMESPACE + JOB_ID, stored.getStateHandle().getPath()).exists());
+    }
+
+    @Test
+    public void testAsyncUpload() throws Exception {
+        TaskStateStore store = new TaskStateStore(storage, 4);
+        List<ActionSubtaskState> smallStates =
+                Collections.singletonList(
+                        new ActionSubtaskState(SOURCE, 0, Collections.singletonList(new byte[1])));
+        Assertions.assertFalse(store.needsUpload(smallStates));
+
+        List<ActionSubtaskState> states =
+                Arrays.asList(
+                        new ActionSubtaskState(
+                                SOURCE, 0, Collections.singletonList(new byte[] {1, 2, 3, 4})),
+                        new ActionSubtaskState(
+                                SOURCE, 1, Collections.singletonList(new byte[] {4, 3, 2, 1})));
+        Assertions.assertTrue(store.needsUpload(states));
+        List<ActionSubtaskState> acknowledged =
+                store.uploadAsync(TASK_LOCATION, 1, states).get(10, TimeUnit.SECONDS);
+        TaskStateHandle source = acknowledged.get(0).getStateHandle();
+        TaskStateHandle other = acknowledged.get(1).getStateHandle();
+        // states of the same size are told apart by their digest
+        Assertions.assertEquals(source.getSize(), other.getSize());
+        Assertions.assertFalse(Arrays.equals(source.getDigest(), other.getDigest()));
+        Assertions.assertArrayEquals(
+                new byte[] {4, 3, 2, 1},
+                store.resolve(JOB_ID, acknowledged).get(1).getState().get(0));
+        store.close();
+    }
+}
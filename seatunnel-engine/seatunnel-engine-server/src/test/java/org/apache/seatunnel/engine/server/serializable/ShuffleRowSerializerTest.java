@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ShuffleRowSerializerTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    @Test
+    public void testAllTypesRoundTrip() throws IOException {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "c_string",
+                            "c_boolean",
+                            "c_tinyint",
+                            "c_smallint",
+                            "c_int",
+                            "c_bigint",
+                            "c_float",
+                            "c_double",
+                            "c_decimal",
+                            "c_bytes",
+                            "c_date",
+                            "c_time",
+                            "c_timestamp",
+                            "c_timestamp_tz",
+                            "c_array",
+                            "c_row",
+                            "c_null"
+                        },
+                        new SeaTunnelDataType[] {
+                            BasicType.STRING_TYPE,
+                            BasicType.BOOLEAN_TYPE,
+                            BasicType.BYTE_TYPE,
+                            BasicType.SHORT_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.LONG_TYPE,
+                            BasicType.FLOAT_TYPE,
+                            BasicType.DOUBLE_TYPE,
+                            new DecimalType(30, 8),
+                            PrimitiveByteArrayType.INSTANCE,
+                            LocalTimeType.LOCAL_DATE_TYPE,
+                            LocalTimeType.LOCAL_TIME_TYPE,
+                            LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                            LocalTimeType.OFFSET_DATE_TIME_TYPE,
+                            ArrayType.STRING_ARRAY_TYPE,
+                            nestedType,
+                            BasicType.STRING_TYPE
+                        });
+        CatalogTable table = CatalogTableUtil.getCatalogTable("all_types", rowType);
+        ShuffleRowSerializer serializer =
+                new ShuffleRowSerializer(serializationService, Collections.singletonList(table));
+
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            "seatunnel",
+                            true,
+                            (byte) 1,
+                            (short) 2,
+                            3,
+                            4L,
+                            5.5f,
+                            6.6d,
+                            new BigDecimal("-12345678901234567890.12345678"),
+                            new byte[] {1, 2, 3},
+                            LocalDate.of(2024, 2, 29),
+                            LocalTime.of(23, 59, 59, 999999999),
+                            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1),
+                            OffsetDateTime.of(2024, 1, 1, 8, 0, 0, 0, ZoneOffset.ofHours(8)),
+                            new String[] {"a", null, "c"},
+                            new SeaTunnelRow(new Object[] {7, null}),
+                            null
+                        });
+        row.setTableId(table.getTableId().toTablePath().toString());
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        Record<?> serialized = serializer.serialize(new Record<>(row));
+        Assertions.assertInstanceOf(SerializedSeaTunnelRow.class, serialized.getData());
+
+        // the record must also survive the hazelcast serializer of the shuffle queue
+        Record<?> transferred =
+                serializationService.toObject(serializationService.toData(serialized));
+        Record<?> deserialized = serializer.deserialize(transferred);
+        Assertions.assertEquals(row, deserialized.getData());
+    }
+
+    @Test
+    public void testFallbackToGenericSerialization() throws IOException {
+        SeaTunnelDataType<?>[] fieldTypes = new SeaTunnelDataType[200];
+        String[] fieldNames = new String[200];
+        Object[] fields = new Object[200];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            fieldNames[i] = "c_" + i;
+            fieldTypes[i] = BasicType.LONG_TYPE;
+            fields[i] = (long) i;
+        }
+        CatalogTable table =
+                CatalogTableUtil.getCatalogTable(
+                        "wide_table", new SeaTunnelRowType(fieldNames, fieldTypes));
+        ShuffleRowSerializer serializer =
+                new ShuffleRowSerializer(serializationService, Collections.singletonList(table));
+
+        // rows of unknown tables are not encoded
+        SeaTunnelRow unknownRow = new SeaTunnelRow(Arrays.copyOf(fields, 200));
+        unknownRow.setTableId("unknown");
+        Assertions.assertSame(unknownRow, serializer.serialize(new Record<>(unknownRow)).getData());
+
+        // a row that does not match the declared schema disables the codec of its table
+        SeaTunnelRow mismatchedRow = new SeaTunnelRow(Arrays.copyOf(fields, 200));
+        mismatchedRow.setField(0, "not a long");
+        mismatchedRow.setTableId(table.getTableId().toTablePath().toString());
+        Assertions.assertSame(
+                mismatchedRow, serializer.serialize(new Record<>(mismatchedRow)).getData());
+
+        SeaTunnelRow row = new SeaTunnelRow(Arrays.copyOf(fields, 200));
+        row.setTableId(table.getTableId().toTablePath().toString());
+        Record<?> record = serializer.serialize(new Record<>(row));
+        Assertions.assertSame(row, record.getData());
+
+        Record<?> transferred = serializationService.toObject(serializationService.toData(record));
+        Assertions.assertEquals(row, serializer.deserialize(transferred).getData());
+    }
+
+    @Test
+    public void testRecordBatchRoundTrip() throws IOException {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        CatalogTable table = CatalogTableUtil.getCatalogTable("batch_table", rowType);
+        ShuffleRowSerializer serializer =
+                new ShuffleRowSerializer(serializationService, Collections.singletonList(table));
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {i, i % 2 == 0 ? null : "name" + i});
+            row.setTableId(table.getTableId().toTablePath().toString());
+            rows.add(row);
+            records.add(serializer.serialize(new Record<>(row)));
+        }
+
+        Record<?> transferred =
+                serializationService.toObject(
+                        serializationService.toData(new Record<>(new RecordBatch(records))));
+        List<Record<?>> transferredRecords = ((RecordBatch) transferred.getData()).getRecords();
+        Assertions.assertEquals(rows.size(), transferredRecords.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(
+                    rows.get(i), serializer.deserialize(transferredRecords.get(i)).getData());
+        }
+    }
+}
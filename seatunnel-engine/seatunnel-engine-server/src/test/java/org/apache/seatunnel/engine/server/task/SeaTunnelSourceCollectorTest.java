@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SeaTunnelSourceCollectorTest {
+
+    @Test
+    public void testMetricsAreFlushedPerBatch() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.emptyList(),
+                        metricsContext,
+                        FlowControlStrategy.builder().build(),
+                        rowType,
+                        Collections.emptyList());
+
+        for (int i = 0; i < 100; i++) {
+            collector.collect(new SeaTunnelRow(new Object[] {i, "ab"}));
+        }
+        Assertions.assertFalse(collector.isEmptyThisPollNext());
+        Assertions.assertEquals(
+                0, metricsContext.counter(MetricNames.SOURCE_RECEIVED_COUNT).getCount());
+
+        collector.flushMetrics();
+        Assertions.assertEquals(
+                100, metricsContext.counter(MetricNames.SOURCE_RECEIVED_COUNT).getCount());
+        // every row has 4 bytes for the int and 2 bytes for the string
+        Assertions.assertEquals(
+                600, metricsContext.counter(MetricNames.SOURCE_RECEIVED_BYTES).getCount());
+    }
+
+    @Test
+    public void testRecordsAreEmittedPerBatchUnderLock() throws Exception {
+        Object checkpointLock = new Object();
+        List<Record<?>> received = new ArrayList<>();
+        List<Boolean> receivedUnderLock = new ArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> output =
+                record -> {
+                    received.add(record);
+                    receivedUnderLock.add(Thread.holdsLock(checkpointLock));
+                };
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        checkpointLock,
+                        Collections.singletonList(output),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.builder().build(),
+                        new SeaTunnelRowType(
+                                new String[] {"id"}, new SeaTunnelDataType[] {BasicType.INT_TYPE}),
+                        Collections.emptyList());
+
+        // collecting does not wait for the checkpoint lock, only emitting a batch does
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> lockHolder =
+                CompletableFuture.runAsync(
+                        () -> {
+                            synchronized (checkpointLock) {
+                                locked.countDown();
+                                try {
+                                    release.await();
+                                } catch (InterruptedException e) {
+                                    throw new RuntimeException(e);
+                                }
+                            }
+                        });
+        locked.await();
+        for (int i = 0; i < 10; i++) {
+            collector.collect(new SeaTunnelRow(new Object[] {i}));
+        }
+        Assertions.assertTrue(received.isEmpty());
+        release.countDown();
+        lockHolder.get(10, TimeUnit.SECONDS);
+
+        collector.emitPendingRecords();
+        Assertions.assertEquals(10, received.size());
+
+        // a reader that holds the lock itself gets its records sent right away
+        synchronized (checkpointLock) {
+            collector.collect(new SeaTunnelRow(new Object[] {10}));
+            Assertions.assertEquals(11, received.size());
+        }
+
+        for (int i = 11; i < 1000; i++) {
+            collector.collect(new SeaTunnelRow(new Object[] {i}));
+        }
+        collector.emitPendingRecords();
+        Assertions.assertEquals(1000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        Assertions.assertFalse(receivedUnderLock.contains(false));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.flow;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleMultipleRowStrategy;
+import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
+import org.apache.seatunnel.engine.server.task.record.RecordBatch;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.collection.IQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ShuffleQueueBackPressureTest
+        extends AbstractSeaTunnelServerTest<ShuffleQueueBackPressureTest> {
+
+    @Test
+    public void testWriterBlocksOnFullQueue() throws Exception {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id"}, new SeaTunnelDataType[] {BasicType.LONG_TYPE});
+        CatalogTable table = CatalogTableUtil.getCatalogTable("back_pressure_table", rowType);
+        ShuffleMultipleRowStrategy strategy =
+                ShuffleMultipleRowStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .catalogTables(Collections.singletonList(table))
+                        .queueItemMaxRecords(ShuffleConfig.DEFAULT_BATCH_SIZE)
+                        .build();
+        IQueue<Record<?>> queue =
+                strategy.createShuffles(instance, 1, 0).values().iterator().next();
+
+        // a full batch per item must still leave room for more than a lock-step exchange
+        int maxItems = strategy.getQueueMaxItems();
+        Assertions.assertTrue(maxItems > 2);
+        Assertions.assertEquals(maxItems, queue.remainingCapacity());
+
+        for (int i = 0; i < maxItems; i++) {
+            queue.put(batch(i));
+        }
+        CompletableFuture<Void> blockedWriter =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                queue.put(batch(maxItems));
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Thread.sleep(500);
+        Assertions.assertFalse(blockedWriter.isDone());
+
+        List<Record<?>> drained = new ArrayList<>();
+        queue.drainTo(drained, 1);
+        blockedWriter.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(maxItems, queue.size());
+        queue.destroy();
+    }
+
+    private static Record<?> batch(long id) {
+        List<Record<?>> records = new ArrayList<>();
+        for (int i = 0; i < ShuffleConfig.DEFAULT_BATCH_SIZE; i++) {
+            records.add(new Record<>(new SeaTunnelRow(new Object[] {id})));
+        }
+        return new Record<>(new RecordBatch(records));
+    }
+}
@@ -25,7 +25,7 @@ import lombok.Data;
 import lombok.ToString;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @ToString(exclude = "states")
 public class PipelineState {
 
@@ -33,4 +33,10 @@ public class PipelineState {
     private int pipelineId;
     private long checkpointId;
     private byte[] states;
+
+    /** Codec of {@link #states}, null if the states are not compressed. */
+    private String compression;
+
+    /** Number of chunk files holding the states, 0 if the states are stored inline. */
+    private int chunks;
 }
@@ -21,6 +21,7 @@
 package org.apache.seatunnel.engine.checkpoint.storage.api;
 
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.common.CheckpointCompression;
 import org.apache.seatunnel.engine.checkpoint.storage.common.StorageThreadFactory;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
@@ -70,6 +71,13 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
 
     public static final String FILE_FORMAT = "ser";
 
+    public static final String TASK_STATE_DIRECTORY = "task-state";
+
+    public static final String TASK_STATE_FILE_FORMAT = "state";
+
+    /** codec used to compress the states of new checkpoints, existing data records its own */
+    private CheckpointCompression compression = CheckpointCompression.NONE;
+
     private volatile ExecutorService executorService;
 
     private static final int DEFAULT_THREAD_POOL_MIN_SIZE =
@@ -105,12 +113,76 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 + FILE_FORMAT;
     }
 
+    /**
+     * get the directory of the task states of a checkpoint, relative to the job directory
+     *
+     * @param pipelineId pipeline id
+     * @param checkpointId checkpoint id
+     * @return the relative directory
+     */
+    public String getTaskStateDirectory(String pipelineId, String checkpointId) {
+        return TASK_STATE_DIRECTORY
+                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                + pipelineId
+                + FILE_NAME_SPLIT
+                + checkpointId;
+    }
+
+    /**
+     * get the path of a task state, relative to the job directory
+     *
+     * @param pipelineId pipeline id
+     * @param checkpointId checkpoint id
+     * @param name state name
+     * @return the relative path
+     */
+    public String getTaskStatePath(String pipelineId, String checkpointId, String name) {
+        return getTaskStateDirectory(pipelineId, checkpointId)
+                + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT
+                + name
+                + "."
+                + TASK_STATE_FILE_FORMAT;
+    }
+
     public byte[] serializeCheckPointData(PipelineState state) throws IOException {
-        return serializer.serialize(state);
+        return serializer.serialize(compressCheckPointData(state));
     }
 
     public PipelineState deserializeCheckPointData(byte[] data) throws IOException {
-        return serializer.deserialize(data, PipelineState.class);
+        return decompressCheckPointData(serializer.deserialize(data, PipelineState.class));
+    }
+
+    /**
+     * compress the states with the configured codec, states which are already compressed or stored
+     * in chunk files are returned as is
+     */
+    public PipelineState compressCheckPointData(PipelineState state) throws IOException {
+        if (compression == CheckpointCompression.NONE
+                || state.getStates() == null
+                || state.getCompression() != null) {
+            return state;
+        }
+        return state.toBuilder()
+                .states(compression.compress(state.getStates()))
+                .compression(compression.name())
+                .build();
+    }
+
+    /** decompress the states with the codec they were written with */
+    public PipelineState decompressCheckPointData(PipelineState state) throws IOException {
+        if (state.getStates() == null || state.getCompression() == null) {
+            return state;
+        }
+        return state.toBuilder()
+                .states(
+                        CheckpointCompression.of(state.getCompression())
+                                .decompress(state.getStates()))
+                .compression(null)
+                .build();
+    }
+
+    public void setCompression(String compression) {
+        this.compression = CheckpointCompression.of(compression);
     }
 
     public void setStorageNameSpace(String storageNameSpace) {
@@ -205,6 +277,11 @@ public abstract class AbstractCheckpointStorage implements CheckpointStorage {
                 });
     }
 
+    protected ExecutorService getExecutorService() {
+        initExecutor();
+        return executorService;
+    }
+
     private void initExecutor() {
         if (null == this.executorService || this.executorService.isShutdown()) {
             synchronized (this) {
@@ -118,4 +118,46 @@ public interface CheckpointStorage {
 
     void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException;
+
+    /**
+     * Store the state of a single task of a checkpoint. The state is written by the task itself, so
+     * it is kept next to the checkpoint and deleted together with it.
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param checkpointId checkpoint id
+     * @param name name of the state, unique within the checkpoint
+     * @param data state data
+     * @return the path of the state, relative to the job
+     * @throws CheckpointStorageException if store state failed
+     */
+    default String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support storing task states");
+    }
+
+    /**
+     * Read a state stored by {@link #storeTaskState}.
+     *
+     * @param jobId job id
+     * @param path the path returned by {@link #storeTaskState}
+     * @return state data
+     * @throws CheckpointStorageException if read state failed
+     */
+    default byte[] readTaskState(String jobId, String path) throws CheckpointStorageException {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " does not support reading task states");
+    }
+
+    /**
+     * Delete the task states of a checkpoint which has not been stored, e.g. because it was
+     * aborted.
+     *
+     * @param jobId job id
+     * @param pipelineId pipeline id
+     * @param checkpointId checkpoint id
+     */
+    default void deleteTaskStates(String jobId, String pipelineId, String checkpointId) {}
 }
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.common;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/** Compression codecs for the serialized states of a checkpoint. */
+public enum CheckpointCompression {
+    NONE {
+        @Override
+        public byte[] compress(byte[] data) {
+            return data;
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) {
+            return data;
+        }
+    },
+
+    LZ4 {
+        @Override
+        public byte[] compress(byte[] data) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 2 + 64);
+            try (OutputStream out = new LZ4FrameOutputStream(buffer)) {
+                out.write(data);
+            }
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length * 2);
+            try (InputStream in = new LZ4FrameInputStream(new ByteArrayInputStream(data))) {
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    buffer.write(chunk, 0, read);
+                }
+            }
+            return buffer.toByteArray();
+        }
+    },
+
+    ZSTD {
+        @Override
+        public byte[] compress(byte[] data) {
+            return Zstd.compress(data);
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) {
+            return Zstd.decompress(data, (int) Zstd.decompressedSize(data));
+        }
+    };
+
+    public abstract byte[] compress(byte[] data) throws IOException;
+
+    public abstract byte[] decompress(byte[] data) throws IOException;
+
+    public static CheckpointCompression of(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return NONE;
+        }
+        return valueOf(name.trim().toUpperCase());
+    }
+}
@@ -24,4 +24,10 @@ public class StorageConstants {
 
     /** The name of the configuration property that specifies the name of the file system. */
     public static final String STORAGE_NAME_SPACE = "namespace";
+
+    /** The codec used to compress checkpoint states: none, lz4 or zstd. */
+    public static final String STORAGE_COMPRESSION = "compression";
+
+    /** States larger than this many bytes are written as chunk files in parallel. */
+    public static final String STORAGE_CHUNK_SIZE = "chunk-size";
 }
@@ -43,7 +43,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_CHUNK_SIZE;
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_COMPRESSION;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -52,6 +56,10 @@ public class HdfsStorage extends AbstractCheckpointStorage {
     public FileSystem fs;
     private static final String STORAGE_TMP_SUFFIX = "tmp";
     private static final String STORAGE_TYPE_KEY = "storage.type";
+    private static final String CHUNK_FILE_SUFFIX = ".chunk-";
+
+    /** states larger than this are split into chunk files, 0 disables splitting */
+    private long chunkSize = 0;
 
     public HdfsStorage(Map<String, String> configuration) throws CheckpointStorageException {
         this.initStorage(configuration);
@@ -63,6 +71,14 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
             configuration.remove(STORAGE_NAME_SPACE);
         }
+        if (StringUtils.isNotBlank(configuration.get(STORAGE_COMPRESSION))) {
+            setCompression(configuration.get(STORAGE_COMPRESSION));
+            configuration.remove(STORAGE_COMPRESSION);
+        }
+        if (StringUtils.isNotBlank(configuration.get(STORAGE_CHUNK_SIZE))) {
+            chunkSize = Long.parseLong(configuration.get(STORAGE_CHUNK_SIZE));
+            configuration.remove(STORAGE_CHUNK_SIZE);
+        }
         Configuration hadoopConf = getConfiguration(configuration);
         try {
             fs = FileSystem.get(hadoopConf);
@@ -83,30 +99,33 @@ public class HdfsStorage extends AbstractCheckpointStorage {
 
     @Override
     public String storeCheckPoint(PipelineState state) throws CheckpointStorageException {
-        byte[] datas;
-        try {
-            datas = serializeCheckPointData(state);
-        } catch (IOException e) {
-            throw new CheckpointStorageException(
-                    String.format("Failed to serialize checkpoint data, state: %s", state), e);
-        }
+        String checkpointName = getCheckPointName(state);
         Path filePath =
-                new Path(
-                        getStorageParentDirectory()
-                                + state.getJobId()
-                                + "/"
-                                + getCheckPointName(state));
-
+                new Path(getStorageParentDirectory() + state.getJobId() + "/" + checkpointName);
         Path tmpFilePath =
                 new Path(
                         getStorageParentDirectory()
                                 + state.getJobId()
                                 + "/"
-                                + getCheckPointName(state)
+                                + checkpointName
                                 + STORAGE_TMP_SUFFIX);
+        byte[] datas;
+        try {
+            PipelineState compressedState = compressCheckPointData(state);
+            if (chunkSize > 0
+                    && compressedState.getStates() != null
+                    && compressedState.getStates().length > chunkSize) {
+                compressedState = writeChunks(filePath, compressedState);
+            }
+            datas = serializeCheckPointData(compressedState);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to serialize checkpoint data, state: %s", state), e);
+        }
         try (FSDataOutputStream out = fs.create(tmpFilePath, false)) {
             out.write(datas);
         } catch (IOException e) {
+            deleteChunks(filePath);
             throw new CheckpointStorageException(
                     String.format(
                             "Failed to write checkpoint data, file: %s, state: %s",
@@ -116,10 +135,12 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         try {
             boolean success = fs.rename(tmpFilePath, filePath);
             if (!success) {
+                deleteChunks(filePath);
                 throw new CheckpointStorageException("Failed to rename tmp file to final file");
             }
 
         } catch (IOException e) {
+            deleteChunks(filePath);
             throw new CheckpointStorageException("Failed to rename tmp file to final file");
         } finally {
             try {
@@ -135,6 +156,123 @@ public class HdfsStorage extends AbstractCheckpointStorage {
         return filePath.getName();
     }
 
+    /**
+     * Write the states as chunk files next to the checkpoint file in parallel. The checkpoint file
+     * itself is written last, so a checkpoint is only visible once all of its chunks exist.
+     *
+     * @return the state to write into the checkpoint file
+     */
+    private PipelineState writeChunks(Path filePath, PipelineState state)
+            throws CheckpointStorageException {
+        byte[] states = state.getStates();
+        int chunks = (int) ((states.length + chunkSize - 1) / chunkSize);
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            Path chunkPath = getChunkPath(filePath, i);
+            int from = (int) (i * chunkSize);
+            int to = (int) Math.min(states.length, from + chunkSize);
+            futures.add(
+                    getExecutorService()
+                            .submit(
+                                    () -> {
+                                        try (FSDataOutputStream out = fs.create(chunkPath, true)) {
+                                            out.write(states, from, to - from);
+                                        }
+                                        return null;
+                                    }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            deleteChunks(filePath);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new CheckpointStorageException(
+                    String.format(
+                            "Failed to write checkpoint chunks, file: %s, state: %s",
+                            filePath, state),
+                    e);
+        }
+        return state.toBuilder().states(null).chunks(chunks).build();
+    }
+
+    private Path getChunkPath(Path filePath, int index) {
+        return new Path(filePath.getParent(), filePath.getName() + CHUNK_FILE_SUFFIX + index);
+    }
+
+    private void deleteChunks(Path filePath) {
+        try {
+            FileStatus[] chunkFiles =
+                    fs.globStatus(
+                            new Path(
+                                    filePath.getParent(),
+                                    filePath.getName() + CHUNK_FILE_SUFFIX + "*"));
+            if (chunkFiles != null) {
+                for (FileStatus chunkFile : chunkFiles) {
+                    fs.delete(chunkFile.getPath(), false);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete chunk files of checkpoint {}", filePath, e);
+        }
+    }
+
+    private void deleteCheckpointFile(Path filePath) throws IOException {
+        fs.delete(filePath, false);
+        deleteChunks(filePath);
+        String fileName = filePath.getName();
+        fs.delete(
+                new Path(
+                        filePath.getParent(),
+                        getTaskStateDirectory(
+                                getPipelineIdByFileName(fileName),
+                                getCheckpointIdByFileName(fileName))),
+                true);
+    }
+
+    @Override
+    public String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        String statePath = getTaskStatePath(pipelineId, checkpointId, name);
+        Path filePath = new Path(getStorageParentDirectory() + jobId, statePath);
+        try (FSDataOutputStream out = fs.create(filePath, true)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to write task state, file: %s", filePath), e);
+        }
+        return statePath;
+    }
+
+    @Override
+    public byte[] readTaskState(String jobId, String path) throws CheckpointStorageException {
+        Path filePath = new Path(getStorageParentDirectory() + jobId, path);
+        try {
+            return readFile(filePath);
+        } catch (IOException e) {
+            throw new CheckpointStorageException(
+                    String.format("Failed to read task state, file: %s", filePath), e);
+        }
+    }
+
+    @Override
+    public void deleteTaskStates(String jobId, String pipelineId, String checkpointId) {
+        Path directory =
+                new Path(
+                        getStorageParentDirectory() + jobId,
+                        getTaskStateDirectory(pipelineId, checkpointId));
+        try {
+            fs.delete(directory, true);
+        } catch (IOException e) {
+            log.warn("Failed to delete task states {}", directory, e);
+        }
+    }
+
     @Override
     public List<PipelineState> getAllCheckpoints(String jobId) throws CheckpointStorageException {
         String path = getStorageParentDirectory() + jobId;
@@ -286,9 +424,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
-                            fs.delete(
-                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
-                                    false);
+                            deleteCheckpointFile(
+                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName));
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -316,9 +453,8 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
-                            fs.delete(
-                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName),
-                                    false);
+                            deleteCheckpointFile(
+                                    new Path(path + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName));
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -360,12 +496,32 @@ public class HdfsStorage extends AbstractCheckpointStorage {
             throws CheckpointStorageException {
         fileName =
                 getStorageParentDirectory() + jobId + DEFAULT_CHECKPOINT_FILE_PATH_SPLIT + fileName;
-        try (FSDataInputStream in = fs.open(new Path(fileName));
-                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
-            IOUtils.copyBytes(in, stream, 1024);
-            byte[] bytes = stream.toByteArray();
-            return deserializeCheckPointData(bytes);
-        } catch (IOException e) {
+        try {
+            Path filePath = new Path(fileName);
+            PipelineState state = deserializeCheckPointData(readFile(filePath));
+            if (state.getChunks() > 0) {
+                List<Future<byte[]>> futures = new ArrayList<>(state.getChunks());
+                for (int i = 0; i < state.getChunks(); i++) {
+                    Path chunkPath = getChunkPath(filePath, i);
+                    futures.add(getExecutorService().submit(() -> readFile(chunkPath)));
+                }
+                ByteArrayOutputStream states = new ByteArrayOutputStream();
+                for (Future<byte[]> future : futures) {
+                    states.write(future.get());
+                }
+                state.setStates(states.toByteArray());
+                state.setChunks(0);
+                state = decompressCheckPointData(state);
+            }
+            return state;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CheckpointStorageException(
+                    String.format(
+                            "Interrupted while reading checkpoint data, file name is %s,job id is %s",
+                            fileName, jobId),
+                    e);
+        } catch (IOException | ExecutionException e) {
             throw new CheckpointStorageException(
                     String.format(
                             "Failed to read checkpoint data, file name is %s,job id is %s",
@@ -373,4 +529,12 @@ public class HdfsStorage extends AbstractCheckpointStorage {
                     e);
         }
     }
+
+    private byte[] readFile(Path filePath) throws IOException {
+        try (FSDataInputStream in = fs.open(filePath);
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            IOUtils.copyBytes(in, stream, 1024);
+            return stream.toByteArray();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.checkpoint.storage.hdfs;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+public class CompressedCheckPointTest {
+
+    private static final String NAMESPACE = "/tmp/seatunnel-compressed-checkpoint/";
+    private static final String JOB_ID = "compressed";
+
+    private HdfsStorage storage;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4", "zstd"})
+    public void testStoreAndReadChunkedCheckpoint(String compression)
+            throws CheckpointStorageException, IOException {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", NAMESPACE);
+        config.put("compression", compression);
+        config.put("chunk-size", "4096");
+        storage = new HdfsStorage(config);
+
+        byte[] states = new byte[64 * 1024];
+        Random random = new Random(7);
+        for (int i = 0; i < states.length; i++) {
+            // half random, half repeated bytes so the data is compressible but spans chunks
+            states[i] = i % 2 == 0 ? (byte) random.nextInt() : (byte) 'x';
+        }
+        String fileName =
+                storage.storeCheckPoint(
+                        PipelineState.builder()
+                                .jobId(JOB_ID)
+                                .pipelineId(1)
+                                .checkpointId(1)
+                                .states(states)
+                                .build());
+        Assertions.assertTrue(chunkFiles(fileName).length > 1);
+
+        PipelineState state = storage.getCheckpoint(JOB_ID, "1", "1");
+        Assertions.assertArrayEquals(states, state.getStates());
+        Assertions.assertNull(state.getCompression());
+        Assertions.assertEquals(0, state.getChunks());
+
+        storage.deleteCheckpoint(JOB_ID, "1", "1");
+        Assertions.assertEquals(0, chunkFiles(fileName).length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lz4", "zstd"})
+    public void testReadCheckpointWithoutCompressionConfig(String compression)
+            throws CheckpointStorageException {
+        Map<String, String> config = new HashMap<>();
+        config.put("namespace", NAMESPACE);
+        config.put("compression", compression);
+        storage = new HdfsStorage(config);
+        byte[] states = new byte[10000];
+        storage.storeCheckPoint(
+                PipelineState.builder()
+                        .jobId(JOB_ID)
+                        .pipelineId(1)
+                        .checkpointId(2)
+                        .states(states)
+                        .build());
+
+        Map<String, String> plainConfig = new HashMap<>();
+        plainConfig.put("namespace", NAMESPACE);
+        HdfsStorage plainStorage = new HdfsStorage(plainConfig);
+        Assertions.assertArrayEquals(
+                states,
+                plainStorage.getLatestCheckpointByJobIdAndPipelineId(JOB_ID, "1").getStates());
+    }
+
+    @AfterEach
+    public void teardown() {
+        storage.deleteCheckpoint(JOB_ID);
+    }
+
+    private FileStatus[] chunkFiles(String fileName) throws IOException {
+        FileStatus[] files =
+                storage.fs.globStatus(new Path(NAMESPACE + JOB_ID + "/" + fileName + ".chunk-*"));
+        return files == null ? new FileStatus[0] : files;
+    }
+}
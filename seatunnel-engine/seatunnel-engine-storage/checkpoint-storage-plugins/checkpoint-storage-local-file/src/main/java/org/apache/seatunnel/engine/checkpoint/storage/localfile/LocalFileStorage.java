@@ -43,6 +43,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_COMPRESSION;
 import static org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants.STORAGE_NAME_SPACE;
 
 @Slf4j
@@ -68,6 +69,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
         if (StringUtils.isNotBlank(configuration.get(STORAGE_NAME_SPACE))) {
             setStorageNameSpace(configuration.get(STORAGE_NAME_SPACE));
         }
+        setCompression(configuration.get(STORAGE_COMPRESSION));
     }
 
     /** set default storage root directory */
@@ -341,7 +343,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointId.equals(getCheckpointIdByFileName(fileName))) {
                         try {
-                            FileUtils.delete(file);
+                            deleteCheckpointFile(file);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -354,6 +356,54 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                 });
     }
 
+    private void deleteCheckpointFile(File file) throws IOException {
+        FileUtils.delete(file);
+        String fileName = file.getName();
+        FileUtils.deleteDirectory(
+                new File(
+                        file.getParentFile(),
+                        getTaskStateDirectory(
+                                getPipelineIdByFileName(fileName),
+                                getCheckpointIdByFileName(fileName))));
+    }
+
+    @Override
+    public String storeTaskState(
+            String jobId, String pipelineId, String checkpointId, String name, byte[] data)
+            throws CheckpointStorageException {
+        String statePath = getTaskStatePath(pipelineId, checkpointId, name);
+        File file = new File(getStorageParentDirectory() + jobId, statePath);
+        try {
+            FileUtils.writeByteArrayToFile(file, data);
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to write task state to file " + file, e);
+        }
+        return statePath;
+    }
+
+    @Override
+    public byte[] readTaskState(String jobId, String path) throws CheckpointStorageException {
+        File file = new File(getStorageParentDirectory() + jobId, path);
+        try {
+            return FileUtils.readFileToByteArray(file);
+        } catch (IOException e) {
+            throw new CheckpointStorageException("Failed to read task state from file " + file, e);
+        }
+    }
+
+    @Override
+    public void deleteTaskStates(String jobId, String pipelineId, String checkpointId) {
+        File directory =
+                new File(
+                        getStorageParentDirectory() + jobId,
+                        getTaskStateDirectory(pipelineId, checkpointId));
+        try {
+            FileUtils.deleteDirectory(directory);
+        } catch (IOException e) {
+            log.warn("Failed to delete task states " + directory, e);
+        }
+    }
+
     @Override
     public void deleteCheckpoint(String jobId, String pipelineId, List<String> checkpointIdList)
             throws CheckpointStorageException {
@@ -377,7 +427,7 @@ public class LocalFileStorage extends AbstractCheckpointStorage {
                     if (pipelineId.equals(getPipelineIdByFileName(fileName))
                             && checkpointIdList.contains(checkpointIdByFileName)) {
                         try {
-                            FileUtils.delete(file);
+                            deleteCheckpointFile(file);
                         } catch (Exception e) {
                             log.error(
                                     "Failed to delete checkpoint {} for job {}, pipeline {}",
@@ -24,6 +24,7 @@ import org.apache.seatunnel.engine.imap.storage.api.IMapStorage;
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
 import org.apache.seatunnel.engine.imap.storage.file.common.FileConstants;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALCompactor;
 import org.apache.seatunnel.engine.imap.storage.file.common.WALReader;
 import org.apache.seatunnel.engine.imap.storage.file.config.AbstractConfiguration;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
@@ -48,13 +49,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.DEFAULT_IMAP_FILE_PATH_SPLIT;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.DEFAULT_IMAP_NAMESPACE;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.BUSINESS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.CLUSTER_NAME;
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.COMPACTION_INTERVAL_MILLISECONDS_KEY;
+import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.GROUP_COMMIT_DELAY_MILLISECONDS_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.NAMESPACE_KEY;
 import static org.apache.seatunnel.engine.imap.storage.file.common.FileConstants.FileInitProperties.WRITE_DATA_TIMEOUT_MILLISECONDS_KEY;
 
@@ -93,6 +103,12 @@ public class IMapFileStorage implements IMapStorage {
 
     public long writDataTimeoutMilliseconds;
 
+    /** Interval of the wal compaction, a non-positive value disables it. */
+    public long compactionIntervalMilliseconds;
+
+    /** Maximum time a write waits to share its flush with concurrent writes. */
+    public long groupCommitDelayMilliseconds;
+
     /** We used disruptor to implement the asynchronous write. */
     WALDisruptor walDisruptor;
 
@@ -107,10 +123,19 @@ public class IMapFileStorage implements IMapStorage {
 
     public static final long DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS = 1000 * 60;
 
+    private static final int MAX_LOAD_THREADS = 8;
+
+    private static final long DEFAULT_LOAD_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     private Configuration conf;
 
     private FileConfiguration fileConfiguration;
 
+    /** Reads the wal files of a map in parallel when loading and compacting. */
+    private ThreadPoolExecutor loadExecutor;
+
+    private ScheduledExecutorService compactionScheduler;
+
     /**
      * @param configuration configuration
      * @see FileConstants.FileInitProperties
@@ -143,6 +168,16 @@ public class IMapFileStorage implements IMapStorage {
                         configuration.getOrDefault(
                                 WRITE_DATA_TIMEOUT_MILLISECONDS_KEY,
                                 DEFAULT_WRITE_DATA_TIMEOUT_MILLISECONDS);
+        this.compactionIntervalMilliseconds =
+                Long.parseLong(
+                        String.valueOf(
+                                configuration.getOrDefault(
+                                        COMPACTION_INTERVAL_MILLISECONDS_KEY, 0L)));
+        this.groupCommitDelayMilliseconds =
+                Long.parseLong(
+                        String.valueOf(
+                                configuration.getOrDefault(
+                                        GROUP_COMMIT_DELAY_MILLISECONDS_KEY, 0L)));
 
         this.region = String.valueOf(System.nanoTime());
         this.businessRootPath =
@@ -164,7 +199,59 @@ public class IMapFileStorage implements IMapStorage {
                         fs,
                         FileConfiguration.valueOf(storageType.toUpperCase()),
                         businessRootPath + region + DEFAULT_IMAP_FILE_PATH_SPLIT,
-                        serializer);
+                        serializer,
+                        compactionIntervalMilliseconds,
+                        groupCommitDelayMilliseconds);
+        int loadThreads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_LOAD_THREADS);
+        this.loadExecutor =
+                new ThreadPoolExecutor(
+                        loadThreads,
+                        loadThreads,
+                        DEFAULT_LOAD_THREAD_KEEP_ALIVE_SECONDS,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        daemonThreadFactory("imap-" + businessName + "-load"));
+        this.loadExecutor.allowCoreThreadTimeOut(true);
+        if (compactionIntervalMilliseconds > 0) {
+            startCompaction();
+        }
+    }
+
+    private void startCompaction() {
+        this.compactionScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        daemonThreadFactory("imap-" + businessName + "-compaction"));
+        // spread the first round so the members do not compact the same files at once
+        long initialDelay =
+                compactionIntervalMilliseconds
+                        + ThreadLocalRandom.current().nextLong(compactionIntervalMilliseconds);
+        compactionScheduler.scheduleWithFixedDelay(
+                this::compact, initialDelay, compactionIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Merge the sealed wal files of this map into a snapshot.
+     *
+     * @return true if a snapshot was written
+     */
+    public boolean compact() {
+        try {
+            WALReader reader = new WALReader(fs, fileConfiguration, serializer, loadExecutor);
+            return new WALCompactor(fs, reader, serializer, compactionIntervalMilliseconds)
+                    .compact(new Path(businessRootPath));
+        } catch (Exception e) {
+            log.error("compact wal files error, parent path is {}", businessRootPath, e);
+            return false;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     @Override
@@ -221,8 +308,7 @@ public class IMapFileStorage implements IMapStorage {
                     try {
                         IMapFileData data = buildDeleteIMapFileData(key);
                         long requestId = sendToDisruptorQueue(data, WALEventType.APPEND);
-                        walDisruptor.tryAppendPublish(data, requestId);
-                        requestMap.put(requestId, data);
+                        requestMap.put(requestId, key);
                     } catch (IOException e) {
                         log.error("parse to IMapFileData error", e);
                         failures.add(key);
@@ -234,7 +320,7 @@ public class IMapFileStorage implements IMapStorage {
     @Override
     public Map<Object, Object> loadAll() {
         try {
-            WALReader reader = new WALReader(fs, fileConfiguration, serializer);
+            WALReader reader = new WALReader(fs, fileConfiguration, serializer, loadExecutor);
             return reader.loadAllData(new Path(businessRootPath), new HashSet<>());
         } catch (IOException e) {
             throw new IMapStorageException("load all data error", e);
@@ -244,7 +330,7 @@ public class IMapFileStorage implements IMapStorage {
     @Override
     public Set<Object> loadAllKeys() {
         try {
-            WALReader reader = new WALReader(fs, fileConfiguration, serializer);
+            WALReader reader = new WALReader(fs, fileConfiguration, serializer, loadExecutor);
             return reader.loadAllKeys(new Path(businessRootPath));
         } catch (IOException e) {
             throw new IMapStorageException(
@@ -262,6 +348,10 @@ public class IMapFileStorage implements IMapStorage {
          * 1. close current disruptor 2. delete all files notice: we can not delete the files in the
          * middle of the write, so some current file may be not deleted
          */
+        if (compactionScheduler != null) {
+            compactionScheduler.shutdownNow();
+        }
+        loadExecutor.shutdownNow();
         try {
             walDisruptor.close();
         } catch (IOException e) {
@@ -332,11 +422,15 @@ public class IMapFileStorage implements IMapStorage {
 
     private Set<Object> batchQueryExecuteFailsStatus(
             Map<Long, Object> requestMap, Set<Object> failures) {
+        // the records of a batch are flushed together, so they share one timeout
+        long deadline = System.currentTimeMillis() + writDataTimeoutMilliseconds;
         for (Map.Entry<Long, Object> entry : requestMap.entrySet()) {
             boolean success = false;
             RequestFuture requestFuture = RequestFutureCache.get(entry.getKey());
             try {
-                if (requestFuture.isDone() || Boolean.TRUE.equals(requestFuture.get())) {
+                long timeout = Math.max(0, deadline - System.currentTimeMillis());
+                if (requestFuture.isDone()
+                        || Boolean.TRUE.equals(requestFuture.get(timeout, TimeUnit.MILLISECONDS))) {
                     success = true;
                 }
             } catch (Exception e) {
@@ -46,6 +46,6 @@ public class IMapFileData implements Serializable, Comparable<IMapFileData> {
 
     @Override
     public int compareTo(IMapFileData o) {
-        return o.timestamp - this.timestamp > 0 ? 1 : -1;
+        return Long.compare(o.timestamp, this.timestamp);
     }
 }
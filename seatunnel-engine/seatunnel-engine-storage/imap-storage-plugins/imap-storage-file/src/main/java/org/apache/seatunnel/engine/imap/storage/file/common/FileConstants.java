@@ -64,5 +64,23 @@ public class FileConstants {
 
         /** The maximum waiting time of write operations */
         String WRITE_DATA_TIMEOUT_MILLISECONDS_KEY = "writeDataTimeoutMilliseconds";
+
+        /**
+         * Interval of the wal compaction. Wal files are rolled at this interval and files that have
+         * not been written for two intervals are merged into a snapshot of the live keys. A
+         * non-positive value disables compaction.
+         *
+         * <p>Type: Long
+         */
+        String COMPACTION_INTERVAL_MILLISECONDS_KEY = "compactionIntervalMilliseconds";
+
+        /**
+         * The maximum time a write waits for concurrent writes to be flushed together with it. By
+         * default the writes queued while the previous flush was running share the next flush
+         * without any extra wait.
+         *
+         * <p>Type: Long
+         */
+        String GROUP_COMMIT_DELAY_MILLISECONDS_KEY = "groupCommitDelayMilliseconds";
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+
+import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Merges the wal files of a map into a snapshot that only contains the latest record of every live
+ * key, then removes the merged files.
+ *
+ * <p>Writers roll to a new file at the compaction interval, so a wal file that has not been
+ * modified for two intervals is no longer appended to by any member and can be merged. Snapshots
+ * are immutable and are always merged again. A tombstone is only dropped once it is older than
+ * three intervals, as an older record of its key may still live in a file that is not merged yet.
+ * This assumes the clock skew between the members is smaller than the interval.
+ *
+ * <p>The snapshot is written with the wal record format under a temporary name and renamed before
+ * any input is deleted, so readers always see either the inputs or the snapshot. Members do not
+ * coordinate: if an input disappears while it is read, another member is compacting and this round
+ * is abandoned.
+ */
+@Slf4j
+public class WALCompactor {
+
+    public static final String SNAPSHOT_DIRECTORY = "snapshot";
+
+    public static final String SNAPSHOT_FILE_SUFFIX = "snapshot.wal.txt";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final FileSystem fs;
+
+    private final WALReader reader;
+
+    private final Serializer serializer;
+
+    private final long compactionIntervalMilliseconds;
+
+    public WALCompactor(
+            FileSystem fs,
+            WALReader reader,
+            Serializer serializer,
+            long compactionIntervalMilliseconds) {
+        this.fs = fs;
+        this.reader = reader;
+        this.serializer = serializer;
+        this.compactionIntervalMilliseconds = compactionIntervalMilliseconds;
+    }
+
+    /**
+     * Compact the wal files below the root path.
+     *
+     * @return true if a snapshot was written and the merged files were deleted
+     */
+    public boolean compact(Path rootPath) throws IOException {
+        long now = System.currentTimeMillis();
+        long sealedBefore = now - 2 * compactionIntervalMilliseconds;
+        long tombstoneExpiredBefore = now - 3 * compactionIntervalMilliseconds;
+
+        List<Path> inputs = new ArrayList<>();
+        for (FileStatus file : reader.listFiles(rootPath)) {
+            if (file.getPath().getName().endsWith(SNAPSHOT_FILE_SUFFIX)
+                    || file.getModificationTime() < sealedBefore) {
+                inputs.add(file.getPath());
+            }
+        }
+        if (inputs.size() <= 1) {
+            return false;
+        }
+
+        Collection<IMapFileData> latest;
+        try {
+            latest = reader.readLatest(inputs);
+        } catch (FileNotFoundException e) {
+            log.info("wal files below {} are compacted by another member", rootPath);
+            return false;
+        }
+
+        Path snapshotDirectory = new Path(rootPath, SNAPSHOT_DIRECTORY);
+        Path snapshot =
+                new Path(
+                        snapshotDirectory,
+                        now + "_" + System.nanoTime() + "_" + SNAPSHOT_FILE_SUFFIX);
+        Path temporary = snapshot.suffix(TEMPORARY_FILE_SUFFIX);
+        int records = 0;
+        byte[] metadata = new byte[WALDataUtils.WAL_DATA_METADATA_LENGTH];
+        try (FSDataOutputStream fileOut = fs.create(temporary, true);
+                OutputStream out = new BufferedOutputStream(fileOut, WRITE_BUFFER_SIZE)) {
+            for (IMapFileData data : latest) {
+                if (data.isDeleted() && data.getTimestamp() < tombstoneExpiredBefore) {
+                    continue;
+                }
+                byte[] bytes = serializer.serialize(data);
+                WALDataUtils.writeMetadata(metadata, bytes.length);
+                out.write(metadata);
+                out.write(bytes);
+                records++;
+            }
+        } catch (IOException e) {
+            fs.delete(temporary, false);
+            throw e;
+        }
+        if (!fs.rename(temporary, snapshot)) {
+            fs.delete(temporary, false);
+            throw new IOException("Failed to rename wal snapshot " + temporary);
+        }
+
+        for (Path input : inputs) {
+            fs.delete(input, false);
+        }
+        log.info(
+                "compacted {} wal files below {} into snapshot {} with {} records",
+                inputs.size(),
+                rootPath,
+                snapshot.getName(),
+                records);
+        return true;
+    }
+}
@@ -34,6 +34,17 @@ public class WALDataUtils {
         return result;
     }
 
+    /**
+     * Write the header of a record with the given payload length into a reusable metadata array, so
+     * the payload can be written after it without being copied.
+     */
+    public static void writeMetadata(byte[] metadata, int length) {
+        metadata[3] = (byte) (length >> Byte.SIZE * 3);
+        metadata[2] = (byte) (length >> Byte.SIZE * 2);
+        metadata[1] = (byte) (length >> Byte.SIZE);
+        metadata[0] = (byte) length;
+    }
+
     public static int byteArrayToInt(byte[] encodedValue) {
         int value = (encodedValue[3] << (Byte.SIZE * 3));
         value |= (encodedValue[2] & 0xFF) << (Byte.SIZE * 2);
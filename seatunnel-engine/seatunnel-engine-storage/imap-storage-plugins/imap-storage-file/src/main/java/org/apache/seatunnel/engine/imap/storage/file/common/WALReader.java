@@ -29,30 +29,160 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.ClassUtils;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+/**
+ * Rebuilds the map content from the wal files below a path.
+ *
+ * <p>Files are read with the given executor, each one into a local fold that only keeps the latest
+ * record of every serialized key, and the folds are merged afterwards. Only the surviving records
+ * are deserialized. If a file disappears while loading, because a {@link WALCompactor} replaced it
+ * with a snapshot, the files are listed and read again.
+ */
+@Slf4j
 public class WALReader {
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
     private final Serializer serializer;
-    private final IFileReader fileReader;
+    private final IFileReader<IMapFileData> fileReader;
+    private final ExecutorService executor;
 
     public WALReader(FileSystem fs, FileConfiguration configuration, Serializer serializer)
             throws IOException {
+        this(fs, configuration, serializer, null);
+    }
+
+    public WALReader(
+            FileSystem fs,
+            FileConfiguration configuration,
+            Serializer serializer,
+            ExecutorService executor)
+            throws IOException {
         this.serializer = serializer;
         this.fileReader = DiscoveryWalFileFactory.getReader(configuration.getName());
         this.fileReader.initialize(fs, serializer);
+        this.executor = executor;
+    }
+
+    public List<FileStatus> listFiles(Path parentPath) throws IOException {
+        return fileReader.listFiles(parentPath);
     }
 
     private List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        return this.fileReader.readAllData(parentPath);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<Path> files =
+                        listFiles(parentPath).stream()
+                                .map(FileStatus::getPath)
+                                .collect(Collectors.toList());
+                return new ArrayList<>(readLatest(files));
+            } catch (FileNotFoundException e) {
+                if (attempt >= MAX_LOAD_ATTEMPTS) {
+                    throw e;
+                }
+                log.info("wal file was compacted while loading, reload: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read the given files and keep the latest record of every key, tombstones included. Records of
+     * the same key with the same timestamp are resolved in favour of the one written later to the
+     * same file.
+     */
+    public Collection<IMapFileData> readLatest(List<Path> files) throws IOException {
+        Map<DataKey, IMapFileData> latest = new ConcurrentHashMap<>();
+        if (executor == null || files.size() <= 1) {
+            try {
+                for (Path file : files) {
+                    mergeLatest(latest, readFile(file));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return latest.values();
+        }
+        List<Future<?>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            futures.add(executor.submit(() -> mergeLatest(latest, readFile(file))));
+        }
+        IOException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new InterruptedIOException("interrupted while loading wal files");
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure =
+                            e.getCause() instanceof UncheckedIOException
+                                    ? ((UncheckedIOException) e.getCause()).getCause()
+                                    : new IOException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return latest.values();
+    }
+
+    private Map<DataKey, IMapFileData> readFile(Path file) {
+        Map<DataKey, IMapFileData> fold = new HashMap<>();
+        try {
+            fileReader.readData(
+                    file,
+                    data ->
+                            fold.merge(
+                                    new DataKey(data),
+                                    data,
+                                    (old, current) ->
+                                            current.getTimestamp() >= old.getTimestamp()
+                                                    ? current
+                                                    : old));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fold;
+    }
+
+    private static void mergeLatest(
+            Map<DataKey, IMapFileData> latest, Map<DataKey, IMapFileData> fold) {
+        fold.forEach(
+                (key, data) ->
+                        latest.merge(
+                                key,
+                                data,
+                                (old, current) ->
+                                        current.getTimestamp() > old.getTimestamp()
+                                                ? current
+                                                : old));
     }
 
     public Set<Object> loadAllKeys(Path parentPath) throws IOException {
@@ -128,4 +258,36 @@ public class WALReader {
                     e, "deserialize data error, class name is {}", className);
         }
     }
+
+    /** Identifies a key by its serialized form, so it can be compared before deserialization. */
+    private static final class DataKey {
+        private final byte[] key;
+        private final String className;
+        private final int hash;
+
+        private DataKey(IMapFileData data) {
+            this.key = data.getKey();
+            this.className = data.getKeyClassName();
+            this.hash = 31 * Arrays.hashCode(key) + Objects.hashCode(className);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DataKey)) {
+                return false;
+            }
+            DataKey other = (DataKey) o;
+            return hash == other.hash
+                    && Arrays.equals(key, other.key)
+                    && Objects.equals(className, other.className);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
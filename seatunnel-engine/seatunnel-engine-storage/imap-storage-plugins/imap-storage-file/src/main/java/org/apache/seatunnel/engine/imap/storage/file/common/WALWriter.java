@@ -41,8 +41,19 @@ public class WALWriter implements AutoCloseable {
             Path parentPath,
             Serializer serializer)
             throws IOException {
+        this(fs, fileConfiguration, parentPath, serializer, 0L);
+    }
+
+    public WALWriter(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            Path parentPath,
+            Serializer serializer,
+            long rollIntervalMilliseconds)
+            throws IOException {
         this.writer = DiscoveryWalFileFactory.getWriter(fileConfiguration.getName());
         this.writer.setBlockSize(fileConfiguration.getConfiguration().getBlockSize());
+        this.writer.setRollInterval(rollIntervalMilliseconds);
         this.writer.initialize(fs, parentPath, serializer);
     }
 
@@ -50,6 +61,14 @@ public class WALWriter implements AutoCloseable {
         this.writer.write(data);
     }
 
+    public void append(IMapFileData data) throws IOException {
+        this.writer.append(data);
+    }
+
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
     @Override
     public void close() throws Exception {
         this.writer.close();
@@ -29,7 +29,9 @@ import org.apache.hadoop.fs.FileSystem;
 
 import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventTranslatorThreeArg;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
 import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.DaemonThreadFactory;
@@ -64,18 +66,46 @@ public class WALDisruptor implements Closeable {
             FileConfiguration fileConfiguration,
             String parentPath,
             Serializer serializer) {
-        // todo should support multi thread producer
+        this(fs, fileConfiguration, parentPath, serializer, 0L, 0L);
+    }
+
+    /**
+     * @param rollIntervalMilliseconds age at which the writer starts a new file, non-positive to
+     *     disable
+     * @param groupCommitDelayMilliseconds how long a record may wait for others to share its flush,
+     *     non-positive to flush as soon as the ring buffer is drained
+     */
+    public WALDisruptor(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            String parentPath,
+            Serializer serializer,
+            long rollIntervalMilliseconds,
+            long groupCommitDelayMilliseconds) {
         ThreadFactory threadFactory = DaemonThreadFactory.INSTANCE;
+        // the flush of a delayed group commit is triggered by the wait timeout when idle
+        WaitStrategy waitStrategy =
+                groupCommitDelayMilliseconds > 0
+                        ? new TimeoutBlockingWaitStrategy(
+                                groupCommitDelayMilliseconds, TimeUnit.MILLISECONDS)
+                        : new BlockingWaitStrategy();
         this.disruptor =
                 new Disruptor<>(
                         FileWALEvent.FACTORY,
                         DEFAULT_RING_BUFFER_SIZE,
                         threadFactory,
-                        ProducerType.SINGLE,
-                        new BlockingWaitStrategy());
-
-        disruptor.handleEventsWithWorkerPool(
-                new WALWorkHandler(fs, fileConfiguration, parentPath, serializer));
+                        ProducerType.MULTI,
+                        waitStrategy);
+
+        disruptor.handleEventsWith(
+                new WALWorkHandler(
+                        fs,
+                        fileConfiguration,
+                        parentPath,
+                        serializer,
+                        rollIntervalMilliseconds,
+                        groupCommitDelayMilliseconds,
+                        DEFAULT_RING_BUFFER_SIZE));
 
         disruptor.start();
     }
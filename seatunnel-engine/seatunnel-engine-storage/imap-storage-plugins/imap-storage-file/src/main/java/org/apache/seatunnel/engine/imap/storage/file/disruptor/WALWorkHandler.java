@@ -17,7 +17,6 @@
  * under the License.
  *
  */
-
 package org.apache.seatunnel.engine.imap.storage.file.disruptor;
 
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
@@ -30,58 +29,135 @@ import org.apache.seatunnel.engine.serializer.api.Serializer;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
-import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.TimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-/** NOTICE: Single thread to write data to orc file. */
+/**
+ * NOTICE: Single thread to write data to orc file.
+ *
+ * <p>Records are appended as they arrive and flushed once per batch of the ring buffer, so the
+ * writes of concurrent producers share one flush and their requests are completed together. With a
+ * group commit delay the flush is postponed until the oldest pending record is that old, or no
+ * other record arrived within the delay.
+ */
 @Slf4j
-public class WALWorkHandler implements WorkHandler<FileWALEvent> {
+public class WALWorkHandler implements EventHandler<FileWALEvent>, TimeoutHandler {
+
+    private final WALWriter writer;
 
-    private WALWriter writer;
+    private final long groupCommitDelayMilliseconds;
+
+    private final int maxBatchSize;
+
+    private final List<Long> pendingRequestIds = new ArrayList<>();
+
+    private long oldestPendingTime;
 
     public WALWorkHandler(
             FileSystem fs,
             FileConfiguration fileConfiguration,
             String parentPath,
             Serializer serializer) {
+        this(fs, fileConfiguration, parentPath, serializer, 0L, 0L, Integer.MAX_VALUE);
+    }
+
+    public WALWorkHandler(
+            FileSystem fs,
+            FileConfiguration fileConfiguration,
+            String parentPath,
+            Serializer serializer,
+            long rollIntervalMilliseconds,
+            long groupCommitDelayMilliseconds,
+            int maxBatchSize) {
         try {
-            writer = new WALWriter(fs, fileConfiguration, new Path(parentPath), serializer);
+            writer =
+                    new WALWriter(
+                            fs,
+                            fileConfiguration,
+                            new Path(parentPath),
+                            serializer,
+                            rollIntervalMilliseconds);
         } catch (IOException e) {
             throw new IMapStorageException(
                     e, "create new current writer failed, parent path is %s", parentPath);
         }
+        this.groupCommitDelayMilliseconds = groupCommitDelayMilliseconds;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
-    public void onEvent(FileWALEvent fileWALEvent) throws Exception {
+    public void onEvent(FileWALEvent fileWALEvent, long sequence, boolean endOfBatch)
+            throws Exception {
         log.debug("write data to orc file");
         walEvent(fileWALEvent.getData(), fileWALEvent.getType(), fileWALEvent.getRequestId());
+        if (endOfBatch && isCommitDue()) {
+            commit();
+        }
+    }
+
+    @Override
+    public void onTimeout(long sequence) {
+        commit();
     }
 
     private void walEvent(IMapFileData iMapFileData, WALEventType type, long requestId)
             throws Exception {
         if (type == WALEventType.APPEND) {
-            boolean writeSuccess = true;
-            // write to current writer
+            // append to current writer, the result is returned to the client on commit
             try {
-                writer.write(iMapFileData);
-            } catch (IOException e) {
-                writeSuccess = false;
+                writer.append(iMapFileData);
+            } catch (Exception e) {
                 log.error("write orc file error, walEventBean is {} ", iMapFileData, e);
+                executeResponse(requestId, false);
+                return;
+            }
+            if (pendingRequestIds.isEmpty()) {
+                oldestPendingTime = System.currentTimeMillis();
+            }
+            pendingRequestIds.add(requestId);
+            if (pendingRequestIds.size() >= maxBatchSize) {
+                commit();
             }
-            // return the result to the client
-            executeResponse(requestId, writeSuccess);
             return;
         }
 
         if (type == WALEventType.CLOSED) {
-            // close writer and archive
+            // commit the backlog, close writer and archive
+            commit();
             writer.close();
         }
     }
 
+    private boolean isCommitDue() {
+        return !pendingRequestIds.isEmpty()
+                && (groupCommitDelayMilliseconds <= 0
+                        || System.currentTimeMillis() - oldestPendingTime
+                                >= groupCommitDelayMilliseconds);
+    }
+
+    private void commit() {
+        if (pendingRequestIds.isEmpty()) {
+            return;
+        }
+        boolean writeSuccess = true;
+        try {
+            writer.flush();
+        } catch (Exception e) {
+            writeSuccess = false;
+            log.error("flush {} records to orc file error", pendingRequestIds.size(), e);
+        }
+        // return the result to the clients of the whole batch
+        for (Long requestId : pendingRequestIds) {
+            executeResponse(requestId, writeSuccess);
+        }
+        pendingRequestIds.clear();
+    }
+
     private void executeResponse(long requestId, boolean success) {
         if (null == RequestFutureCache.get(requestId)) {
             log.warn("requestId is {} not found in RequestFutureCache", requestId);
@@ -28,7 +28,7 @@ public class RequestFuture implements Future<Boolean> {
 
     private CountDownLatch latch = new CountDownLatch(1);
 
-    private boolean success = false;
+    private volatile boolean success = false;
 
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
@@ -25,20 +25,26 @@ import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.RemoteIterator;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
 
 public class DefaultReader implements IFileReader<IMapFileData> {
     private static final int DEFAULT_QUERY_LIST_SIZE = 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    public static final String WAL_FILE_SUFFIX = "wal.txt";
     FileSystem fs;
     Serializer serializer;
 
@@ -55,60 +61,67 @@ public class DefaultReader implements IFileReader<IMapFileData> {
 
     @Override
     public List<IMapFileData> readAllData(Path parentPath) throws IOException {
-        List<String> fileNames = getFileNames(parentPath);
-        if (CollectionUtils.isEmpty(fileNames)) {
+        List<FileStatus> files = listFiles(parentPath);
+        if (CollectionUtils.isEmpty(files)) {
             return new ArrayList<>();
         }
         List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        for (String fileName : fileNames) {
-            result.addAll(readData(new Path(parentPath, fileName)));
+        for (FileStatus file : files) {
+            readData(file.getPath(), result::add);
         }
         return result;
     }
 
-    private List<String> getFileNames(Path parentPath) {
+    @Override
+    public List<FileStatus> listFiles(Path parentPath) {
         try {
             if (!fs.exists(parentPath)) {
                 return new ArrayList<>();
             }
             RemoteIterator<LocatedFileStatus> fileStatusRemoteIterator =
                     fs.listFiles(parentPath, true);
-            List<String> fileNames = new ArrayList<>();
+            List<FileStatus> files = new ArrayList<>();
             while (fileStatusRemoteIterator.hasNext()) {
                 LocatedFileStatus fileStatus = fileStatusRemoteIterator.next();
-                if (fileStatus.getPath().getName().endsWith("wal.txt")) {
-                    fileNames.add(fileStatus.getPath().toString());
+                if (fileStatus.getPath().getName().endsWith(WAL_FILE_SUFFIX)) {
+                    files.add(fileStatus);
                 }
             }
-            return fileNames;
+            return files;
         } catch (IOException e) {
             throw new IMapStorageException(e, "get file names error,path is s%", parentPath);
         }
     }
 
-    private List<IMapFileData> readData(Path path) throws IOException {
-        List<IMapFileData> result = new ArrayList<>(DEFAULT_QUERY_LIST_SIZE);
-        long length = fs.getFileStatus(path).getLen();
-        try (FSDataInputStream in = fs.open(path)) {
-            byte[] datas = new byte[(int) length];
-            in.readFully(datas);
-            int startIndex = 0;
-            while (startIndex + WAL_DATA_METADATA_LENGTH < datas.length) {
-
-                byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
-                System.arraycopy(datas, startIndex, metadata, 0, WAL_DATA_METADATA_LENGTH);
+    @Override
+    public void readData(Path path, Consumer<IMapFileData> consumer) throws IOException {
+        long remaining = fs.getFileStatus(path).getLen();
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(fs.open(path), READ_BUFFER_SIZE))) {
+            byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
+            while (remaining > WAL_DATA_METADATA_LENGTH && readFully(in, metadata)) {
+                remaining -= WAL_DATA_METADATA_LENGTH;
                 int dataLength = WALDataUtils.byteArrayToInt(metadata);
-                startIndex += WAL_DATA_METADATA_LENGTH;
-                if (startIndex + dataLength > datas.length) {
+                if (dataLength < 0 || dataLength > remaining) {
                     break;
                 }
                 byte[] data = new byte[dataLength];
-                System.arraycopy(datas, startIndex, data, 0, data.length);
-                IMapFileData fileData = serializer.deserialize(data, IMapFileData.class);
-                result.add(fileData);
-                startIndex += data.length;
+                if (!readFully(in, data)) {
+                    break;
+                }
+                remaining -= dataLength;
+                consumer.accept(serializer.deserialize(data, IMapFileData.class));
             }
         }
-        return result;
+    }
+
+    /** Returns false if the stream ends before the buffer is filled. */
+    private static boolean readFully(DataInputStream in, byte[] buffer) throws IOException {
+        try {
+            in.readFully(buffer);
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
     }
 }
@@ -21,11 +21,13 @@ package org.apache.seatunnel.engine.imap.storage.file.wal.reader;
 
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IFileReader<R> {
     String identifier();
@@ -33,4 +35,13 @@ public interface IFileReader<R> {
     void initialize(FileSystem fs, Serializer serializer) throws IOException;
 
     List<R> readAllData(Path parentPath) throws IOException;
+
+    /** List all wal files below the parent path, including snapshots. */
+    List<FileStatus> listFiles(Path parentPath) throws IOException;
+
+    /**
+     * Stream the records of a single wal file to the consumer in the order they were written. A
+     * truncated record at the end of the file is skipped.
+     */
+    void readData(Path path, Consumer<R> consumer) throws IOException;
 }
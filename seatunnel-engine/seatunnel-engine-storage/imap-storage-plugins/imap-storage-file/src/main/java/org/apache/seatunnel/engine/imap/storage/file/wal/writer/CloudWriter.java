@@ -21,7 +21,6 @@ package org.apache.seatunnel.engine.imap.storage.file.wal.writer;
 
 import org.apache.seatunnel.engine.imap.storage.api.exception.IMapStorageException;
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
-import org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils;
 import org.apache.seatunnel.engine.serializer.api.Serializer;
 
 import org.apache.curator.shaded.com.google.common.io.ByteStreams;
@@ -37,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
+
 @Slf4j
 public abstract class CloudWriter implements IFileWriter<IMapFileData> {
     private FileSystem fs;
@@ -51,6 +52,13 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
 
     private AtomicLong index = new AtomicLong(0);
 
+    private long rollIntervalMilliseconds;
+
+    private long fileCreateTime;
+
+    /** Whether the buffer holds records that are not written to the file yet. */
+    private boolean dirty;
+
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
@@ -59,6 +67,7 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         this.serializer = serializer;
         this.parentPath = parentPath;
         this.path = createNewPath();
+        this.fileCreateTime = System.currentTimeMillis();
         if (fs.exists(path)) {
             try (FSDataInputStream fsDataInputStream = fs.open(path)) {
                 bf.writeBytes(ByteStreams.toByteArray(fsDataInputStream));
@@ -73,42 +82,55 @@ public abstract class CloudWriter implements IFileWriter<IMapFileData> {
         }
     }
 
-    // TODO Synchronous write, asynchronous write can be added in the future
+    @Override
+    public void setRollInterval(long rollIntervalMilliseconds) {
+        this.rollIntervalMilliseconds = rollIntervalMilliseconds;
+    }
+
     @Override
     public void write(IMapFileData data) throws IOException {
+        append(data);
+        flush();
+    }
+
+    /**
+     * The object stores can not append to a file, so the whole current file is kept in the buffer
+     * and rewritten by {@link #flush()}, once for all records appended since the last flush.
+     */
+    @Override
+    public void append(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        if (rollIntervalMilliseconds > 0
+                && System.currentTimeMillis() - fileCreateTime >= rollIntervalMilliseconds) {
+            flush();
+            nextFile();
+        }
+        bf.writeIntLE(bytes.length);
+        bf.writeZero(WAL_DATA_METADATA_LENGTH - Integer.BYTES);
+        bf.writeBytes(bytes);
+        dirty = true;
     }
 
-    private void write(byte[] bytes) {
+    @Override
+    public void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
         try (FSDataOutputStream out = fs.create(path, true)) {
-            // Write to bytebuffer
-            byte[] data = WALDataUtils.wrapperBytes(bytes);
-            bf.writeBytes(data);
-
-            // Read all bytes
-            byte[] allBytes = new byte[bf.readableBytes()];
-            bf.readBytes(allBytes);
-
-            // write filesystem
-            out.write(allBytes);
-
-            // check and reset
-            checkAndSetNextScheduleRotation(allBytes.length);
-
+            out.write(bf.array(), bf.arrayOffset() + bf.readerIndex(), bf.readableBytes());
         } catch (Exception ex) {
             throw new IMapStorageException(ex);
         }
+        dirty = false;
+        if (bf.readableBytes() > blockSize) {
+            nextFile();
+        }
     }
 
-    private void checkAndSetNextScheduleRotation(long allBytes) {
-        if (allBytes > blockSize) {
-            this.path = createNewPath();
-            this.bf.clear();
-        } else {
-            // reset index
-            bf.resetReaderIndex();
-        }
+    private void nextFile() {
+        this.path = createNewPath();
+        this.fileCreateTime = System.currentTimeMillis();
+        this.bf.clear();
     }
 
     public Path createNewPath() {
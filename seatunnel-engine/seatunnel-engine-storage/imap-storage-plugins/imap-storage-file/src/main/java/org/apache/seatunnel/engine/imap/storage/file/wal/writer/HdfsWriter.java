@@ -32,6 +32,9 @@ import org.apache.hadoop.hdfs.client.HdfsDataOutputStream;
 
 import java.io.IOException;
 import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.seatunnel.engine.imap.storage.file.common.WALDataUtils.WAL_DATA_METADATA_LENGTH;
 
 public class HdfsWriter implements IFileWriter<IMapFileData> {
 
@@ -39,6 +42,18 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
 
     private Serializer serializer;
 
+    private FileSystem fs;
+
+    private Path parentPath;
+
+    private long rollIntervalMilliseconds;
+
+    private long fileCreateTime;
+
+    private final AtomicLong index = new AtomicLong(0);
+
+    private final byte[] metadata = new byte[WAL_DATA_METADATA_LENGTH];
+
     @Override
     public String identifier() {
         return "hdfs";
@@ -47,17 +62,47 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
     @Override
     public void initialize(FileSystem fs, Path parentPath, Serializer serializer)
             throws IOException {
-        Path path = new Path(parentPath, FILE_NAME);
-        this.out = fs.create(path);
+        this.fs = fs;
+        this.parentPath = parentPath;
         this.serializer = serializer;
+        createNewFile();
+    }
+
+    @Override
+    public void setRollInterval(long rollIntervalMilliseconds) {
+        this.rollIntervalMilliseconds = rollIntervalMilliseconds;
+    }
+
+    private void createNewFile() throws IOException {
+        Path path = new Path(parentPath, index.incrementAndGet() + "_" + FILE_NAME);
+        this.out = fs.create(path);
+        this.fileCreateTime = System.currentTimeMillis();
+    }
+
+    private void rollIfExpired() throws IOException {
+        if (rollIntervalMilliseconds > 0
+                && System.currentTimeMillis() - fileCreateTime >= rollIntervalMilliseconds) {
+            out.close();
+            createNewFile();
+        }
     }
 
     @Override
     public void write(IMapFileData data) throws IOException {
+        append(data);
+        flush();
+    }
+
+    @Override
+    public void append(IMapFileData data) throws IOException {
         byte[] bytes = serializer.serialize(data);
-        this.write(bytes);
+        rollIfExpired();
+        WALDataUtils.writeMetadata(metadata, bytes.length);
+        this.out.write(metadata);
+        this.out.write(bytes);
     }
 
+    @Override
     public void flush() throws IOException {
         // hsync to flag
         if (out instanceof HdfsDataOutputStream) {
@@ -73,12 +118,6 @@ public class HdfsWriter implements IFileWriter<IMapFileData> {
         this.out.hflush();
     }
 
-    private void write(byte[] bytes) throws IOException {
-        byte[] data = WALDataUtils.wrapperBytes(bytes);
-        this.out.write(data);
-        this.flush();
-    }
-
     @Override
     public void close() throws Exception {
         if (out != null) {
@@ -36,5 +36,19 @@ public interface IFileWriter<T> extends AutoCloseable {
 
     default void setBlockSize(Long blockSize) {}
 
+    /**
+     * Start a new file once the current one is older than the interval, so that files stop being
+     * appended to and can be compacted. A non-positive interval disables rolling by age.
+     */
+    default void setRollInterval(long rollIntervalMilliseconds) {}
+
     void write(T data) throws IOException;
+
+    /** Add a record to the current file without waiting for it to be durable. */
+    default void append(T data) throws IOException {
+        write(data);
+    }
+
+    /** Make all appended records durable. */
+    default void flush() throws IOException {}
 }
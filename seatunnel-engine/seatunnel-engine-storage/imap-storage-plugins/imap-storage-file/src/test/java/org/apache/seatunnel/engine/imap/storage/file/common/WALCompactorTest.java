@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.apache.seatunnel.engine.imap.storage.file.common;
+
+import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.condition.OS.LINUX;
+import static org.junit.jupiter.api.condition.OS.MAC;
+
+@EnabledOnOs({LINUX, MAC})
+public class WALCompactorTest {
+
+    private static FileSystem FS;
+    private static ExecutorService EXECUTOR;
+    private static final Path ROOT_PATH = new Path("/tmp/seatunnel-wal-compaction/");
+    private static final Serializer SERIALIZER = new ProtoStuffSerializer();
+    private static final long INTERVAL = 1000L;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        Configuration conf = new Configuration();
+        conf.set("fs.defaultFS", "file:///");
+        conf.set("fs.hdfs.impl", "org.apache.hadoop.fs.LocalFileSystem");
+        FS = FileSystem.getLocal(conf);
+        FS.setWriteChecksum(false);
+        EXECUTOR = Executors.newFixedThreadPool(4);
+    }
+
+    @Test
+    public void testCompactSealedFiles() throws Exception {
+        long now = System.currentTimeMillis();
+        long old = now - 10 * INTERVAL;
+        Path first = new Path(ROOT_PATH, "1");
+        try (WALWriter writer = newWriter(first)) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(put("key" + i, "value" + i, old + i));
+            }
+            writer.write(put("key1", "updated", old + 200));
+        }
+        Path second = new Path(ROOT_PATH, "2");
+        try (WALWriter writer = newWriter(second)) {
+            writer.write(put("key2", "updated", old + 300));
+            writer.write(delete("key3", old + 300));
+            // too young to be dropped, a sealed file may still hold an older record of the key
+            writer.write(delete("key4", now - 2 * INTERVAL - INTERVAL / 2));
+        }
+        Path active = new Path(ROOT_PATH, "3");
+        try (WALWriter writer = newWriter(active)) {
+            writer.write(put("key5", "active", now));
+        }
+        seal(first, old);
+        seal(second, old);
+
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER, EXECUTOR);
+        Map<Object, Object> expected = reader.loadAllData(ROOT_PATH, new HashSet<>());
+        Assertions.assertEquals(98, expected.size());
+
+        WALCompactor compactor = new WALCompactor(FS, reader, SERIALIZER, INTERVAL);
+        Assertions.assertTrue(compactor.compact(ROOT_PATH));
+
+        List<FileStatus> files = reader.listFiles(ROOT_PATH);
+        Assertions.assertEquals(2, files.size());
+        List<Path> snapshots =
+                files.stream()
+                        .map(FileStatus::getPath)
+                        .filter(path -> path.getName().endsWith(WALCompactor.SNAPSHOT_FILE_SUFFIX))
+                        .collect(Collectors.toList());
+        Assertions.assertEquals(1, snapshots.size());
+
+        Collection<IMapFileData> snapshot = reader.readLatest(snapshots);
+        Assertions.assertEquals(99, snapshot.size());
+        Assertions.assertEquals(1, snapshot.stream().filter(IMapFileData::isDeleted).count());
+
+        Assertions.assertEquals(expected, reader.loadAllData(ROOT_PATH, new HashSet<>()));
+        Assertions.assertEquals(expected.keySet(), reader.loadAllKeys(ROOT_PATH));
+        Assertions.assertEquals("updated", expected.get("key1"));
+        Assertions.assertEquals("active", expected.get("key5"));
+
+        // the only sealed file is the snapshot itself
+        Assertions.assertFalse(compactor.compact(ROOT_PATH));
+    }
+
+    @Test
+    public void testSkipUnsealedFiles() throws Exception {
+        long now = System.currentTimeMillis();
+        try (WALWriter writer = newWriter(new Path(ROOT_PATH, "1"))) {
+            writer.write(put("key1", "value1", now));
+        }
+        try (WALWriter writer = newWriter(new Path(ROOT_PATH, "2"))) {
+            writer.write(put("key1", "value2", now + 1));
+        }
+        WALReader reader = new WALReader(FS, FileConfiguration.HDFS, SERIALIZER);
+        WALCompactor compactor = new WALCompactor(FS, reader, SERIALIZER, INTERVAL);
+
+        Assertions.assertFalse(compactor.compact(ROOT_PATH));
+        Assertions.assertEquals(2, reader.listFiles(ROOT_PATH).size());
+        Assertions.assertEquals(
+                "value2", reader.loadAllData(ROOT_PATH, new HashSet<>()).get("key1"));
+    }
+
+    private static WALWriter newWriter(Path parentPath) throws IOException {
+        return new WALWriter(FS, FileConfiguration.HDFS, parentPath, SERIALIZER);
+    }
+
+    private static void seal(Path parentPath, long modificationTime) throws IOException {
+        for (FileStatus file : FS.listStatus(parentPath)) {
+            FS.setTimes(file.getPath(), modificationTime, -1);
+        }
+    }
+
+    private static IMapFileData put(String key, String value, long timestamp) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .value(SERIALIZER.serialize(value))
+                .valueClassName(String.class.getName())
+                .timestamp(timestamp)
+                .deleted(false)
+                .build();
+    }
+
+    private static IMapFileData delete(String key, long timestamp) throws IOException {
+        return IMapFileData.builder()
+                .key(SERIALIZER.serialize(key))
+                .keyClassName(String.class.getName())
+                .timestamp(timestamp)
+                .deleted(true)
+                .build();
+    }
+
+    @AfterEach
+    public void clean() throws IOException {
+        FS.delete(ROOT_PATH, true);
+    }
+
+    @AfterAll
+    public static void close() throws IOException {
+        EXECUTOR.shutdownNow();
+        FS.close();
+    }
+}
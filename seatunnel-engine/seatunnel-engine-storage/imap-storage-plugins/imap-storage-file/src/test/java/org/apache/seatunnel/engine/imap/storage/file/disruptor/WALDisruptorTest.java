@@ -21,6 +21,7 @@
 package org.apache.seatunnel.engine.imap.storage.file.disruptor;
 
 import org.apache.seatunnel.engine.imap.storage.file.bean.IMapFileData;
+import org.apache.seatunnel.engine.imap.storage.file.common.WALReader;
 import org.apache.seatunnel.engine.imap.storage.file.config.FileConfiguration;
 import org.apache.seatunnel.engine.imap.storage.file.future.RequestFuture;
 import org.apache.seatunnel.engine.imap.storage.file.future.RequestFutureCache;
@@ -36,6 +37,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.condition.OS.LINUX;
 import static org.junit.jupiter.api.condition.OS.MAC;
@@ -80,6 +89,53 @@ public class WALDisruptorTest {
         DISRUPTOR.close();
     }
 
+    @Test
+    void testGroupCommit() throws Exception {
+        FS = FileSystem.get(CONF);
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        String parentPath = FILEPATH + "group-commit/";
+        WALDisruptor disruptor =
+                new WALDisruptor(FS, FileConfiguration.HDFS, parentPath, serializer, 0L, 20L);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            int index = i;
+            results.add(
+                    producers.submit(
+                            () -> {
+                                IMapFileData data =
+                                        IMapFileData.builder()
+                                                .deleted(false)
+                                                .key(serializer.serialize("key" + index))
+                                                .keyClassName(String.class.getName())
+                                                .value(serializer.serialize("value" + index))
+                                                .valueClassName(String.class.getName())
+                                                .timestamp(System.currentTimeMillis())
+                                                .build();
+                                long requestId = RequestFutureCache.getRequestId();
+                                RequestFuture future = new RequestFuture();
+                                RequestFutureCache.put(requestId, future);
+                                disruptor.tryAppendPublish(data, requestId);
+                                try {
+                                    return future.get(10, TimeUnit.SECONDS);
+                                } finally {
+                                    RequestFutureCache.remove(requestId);
+                                }
+                            }));
+        }
+        for (Future<Boolean> result : results) {
+            Assertions.assertTrue(result.get());
+        }
+        producers.shutdown();
+        disruptor.close();
+
+        Map<Object, Object> data =
+                new WALReader(FS, FileConfiguration.HDFS, serializer)
+                        .loadAllData(new Path(parentPath), new HashSet<>());
+        Assertions.assertEquals(400, data.size());
+        Assertions.assertEquals("value42", data.get("key42"));
+    }
+
     @AfterAll
     public static void afterAll() throws IOException {
         Assertions.assertTrue(FS.delete(new Path(FILEPATH), true));
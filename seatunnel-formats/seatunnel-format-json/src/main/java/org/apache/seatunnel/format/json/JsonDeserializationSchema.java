@@ -18,7 +18,9 @@
 
 package org.apache.seatunnel.format.json;
 
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.core.json.JsonReadFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
@@ -40,6 +42,9 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.format.json.exception.SeaTunnelJsonFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
@@ -63,6 +68,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
      */
     private JsonToRowConverters.JsonToObjectConverter runtimeConverter;
 
+    /**
+     * Runtime converter that reads the JSON token stream straight into {@link SeaTunnelRow}s, the
+     * {@link #runtimeConverter} is only used when it fails.
+     */
+    private final JsonParserToRowConverters.JsonParserToObjectConverter streamingConverter;
+
     /** Object mapper for parsing the JSON. */
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -78,9 +89,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(rowType);
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
+        this.streamingConverter =
+                new JsonParserToRowConverters(converters, objectMapper, failOnMissingField)
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -99,9 +113,12 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         this.rowType = checkNotNull(catalogTable.getSeaTunnelRowType());
         this.failOnMissingField = failOnMissingField;
         this.ignoreParseErrors = ignoreParseErrors;
-        this.runtimeConverter =
-                new JsonToRowConverters(failOnMissingField, ignoreParseErrors)
-                        .createRowConverter(checkNotNull(rowType));
+        JsonToRowConverters converters =
+                new JsonToRowConverters(failOnMissingField, ignoreParseErrors);
+        this.runtimeConverter = converters.createRowConverter(checkNotNull(rowType));
+        this.streamingConverter =
+                new JsonParserToRowConverters(converters, objectMapper, failOnMissingField)
+                        .createRowConverter(rowType);
 
         if (hasDecimalType(rowType)) {
             objectMapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
@@ -129,6 +146,13 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            if (isRowStart(parser.nextToken())) {
+                return (SeaTunnelRow) streamingConverter.convert(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            // convert the message again below, which reports or ignores the error
+        }
         return convertJsonNode(convertBytes(message));
     }
 
@@ -136,10 +160,25 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         if (message == null) {
             return null;
         }
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            if (isRowStart(parser.nextToken())) {
+                return (SeaTunnelRow) streamingConverter.convert(parser);
+            }
+        } catch (IOException | RuntimeException e) {
+            // convert the message again below, which reports or ignores the error
+        }
         return convertJsonNode(convert(message));
     }
 
     public void collect(byte[] message, Collector<SeaTunnelRow> out) throws IOException {
+        List<SeaTunnelRow> rows = convertTokens(message);
+        if (rows != null) {
+            for (SeaTunnelRow row : rows) {
+                setCollectorTablePath(row, catalogTable);
+                out.collect(row);
+            }
+            return;
+        }
         JsonNode jsonNode = convertBytes(message);
         if (jsonNode.isArray()) {
             ArrayNode arrayNode = (ArrayNode) jsonNode;
@@ -155,6 +194,36 @@ public class JsonDeserializationSchema implements DeserializationSchema<SeaTunne
         }
     }
 
+    /**
+     * Converts a message holding a row or an array of rows with the {@link #streamingConverter}.
+     * Returns null when the message has to be converted from a {@link JsonNode} instead, no row is
+     * emitted before the whole message was converted.
+     */
+    private List<SeaTunnelRow> convertTokens(byte[] message) {
+        try (JsonParser parser = objectMapper.createParser(message)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return Collections.singletonList((SeaTunnelRow) streamingConverter.convert(parser));
+            } else if (token != JsonToken.START_ARRAY) {
+                return null;
+            }
+            List<SeaTunnelRow> rows = new ArrayList<>();
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (!isRowStart(token)) {
+                    return null;
+                }
+                rows.add((SeaTunnelRow) streamingConverter.convert(parser));
+            }
+            return rows;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isRowStart(JsonToken token) {
+        return token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+    }
+
     public void setCollectorTablePath(SeaTunnelRow deserialize, CatalogTable catalogTable) {
         Optional<TablePath> tablePath =
                 Optional.ofNullable(catalogTable).map(CatalogTable::getTablePath);
@@ -0,0 +1,440 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.format.json;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonParser;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.core.JsonToken;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.DeserializationFeature;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.JsonNode;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.TextNode;
+
+import org.apache.seatunnel.api.table.type.ArrayType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.format.json.JsonToRowConverters.JsonToObjectConverter;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tool class used to convert a {@link JsonParser} token stream into {@link SeaTunnelRow}s without
+ * building a {@link JsonNode} tree per message.
+ *
+ * <p>Values are read straight into the row fields and unknown fields are skipped. Tokens that the
+ * streaming converters don't handle themselves, like numbers for a decimal field or containers for
+ * a string field, are read into a single {@link JsonNode} and converted by the matching {@link
+ * JsonToRowConverters} converter, so both produce the same values. Converters throw on any invalid
+ * input, callers are expected to convert the message with {@link JsonToRowConverters} again to
+ * report or ignore the error.
+ */
+public class JsonParserToRowConverters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonToRowConverters treeConverters;
+
+    /** Object mapper for reading the values handed over to {@link #treeConverters}. */
+    private final ObjectMapper objectMapper;
+
+    /** Flag indicating whether to fail if a field is missing. */
+    private final boolean failOnMissingField;
+
+    public JsonParserToRowConverters(
+            JsonToRowConverters treeConverters,
+            ObjectMapper objectMapper,
+            boolean failOnMissingField) {
+        this.treeConverters = treeConverters;
+        this.objectMapper = objectMapper;
+        this.failOnMissingField = failOnMissingField;
+    }
+
+    /**
+     * Creates a runtime converter for the top level row, the parser has to be positioned on a
+     * non-null token.
+     */
+    public JsonParserToObjectConverter createRowConverter(SeaTunnelRowType rowType) {
+        return createRowConverter(rowType, null, treeConverters.createRowConverter(rowType));
+    }
+
+    /** Creates a runtime converter which is null safe. */
+    private JsonParserToObjectConverter createConverter(
+            SeaTunnelDataType<?> type, String fieldName) {
+        return wrapIntoNullableConverter(createNotNullConverter(type, fieldName));
+    }
+
+    /** Creates a runtime converter which assuming the current token is not null. */
+    private JsonParserToObjectConverter createNotNullConverter(
+            SeaTunnelDataType<?> type, String fieldName) {
+        JsonToObjectConverter treeConverter = treeConverters.createConverter(type);
+        SqlType sqlType = type.getSqlType();
+        switch (sqlType) {
+            case NULL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        parser.skipChildren();
+                        return null;
+                    }
+                };
+            case BOOLEAN:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        switch (parser.getCurrentToken()) {
+                            case VALUE_TRUE:
+                                return true;
+                            case VALUE_FALSE:
+                                return false;
+                            case VALUE_STRING:
+                                return Boolean.parseBoolean(parser.getText().trim());
+                            default:
+                                return convertTree(treeConverter, parser, fieldName);
+                        }
+                    }
+                };
+            case TINYINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (isIntegralOrString(parser)) {
+                            return Byte.parseByte(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case SMALLINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (isIntegralOrString(parser)) {
+                            return Short.parseShort(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case INT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        JsonToken token = parser.getCurrentToken();
+                        if (token == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() == JsonParser.NumberType.INT) {
+                            return parser.getIntValue();
+                        } else if (token == JsonToken.VALUE_STRING) {
+                            return Integer.parseInt(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case BIGINT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        JsonToken token = parser.getCurrentToken();
+                        if (token == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                            return parser.getLongValue();
+                        } else if (token == JsonToken.VALUE_STRING) {
+                            return Long.parseLong(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case FLOAT:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        JsonToken token = parser.getCurrentToken();
+                        if (token == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                            return (float) parser.getLongValue();
+                        } else if (token == JsonToken.VALUE_NUMBER_FLOAT
+                                && !objectMapper.isEnabled(
+                                        DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+                            return (float) parser.getDoubleValue();
+                        } else if (token == JsonToken.VALUE_STRING) {
+                            return Float.parseFloat(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case DOUBLE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        JsonToken token = parser.getCurrentToken();
+                        if (token == JsonToken.VALUE_NUMBER_INT
+                                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                            return (double) parser.getLongValue();
+                        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                            return parser.getDoubleValue();
+                        } else if (token == JsonToken.VALUE_STRING) {
+                            return Double.parseDouble(parser.getText().trim());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case STRING:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return parser.getText();
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case BYTES:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return parser.getBinaryValue();
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case DECIMAL:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return new BigDecimal(parser.getText());
+                        }
+                        // floats are normalized by the node factory, let the tree converter do it
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case DATE:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return treeConverters.convertToLocalDate(parser.getText(), fieldName);
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case TIME:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return treeConverters.convertToLocalTime(parser.getText());
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case TIMESTAMP:
+                return new JsonParserToObjectConverter() {
+                    @Override
+                    public Object convert(JsonParser parser) throws IOException {
+                        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                            return treeConverters.convertToLocalDateTime(
+                                    parser.getText(), fieldName);
+                        }
+                        return convertTree(treeConverter, parser, fieldName);
+                    }
+                };
+            case ARRAY:
+                return createArrayConverter((ArrayType<?, ?>) type, fieldName, treeConverter);
+            case MAP:
+                return createMapConverter((MapType<?, ?>) type, fieldName, treeConverter);
+            case ROW:
+                return createRowConverter((SeaTunnelRowType) type, fieldName, treeConverter);
+            default:
+                // the tree converter has already rejected any other type
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    private JsonParserToObjectConverter createRowConverter(
+            SeaTunnelRowType rowType, String rowFieldName, JsonToObjectConverter treeConverter) {
+        final String[] fieldNames = rowType.getFieldNames();
+        final int arity = fieldNames.length;
+        final String[] qualifiedNames = new String[arity];
+        final JsonParserToObjectConverter[] fieldConverters =
+                new JsonParserToObjectConverter[arity];
+        final Map<String, Integer> fieldIndexes = new HashMap<>();
+        for (int i = 0; i < arity; i++) {
+            qualifiedNames[i] =
+                    StringUtils.isNotBlank(rowFieldName)
+                            ? rowFieldName + "." + fieldNames[i]
+                            : fieldNames[i];
+            fieldConverters[i] = createConverter(rowType.getFieldType(i), qualifiedNames[i]);
+            fieldIndexes.putIfAbsent(fieldNames[i], i);
+        }
+        final boolean uniqueFieldNames = fieldIndexes.size() == arity;
+
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                JsonToken token = parser.getCurrentToken();
+                if (uniqueFieldNames && token == JsonToken.START_OBJECT) {
+                    return convertObject(parser);
+                } else if (token == JsonToken.START_ARRAY) {
+                    return convertArray(parser);
+                }
+                return convertTree(treeConverter, parser, rowFieldName);
+            }
+
+            private SeaTunnelRow convertObject(JsonParser parser) throws IOException {
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                boolean[] presentFields = failOnMissingField ? new boolean[arity] : null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Integer index = fieldIndexes.get(parser.getCurrentName());
+                    parser.nextToken();
+                    if (index == null) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    row.setField(index, fieldConverters[index].convert(parser));
+                    if (presentFields != null) {
+                        presentFields[index] = true;
+                    }
+                }
+                if (presentFields != null) {
+                    for (int i = 0; i < arity; i++) {
+                        if (!presentFields[i]) {
+                            throw missingField(i);
+                        }
+                    }
+                }
+                return row;
+            }
+
+            private SeaTunnelRow convertArray(JsonParser parser) throws IOException {
+                SeaTunnelRow row = new SeaTunnelRow(arity);
+                int pos = 0;
+                for (; parser.nextToken() != JsonToken.END_ARRAY; pos++) {
+                    if (pos < arity) {
+                        row.setField(pos, fieldConverters[pos].convert(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (failOnMissingField && pos < arity) {
+                    throw missingField(pos);
+                }
+                return row;
+            }
+
+            private IllegalArgumentException missingField(int pos) {
+                return new IllegalArgumentException(
+                        String.format("Could not find field with name %s .", qualifiedNames[pos]));
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter createArrayConverter(
+            ArrayType<?, ?> type, String fieldName, JsonToObjectConverter treeConverter) {
+        JsonParserToObjectConverter valueConverter =
+                createConverter(type.getElementType(), fieldName);
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+                    return convertTree(treeConverter, parser, fieldName);
+                }
+                List<Object> values = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    values.add(valueConverter.convert(parser));
+                }
+                Object arr = Array.newInstance(type.getElementType().getTypeClass(), values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    Array.set(arr, i, values.get(i));
+                }
+                return arr;
+            }
+        };
+    }
+
+    private JsonParserToObjectConverter createMapConverter(
+            MapType<?, ?> type, String fieldName, JsonToObjectConverter treeConverter) {
+        boolean stringKey = type.getKeyType().getSqlType() == SqlType.STRING;
+        JsonToObjectConverter keyConverter = treeConverters.createConverter(type.getKeyType());
+        JsonParserToObjectConverter valueConverter =
+                createConverter(type.getValueType(), fieldName + ".value");
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                    return convertTree(treeConverter, parser, fieldName);
+                }
+                Map<Object, Object> value = new HashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    Object key =
+                            stringKey
+                                    ? name
+                                    : keyConverter.convert(
+                                            TextNode.valueOf(name), fieldName + ".key");
+                    parser.nextToken();
+                    value.put(key, valueConverter.convert(parser));
+                }
+                return value;
+            }
+        };
+    }
+
+    private boolean isIntegralOrString(JsonParser parser) {
+        JsonToken token = parser.getCurrentToken();
+        return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_STRING;
+    }
+
+    /** Reads the current value into a {@link JsonNode} and converts it with the tree converter. */
+    private Object convertTree(
+            JsonToObjectConverter treeConverter, JsonParser parser, String fieldName)
+            throws IOException {
+        return treeConverter.convert(objectMapper.readTree(parser), fieldName);
+    }
+
+    private JsonParserToObjectConverter wrapIntoNullableConverter(
+            JsonParserToObjectConverter converter) {
+        return new JsonParserToObjectConverter() {
+            @Override
+            public Object convert(JsonParser parser) throws IOException {
+                if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                    return null;
+                }
+                return converter.convert(parser);
+            }
+        };
+    }
+
+    /**
+     * Runtime converter that converts the value at the current token of a {@link JsonParser} into
+     * objects of internal data structures, leaving the parser on the last token of the value.
+     */
+    public interface JsonParserToObjectConverter extends Serializable {
+        Object convert(JsonParser parser) throws IOException;
+    }
+}
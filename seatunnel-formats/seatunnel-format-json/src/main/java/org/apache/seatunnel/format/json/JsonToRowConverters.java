@@ -250,7 +250,10 @@ public class JsonToRowConverters implements Serializable {
     }
 
     private LocalDate convertToLocalDate(JsonNode jsonNode, String fieldName) {
-        String dateStr = jsonNode.asText();
+        return convertToLocalDate(jsonNode.asText(), fieldName);
+    }
+
+    LocalDate convertToLocalDate(String dateStr, String fieldName) {
         DateTimeFormatter dateFormatter = fieldFormatterMap.get(fieldName);
         if (dateFormatter == null) {
             dateFormatter = DateUtils.matchDateFormatter(dateStr);
@@ -260,16 +263,23 @@ public class JsonToRowConverters implements Serializable {
             throw CommonError.formatDateError(dateStr, fieldName);
         }
 
-        return dateFormatter.parse(jsonNode.asText()).query(TemporalQueries.localDate());
+        return dateFormatter.parse(dateStr).query(TemporalQueries.localDate());
     }
 
     private LocalTime convertToLocalTime(JsonNode jsonNode) {
-        TemporalAccessor parsedTime = TIME_FORMAT.parse(jsonNode.asText());
+        return convertToLocalTime(jsonNode.asText());
+    }
+
+    LocalTime convertToLocalTime(String timeStr) {
+        TemporalAccessor parsedTime = TIME_FORMAT.parse(timeStr);
         return parsedTime.query(TemporalQueries.localTime());
     }
 
     private LocalDateTime convertToLocalDateTime(JsonNode jsonNode, String fieldName) {
-        String datetimeStr = jsonNode.asText();
+        return convertToLocalDateTime(jsonNode.asText(), fieldName);
+    }
+
+    LocalDateTime convertToLocalDateTime(String datetimeStr, String fieldName) {
         DateTimeFormatter dateTimeFormatter = fieldFormatterMap.get(fieldName);
         if (dateTimeFormatter == null) {
             dateTimeFormatter = DateTimeUtils.matchDateTimeFormatter(datetimeStr);
@@ -24,6 +24,7 @@ import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.node.ObjectNode;
 
+import org.apache.seatunnel.api.source.Collector;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.CatalogTableUtil;
 import org.apache.seatunnel.api.table.type.DecimalType;
@@ -48,7 +49,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.apache.seatunnel.api.table.type.ArrayType.INT_ARRAY_TYPE;
@@ -323,6 +326,70 @@ public class JsonRowDataSerDeSchemaTest {
         }
     }
 
+    @Test
+    public void testStreamingDeserializationMatchesTreeConversion() throws Exception {
+        SeaTunnelRowType nestedType =
+                new SeaTunnelRowType(
+                        new String[] {"code", "ts"},
+                        new SeaTunnelDataType[] {INT_TYPE, LocalTimeType.LOCAL_DATE_TIME_TYPE});
+        SeaTunnelRowType schema =
+                new SeaTunnelRowType(
+                        new String[] {
+                            "id", "name", "flag", "price", "score", "ratio", "tags", "attrs",
+                            "nested", "raw", "day"
+                        },
+                        new SeaTunnelDataType[] {
+                            LONG_TYPE,
+                            STRING_TYPE,
+                            BOOLEAN_TYPE,
+                            new DecimalType(10, 2),
+                            FLOAT_TYPE,
+                            DOUBLE_TYPE,
+                            STRING_ARRAY_TYPE,
+                            new MapType<>(INT_TYPE, STRING_TYPE),
+                            nestedType,
+                            STRING_TYPE,
+                            LocalTimeType.LOCAL_DATE_TYPE
+                        });
+        JsonDeserializationSchema deser = new JsonDeserializationSchema(false, false, schema);
+
+        String[] jsons =
+                new String[] {
+                    "{\"id\":1,\"name\":\"a\",\"flag\":true,\"price\":12.30,\"score\":1.5,"
+                            + "\"ratio\":3,\"tags\":[\"x\",null],\"attrs\":{\"1\":\"v\"},"
+                            + "\"unknown\":{\"deep\":[1,{\"a\":2}]},"
+                            + "\"nested\":{\"code\":\"7\",\"ts\":\"2024-01-26 12:00:12\"},"
+                            + "\"raw\":{\"k\":[1,2]},\"day\":\"2024-01-26\"}",
+                    "{\"id\":\"2\",\"name\":10,\"flag\":\"false\",\"price\":\"1.5\","
+                            + "\"score\":\"2\",\"ratio\":1e3,\"nested\":null,\"raw\":true}",
+                    "[3,\"b\"]"
+                };
+        for (String json : jsons) {
+            SeaTunnelRow expected =
+                    deser.convertToRowData(deser.deserializeToJsonNode(json.getBytes()));
+            assertEquals(expected, deser.deserialize(json.getBytes()));
+            assertEquals(expected, deser.deserialize(json));
+        }
+
+        List<SeaTunnelRow> rows = new ArrayList<>();
+        deser.collect(
+                "[{\"id\":1,\"skip\":[{}]},{\"id\":2}]".getBytes(),
+                new Collector<SeaTunnelRow>() {
+                    @Override
+                    public void collect(SeaTunnelRow record) {
+                        rows.add(record);
+                    }
+
+                    @Override
+                    public Object getCheckpointLock() {
+                        return this;
+                    }
+                });
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).getField(0));
+        assertEquals(2L, rows.get(1).getField(0));
+    }
+
     @Test
     public void testDeserializationNullRow() throws Exception {
         SeaTunnelRowType schema =
@@ -68,6 +68,9 @@ public class ZetaSQLEngine implements SQLEngine {
     private ZetaSQLFilter zetaSQLFilter;
     private ZetaSQLType zetaSQLType;
 
+    private ZetaSQLPlanner.ConditionEvaluator filterEvaluator;
+    private ZetaSQLPlanner.ValueEvaluator[] projectEvaluators;
+
     private Integer allColumnsCount = null;
 
     public ZetaSQLEngine() {}
@@ -92,6 +95,7 @@ public class ZetaSQLEngine implements SQLEngine {
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        compileSQL();
     }
 
     private void parseSQL() {
@@ -107,6 +111,20 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    private void compileSQL() {
+        ZetaSQLPlanner planner =
+                new ZetaSQLPlanner(inputRowType, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+        this.filterEvaluator = planner.compileCondition(selectBody.getWhere());
+        List<SelectItem<?>> selectItems = selectBody.getSelectItems();
+        this.projectEvaluators = new ZetaSQLPlanner.ValueEvaluator[selectItems.size()];
+        for (int i = 0; i < selectItems.size(); i++) {
+            Expression expression = selectItems.get(i).getExpression();
+            if (!(expression instanceof AllColumns)) {
+                projectEvaluators[i] = planner.compileValue(expression);
+            }
+        }
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -240,7 +258,7 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = filterEvaluator.evaluate(inputFields);
         if (!retain) {
             return null;
         }
@@ -272,15 +290,12 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] fields = new Object[columnsSize];
 
         int idx = 0;
-        for (SelectItem selectItem : selectItems) {
-            if (selectItem.getExpression() instanceof AllColumns) {
-                for (Object inputField : inputFields) {
-                    fields[idx] = inputField;
-                    idx++;
-                }
+        for (int i = 0; i < projectEvaluators.length; i++) {
+            if (projectEvaluators[i] == null) {
+                System.arraycopy(inputFields, 0, fields, idx, inputFields.length);
+                idx += inputFields.length;
             } else {
-                Expression expression = selectItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
+                fields[idx] = projectEvaluators[i].evaluate(inputFields);
                 idx++;
             }
         }
@@ -90,19 +90,19 @@ public class ZetaSQLFilter {
                 return equalsToExpr(pair);
             }
             if (whereExpr instanceof NotEqualsTo) {
-                return notEqualsToExpr(pair);
+                return notEqualsToExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof GreaterThan) {
-                return greaterThanExpr(pair);
+                return greaterThanExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof GreaterThanEquals) {
-                return greaterThanEqualsExpr(pair);
+                return greaterThanEqualsExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof MinorThan) {
-                return minorThanExpr(pair);
+                return minorThanExpr(pair.getLeft(), pair.getRight());
             }
             if (whereExpr instanceof MinorThanEquals) {
-                return minorThanEqualsExpr(pair);
+                return minorThanEqualsExpr(pair.getLeft(), pair.getRight());
             }
         }
         if (whereExpr instanceof AndExpression) {
@@ -182,26 +182,7 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = likePattern(regex);
         Matcher matcher = pattern.matcher(leftVal.toString());
 
         return matcher.matches();
@@ -226,6 +207,19 @@ public class ZetaSQLFilter {
         if (rightVal == null && regex.length() > 0) {
             return false;
         }
+        Pattern pattern = likePattern(regex);
+        Matcher matcher = pattern.matcher(leftVal.toString());
+
+        return !matcher.matches();
+    }
+
+    /**
+     * Translates the pattern of a like expression into a regular expression
+     *
+     * @param regex like pattern
+     * @return compiled pattern
+     */
+    static Pattern likePattern(String regex) {
         String likeIdent = "%";
         if (regex.startsWith(likeIdent)) {
             regex = regex.replaceFirst(likeIdent, ".*");
@@ -245,10 +239,7 @@ public class ZetaSQLFilter {
         if (regex.startsWith("'") && regex.endsWith("'")) {
             regex = regex.substring(0, regex.length() - 1).substring(1);
         }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return !matcher.matches();
+        return Pattern.compile(regex);
     }
 
     private Pair<Object, Object> executeComparisonOperator(
@@ -261,8 +252,10 @@ public class ZetaSQLFilter {
     }
 
     boolean equalsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+        return equalsToExpr(pair.getLeft(), pair.getRight());
+    }
+
+    boolean equalsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -272,9 +265,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean notEqualsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null) {
             return rightVal != null;
         }
@@ -284,9 +275,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -312,9 +301,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -342,9 +329,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -370,9 +355,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -0,0 +1,626 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeKeyExpression;
+import net.sf.jsqlparser.expression.TrimFunction;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ParenthesedExpressionList;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the expressions of a query once into a tree of evaluators, so that rows no longer walk
+ * the parsed SQL and column names are resolved to indexes up front. Expressions the planner does
+ * not know are evaluated by {@link ZetaSQLFunction} and {@link ZetaSQLFilter} as before.
+ */
+public class ZetaSQLPlanner {
+    private static final Logger log = LoggerFactory.getLogger(ZetaSQLPlanner.class);
+
+    /** Computes the value of an expression from the fields of an input row. */
+    @FunctionalInterface
+    public interface ValueEvaluator {
+        Object evaluate(Object[] inputFields);
+    }
+
+    /** Tests a condition against the fields of an input row. */
+    @FunctionalInterface
+    public interface ConditionEvaluator {
+        boolean evaluate(Object[] inputFields);
+    }
+
+    @FunctionalInterface
+    private interface NumericOperator {
+        Object apply(Number left, Number right);
+    }
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+
+    public ZetaSQLPlanner(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLType zetaSQLType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = zetaSQLType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+    }
+
+    public ValueEvaluator compileValue(Expression expression) {
+        try {
+            ValueEvaluator evaluator = planValue(expression);
+            if (evaluator != null) {
+                return evaluator;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Expression {} can not be compiled, it will be interpreted", expression, e);
+        }
+        return inputFields -> zetaSQLFunction.computeForValue(expression, inputFields);
+    }
+
+    public ConditionEvaluator compileCondition(Expression expression) {
+        if (expression == null) {
+            return inputFields -> true;
+        }
+        try {
+            ConditionEvaluator evaluator = planCondition(expression);
+            if (evaluator != null) {
+                return evaluator;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Condition {} can not be compiled, it will be interpreted", expression, e);
+        }
+        return inputFields -> zetaSQLFilter.executeFilter(expression, inputFields);
+    }
+
+    private ValueEvaluator planValue(Expression expression) {
+        if (expression instanceof NullValue) {
+            return inputFields -> null;
+        }
+        if (expression instanceof TrimFunction) {
+            return planTrim((TrimFunction) expression);
+        }
+        if (expression instanceof SignedExpression) {
+            return planSigned((SignedExpression) expression);
+        }
+        if (expression instanceof DoubleValue) {
+            Object value = ((DoubleValue) expression).getValue();
+            return inputFields -> value;
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            Object value =
+                    longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE
+                            ? (Object) (int) longVal
+                            : (Object) longVal;
+            return inputFields -> value;
+        }
+        if (expression instanceof StringValue) {
+            String value = ((StringValue) expression).getValue();
+            return inputFields -> value;
+        }
+        if (expression instanceof Column) {
+            return planColumn((Column) expression);
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            return planFunction(
+                    function.getName(), (ExpressionList<Expression>) function.getParameters());
+        }
+        if (expression instanceof TimeKeyExpression) {
+            String timeKey = ((TimeKeyExpression) expression).getStringValue();
+            return inputFields -> zetaSQLFunction.executeTimeKeyExpr(timeKey);
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            ValueEvaluator argument = compileValue(extract.getExpression());
+            String name = extract.getName();
+            ZetaSQLFunction.FunctionExecutor executor =
+                    zetaSQLFunction.resolveFunction(ZetaSQLFunction.EXTRACT);
+            return inputFields -> {
+                List<Object> args = new ArrayList<>(2);
+                args.add(argument.evaluate(inputFields));
+                args.add(name);
+                return executor.execute(args);
+            };
+        }
+        if (expression instanceof Parenthesis) {
+            return compileValue(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof CaseExpression) {
+            return planCase((CaseExpression) expression);
+        }
+        if (expression instanceof Concat) {
+            Concat concat = (Concat) expression;
+            return planFunction(
+                    ZetaSQLFunction.CONCAT,
+                    new ExpressionList<>(concat.getLeftExpression(), concat.getRightExpression()));
+        }
+        if (expression instanceof BinaryExpression) {
+            return planArithmetic((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            return planCast((CastExpression) expression);
+        }
+        return null;
+    }
+
+    private ValueEvaluator planTrim(TrimFunction function) {
+        Column column = (Column) function.getExpression();
+        ZetaSQLFunction.FunctionExecutor executor =
+                zetaSQLFunction.resolveFunction(ZetaSQLFunction.TRIM);
+        if (column == null) {
+            return inputFields -> executor.execute(new ArrayList<>());
+        }
+        ValueEvaluator argument = compileValue(column);
+        String from =
+                function.getFromExpression() == null
+                        ? null
+                        : ((StringValue) function.getFromExpression()).getValue();
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(2);
+            args.add(argument.evaluate(inputFields));
+            if (from != null) {
+                args.add(from);
+            }
+            return executor.execute(args);
+        };
+    }
+
+    private ValueEvaluator planSigned(SignedExpression signedExpression) {
+        if (signedExpression.getSign() == '+') {
+            return compileValue(signedExpression.getExpression());
+        }
+        if (signedExpression.getSign() != '-') {
+            return null;
+        }
+        ValueEvaluator argument = compileValue(signedExpression.getExpression());
+        return inputFields -> {
+            Object value = argument.evaluate(inputFields);
+            if (value instanceof Integer) {
+                return -((Integer) value);
+            }
+            if (value instanceof Long) {
+                return -((Long) value);
+            }
+            if (value instanceof Double) {
+                return -((Double) value);
+            }
+            if (value instanceof Number) {
+                return -((Number) value).doubleValue();
+            }
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Unsupported SQL Expression: %s ", signedExpression));
+        };
+    }
+
+    private ValueEvaluator planColumn(Column column) {
+        String columnName = column.getColumnName();
+        int index = indexOf(inputRowType, columnName);
+        if (index != -1) {
+            return inputFields -> inputFields[index];
+        }
+
+        // nested field of a row or key of a map, e.g. `c_row.c_map.key`
+        String fullyQualifiedName = column.getFullyQualifiedName();
+        String[] columnNames = fullyQualifiedName.split("\\.");
+        int[] path = new int[columnNames.length];
+        int depth = 0;
+        String mapKey = null;
+        SeaTunnelDataType<?> dataType = inputRowType;
+        for (String key : columnNames) {
+            if (dataType instanceof MapType) {
+                mapKey = key;
+                break;
+            }
+            SeaTunnelRowType rowType = (SeaTunnelRowType) dataType;
+            int idx = indexOf(rowType, key);
+            if (idx == -1) {
+                throw new IllegalArgumentException(
+                        String.format("can't find field [%s]", fullyQualifiedName));
+            }
+            path[depth++] = idx;
+            dataType = rowType.getFieldType(idx);
+        }
+        int[] rowPath = Arrays.copyOf(path, depth);
+        String key = mapKey;
+        return inputFields -> {
+            Object value = inputFields[rowPath[0]];
+            for (int i = 1; i < rowPath.length && value != null; i++) {
+                value = ((SeaTunnelRow) value).getField(rowPath[i]);
+            }
+            if (key == null || value == null) {
+                return value;
+            }
+            Map<?, ?> mapValue = (Map<?, ?>) value;
+            if (mapValue.containsKey(key)) {
+                return mapValue.get(key);
+            }
+            return isEscaped(key) ? mapValue.get(unescape(key)) : null;
+        };
+    }
+
+    private ValueEvaluator planFunction(
+            String functionName, ExpressionList<Expression> expressionList) {
+        ZetaSQLFunction.FunctionExecutor executor = zetaSQLFunction.resolveFunction(functionName);
+        ValueEvaluator[] arguments = compileValues(expressionList);
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(arguments.length);
+            for (ValueEvaluator argument : arguments) {
+                args.add(argument.evaluate(inputFields));
+            }
+            return executor.execute(args);
+        };
+    }
+
+    private ValueEvaluator planCase(CaseExpression caseExpression) {
+        Expression switchExpr = caseExpression.getSwitchExpression();
+        ValueEvaluator switchEvaluator = switchExpr == null ? null : compileValue(switchExpr);
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        ConditionEvaluator[] whenConditions = new ConditionEvaluator[whenClauses.size()];
+        ValueEvaluator[] whenValues = new ValueEvaluator[whenClauses.size()];
+        ValueEvaluator[] thenValues = new ValueEvaluator[whenClauses.size()];
+        for (int i = 0; i < whenClauses.size(); i++) {
+            Expression whenExpression = whenClauses.get(i).getWhenExpression();
+            if (zetaSQLFilter.isConditionExpr(whenExpression)) {
+                whenConditions[i] = compileCondition(whenExpression);
+            } else {
+                whenValues[i] = compileValue(whenExpression);
+            }
+            thenValues[i] = compileValue(whenClauses.get(i).getThenExpression());
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        ValueEvaluator elseValue = elseExpression == null ? null : compileValue(elseExpression);
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(caseExpression);
+        return inputFields -> {
+            Object switchValue =
+                    switchEvaluator == null ? null : switchEvaluator.evaluate(inputFields);
+            for (int i = 0; i < thenValues.length; i++) {
+                Object when =
+                        whenConditions[i] != null
+                                ? (Object) whenConditions[i].evaluate(inputFields)
+                                : whenValues[i].evaluate(inputFields);
+                if ((when instanceof Boolean && (boolean) when)
+                        || zetaSQLFilter.equalsToExpr(switchValue, when)) {
+                    return SystemFunction.castAs(thenValues[i].evaluate(inputFields), type);
+                }
+            }
+            Object value = elseValue == null ? null : elseValue.evaluate(inputFields);
+            return SystemFunction.castAs(value, type);
+        };
+    }
+
+    private ValueEvaluator planArithmetic(BinaryExpression binaryExpression) {
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        NumericOperator operator = numericOperator(binaryExpression, resultType);
+        if (operator == null) {
+            return null;
+        }
+        ValueEvaluator left = compileValue(binaryExpression.getLeftExpression());
+        ValueEvaluator right = compileValue(binaryExpression.getRightExpression());
+        return inputFields -> {
+            Number leftValue = (Number) left.evaluate(inputFields);
+            Number rightValue = (Number) right.evaluate(inputFields);
+            if (leftValue == null || rightValue == null) {
+                return null;
+            }
+            return operator.apply(leftValue, rightValue);
+        };
+    }
+
+    private static NumericOperator numericOperator(
+            BinaryExpression binaryExpression, SeaTunnelDataType<?> resultType) {
+        boolean addition = binaryExpression instanceof Addition;
+        boolean subtraction = binaryExpression instanceof Subtraction;
+        boolean multiplication = binaryExpression instanceof Multiplication;
+        boolean division = binaryExpression instanceof Division;
+        boolean modulo = binaryExpression instanceof Modulo;
+        switch (resultType.getSqlType()) {
+            case INT:
+                if (addition) {
+                    return (l, r) -> l.intValue() + r.intValue();
+                }
+                if (subtraction) {
+                    return (l, r) -> l.intValue() - r.intValue();
+                }
+                if (multiplication) {
+                    return (l, r) -> l.intValue() * r.intValue();
+                }
+                if (division) {
+                    return (l, r) -> l.intValue() / r.intValue();
+                }
+                if (modulo) {
+                    return (l, r) -> l.intValue() % r.intValue();
+                }
+                return null;
+            case DECIMAL:
+                if (addition) {
+                    return (l, r) -> decimal(l).add(decimal(r));
+                }
+                if (subtraction) {
+                    return (l, r) -> decimal(l).subtract(decimal(r));
+                }
+                if (multiplication) {
+                    return (l, r) -> decimal(l).multiply(decimal(r));
+                }
+                if (division) {
+                    int scale = ((DecimalType) resultType).getScale();
+                    return (l, r) -> decimal(l).divide(decimal(r), scale, RoundingMode.UP);
+                }
+                if (modulo) {
+                    return (l, r) -> NumericFunction.mod(Arrays.asList(l, r));
+                }
+                return null;
+            case DOUBLE:
+                if (addition) {
+                    return (l, r) -> l.doubleValue() + r.doubleValue();
+                }
+                if (subtraction) {
+                    return (l, r) -> l.doubleValue() - r.doubleValue();
+                }
+                if (multiplication) {
+                    return (l, r) -> l.doubleValue() * r.doubleValue();
+                }
+                if (division) {
+                    return (l, r) -> l.doubleValue() / r.doubleValue();
+                }
+                if (modulo) {
+                    return (l, r) -> l.doubleValue() % r.doubleValue();
+                }
+                return null;
+            case BIGINT:
+                if (addition) {
+                    return (l, r) -> l.longValue() + r.longValue();
+                }
+                if (subtraction) {
+                    return (l, r) -> l.longValue() - r.longValue();
+                }
+                if (multiplication) {
+                    return (l, r) -> l.longValue() * r.longValue();
+                }
+                if (division) {
+                    return (l, r) -> l.longValue() / r.longValue();
+                }
+                if (modulo) {
+                    return (l, r) -> l.longValue() % r.longValue();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static BigDecimal decimal(Number value) {
+        return BigDecimal.valueOf(value.doubleValue());
+    }
+
+    private ValueEvaluator planCast(CastExpression castExpression) {
+        ValueEvaluator left = compileValue(castExpression.getLeftExpression());
+        String dataType = castExpression.getColDataType().getDataType().toUpperCase();
+        List<Object> decimalArgs = new ArrayList<>(2);
+        if (dataType.equals("DECIMAL")) {
+            List<String> ps = castExpression.getColDataType().getArgumentsStringList();
+            decimalArgs.add(Integer.parseInt(ps.get(0)));
+            decimalArgs.add(Integer.parseInt(ps.get(1)));
+        }
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(4);
+            args.add(left.evaluate(inputFields));
+            args.add(dataType);
+            args.addAll(decimalArgs);
+            return SystemFunction.castAs(args);
+        };
+    }
+
+    private ConditionEvaluator planCondition(Expression expression) {
+        if (expression instanceof Function) {
+            ValueEvaluator function = compileValue(expression);
+            return inputFields -> {
+                Boolean result = (Boolean) function.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (expression instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) expression;
+            ValueEvaluator left = compileValue(isNullExpression.getLeftExpression());
+            boolean not = isNullExpression.isNot();
+            return inputFields -> (left.evaluate(inputFields) == null) != not;
+        }
+        if (expression instanceof InExpression) {
+            return planIn((InExpression) expression);
+        }
+        if (expression instanceof LikeExpression) {
+            return planLike((LikeExpression) expression);
+        }
+        if (expression instanceof EqualsTo) {
+            return planComparison((BinaryExpression) expression, zetaSQLFilter::equalsToExpr);
+        }
+        if (expression instanceof NotEqualsTo) {
+            return planComparison((BinaryExpression) expression, zetaSQLFilter::notEqualsToExpr);
+        }
+        if (expression instanceof GreaterThan) {
+            return planComparison((BinaryExpression) expression, zetaSQLFilter::greaterThanExpr);
+        }
+        if (expression instanceof GreaterThanEquals) {
+            return planComparison(
+                    (BinaryExpression) expression, zetaSQLFilter::greaterThanEqualsExpr);
+        }
+        if (expression instanceof MinorThan) {
+            return planComparison((BinaryExpression) expression, zetaSQLFilter::minorThanExpr);
+        }
+        if (expression instanceof MinorThanEquals) {
+            return planComparison(
+                    (BinaryExpression) expression, zetaSQLFilter::minorThanEqualsExpr);
+        }
+        if (expression instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) expression;
+            ConditionEvaluator left = compileCondition(andExpression.getLeftExpression());
+            ConditionEvaluator right = compileCondition(andExpression.getRightExpression());
+            return inputFields -> left.evaluate(inputFields) && right.evaluate(inputFields);
+        }
+        if (expression instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) expression;
+            ConditionEvaluator left = compileCondition(orExpression.getLeftExpression());
+            ConditionEvaluator right = compileCondition(orExpression.getRightExpression());
+            return inputFields -> left.evaluate(inputFields) || right.evaluate(inputFields);
+        }
+        if (expression instanceof Parenthesis) {
+            return compileCondition(((Parenthesis) expression).getExpression());
+        }
+        return null;
+    }
+
+    private ConditionEvaluator planComparison(
+            BinaryExpression comparison, java.util.function.BiPredicate<Object, Object> operator) {
+        ValueEvaluator left = compileValue(comparison.getLeftExpression());
+        ValueEvaluator right = compileValue(comparison.getRightExpression());
+        return inputFields ->
+                operator.test(left.evaluate(inputFields), right.evaluate(inputFields));
+    }
+
+    private ConditionEvaluator planIn(InExpression inExpression) {
+        ValueEvaluator left = compileValue(inExpression.getLeftExpression());
+        ValueEvaluator[] items =
+                compileValues(
+                        (ParenthesedExpressionList<Expression>) inExpression.getRightExpression());
+        boolean not = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = left.evaluate(inputFields);
+            for (ValueEvaluator item : items) {
+                Object rightValue = item.evaluate(inputFields);
+                if (leftValue == null) {
+                    return rightValue == null;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !not;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !not;
+                }
+            }
+            return not;
+        };
+    }
+
+    private ConditionEvaluator planLike(LikeExpression likeExpression) {
+        ValueEvaluator left = compileValue(likeExpression.getLeftExpression());
+        boolean not = likeExpression.isNot();
+        Expression rightExpr = likeExpression.getRightExpression();
+        if (rightExpr instanceof StringValue) {
+            Pattern pattern = ZetaSQLFilter.likePattern(((StringValue) rightExpr).getValue());
+            return inputFields -> {
+                Object leftValue = left.evaluate(inputFields);
+                return leftValue != null && pattern.matcher(leftValue.toString()).matches() != not;
+            };
+        }
+        ValueEvaluator right = compileValue(rightExpr);
+        return inputFields -> {
+            Object leftValue = left.evaluate(inputFields);
+            if (leftValue == null) {
+                return false;
+            }
+            Pattern pattern = ZetaSQLFilter.likePattern(right.evaluate(inputFields).toString());
+            return pattern.matcher(leftValue.toString()).matches() != not;
+        };
+    }
+
+    private ValueEvaluator[] compileValues(ExpressionList<Expression> expressionList) {
+        if (expressionList == null) {
+            return new ValueEvaluator[0];
+        }
+        List<Expression> expressions = expressionList.getExpressions();
+        ValueEvaluator[] evaluators = new ValueEvaluator[expressions.size()];
+        for (int i = 0; i < evaluators.length; i++) {
+            evaluators[i] = compileValue(expressions.get(i));
+        }
+        return evaluators;
+    }
+
+    private static int indexOf(SeaTunnelRowType rowType, String fieldName) {
+        int index = rowType.indexOf(fieldName, false);
+        if (index == -1 && isEscaped(fieldName)) {
+            index = rowType.indexOf(unescape(fieldName), false);
+        }
+        return index;
+    }
+
+    private static boolean isEscaped(String name) {
+        return name.startsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER)
+                && name.endsWith(ZetaSQLEngine.ESCAPE_IDENTIFIER);
+    }
+
+    private static String unescape(String name) {
+        return name.substring(1, name.length() - 1);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+public class ZetaSQLPlannerTest {
+
+    private static final SeaTunnelRowType NESTED_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"title", "attrs"},
+                    new SeaTunnelDataType[] {
+                        BasicType.STRING_TYPE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE)
+                    });
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "age", "score", "price", "name", "nested"},
+                    new SeaTunnelDataType[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(10, 2),
+                        BasicType.STRING_TYPE,
+                        NESTED_TYPE
+                    });
+
+    private static final Object[][] ROWS = {
+        {
+            1L,
+            20,
+            3.5D,
+            new BigDecimal("10.25"),
+            "alice",
+            new SeaTunnelRow(new Object[] {"a", Collections.singletonMap("k", "v1")})
+        },
+        {2L, 35, -1.0D, new BigDecimal("0.50"), "bob", null},
+        {3L, null, null, null, null, new SeaTunnelRow(new Object[] {null, null})}
+    };
+
+    private static final String[] VALUE_EXPRESSIONS = {
+        "id",
+        "`name`",
+        "-age",
+        "age + 1",
+        "age * 2 - id",
+        "score / 2",
+        "price + 1",
+        "price / 3",
+        "age % 7",
+        "name || '_x'",
+        "upper(name)",
+        "concat(name, '-', age)",
+        "coalesce(name, 'unknown')",
+        "trim(name)",
+        "cast(age as string)",
+        "cast(score as decimal(10, 3))",
+        "case when age > 30 then 'old' when age is null then 'none' else 'young' end",
+        "case age when 20 then 1 else 0 end",
+        "nested.title",
+        "nested.`title`",
+        "nested.attrs.k",
+        "(age + 2) * 3",
+        "null"
+    };
+
+    private static final String[] CONDITION_EXPRESSIONS = {
+        "age > 25",
+        "age >= 20 and score < 0",
+        "age = 20 or name = 'bob'",
+        "id <> 2",
+        "age <= 35 and (id = 1 or id = 3)",
+        "name is null",
+        "name is not null",
+        "id in (1, 3)",
+        "id not in (1, 3)",
+        "name like 'al%'",
+        "name not like '_ob'",
+        "nested.title = 'a'",
+        "price > 1"
+    };
+
+    @Test
+    public void testCompiledValuesMatchInterpreter() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, Collections.emptyList());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, Collections.emptyList());
+        ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        ZetaSQLPlanner planner =
+                new ZetaSQLPlanner(ROW_TYPE, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+
+        for (String sql : VALUE_EXPRESSIONS) {
+            Expression expression = CCJSqlParserUtil.parseExpression(sql);
+            ZetaSQLPlanner.ValueEvaluator evaluator = planner.compileValue(expression);
+            for (Object[] row : ROWS) {
+                Object expected = outcome(() -> zetaSQLFunction.computeForValue(expression, row));
+                if (expected == NullPointerException.class) {
+                    // null nested rows and maps evaluate to null instead of failing
+                    expected = null;
+                }
+                Assertions.assertEquals(expected, outcome(() -> evaluator.evaluate(row)), sql);
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledConditionsMatchInterpreter() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, Collections.emptyList());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, Collections.emptyList());
+        ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        ZetaSQLPlanner planner =
+                new ZetaSQLPlanner(ROW_TYPE, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+
+        for (String sql : CONDITION_EXPRESSIONS) {
+            Expression expression = CCJSqlParserUtil.parseCondExpression(sql);
+            ZetaSQLPlanner.ConditionEvaluator evaluator = planner.compileCondition(expression);
+            for (Object[] row : ROWS) {
+                Object expected = outcome(() -> zetaSQLFilter.executeFilter(expression, row));
+                if (expected == NullPointerException.class) {
+                    expected = false;
+                }
+                Assertions.assertEquals(expected, outcome(() -> evaluator.evaluate(row)), sql);
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownColumnFailsOnEvaluate() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, Collections.emptyList());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, Collections.emptyList());
+        ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        ZetaSQLPlanner planner =
+                new ZetaSQLPlanner(ROW_TYPE, zetaSQLType, zetaSQLFunction, zetaSQLFilter);
+
+        ZetaSQLPlanner.ValueEvaluator evaluator =
+                planner.compileValue(CCJSqlParserUtil.parseExpression("missing"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(ROWS[0]));
+    }
+
+    private static Object outcome(Supplier<Object> evaluation) {
+        try {
+            return evaluation.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}